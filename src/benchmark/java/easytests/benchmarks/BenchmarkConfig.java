@@ -0,0 +1,20 @@
+package easytests.benchmarks;
+
+import easytests.config.DatabaseConfig;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+
+/**
+ * Core services and mappers without the web layer.
+ *
+ * @author malinink
+ */
+@Configuration
+@EnableTransactionManagement
+@ComponentScan("easytests.core")
+@Import(DatabaseConfig.class)
+public class BenchmarkConfig {
+}
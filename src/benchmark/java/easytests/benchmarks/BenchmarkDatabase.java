@@ -0,0 +1,103 @@
+package easytests.benchmarks;
+
+import easytests.core.models.AnswerModel;
+import easytests.core.models.AnswerModelInterface;
+import easytests.core.models.QuestionModel;
+import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.empty.QuestionTypeModelEmpty;
+import easytests.core.models.empty.TopicModelEmpty;
+import easytests.core.services.QuestionsBulkService;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.ResourcePropertySource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+
+/**
+ * Test database from database.test.properties loaded with the mappers test data and a question bank
+ * of QUESTIONS_NUMBER questions in the topic of the issue used by quiz generation benchmarks.
+ *
+ * @author malinink
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+    /**
+     * Subject with issue standard 2 and topic 3 in sql/mappersTestData.sql.
+     */
+    static final Integer SUBJECT_ID = 3;
+
+    static final Integer TOPIC_ID = 3;
+
+    static final Integer ISSUE_ID = 3;
+
+    static final int QUESTIONS_NUMBER = 1000;
+
+    static final int ANSWERS_NUMBER = 4;
+
+    private static final int QUESTION_TYPES_NUMBER = 3;
+
+    private AnnotationConfigApplicationContext context;
+
+    private Integer[] questionsIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.context = new AnnotationConfigApplicationContext();
+        this.context.getEnvironment().getPropertySources()
+                .addFirst(new ResourcePropertySource("classpath:database.test.properties"));
+        this.context.register(BenchmarkConfig.class);
+        this.context.refresh();
+        new ResourceDatabasePopulator(new ClassPathResource("sql/mappersTestData.sql"))
+                .execute(this.getBean(DataSource.class));
+        final List<QuestionModelInterface> questionsModels = createQuestionsModels();
+        this.getBean(QuestionsBulkService.class).insert(questionsModels);
+        this.questionsIds = questionsModels.stream().map(QuestionModelInterface::getId).toArray(Integer[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return this.context.getBean(type);
+    }
+
+    /**
+     * @return id of a seeded question, the index wraps around the question bank
+     */
+    public Integer getQuestionId(int index) {
+        return this.questionsIds[Math.floorMod(index, QUESTIONS_NUMBER)];
+    }
+
+    private static List<QuestionModelInterface> createQuestionsModels() {
+        final List<QuestionModelInterface> questionsModels = new ArrayList<>(QUESTIONS_NUMBER);
+        for (int index = 0; index < QUESTIONS_NUMBER; index++) {
+            final QuestionModelInterface questionModel = new QuestionModel();
+            questionModel.setText("Question " + index);
+            questionModel.setQuestionType(new QuestionTypeModelEmpty(index % QUESTION_TYPES_NUMBER + 1));
+            questionModel.setTopic(new TopicModelEmpty(TOPIC_ID));
+            final List<AnswerModelInterface> answersModels = new ArrayList<>(ANSWERS_NUMBER);
+            for (int serialNumber = 1; serialNumber <= ANSWERS_NUMBER; serialNumber++) {
+                final AnswerModelInterface answerModel = new AnswerModel();
+                answerModel.setTxt("Answer " + index + "." + serialNumber);
+                answerModel.setRight(serialNumber == 1);
+                answerModel.setSerialNumber(serialNumber);
+                answerModel.setQuestion(questionModel);
+                answersModels.add(answerModel);
+            }
+            questionModel.setAnswers(answersModels);
+            questionsModels.add(questionModel);
+        }
+        return questionsModels;
+    }
+}
@@ -0,0 +1,79 @@
+package easytests.benchmarks;
+
+import easytests.core.entities.AnswerEntity;
+import easytests.core.entities.QuestionEntity;
+import easytests.core.mappers.AnswersMapper;
+import easytests.core.mappers.QuestionsMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+
+/**
+ * Mapper round trips, writes are rolled back so every invocation sees the same data.
+ *
+ * @author malinink
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappersBenchmark {
+    @Param({"100"})
+    private int batchSize;
+
+    private int index;
+
+    @Benchmark
+    public QuestionEntity findQuestion(BenchmarkDatabase database) {
+        return database.getBean(QuestionsMapper.class).find(database.getQuestionId(this.index++));
+    }
+
+    @Benchmark
+    public List<QuestionEntity> findQuestionsByTopic(BenchmarkDatabase database) {
+        return database.getBean(QuestionsMapper.class).findByTopicId(BenchmarkDatabase.TOPIC_ID);
+    }
+
+    @Benchmark
+    public List<AnswerEntity> findAnswersByQuestions(BenchmarkDatabase database) {
+        final List<Integer> questionsIds = new ArrayList<>(this.batchSize);
+        for (int offset = 0; offset < this.batchSize; offset++) {
+            questionsIds.add(database.getQuestionId(this.index + offset));
+        }
+        this.index += this.batchSize;
+        return database.getBean(AnswersMapper.class).findByQuestionIds(questionsIds);
+    }
+
+    @Benchmark
+    public List<AnswerEntity> insertAnswers(BenchmarkDatabase database) {
+        final List<AnswerEntity> answersEntities = new ArrayList<>(this.batchSize);
+        for (int serialNumber = 1; serialNumber <= this.batchSize; serialNumber++) {
+            final AnswerEntity answerEntity = new AnswerEntity();
+            answerEntity.setTxt("Answer " + serialNumber);
+            answerEntity.setQuestionId(database.getQuestionId(this.index));
+            answerEntity.setSerialNumber(serialNumber);
+            answerEntity.setRight(false);
+            answersEntities.add(answerEntity);
+        }
+        new TransactionTemplate(database.getBean(PlatformTransactionManager.class)).execute(status -> {
+            database.getBean(AnswersMapper.class).insertList(answersEntities);
+            status.setRollbackOnly();
+            return null;
+        });
+        return answersEntities;
+    }
+}
@@ -0,0 +1,101 @@
+package easytests.benchmarks;
+
+import easytests.core.entities.AnswerEntity;
+import easytests.core.entities.QuestionEntity;
+import easytests.core.models.AnswerModel;
+import easytests.core.models.AnswerModelInterface;
+import easytests.core.models.QuestionModel;
+import easytests.core.models.QuestionModelInterface;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Entity to model mapping and back, as done by every service for every fetched row.
+ *
+ * @author malinink
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+    @Param({"1000"})
+    private int rows;
+
+    private List<QuestionEntity> questionsEntities;
+
+    private List<AnswerEntity> answersEntities;
+
+    private List<QuestionModelInterface> questionsModels;
+
+    @Setup
+    public void setUp() {
+        this.questionsEntities = new ArrayList<>(this.rows);
+        this.answersEntities = new ArrayList<>(this.rows);
+        for (int index = 0; index < this.rows; index++) {
+            final QuestionEntity questionEntity = new QuestionEntity();
+            questionEntity.setId(index);
+            questionEntity.setText("Question " + index);
+            questionEntity.setQuestionTypeId(index % 4 + 1);
+            questionEntity.setTopicId(index % 10);
+            this.questionsEntities.add(questionEntity);
+
+            final AnswerEntity answerEntity = new AnswerEntity();
+            answerEntity.setId(index);
+            answerEntity.setTxt("Answer " + index);
+            answerEntity.setQuestionId(index);
+            answerEntity.setSerialNumber(1);
+            answerEntity.setRight(index % 2 == 0);
+            this.answersEntities.add(answerEntity);
+        }
+        this.questionsModels = this.questionsToModels();
+    }
+
+    @Benchmark
+    public List<QuestionModelInterface> questionsToModels() {
+        final List<QuestionModelInterface> models = new ArrayList<>(this.questionsEntities.size());
+        for (QuestionEntity questionEntity: this.questionsEntities) {
+            final QuestionModelInterface questionModel = new QuestionModel();
+            questionModel.map(questionEntity);
+            models.add(questionModel);
+        }
+        return models;
+    }
+
+    @Benchmark
+    public List<QuestionEntity> questionsToEntities() {
+        final List<QuestionEntity> entities = new ArrayList<>(this.questionsModels.size());
+        for (QuestionModelInterface questionModel: this.questionsModels) {
+            final QuestionEntity questionEntity = new QuestionEntity();
+            questionEntity.map(questionModel);
+            entities.add(questionEntity);
+        }
+        return entities;
+    }
+
+    @Benchmark
+    public List<AnswerModelInterface> answersToModels() {
+        final List<AnswerModelInterface> models = new ArrayList<>(this.answersEntities.size());
+        for (AnswerEntity answerEntity: this.answersEntities) {
+            final AnswerModelInterface answerModel = new AnswerModel();
+            answerModel.map(answerEntity);
+            models.add(answerModel);
+        }
+        return models;
+    }
+}
@@ -0,0 +1,66 @@
+package easytests.benchmarks;
+
+import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.SubjectModelInterface;
+import easytests.core.models.empty.TopicModelEmpty;
+import easytests.core.options.AnswersOptions;
+import easytests.core.options.QuestionTypesOptions;
+import easytests.core.options.QuestionsOptions;
+import easytests.core.options.SubjectsOptions;
+import easytests.core.options.TopicsOptions;
+import easytests.core.services.QuestionsService;
+import easytests.core.services.SubjectsService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Loading of model graphs through Options relations, the number of queries they issue dominates the score.
+ *
+ * @author malinink
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OptionsBenchmark {
+    private int index;
+
+    @Benchmark
+    public QuestionModelInterface questionWithRelations(BenchmarkDatabase database) {
+        return database.getBean(QuestionsService.class).find(
+                database.getQuestionId(this.index++),
+                new QuestionsOptions()
+                        .withAnswers(new AnswersOptions())
+                        .withTopic(new TopicsOptions())
+                        .withQuestionType(new QuestionTypesOptions()));
+    }
+
+    @Benchmark
+    public List<QuestionModelInterface> topicQuestionsWithAnswers(BenchmarkDatabase database) {
+        return database.getBean(QuestionsService.class).findByTopic(
+                new TopicModelEmpty(BenchmarkDatabase.TOPIC_ID),
+                new QuestionsOptions().withAnswers(new AnswersOptions()));
+    }
+
+    @Benchmark
+    public SubjectModelInterface subjectGraph(BenchmarkDatabase database) {
+        return database.getBean(SubjectsService.class).find(
+                BenchmarkDatabase.SUBJECT_ID,
+                new SubjectsOptions().withTopics(new TopicsOptions().withQuestions(
+                        new QuestionsOptions()
+                                .withAnswers(new AnswersOptions())
+                                .withQuestionType(new QuestionTypesOptions()))));
+    }
+}
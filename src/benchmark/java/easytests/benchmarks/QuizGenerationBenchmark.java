@@ -0,0 +1,53 @@
+package easytests.benchmarks;
+
+import easytests.core.models.IssueModelInterface;
+import easytests.core.models.QuizModelInterface;
+import easytests.core.services.IssuesService;
+import easytests.core.services.QuizGenerationService;
+import easytests.core.services.generation.IssuingReport;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Quiz generation end to end: sampling from the questions pool and writing quizzes with their points.
+ *
+ * @author malinink
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuizGenerationBenchmark {
+    @Param({"100"})
+    private int quizzesNumber;
+
+    private IssueModelInterface issueModel;
+
+    @Setup
+    public void setUp(BenchmarkDatabase database) {
+        this.issueModel = database.getBean(IssuesService.class).find(BenchmarkDatabase.ISSUE_ID);
+    }
+
+    @Benchmark
+    public QuizModelInterface generate(BenchmarkDatabase database) {
+        return database.getBean(QuizGenerationService.class).generate(this.issueModel);
+    }
+
+    @Benchmark
+    public IssuingReport issue(BenchmarkDatabase database) {
+        return database.getBean(QuizGenerationService.class).issue(this.issueModel, this.quizzesNumber);
+    }
+}
@@ -0,0 +1,107 @@
+package easytests.benchmarks.dataset;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import org.postgresql.copy.CopyIn;
+
+
+/**
+ * Writes rows in COPY text format, sending them to the server by portions of BUFFER_SIZE bytes.
+ *
+ * @author malinink
+ */
+public class CopyRowSink implements RowSink {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final CopyIn copyIn;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(BUFFER_SIZE);
+
+    private final StringBuilder line = new StringBuilder();
+
+    private long rows;
+
+    public CopyRowSink(CopyIn copyIn) {
+        this.copyIn = copyIn;
+    }
+
+    public long getRows() {
+        return this.rows;
+    }
+
+    @Override
+    public void row(Object... values) throws IOException {
+        this.line.setLength(0);
+        for (int index = 0; index < values.length; index++) {
+            if (index > 0) {
+                this.line.append('\t');
+            }
+            this.append(values[index]);
+        }
+        this.line.append('\n');
+        this.buffer.write(this.line.toString().getBytes(StandardCharsets.UTF_8));
+        this.rows++;
+        if (this.buffer.size() >= BUFFER_SIZE) {
+            this.send();
+        }
+    }
+
+    /**
+     * Sends the rest of rows and completes the copy.
+     */
+    public void finish() throws IOException {
+        this.send();
+        try {
+            this.copyIn.endCopy();
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private void append(Object value) {
+        if (value == null) {
+            this.line.append("\\N");
+        } else if (value instanceof LocalDateTime) {
+            this.line.append(TIMESTAMP.format((LocalDateTime) value));
+        } else {
+            final String text = value.toString();
+            for (int index = 0; index < text.length(); index++) {
+                this.appendEscaped(text.charAt(index));
+            }
+        }
+    }
+
+    private void appendEscaped(char character) {
+        switch (character) {
+            case '\\':
+                this.line.append("\\\\");
+                break;
+            case '\t':
+                this.line.append("\\t");
+                break;
+            case '\n':
+                this.line.append("\\n");
+                break;
+            case '\r':
+                this.line.append("\\r");
+                break;
+            default:
+                this.line.append(character);
+        }
+    }
+
+    private void send() throws IOException {
+        try {
+            this.copyIn.writeToCopy(this.buffer.toByteArray(), 0, this.buffer.size());
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        this.buffer.reset();
+    }
+}
@@ -0,0 +1,270 @@
+package easytests.benchmarks.dataset;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Rows of a synthetic dataset. Ids are dense and start at 1, so the parent of any row and the questions
+ * and answers a quiz refers to are computed instead of looked up. Random values are a hash of the seed,
+ * the table and the row id, so every row is reproducible on its own and tables may be written in any order.
+ *
+ * @author malinink
+ */
+public class Dataset {
+    /**
+     * Columns of every table, tables go in the order they should be loaded.
+     */
+    private static final Map<String, String> COLUMNS = new LinkedHashMap<>();
+
+    private static final int QUESTION_TYPES = 3;
+
+    private static final int GROUPS = 900;
+
+    private static final int FIRST_GROUP = 100;
+
+    private static final int MAX_QUIZ_MINUTES = 90;
+
+    private static final int ISSUING_DAYS = 365;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2017, 1, 1, 9, 0);
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    static {
+        COLUMNS.put("users", "id, first_name, last_name, surname, email, password, is_admin, state");
+        COLUMNS.put("subjects", "id, name, description, user_id");
+        COLUMNS.put("issue_standards", "id, time_limit, questions_number, subject_id");
+        COLUMNS.put("topics", "id, name, subject_id");
+        COLUMNS.put("questions", "id, text, question_type_id, topic_id");
+        COLUMNS.put("answers", "id, txt, question_id, serial_number, is_right");
+        COLUMNS.put("issues", "id, name, subject_id");
+        COLUMNS.put("quizzes", "id, issue_id, invite_code, started_at, finished_at, code_expired");
+        COLUMNS.put("testees", "id, first_name, last_name, surname, group_number, quiz_id");
+        COLUMNS.put("points", "id, quiz_id, question_id");
+        COLUMNS.put("solutions", "id, answer_id, point_id");
+    }
+
+    private final DatasetVolumes volumes;
+
+    private final long seed;
+
+    public Dataset(DatasetVolumes volumes, long seed) {
+        this.volumes = volumes;
+        this.seed = seed;
+    }
+
+    public DatasetVolumes getVolumes() {
+        return this.volumes;
+    }
+
+    public static Set<String> getTables() {
+        return Collections.unmodifiableSet(COLUMNS.keySet());
+    }
+
+    /**
+     * @return columns of the table in the order of values passed to the sink
+     */
+    public static String getColumns(String table) {
+        return COLUMNS.get(table);
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    public void write(String table, RowSink sink) throws IOException {
+        switch (table) {
+            case "users":
+                this.writeUsers(sink);
+                break;
+            case "subjects":
+                this.writeSubjects(sink);
+                break;
+            case "issue_standards":
+                this.writeIssueStandards(sink);
+                break;
+            case "topics":
+                this.writeTopics(sink);
+                break;
+            case "questions":
+                this.writeQuestions(sink);
+                break;
+            case "answers":
+                this.writeAnswers(sink);
+                break;
+            case "issues":
+                this.writeIssues(sink);
+                break;
+            case "quizzes":
+                this.writeQuizzes(sink);
+                break;
+            case "testees":
+                this.writeTestees(sink);
+                break;
+            case "points":
+                this.writePoints(sink);
+                break;
+            case "solutions":
+                this.writeSolutions(sink);
+                break;
+            default:
+                throw new IllegalArgumentException(table);
+        }
+    }
+
+    private void writeUsers(RowSink sink) throws IOException {
+        for (int id = 1; id <= this.volumes.getUsers(); id++) {
+            sink.row(
+                    id,
+                    "First" + id,
+                    "Last" + id,
+                    "Surname" + id,
+                    "user" + id + "@example.com",
+                    "password",
+                    id == 1,
+                    1);
+        }
+    }
+
+    private void writeSubjects(RowSink sink) throws IOException {
+        for (int id = 1; id <= this.volumes.getSubjects(); id++) {
+            sink.row(id, "Subject " + id, "Generated subject " + id, parent(id, this.volumes.getSubjectsPerUser()));
+        }
+    }
+
+    private void writeIssueStandards(RowSink sink) throws IOException {
+        for (int id = 1; id <= this.volumes.getSubjects(); id++) {
+            sink.row(id, null, this.volumes.getPointsPerQuiz(), id);
+        }
+    }
+
+    private void writeTopics(RowSink sink) throws IOException {
+        for (int id = 1; id <= this.volumes.getTopics(); id++) {
+            sink.row(id, "Topic " + id, parent(id, this.volumes.getTopicsPerSubject()));
+        }
+    }
+
+    private void writeQuestions(RowSink sink) throws IOException {
+        for (int id = 1; id <= this.volumes.getQuestions(); id++) {
+            final int topicId = parent(id, this.volumes.getQuestionsPerTopic());
+            sink.row(id, "Question " + id, this.getQuestionTypeId(id), topicId);
+        }
+    }
+
+    private void writeAnswers(RowSink sink) throws IOException {
+        final int answersPerQuestion = this.volumes.getAnswersPerQuestion();
+        for (int id = 1; id <= this.volumes.getAnswers(); id++) {
+            final int questionId = parent(id, answersPerQuestion);
+            final int serialNumber = (id - 1) % answersPerQuestion + 1;
+            sink.row(id, "Answer " + id, questionId, serialNumber, this.isRight(questionId, serialNumber));
+        }
+    }
+
+    private void writeIssues(RowSink sink) throws IOException {
+        for (int id = 1; id <= this.volumes.getIssues(); id++) {
+            sink.row(id, "Issue " + id, parent(id, this.volumes.getIssuesPerSubject()));
+        }
+    }
+
+    /**
+     * Invite codes are "D" and the quiz id, they never collide with the ten characters long generated ones.
+     */
+    private void writeQuizzes(RowSink sink) throws IOException {
+        for (int id = 1; id <= this.volumes.getQuizzes(); id++) {
+            final LocalDateTime startedAt = STARTED_AT
+                    .plusDays(this.random("quizzes.day", id, ISSUING_DAYS))
+                    .plusMinutes(this.random("quizzes.minute", id, MINUTES_PER_DAY));
+            final LocalDateTime finishedAt = startedAt
+                    .plusMinutes(1 + this.random("quizzes.duration", id, MAX_QUIZ_MINUTES));
+            sink.row(id, parent(id, this.volumes.getQuizzesPerIssue()), "D" + id, startedAt, finishedAt, true);
+        }
+    }
+
+    private void writeTestees(RowSink sink) throws IOException {
+        for (int id = 1; id <= this.volumes.getQuizzes(); id++) {
+            sink.row(
+                    id,
+                    "First" + id,
+                    "Last" + id,
+                    "Surname" + id,
+                    FIRST_GROUP + this.random("testees.group", id, GROUPS),
+                    id);
+        }
+    }
+
+    private void writePoints(RowSink sink) throws IOException {
+        for (int id = 1; id <= this.volumes.getPoints(); id++) {
+            sink.row(id, parent(id, this.volumes.getPointsPerQuiz()), this.getPointQuestionId(id));
+        }
+    }
+
+    /**
+     * Solutions of a point choose distinct answers of its question, which keeps (answer_id, point_id) unique.
+     */
+    private void writeSolutions(RowSink sink) throws IOException {
+        final int answersPerQuestion = this.volumes.getAnswersPerQuestion();
+        final int solutionsPerPoint = this.volumes.getSolutionsPerPoint();
+        for (int id = 1; id <= this.volumes.getSolutions(); id++) {
+            final int pointId = parent(id, solutionsPerPoint);
+            final int firstAnswerId = (this.getPointQuestionId(pointId) - 1) * answersPerQuestion + 1;
+            final int offset = this.random("solutions.answer", pointId, answersPerQuestion)
+                    + (id - 1) % solutionsPerPoint;
+            sink.row(id, firstAnswerId + offset % answersPerQuestion, pointId);
+        }
+    }
+
+    private int getQuestionTypeId(int questionId) {
+        return 1 + this.random("questions.type", questionId, QUESTION_TYPES);
+    }
+
+    /**
+     * Single choice questions have one right answer, multiple choice ones a random set, numerations all of them.
+     */
+    private boolean isRight(int questionId, int serialNumber) {
+        final int answersPerQuestion = this.volumes.getAnswersPerQuestion();
+        final boolean right;
+        switch (this.getQuestionTypeId(questionId)) {
+            case 1:
+                right = serialNumber == 1 + this.random("answers.right", questionId, answersPerQuestion);
+                break;
+            case 2:
+                right = this.random("answers.chosen", (questionId - 1) * answersPerQuestion + serialNumber, 2) == 0;
+                break;
+            default:
+                right = true;
+        }
+        return right;
+    }
+
+    /**
+     * Points of a quiz refer to distinct questions of the subject of its issue.
+     */
+    private int getPointQuestionId(int pointId) {
+        final int quizId = parent(pointId, this.volumes.getPointsPerQuiz());
+        final int issueId = parent(quizId, this.volumes.getQuizzesPerIssue());
+        final int subjectId = parent(issueId, this.volumes.getIssuesPerSubject());
+        final int subjectQuestions = this.volumes.getTopicsPerSubject() * this.volumes.getQuestionsPerTopic();
+        final int offset = this.random("points.question", quizId, subjectQuestions)
+                + (pointId - 1) % this.volumes.getPointsPerQuiz();
+        return (subjectId - 1) * subjectQuestions + offset % subjectQuestions + 1;
+    }
+
+    private static int parent(int id, int perParent) {
+        return (id - 1) / perParent + 1;
+    }
+
+    /**
+     * @return value in [0, bound) determined by the seed, the purpose and the row id
+     */
+    private int random(String purpose, long id, int bound) {
+        long value = this.seed * GOLDEN_GAMMA + purpose.hashCode() * GOLDEN_GAMMA + id;
+        value = (value ^ value >>> 30) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ value >>> 27) * 0x94D049BB133111EBL;
+        value = value ^ value >>> 31;
+        return (int) Math.floorMod(value, (long) bound);
+    }
+}
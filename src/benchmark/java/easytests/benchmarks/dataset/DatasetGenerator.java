@@ -0,0 +1,96 @@
+package easytests.benchmarks.dataset;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+
+/**
+ * Replaces the data of a database with a synthetic dataset, loading every table with a single COPY.
+ * Question types are kept as they are created by migrations. Run it with
+ * mvn -P benchmarks test-compile exec:java@generate-dataset -Ddataset.scale=large -Ddataset.seed=1
+ * where volumes may be overridden one by one, e.g. -Ddataset.users=1000, see DatasetVolumes.
+ *
+ * @author malinink
+ */
+public final class DatasetGenerator {
+    private static final String TRUNCATE = "TRUNCATE TABLE users, subjects, issue_standards, topic_priorities, "
+            + "question_type_options, topics, questions, answers, issues, quizzes, testees, points, solutions, "
+            + "scores RESTART IDENTITY";
+
+    private final Connection connection;
+
+    private final Dataset dataset;
+
+    public DatasetGenerator(Connection connection, Dataset dataset) {
+        this.connection = connection;
+        this.dataset = dataset;
+    }
+
+    public static void main(String[] args) throws IOException, SQLException {
+        final Properties database = new Properties();
+        final String databaseProperties = System.getProperty("dataset.database", "database.test.properties");
+        try (InputStream inputStream = DatasetGenerator.class.getClassLoader()
+                .getResourceAsStream(databaseProperties)) {
+            if (inputStream == null) {
+                throw new IOException("There is no " + databaseProperties + " on the classpath");
+            }
+            database.load(inputStream);
+        }
+        final Dataset dataset = new Dataset(
+                DatasetVolumes.fromProperties(System.getProperties()),
+                Long.getLong("dataset.seed", 1L));
+        try (Connection connection = DriverManager.getConnection(
+                database.getProperty("url"),
+                database.getProperty("username"),
+                database.getProperty("password"))) {
+            new DatasetGenerator(connection, dataset).generate();
+        }
+    }
+
+    public void generate() throws IOException, SQLException {
+        System.out.println("Generating " + this.dataset.getVolumes());
+        this.execute("SET synchronous_commit = off");
+        this.execute(TRUNCATE);
+        final CopyManager copyManager = this.connection.unwrap(PGConnection.class).getCopyAPI();
+        for (String table: Dataset.getTables()) {
+            final long startedAt = System.nanoTime();
+            final long rows = this.copy(copyManager, table);
+            final long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            System.out.println(table + ": " + rows + " rows in " + millis + " ms, "
+                    + rows * TimeUnit.SECONDS.toMillis(1) / millis + " rows/s");
+            this.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), GREATEST(MAX(id), 1)) FROM "
+                    + table);
+        }
+        this.execute("ANALYZE");
+    }
+
+    private long copy(CopyManager copyManager, String table) throws IOException, SQLException {
+        final CopyIn copyIn = copyManager.copyIn(
+                "COPY " + table + " (" + Dataset.getColumns(table) + ") FROM STDIN");
+        final CopyRowSink sink = new CopyRowSink(copyIn);
+        try {
+            this.dataset.write(table, sink);
+            sink.finish();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+        return sink.getRows();
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
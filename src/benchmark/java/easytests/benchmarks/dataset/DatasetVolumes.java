@@ -0,0 +1,145 @@
+package easytests.benchmarks.dataset;
+
+import java.util.Properties;
+import lombok.Getter;
+
+
+/**
+ * Sizes of a generated dataset. Every volume except users is a fan-out of its parent rows,
+ * e.g. the number of questions is users * subjectsPerUser * topicsPerSubject * questionsPerTopic.
+ *
+ * @author malinink
+ */
+@Getter
+public final class DatasetVolumes {
+    private static final String PREFIX = "dataset.";
+
+    private final int users;
+
+    private final int subjectsPerUser;
+
+    private final int topicsPerSubject;
+
+    private final int questionsPerTopic;
+
+    private final int answersPerQuestion;
+
+    private final int issuesPerSubject;
+
+    private final int quizzesPerIssue;
+
+    private final int pointsPerQuiz;
+
+    private final int solutionsPerPoint;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private DatasetVolumes(
+            int users,
+            int subjectsPerUser,
+            int topicsPerSubject,
+            int questionsPerTopic,
+            int answersPerQuestion,
+            int issuesPerSubject,
+            int quizzesPerIssue,
+            int pointsPerQuiz,
+            int solutionsPerPoint) {
+        this.users = users;
+        this.subjectsPerUser = subjectsPerUser;
+        this.topicsPerSubject = topicsPerSubject;
+        this.questionsPerTopic = questionsPerTopic;
+        this.answersPerQuestion = answersPerQuestion;
+        this.issuesPerSubject = issuesPerSubject;
+        this.quizzesPerIssue = quizzesPerIssue;
+        this.pointsPerQuiz = pointsPerQuiz;
+        this.solutionsPerPoint = solutionsPerPoint;
+        if (pointsPerQuiz > topicsPerSubject * questionsPerTopic) {
+            throw new IllegalArgumentException("A quiz can not have more points than its subject has questions");
+        }
+        if (solutionsPerPoint > answersPerQuestion) {
+            throw new IllegalArgumentException("A point can not have more solutions than its question has answers");
+        }
+    }
+
+    /**
+     * 100 users, 10 000 questions, 2 000 quizzes and 50 000 solutions.
+     */
+    public static DatasetVolumes small() {
+        return new DatasetVolumes(100, 2, 5, 10, 4, 1, 10, 25, 1);
+    }
+
+    /**
+     * 10 000 users, 1 000 000 questions, 1 000 000 quizzes, 25 000 000 points and 50 000 000 solutions.
+     */
+    public static DatasetVolumes large() {
+        return new DatasetVolumes(10000, 2, 5, 10, 4, 1, 50, 25, 2);
+    }
+
+    /**
+     * @param properties "dataset.scale" (small or large) and "dataset.&lt;volume&gt;" overrides
+     */
+    public static DatasetVolumes fromProperties(Properties properties) {
+        DatasetVolumes scale = small();
+        if ("large".equals(properties.getProperty(PREFIX + "scale"))) {
+            scale = large();
+        }
+        return new DatasetVolumes(
+                get(properties, "users", scale.users),
+                get(properties, "subjectsPerUser", scale.subjectsPerUser),
+                get(properties, "topicsPerSubject", scale.topicsPerSubject),
+                get(properties, "questionsPerTopic", scale.questionsPerTopic),
+                get(properties, "answersPerQuestion", scale.answersPerQuestion),
+                get(properties, "issuesPerSubject", scale.issuesPerSubject),
+                get(properties, "quizzesPerIssue", scale.quizzesPerIssue),
+                get(properties, "pointsPerQuiz", scale.pointsPerQuiz),
+                get(properties, "solutionsPerPoint", scale.solutionsPerPoint));
+    }
+
+    public int getSubjects() {
+        return this.users * this.subjectsPerUser;
+    }
+
+    public int getTopics() {
+        return this.getSubjects() * this.topicsPerSubject;
+    }
+
+    public int getQuestions() {
+        return this.getTopics() * this.questionsPerTopic;
+    }
+
+    public int getAnswers() {
+        return this.getQuestions() * this.answersPerQuestion;
+    }
+
+    public int getIssues() {
+        return this.getSubjects() * this.issuesPerSubject;
+    }
+
+    public int getQuizzes() {
+        return this.getIssues() * this.quizzesPerIssue;
+    }
+
+    public int getPoints() {
+        return this.getQuizzes() * this.pointsPerQuiz;
+    }
+
+    public int getSolutions() {
+        return this.getPoints() * this.solutionsPerPoint;
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + this.users
+                + ", subjects=" + this.getSubjects()
+                + ", topics=" + this.getTopics()
+                + ", questions=" + this.getQuestions()
+                + ", answers=" + this.getAnswers()
+                + ", issues=" + this.getIssues()
+                + ", quizzes=" + this.getQuizzes()
+                + ", points=" + this.getPoints()
+                + ", solutions=" + this.getSolutions();
+    }
+
+    private static int get(Properties properties, String volume, int defaultValue) {
+        return Integer.parseInt(properties.getProperty(PREFIX + volume, Integer.toString(defaultValue)));
+    }
+}
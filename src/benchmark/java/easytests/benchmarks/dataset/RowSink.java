@@ -0,0 +1,14 @@
+package easytests.benchmarks.dataset;
+
+import java.io.IOException;
+
+
+/**
+ * @author malinink
+ */
+public interface RowSink {
+    /**
+     * @param values column values in table order, null for SQL NULL
+     */
+    void row(Object... values) throws IOException;
+}
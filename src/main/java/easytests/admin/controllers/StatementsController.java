@@ -0,0 +1,42 @@
+package easytests.admin.controllers;
+
+import easytests.common.controllers.AbstractPersonalController;
+import easytests.core.profiling.StatementStatistics;
+import easytests.core.profiling.StatementsInterceptor;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+
+/**
+ * @author malinink
+ */
+@Controller
+@RequestMapping("/admin/statements/")
+public class StatementsController extends AbstractPersonalController {
+    @Autowired
+    private StatementsInterceptor statementsInterceptor;
+
+    @GetMapping("")
+    public String list(Model model) {
+        model.addAttribute("statements", this.statementsInterceptor.getStatistics());
+        return "admin/statements/list";
+    }
+
+    @GetMapping("json/")
+    @ResponseBody
+    public Map<String, StatementStatistics> json() {
+        return this.statementsInterceptor.getStatistics();
+    }
+
+    @PostMapping("reset/")
+    public String reset() {
+        this.statementsInterceptor.reset();
+        return "redirect:/admin/statements/";
+    }
+}
@@ -0,0 +1,39 @@
+package easytests.admin.controllers;
+
+import easytests.common.controllers.AbstractPersonalController;
+import easytests.core.services.SolutionSubmissionsService;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+
+/**
+ * @author malinink
+ */
+@Controller
+@RequestMapping("/admin/submissions/")
+public class SubmissionsController extends AbstractPersonalController {
+    @Autowired
+    private SolutionSubmissionsService solutionSubmissionsService;
+
+    @GetMapping("")
+    public String list(Model model) {
+        model.addAttribute("queueDepth", this.solutionSubmissionsService.getQueueDepth());
+        model.addAttribute("statistics", this.solutionSubmissionsService.getStatistics());
+        return "admin/submissions/list";
+    }
+
+    @GetMapping("json/")
+    @ResponseBody
+    public Map<String, Object> json() {
+        final Map<String, Object> submissions = new LinkedHashMap<>();
+        submissions.put("queueDepth", this.solutionSubmissionsService.getQueueDepth());
+        submissions.put("statistics", this.solutionSubmissionsService.getStatistics());
+        return submissions;
+    }
+}
@@ -8,7 +8,9 @@ import easytests.core.models.UserModel;
 import easytests.core.models.UserModelInterface;
 import easytests.core.options.UsersOptionsInterface;
 import easytests.core.options.builder.UsersOptionsBuilder;
-import java.util.List;
+import easytests.core.services.CascadeDeletesService;
+import easytests.core.services.paging.Page;
+import easytests.core.services.paging.PageRequest;
 import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
@@ -30,10 +32,14 @@ public class UsersController extends AbstractCrudController {
     @Autowired
     private UsersOptionsBuilder usersOptionsBuilder;
 
+    @Autowired
+    private CascadeDeletesService cascadeDeletesService;
+
     @GetMapping("")
-    public String list(Model model) {
-        final List<UserModelInterface> users = this.usersService.findAll();
-        model.addAttribute("users", users);
+    public String list(Model model, @RequestParam(value = "after", required = false) Integer after) {
+        final Page<UserModelInterface> page = this.usersService.findPage(PageRequest.after(after, null));
+        model.addAttribute("users", page.getItems());
+        model.addAttribute("page", page);
         return "admin/users/list";
     }
 
@@ -105,11 +111,9 @@ public class UsersController extends AbstractCrudController {
 
     @PostMapping("delete/{userId}/")
     public String delete(@PathVariable Integer userId) {
-        this.getUserModel(userId);
-        final UsersOptionsInterface usersOptions = this.usersOptionsBuilder.forDelete();
-        final UserModelInterface userModel = this.usersService.find(userId, usersOptions);
+        final UserModelInterface userModel = this.getUserModel(userId);
 
-        this.usersService.delete(userModel, usersOptions);
+        this.cascadeDeletesService.delete(userModel);
 
         return "redirect:/admin/users/";
     }
@@ -0,0 +1,60 @@
+package easytests.auth.services;
+
+import easytests.core.cache.MapperCache;
+import easytests.core.services.events.UserChangedEvent;
+import java.util.Locale;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+
+/**
+ * Bounded cache of principals keyed by lower cased email. Copies are stored and returned,
+ * because Spring Security erases the credentials of the principal it authenticated.
+ *
+ * @author malinink
+ */
+@Service
+public class AuthUserCache implements UserCache {
+    private static final int SIZE = 4096;
+
+    private static final long TTL = 600000L;
+
+    private final MapperCache cache = new MapperCache(AuthUserCache.class.getName(), false);
+
+    public AuthUserCache() {
+        this.cache.setSize(SIZE);
+        this.cache.setTtl(TTL);
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        final AuthUserDetails user = (AuthUserDetails) this.cache.getObject(key(username));
+        if (user == null) {
+            return null;
+        }
+        return new AuthUserDetails(user);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (user instanceof AuthUserDetails) {
+            this.cache.putObject(key(user.getUsername()), new AuthUserDetails((AuthUserDetails) user));
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        this.cache.removeObject(key(username));
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        this.removeUserFromCache(event.getEmail());
+    }
+}
@@ -0,0 +1,79 @@
+package easytests.auth.services;
+
+import easytests.core.models.UserModel;
+import easytests.core.models.UserModelInterface;
+import easytests.core.models.empty.ModelsListEmpty;
+import java.util.Collection;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+
+/**
+ * Principal which carries the user data needed on every request, so that requests do not have to look the user up.
+ *
+ * @author malinink
+ */
+@Getter
+public class AuthUserDetails extends User {
+    private static final long serialVersionUID = 1L;
+
+    private final Integer id;
+
+    private final String firstName;
+
+    private final String lastName;
+
+    private final String surname;
+
+    private final Boolean isAdmin;
+
+    private final Integer state;
+
+    public AuthUserDetails(UserModelInterface userModel, Collection<? extends GrantedAuthority> authorities) {
+        super(
+                userModel.getEmail(),
+                userModel.getPassword(),
+                userModel.getState() == 3,
+                true,
+                true,
+                true,
+                authorities);
+        this.id = userModel.getId();
+        this.firstName = userModel.getFirstName();
+        this.lastName = userModel.getLastName();
+        this.surname = userModel.getSurname();
+        this.isAdmin = userModel.getIsAdmin();
+        this.state = userModel.getState();
+    }
+
+    public AuthUserDetails(AuthUserDetails user) {
+        super(
+                user.getUsername(),
+                user.getPassword(),
+                user.isEnabled(),
+                true,
+                true,
+                true,
+                user.getAuthorities());
+        this.id = user.getId();
+        this.firstName = user.getFirstName();
+        this.lastName = user.getLastName();
+        this.surname = user.getSurname();
+        this.isAdmin = user.getIsAdmin();
+        this.state = user.getState();
+    }
+
+    public UserModelInterface toUserModel() {
+        final UserModelInterface userModel = new UserModel();
+        userModel.setId(this.id);
+        userModel.setEmail(this.getUsername());
+        userModel.setFirstName(this.firstName);
+        userModel.setLastName(this.lastName);
+        userModel.setSurname(this.surname);
+        userModel.setIsAdmin(this.isAdmin);
+        userModel.setState(this.state);
+        userModel.setSubjects(new ModelsListEmpty());
+        return userModel;
+    }
+}
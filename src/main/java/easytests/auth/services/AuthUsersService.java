@@ -7,7 +7,7 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -22,6 +22,9 @@ public class AuthUsersService implements UserDetailsService {
     @Autowired
     private UsersService usersService;
 
+    @Autowired
+    private UserCache userCache;
+
     private static List<GrantedAuthority> getAuthorities(UserModelInterface userModel) {
         final List<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority("ROLE_TESTEE"));
@@ -34,18 +37,16 @@ public class AuthUsersService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        final UserDetails cachedUser = this.userCache.getUserFromCache(email);
+        if (cachedUser != null) {
+            return cachedUser;
+        }
         final UserModelInterface userModel = usersService.findByEmail(email);
         if (userModel == null) {
             throw new UsernameNotFoundException("No user found with login: " + email);
         }
-        return new User(
-                userModel.getEmail(),
-                userModel.getPassword(),
-                userModel.getState() == 3 ? true : false,
-                true,
-                true,
-                true,
-                this.getAuthorities(userModel)
-        );
+        final UserDetails user = new AuthUserDetails(userModel, this.getAuthorities(userModel));
+        this.userCache.putUserInCache(user);
+        return user;
     }
 }
@@ -0,0 +1,52 @@
+package easytests.auth.services;
+
+import easytests.core.models.UserModelInterface;
+import easytests.core.services.UsersService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.WebApplicationContext;
+
+
+/**
+ * Resolves the signed in user once per request. The user is built from the principal when it is
+ * an AuthUserDetails and is looked up by email otherwise.
+ *
+ * @author malinink
+ */
+@Component
+@Scope(value = WebApplicationContext.SCOPE_REQUEST, proxyMode = ScopedProxyMode.TARGET_CLASS)
+public class CurrentUserResolver {
+    @Autowired
+    private UsersService usersService;
+
+    private UserModelInterface userModel;
+
+    private boolean resolved;
+
+    public UserModelInterface getUserModel() {
+        if (!this.resolved) {
+            this.userModel = this.resolve(SecurityContextHolder.getContext().getAuthentication());
+            this.resolved = true;
+        }
+        return this.userModel;
+    }
+
+    private UserModelInterface resolve(Authentication authentication) {
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        final Object principal = authentication.getPrincipal();
+        final UserModelInterface resolvedUserModel;
+        if (principal instanceof AuthUserDetails) {
+            resolvedUserModel = ((AuthUserDetails) principal).toUserModel();
+        } else {
+            resolvedUserModel = this.usersService.findByEmail(authentication.getName());
+        }
+        return resolvedUserModel;
+    }
+}
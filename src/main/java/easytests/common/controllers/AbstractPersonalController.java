@@ -1,11 +1,15 @@
 package easytests.common.controllers;
 
+import easytests.auth.services.CurrentUserResolver;
+import easytests.common.exceptions.ForbiddenException;
+import easytests.common.exceptions.NotFoundException;
 import easytests.core.models.UserModelInterface;
+import easytests.core.services.OwnershipService;
 import easytests.core.services.UsersService;
+import easytests.core.services.export.ExportFormat;
+import easytests.core.services.ownership.Ownership;
+import javax.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
@@ -18,19 +22,35 @@ public class AbstractPersonalController {
     @Autowired
     protected UsersService usersService;
 
-    private UserModelInterface userModel;
+    @Autowired
+    protected OwnershipService ownershipService;
 
-    private Boolean userModelFetched = false;
+    @Autowired
+    private CurrentUserResolver currentUserResolver;
 
     @ModelAttribute("currentUserModel")
     public UserModelInterface getCurrentUserModel() {
-        if (!this.userModelFetched) {
-            final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (!(authentication instanceof AnonymousAuthenticationToken)) {
-                this.userModel = usersService.findByEmail(authentication.getName());
-            }
-            this.userModelFetched = true;
+        return this.currentUserResolver.getUserModel();
+    }
+
+    protected void checkOwnership(Ownership ownership) {
+        if (ownership == Ownership.ABSENT) {
+            throw new NotFoundException();
+        }
+        if (ownership == Ownership.FOREIGN) {
+            throw new ForbiddenException();
+        }
+    }
+
+    protected ExportFormat startExport(HttpServletResponse response, String extension, String fileName) {
+        final ExportFormat exportFormat = ExportFormat.fromExtension(extension);
+        if (exportFormat == null) {
+            throw new NotFoundException();
         }
-        return this.userModel;
+        response.setContentType(exportFormat.getContentType() + ";charset=UTF-8");
+        response.setHeader(
+                "Content-Disposition",
+                "attachment; filename=\"" + fileName + "." + exportFormat.getExtension() + "\"");
+        return exportFormat;
     }
 }
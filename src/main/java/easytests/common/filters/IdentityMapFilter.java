@@ -0,0 +1,34 @@
+package easytests.common.filters;
+
+import easytests.core.services.identity.IdentityMap;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+
+/**
+ * @author malinink
+ */
+@Component
+public class IdentityMapFilter extends OncePerRequestFilter {
+    @Autowired
+    private IdentityMap identityMap;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        this.identityMap.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            this.identityMap.close();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package easytests.config;
 
+import easytests.core.cache.MapperCacheInvalidator;
+import easytests.core.profiling.StatementsInterceptor;
 import javax.sql.DataSource;
 import org.apache.ibatis.datasource.pooled.PooledDataSource;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -38,10 +40,25 @@ public class DatabaseConfig {
         return new DataSourceTransactionManager(getDataSource());
     }
 
+    @Bean
+    public StatementsInterceptor statementsInterceptor() {
+        return new StatementsInterceptor();
+    }
+
     @Bean
     public SqlSessionFactory sqlSessionFactory() throws Exception {
         final SqlSessionFactoryBean sessionFactory = new SqlSessionFactoryBean();
         sessionFactory.setDataSource(getDataSource());
+        final org.apache.ibatis.session.Configuration configuration = new org.apache.ibatis.session.Configuration();
+        final boolean cacheEnabled = env.getProperty("cache.enabled", Boolean.class, false);
+        configuration.setCacheEnabled(cacheEnabled);
+        if (cacheEnabled) {
+            configuration.addInterceptor(new MapperCacheInvalidator());
+        }
+        if (env.getProperty("statements.statistics.enabled", Boolean.class, true)) {
+            configuration.addInterceptor(statementsInterceptor());
+        }
+        sessionFactory.setConfiguration(configuration);
         return sessionFactory.getObject();
     }
 }
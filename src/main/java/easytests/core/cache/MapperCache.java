@@ -0,0 +1,163 @@
+package easytests.core.cache;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import org.apache.ibatis.cache.Cache;
+
+
+/**
+ * Bounded LRU second-level cache with per-entry TTL for annotated mappers, whose tables property lists
+ * every table their cached statements read. Clearing it (MyBatis does so when a write in the namespace commits)
+ * also clears every other mapper cache reading any of the same tables, and MapperCacheInvalidator clears it
+ * when any mapper writes one of them. Services may use unregistered instances as plain bounded caches.
+ *
+ * @author malinink
+ */
+public class MapperCache implements Cache {
+    private static final int DEFAULT_SIZE = 1024;
+
+    private static final long DEFAULT_TTL = 300000L;
+
+    private final String id;
+
+    private final Map<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final MapperCacheStatistics statistics = new MapperCacheStatistics();
+
+    private int size = DEFAULT_SIZE;
+
+    private long ttl = DEFAULT_TTL;
+
+    private Set<String> tables = Collections.emptySet();
+
+    public MapperCache(String id) {
+        this(id, true);
+    }
+
+    /**
+     * @param registered whether the cache takes part in table invalidation and statistics, as mapper caches do
+     */
+    public MapperCache(String id, boolean registered) {
+        this.id = id;
+        if (registered) {
+            MapperCacheRegistry.register(this);
+        }
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    /**
+     * @param ttl time to live of an entry in milliseconds, zero or less to keep entries until evicted
+     */
+    public void setTtl(long ttl) {
+        this.ttl = ttl;
+    }
+
+    public void setTables(String tables) {
+        final Set<String> tablesSet = new HashSet<>();
+        for (String table: tables.split(",")) {
+            if (!table.trim().isEmpty()) {
+                tablesSet.add(table.trim());
+            }
+        }
+        this.tables = Collections.unmodifiableSet(tablesSet);
+    }
+
+    public Set<String> getTables() {
+        return this.tables;
+    }
+
+    public MapperCacheStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    @Override
+    public String getId() {
+        return this.id;
+    }
+
+    @Override
+    public synchronized void putObject(Object key, Object value) {
+        long expiresAt = Long.MAX_VALUE;
+        if (this.ttl > 0) {
+            expiresAt = System.currentTimeMillis() + this.ttl;
+        }
+        this.entries.put(key, new Entry(value, expiresAt));
+        final Iterator<Object> iterator = this.entries.keySet().iterator();
+        while (this.entries.size() > this.size && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            this.statistics.evicted();
+        }
+    }
+
+    @Override
+    public synchronized Object getObject(Object key) {
+        final Entry entry = this.entries.get(key);
+        if (entry == null) {
+            this.statistics.missed();
+            return null;
+        }
+        Object value = entry.value;
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            this.entries.remove(key);
+            this.statistics.expired();
+            this.statistics.missed();
+            value = null;
+        } else {
+            this.statistics.hit();
+        }
+        return value;
+    }
+
+    @Override
+    public synchronized Object removeObject(Object key) {
+        final Entry entry = this.entries.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    @Override
+    public void clear() {
+        this.flush();
+        MapperCacheRegistry.invalidate(this);
+    }
+
+    @Override
+    public synchronized int getSize() {
+        return this.entries.size();
+    }
+
+    @Override
+    public ReadWriteLock getReadWriteLock() {
+        return null;
+    }
+
+    synchronized void flush() {
+        this.entries.clear();
+        this.statistics.invalidated();
+    }
+
+    /**
+     * @author malinink
+     */
+    private static final class Entry {
+        private final Object value;
+
+        private final long expiresAt;
+
+        private Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
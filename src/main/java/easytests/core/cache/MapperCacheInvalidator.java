@@ -0,0 +1,103 @@
+package easytests.core.cache;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+
+/**
+ * Invalidates the mapper caches reading a table whenever any mapper writes it, cached or not. MyBatis itself
+ * only clears the namespace of the writing statement. Written tables are taken from the INSERT INTO, UPDATE,
+ * DELETE FROM and TRUNCATE clauses of update statements and of selects that flush the cache, which is how
+ * the mappers declare writes returning rows. Caches are invalidated right after the write and again once
+ * the transaction commits, so rows read in between are not kept.
+ *
+ * @author malinink
+ */
+@Intercepts({
+    @Signature(
+        type = Executor.class,
+        method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}
+    ),
+    @Signature(
+        type = Executor.class,
+        method = "query",
+        args = {
+            MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class,
+        }
+    ),
+    @Signature(
+        type = Executor.class,
+        method = "update",
+        args = {MappedStatement.class, Object.class}
+    )
+})
+public class MapperCacheInvalidator implements Interceptor {
+    private static final Pattern WRITE = Pattern.compile(
+            "\\b(?:insert\\s+into|update|delete\\s+from|truncate(?:\\s+table)?)\\s+(\\w+(?:\\s*,\\s*\\w+)*)",
+            Pattern.CASE_INSENSITIVE);
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        final Object result = invocation.proceed();
+        final MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        if ("update".equals(invocation.getMethod().getName()) || mappedStatement.isFlushCacheRequired()) {
+            final Set<String> tables = writtenTables(
+                    mappedStatement.getBoundSql(invocation.getArgs()[1]).getSql());
+            invalidate(tables);
+        }
+        return result;
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+    }
+
+    static Set<String> writtenTables(String sql) {
+        final Set<String> tables = new HashSet<>();
+        final Matcher matcher = WRITE.matcher(sql);
+        while (matcher.find()) {
+            for (String table: matcher.group(1).split(",")) {
+                tables.add(table.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return tables;
+    }
+
+    private static void invalidate(Set<String> tables) {
+        if (tables.isEmpty()) {
+            return;
+        }
+        MapperCacheRegistry.invalidate(tables);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                    @Override
+                    public void afterCommit() {
+                        MapperCacheRegistry.invalidate(tables);
+                    }
+                });
+        }
+    }
+}
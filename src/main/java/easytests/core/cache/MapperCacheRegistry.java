@@ -0,0 +1,56 @@
+package easytests.core.cache;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Keeps track of mapper caches created by MyBatis, which instantiates them outside of the Spring context.
+ *
+ * @author malinink
+ */
+public final class MapperCacheRegistry {
+    private static final Map<String, MapperCache> CACHES = new ConcurrentHashMap<>();
+
+    private MapperCacheRegistry() {
+    }
+
+    public static Map<String, MapperCacheStatistics> getStatistics() {
+        final Map<String, MapperCacheStatistics> statistics = new TreeMap<>();
+        for (MapperCache cache: CACHES.values()) {
+            statistics.put(cache.getId(), cache.getStatistics());
+        }
+        return statistics;
+    }
+
+    public static Map<String, Integer> getSizes() {
+        final Map<String, Integer> sizes = new TreeMap<>();
+        for (MapperCache cache: CACHES.values()) {
+            sizes.put(cache.getId(), cache.getSize());
+        }
+        return sizes;
+    }
+
+    static void register(MapperCache cache) {
+        CACHES.put(cache.getId(), cache);
+    }
+
+    static void invalidate(MapperCache source) {
+        for (MapperCache cache: CACHES.values()) {
+            if (cache != source && !Collections.disjoint(cache.getTables(), source.getTables())) {
+                cache.flush();
+            }
+        }
+    }
+
+    static void invalidate(Set<String> tables) {
+        for (MapperCache cache: CACHES.values()) {
+            if (!Collections.disjoint(cache.getTables(), tables)) {
+                cache.flush();
+            }
+        }
+    }
+}
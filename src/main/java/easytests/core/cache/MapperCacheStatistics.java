@@ -0,0 +1,67 @@
+package easytests.core.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * @author malinink
+ */
+public class MapperCacheStatistics {
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final AtomicLong expirations = new AtomicLong();
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    public long getEvictions() {
+        return this.evictions.get();
+    }
+
+    public long getExpirations() {
+        return this.expirations.get();
+    }
+
+    public long getInvalidations() {
+        return this.invalidations.get();
+    }
+
+    public double getHitRatio() {
+        final long requests = this.getHits() + this.getMisses();
+        if (requests == 0) {
+            return 0;
+        }
+        return (double) this.getHits() / requests;
+    }
+
+    void hit() {
+        this.hits.incrementAndGet();
+    }
+
+    void missed() {
+        this.misses.incrementAndGet();
+    }
+
+    void evicted() {
+        this.evictions.incrementAndGet();
+    }
+
+    void expired() {
+        this.expirations.incrementAndGet();
+    }
+
+    void invalidated() {
+        this.invalidations.incrementAndGet();
+    }
+}
@@ -0,0 +1,16 @@
+package easytests.core.entities;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * A quiz row as returned by claiming it, together with the id of the testee inserted by the same statement.
+ *
+ * @author malinink
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class QuizClaimEntity extends QuizEntity {
+
+    private Integer testeeId;
+}
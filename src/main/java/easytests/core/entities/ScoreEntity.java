@@ -0,0 +1,21 @@
+package easytests.core.entities;
+
+import java.time.LocalDateTime;
+import lombok.Data;
+
+
+/**
+ * @author malinink
+ */
+@Data
+public class ScoreEntity {
+    private Integer id;
+
+    private Integer quizId;
+
+    private Integer points;
+
+    private Integer rightPoints;
+
+    private LocalDateTime gradedAt;
+}
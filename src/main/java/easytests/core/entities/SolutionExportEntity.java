@@ -0,0 +1,39 @@
+package easytests.core.entities;
+
+import java.time.LocalDateTime;
+import lombok.Data;
+
+
+/**
+ * Flat row of a results export, one per chosen answer.
+ *
+ * @author malinink
+ */
+@Data
+public class SolutionExportEntity {
+    private Integer issueId;
+
+    private Integer quizId;
+
+    private String inviteCode;
+
+    private String testeeFirstName;
+
+    private String testeeLastName;
+
+    private String testeeSurname;
+
+    private Integer testeeGroupNumber;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private Integer pointId;
+
+    private Integer questionId;
+
+    private Integer answerId;
+
+    private Boolean right;
+}
@@ -0,0 +1,271 @@
+package easytests.core.fetch;
+
+import easytests.core.models.ModelInterface;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+
+
+/**
+ * FetchPlan turned into one SELECT with LEFT JOINs. Every table of the plan gets an alias tN and its columns
+ * are selected as tN_column, rows are assembled back into a model graph through the mapper result maps
+ * and the model map(Entity) methods. To-many relations are compiled into plans of their own; once a level of
+ * the graph is assembled each relation is loaded with one query over the ids of all of its parents, so the
+ * number of queries depends on the plan, not on the rows. Instances are immutable and safe to share between
+ * requests.
+ *
+ * @author malinink
+ */
+public final class CompiledFetchPlan<M extends ModelInterface> {
+    private static final String ID_COLUMN = "id";
+
+    private static final String PARENT_ID_LABEL = "parent_id";
+
+    private final Configuration configuration;
+
+    private final List<Node> nodes;
+
+    private final String columns;
+
+    private final String from;
+
+    private final String sql;
+
+    CompiledFetchPlan(Configuration configuration, FetchPlan<M> plan) {
+        this.configuration = configuration;
+        final List<Node> compiledNodes = new ArrayList<>();
+        final List<String> compiledColumns = new ArrayList<>();
+        final StringBuilder compiledFrom = new StringBuilder();
+        this.compile(plan, null, null, compiledNodes, compiledColumns, compiledFrom);
+        this.nodes = Collections.unmodifiableList(compiledNodes);
+        this.columns = String.join(", ", compiledColumns);
+        this.from = compiledFrom.toString();
+        this.sql = "SELECT " + this.columns + " FROM " + this.from;
+    }
+
+    private static String label(String alias, String column) {
+        return alias + "_" + column;
+    }
+
+    public String getSql() {
+        return this.sql;
+    }
+
+    @SuppressWarnings("unchecked")
+    M assemble(Map<String, Object> row, RowsLoader rowsLoader) {
+        if (row == null) {
+            return null;
+        }
+        return (M) this.assembleAll(Collections.singletonList(row), rowsLoader).get(0);
+    }
+
+    private List<ModelInterface> assembleAll(List<Map<String, Object>> rows, RowsLoader rowsLoader) {
+        final List<List<ModelInterface>> nodesModels = new ArrayList<>(this.nodes.size());
+        for (int index = 0; index < this.nodes.size(); index++) {
+            nodesModels.add(new ArrayList<>(rows.size()));
+        }
+        final List<ModelInterface> rootModels = new ArrayList<>(rows.size());
+        for (Map<String, Object> row: rows) {
+            final List<ModelInterface> models = this.assembleRow(row);
+            rootModels.add(models.get(0));
+            for (int index = 0; index < models.size(); index++) {
+                if (models.get(index) != null) {
+                    nodesModels.get(index).add(models.get(index));
+                }
+            }
+        }
+        for (int index = 0; index < this.nodes.size(); index++) {
+            for (Many many: this.nodes.get(index).many) {
+                this.loadMany(many, nodesModels.get(index), rowsLoader);
+            }
+        }
+        return rootModels;
+    }
+
+    private List<ModelInterface> assembleRow(Map<String, Object> row) {
+        final List<ModelInterface> models = new ArrayList<>(this.nodes.size());
+        for (Node node: this.nodes) {
+            ModelInterface model = null;
+            final ModelInterface parentModel = node.parent == null ? null : models.get(node.parent);
+            if (row.get(label(node.alias, ID_COLUMN)) != null && (node.parent == null || parentModel != null)) {
+                model = node.modelMapper.apply(this.createEntity(node, row));
+                if (parentModel != null) {
+                    node.setter.accept(parentModel, model);
+                }
+            }
+            models.add(model);
+        }
+        return models;
+    }
+
+    private void loadMany(Many many, List<ModelInterface> parentsModels, RowsLoader rowsLoader) {
+        if (parentsModels.isEmpty()) {
+            return;
+        }
+        final Set<Integer> parentsIds = new LinkedHashSet<>();
+        for (ModelInterface parentModel: parentsModels) {
+            parentsIds.add(parentModel.getId());
+        }
+        final List<Map<String, Object>> rows = rowsLoader.load(many.sql, many.foreignKey, new ArrayList<>(parentsIds));
+        final List<ModelInterface> models = many.plan.assembleAll(rows, rowsLoader);
+        final Map<Integer, List<ModelInterface>> modelsByParentId = new HashMap<>();
+        for (int index = 0; index < rows.size(); index++) {
+            final Integer parentId = ((Number) rows.get(index).get(PARENT_ID_LABEL)).intValue();
+            modelsByParentId.computeIfAbsent(parentId, id -> new ArrayList<>()).add(models.get(index));
+        }
+        for (ModelInterface parentModel: parentsModels) {
+            many.setter.accept(
+                    parentModel,
+                    new ArrayList<>(modelsByParentId.getOrDefault(parentModel.getId(), Collections.emptyList())));
+        }
+    }
+
+    /**
+     * @return the plan query selecting the foreign key to the parent as well, to group rows loaded for many parents
+     */
+    private String getManySql(String foreignKey) {
+        return "SELECT t0." + foreignKey + " AS " + PARENT_ID_LABEL + ", " + this.columns + " FROM " + this.from;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void compile(
+            FetchPlan<?> plan,
+            Integer parent,
+            FetchPlan.Join<?, ?> join,
+            List<Node> compiledNodes,
+            List<String> columns,
+            StringBuilder from
+    ) {
+        final Integer index = compiledNodes.size();
+        final String alias = "t" + index;
+        if (!this.configuration.hasMapper(plan.getMapper())) {
+            this.configuration.addMapper(plan.getMapper());
+        }
+        final ResultMap resultMap = this.configuration.getResultMap(plan.getResultMapId());
+        for (ResultMapping resultMapping: resultMap.getResultMappings()) {
+            final String column = resultMapping.getColumn().toLowerCase();
+            columns.add(alias + "." + column + " AS " + label(alias, column));
+        }
+        if (join == null) {
+            from.append(plan.getTable()).append(' ').append(alias);
+        } else {
+            from.append(" LEFT JOIN ").append(plan.getTable()).append(' ').append(alias)
+                    .append(" ON ").append(alias).append('.').append(ID_COLUMN)
+                    .append("=t").append(parent).append('.').append(join.getForeignKey());
+        }
+        final List<Many> many = new ArrayList<>(plan.getJoinsMany().size());
+        for (FetchPlan.JoinMany<?, ?> joinMany: plan.getJoinsMany()) {
+            final CompiledFetchPlan<?> manyPlan = new CompiledFetchPlan<>(this.configuration, joinMany.getPlan());
+            many.add(new Many(
+                    joinMany.getForeignKey(),
+                    manyPlan.getManySql(joinMany.getForeignKey()),
+                    manyPlan,
+                    (BiConsumer<ModelInterface, List<ModelInterface>>) (BiConsumer<?, ?>) joinMany.getSetter()));
+        }
+        compiledNodes.add(new Node(
+                alias,
+                resultMap,
+                (Function<Object, ModelInterface>) plan.getModelMapper(),
+                parent,
+                join == null ? null : (BiConsumer<ModelInterface, ModelInterface>) join.getSetter(),
+                Collections.unmodifiableList(many)));
+        for (FetchPlan.Join<?, ?> childJoin: plan.getJoins()) {
+            this.compile(childJoin.getPlan(), index, childJoin, compiledNodes, columns, from);
+        }
+    }
+
+    private Object createEntity(Node node, Map<String, Object> row) {
+        final Object entity = this.configuration.getObjectFactory().create(node.resultMap.getType());
+        final MetaObject metaObject = this.configuration.newMetaObject(entity);
+        for (ResultMapping resultMapping: node.resultMap.getResultMappings()) {
+            final Object value = row.get(label(node.alias, resultMapping.getColumn().toLowerCase()));
+            if (value != null) {
+                final Class<?> type = metaObject.getSetterType(resultMapping.getProperty());
+                metaObject.setValue(resultMapping.getProperty(), this.convert(value, type));
+            }
+        }
+        return entity;
+    }
+
+    private Object convert(Object value, Class<?> type) {
+        Object converted = value;
+        if (value instanceof Number && Integer.class.equals(type)) {
+            converted = ((Number) value).intValue();
+        } else if (value instanceof Number && Long.class.equals(type)) {
+            converted = ((Number) value).longValue();
+        } else if (value instanceof Timestamp && LocalDateTime.class.equals(type)) {
+            converted = ((Timestamp) value).toLocalDateTime();
+        }
+        return converted;
+    }
+
+    /**
+     * @author malinink
+     */
+    private static final class Node {
+        private final String alias;
+
+        private final ResultMap resultMap;
+
+        private final Function<Object, ModelInterface> modelMapper;
+
+        private final Integer parent;
+
+        private final BiConsumer<ModelInterface, ModelInterface> setter;
+
+        private final List<Many> many;
+
+        private Node(
+                String alias,
+                ResultMap resultMap,
+                Function<Object, ModelInterface> modelMapper,
+                Integer parent,
+                BiConsumer<ModelInterface, ModelInterface> setter,
+                List<Many> many
+        ) {
+            this.alias = alias;
+            this.resultMap = resultMap;
+            this.modelMapper = modelMapper;
+            this.parent = parent;
+            this.setter = setter;
+            this.many = many;
+        }
+    }
+
+    /**
+     * @author malinink
+     */
+    private static final class Many {
+        private final String foreignKey;
+
+        private final String sql;
+
+        private final CompiledFetchPlan<?> plan;
+
+        private final BiConsumer<ModelInterface, List<ModelInterface>> setter;
+
+        private Many(
+                String foreignKey,
+                String sql,
+                CompiledFetchPlan<?> plan,
+                BiConsumer<ModelInterface, List<ModelInterface>> setter
+        ) {
+            this.foreignKey = foreignKey;
+            this.sql = sql;
+            this.plan = plan;
+            this.setter = setter;
+        }
+    }
+}
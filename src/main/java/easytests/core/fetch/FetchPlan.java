@@ -0,0 +1,128 @@
+package easytests.core.fetch;
+
+import easytests.core.models.ModelInterface;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import lombok.Getter;
+
+
+/**
+ * Immutable description of a model graph. To-one relations are compiled by FetchPlans into a single JOIN query,
+ * to-many relations into one more query per loaded parent. Plans hold no services or state, so they are declared
+ * once as constants and shared by all request threads.
+ *
+ * @author malinink
+ */
+@Getter
+public final class FetchPlan<M extends ModelInterface> {
+    private final String table;
+
+    private final Class<?> mapper;
+
+    private final String resultMapId;
+
+    private final Function<Object, M> modelMapper;
+
+    private final List<Join<M, ?>> joins;
+
+    private final List<JoinMany<M, ?>> joinsMany;
+
+    private FetchPlan(
+            String table,
+            Class<?> mapper,
+            String resultMapId,
+            Function<Object, M> modelMapper,
+            List<Join<M, ?>> joins,
+            List<JoinMany<M, ?>> joinsMany
+    ) {
+        this.table = table;
+        this.mapper = mapper;
+        this.resultMapId = resultMapId;
+        this.modelMapper = modelMapper;
+        this.joins = Collections.unmodifiableList(joins);
+        this.joinsMany = Collections.unmodifiableList(joinsMany);
+    }
+
+    /**
+     * @param table table of the root model
+     * @param mapper mapper declaring the result map of the table
+     * @param resultMapName result map id as declared in the mapper @Results annotation
+     * @param modelMapper builds a model from the entity, usually through Model.map(Entity)
+     */
+    @SuppressWarnings("unchecked")
+    public static <E, M extends ModelInterface> FetchPlan<M> from(
+            String table,
+            Class<?> mapper,
+            String resultMapName,
+            Function<E, M> modelMapper
+    ) {
+        return new FetchPlan<>(
+                table,
+                mapper,
+                mapper.getName() + "." + resultMapName,
+                entity -> modelMapper.apply((E) entity),
+                new ArrayList<>(0),
+                new ArrayList<>(0));
+    }
+
+    /**
+     * Returns a new plan that also loads the model referenced by foreignKey and sets it with the setter.
+     */
+    public <C extends ModelInterface> FetchPlan<M> join(String foreignKey, FetchPlan<C> plan, BiConsumer<M, C> setter) {
+        final List<Join<M, ?>> newJoins = new ArrayList<>(this.joins);
+        newJoins.add(new Join<>(foreignKey, plan, setter));
+        return new FetchPlan<>(this.table, this.mapper, this.resultMapId, this.modelMapper, newJoins, this.joinsMany);
+    }
+
+    /**
+     * Returns a new plan that also loads the models whose foreignKey references this one and sets them as a list.
+     */
+    public <C extends ModelInterface> FetchPlan<M> joinMany(
+            String foreignKey,
+            FetchPlan<C> plan,
+            BiConsumer<M, List<C>> setter
+    ) {
+        final List<JoinMany<M, ?>> newJoinsMany = new ArrayList<>(this.joinsMany);
+        newJoinsMany.add(new JoinMany<>(foreignKey, plan, setter));
+        return new FetchPlan<>(this.table, this.mapper, this.resultMapId, this.modelMapper, this.joins, newJoinsMany);
+    }
+
+    /**
+     * @author malinink
+     */
+    @Getter
+    public static final class Join<M extends ModelInterface, C extends ModelInterface> {
+        private final String foreignKey;
+
+        private final FetchPlan<C> plan;
+
+        private final BiConsumer<M, C> setter;
+
+        private Join(String foreignKey, FetchPlan<C> plan, BiConsumer<M, C> setter) {
+            this.foreignKey = foreignKey;
+            this.plan = plan;
+            this.setter = setter;
+        }
+    }
+
+    /**
+     * @author malinink
+     */
+    @Getter
+    public static final class JoinMany<M extends ModelInterface, C extends ModelInterface> {
+        private final String foreignKey;
+
+        private final FetchPlan<C> plan;
+
+        private final BiConsumer<M, List<C>> setter;
+
+        private JoinMany(String foreignKey, FetchPlan<C> plan, BiConsumer<M, List<C>> setter) {
+            this.foreignKey = foreignKey;
+            this.plan = plan;
+            this.setter = setter;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package easytests.core.fetch;
+
+import easytests.core.mappers.FetchPlansMapper;
+import easytests.core.models.ModelInterface;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * @author malinink
+ */
+@Component
+public class FetchPlans {
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private FetchPlansMapper fetchPlansMapper;
+
+    public <M extends ModelInterface> CompiledFetchPlan<M> compile(FetchPlan<M> plan) {
+        return new CompiledFetchPlan<>(this.sqlSessionFactory.getConfiguration(), plan);
+    }
+
+    public <M extends ModelInterface> M find(CompiledFetchPlan<M> plan, Integer id) {
+        return plan.assemble(this.fetchPlansMapper.find(plan.getSql(), id), this.fetchPlansMapper::findByColumn);
+    }
+}
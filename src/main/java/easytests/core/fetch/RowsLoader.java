@@ -0,0 +1,13 @@
+package easytests.core.fetch;
+
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * @author malinink
+ */
+@FunctionalInterface
+public interface RowsLoader {
+    List<Map<String, Object>> load(String sql, String column, List<Integer> ids);
+}
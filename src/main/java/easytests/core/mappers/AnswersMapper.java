@@ -32,6 +32,13 @@ public interface AnswersMapper {
     @ResultMap("AnswerEntity")
     List<AnswerEntity> findByQuestionId(Integer id);
 
+    @Select({"<script>",
+            "SELECT id, txt, question_id, serial_number, is_right FROM answers WHERE question_id IN",
+            "<foreach item='questionId' collection='list' open='(' separator=',' close=')'>#{questionId}</foreach>",
+            "</script>"})
+    @ResultMap("AnswerEntity")
+    List<AnswerEntity> findByQuestionIds(List<Integer> questionIds);
+
     @Insert("INSERT INTO answers (txt, question_id, serial_number, is_right) VALUES(#{txt}, #{questionId}, #{serialNumber}, #{right})")
     @Options(useGeneratedKeys = true, keyColumn = "id")
     void insert(AnswerEntity answer);
@@ -39,7 +46,80 @@ public interface AnswersMapper {
     @Update("UPDATE answers SET txt=#{txt}, question_id=#{questionId}, serial_number=#{serialNumber}, is_right=#{right} WHERE id=#{id}")
     void update(AnswerEntity answer);
 
-    @Delete("DELETE FROM answers WHERE id=#{id}")
-    void delete(AnswerEntity answer);
+    @Select("DELETE FROM answers WHERE id=#{id} RETURNING *")
+    @ResultMap("AnswerEntity")
+    @Options(flushCache = Options.FlushCachePolicy.TRUE, useCache = false)
+    AnswerEntity delete(AnswerEntity answer);
+
+    @Insert({"<script>",
+            "INSERT INTO answers (txt, question_id, serial_number, is_right) VALUES",
+            "<foreach item='answer' collection='list' separator=','>",
+            "(#{answer.txt}, #{answer.questionId}, #{answer.serialNumber}, #{answer.right})",
+            "</foreach>",
+            "</script>"})
+    @Options(useGeneratedKeys = true, keyColumn = "id")
+    void insertList(List<AnswerEntity> answers);
+
+    @Update({"<script>",
+            "UPDATE answers SET txt=v.txt, question_id=v.question_id, serial_number=v.serial_number,",
+            "is_right=v.is_right",
+            "FROM (VALUES",
+            "<foreach item='answer' collection='list' separator=','>",
+            "(CAST(#{answer.id} AS INTEGER), CAST(#{answer.txt} AS VARCHAR),",
+            "CAST(#{answer.questionId} AS INTEGER), CAST(#{answer.serialNumber} AS INTEGER),",
+            "CAST(#{answer.right} AS BOOLEAN))",
+            "</foreach>",
+            ") AS v (id, txt, question_id, serial_number, is_right)",
+            "WHERE answers.id=v.id",
+            "</script>"})
+    void updateList(List<AnswerEntity> answers);
+
+    @Select({"UPDATE answers SET txt=#{txt}, question_id=#{questionId}, serial_number=#{serialNumber},",
+            "is_right=#{right} FROM answers old WHERE answers.id=#{id} AND old.id=answers.id",
+            "RETURNING old.id, old.txt, old.question_id, old.serial_number, old.is_right"})
+    @ResultMap("AnswerEntity")
+    @Options(flushCache = Options.FlushCachePolicy.TRUE, useCache = false)
+    AnswerEntity updateReturningPrevious(AnswerEntity answer);
+
+    @Select({"<script>",
+            "UPDATE answers SET txt=v.txt, question_id=v.question_id, serial_number=v.serial_number,",
+            "is_right=v.is_right",
+            "FROM (VALUES",
+            "<foreach item='answer' collection='list' separator=','>",
+            "(CAST(#{answer.id} AS INTEGER), CAST(#{answer.txt} AS VARCHAR),",
+            "CAST(#{answer.questionId} AS INTEGER), CAST(#{answer.serialNumber} AS INTEGER),",
+            "CAST(#{answer.right} AS BOOLEAN))",
+            "</foreach>",
+            ") AS v (id, txt, question_id, serial_number, is_right), answers old",
+            "WHERE answers.id=v.id AND old.id=v.id",
+            "RETURNING old.id, old.txt, old.question_id, old.serial_number, old.is_right",
+            "</script>"})
+    @ResultMap("AnswerEntity")
+    @Options(flushCache = Options.FlushCachePolicy.TRUE, useCache = false)
+    List<AnswerEntity> updateListReturningPrevious(List<AnswerEntity> answers);
+
+    @Select({"<script>",
+            "DELETE FROM answers WHERE id IN",
+            "<foreach item='answer' collection='list' open='(' separator=',' close=')'>#{answer.id}</foreach>",
+            "RETURNING *",
+            "</script>"})
+    @ResultMap("AnswerEntity")
+    @Options(flushCache = Options.FlushCachePolicy.TRUE, useCache = false)
+    List<AnswerEntity> deleteList(List<AnswerEntity> answers);
+
+    @Delete("DELETE FROM answers WHERE question_id=#{questionId}")
+    void deleteByQuestionId(Integer questionId);
+
+    @Delete("DELETE FROM answers WHERE question_id IN (SELECT id FROM questions WHERE topic_id=#{topicId})")
+    void deleteByTopicId(Integer topicId);
+
+    @Delete({
+            "DELETE FROM answers WHERE question_id IN (SELECT q.id FROM questions q JOIN topics t ON ",
+            "q.topic_id=t.id WHERE t.subject_id=#{subjectId})"})
+    void deleteBySubjectId(Integer subjectId);
 
+    @Delete({
+            "DELETE FROM answers WHERE question_id IN (SELECT q.id FROM questions q JOIN topics t ON ",
+            "q.topic_id=t.id JOIN subjects s ON t.subject_id=s.id WHERE s.user_id=#{userId})"})
+    void deleteByUserId(Integer userId);
 }
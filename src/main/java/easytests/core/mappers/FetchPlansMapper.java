@@ -0,0 +1,29 @@
+package easytests.core.mappers;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+
+/**
+ * Executes queries compiled from fetch plans; sql is built from plan definitions only, never from user input.
+ *
+ * @author malinink
+ */
+@Mapper
+public interface FetchPlansMapper {
+    @Select("${sql} WHERE t0.id=#{id}")
+    Map<String, Object> find(@Param("sql") String sql, @Param("id") Integer id);
+
+    @Select({"<script>",
+            "${sql} WHERE t0.${column} IN",
+            "<foreach item='id' collection='ids' open='(' separator=',' close=')'>#{id}</foreach>",
+            "ORDER BY t0.id",
+            "</script>"})
+    List<Map<String, Object>> findByColumn(
+            @Param("sql") String sql,
+            @Param("column") String column,
+            @Param("ids") List<Integer> ids);
+}
@@ -1,5 +1,6 @@
 package easytests.core.mappers;
 
+import easytests.core.cache.MapperCache;
 import easytests.core.entities.IssueStandardQuestionTypeOptionEntity;
 import java.util.List;
 import org.apache.ibatis.annotations.*;
@@ -8,6 +9,13 @@ import org.apache.ibatis.annotations.*;
  * @author  SingularityA
  */
 @Mapper
+@CacheNamespace(
+    implementation = MapperCache.class,
+    properties = {
+        @Property(name = "tables", value = "question_type_options"),
+        @Property(name = "size", value = "512"),
+        @Property(name = "ttl", value = "300000")
+    })
 public interface IssueStandardQuestionTypeOptionsMapper {
 
     @Results(
@@ -31,6 +39,15 @@ public interface IssueStandardQuestionTypeOptionsMapper {
     @ResultMap("IssueStandardQuestionTypeOption")
     List<IssueStandardQuestionTypeOptionEntity> findByIssueStandardId(Integer issueStandardId);
 
+    @Select({"<script>",
+        "SELECT * FROM question_type_options WHERE issue_standard_id IN",
+        "<foreach item='issueStandardId' collection='list' open='(' separator=',' close=')'>",
+        "#{issueStandardId}",
+        "</foreach>",
+        "</script>"})
+    @ResultMap("IssueStandardQuestionTypeOption")
+    List<IssueStandardQuestionTypeOptionEntity> findByIssueStandardIds(List<Integer> issueStandardIds);
+
     @Insert("INSERT INTO question_type_options"
             + " (question_type_id, min_number, max_number, time_limit, issue_standard_id)"
             + " VALUES (#{questionTypeId}, #{minQuestions}, #{maxQuestions}, #{timeLimit}, #{issueStandardId})")
@@ -44,4 +61,52 @@ public interface IssueStandardQuestionTypeOptionsMapper {
 
     @Delete("DELETE FROM question_type_options WHERE id=#{id}")
     void delete(IssueStandardQuestionTypeOptionEntity issueStandardQuestionTypeOption);
+
+    @Insert({"<script>",
+            "INSERT INTO question_type_options (question_type_id, min_number, max_number, time_limit,",
+            "issue_standard_id) VALUES",
+            "<foreach item='questionTypeOption' collection='list' separator=','>",
+            "(#{questionTypeOption.questionTypeId}, #{questionTypeOption.minQuestions},",
+            "#{questionTypeOption.maxQuestions}, #{questionTypeOption.timeLimit},",
+            "#{questionTypeOption.issueStandardId})",
+            "</foreach>",
+            "</script>"})
+    @Options(useGeneratedKeys = true, keyColumn = "id")
+    void insertList(List<IssueStandardQuestionTypeOptionEntity> questionTypeOptions);
+
+    @Update({"<script>",
+            "UPDATE question_type_options SET question_type_id=v.question_type_id,",
+            "min_number=v.min_number, max_number=v.max_number, time_limit=v.time_limit,",
+            "issue_standard_id=v.issue_standard_id",
+            "FROM (VALUES",
+            "<foreach item='questionTypeOption' collection='list' separator=','>",
+            "(CAST(#{questionTypeOption.id} AS INTEGER),",
+            "CAST(#{questionTypeOption.questionTypeId} AS INTEGER),",
+            "CAST(#{questionTypeOption.minQuestions} AS INTEGER),",
+            "CAST(#{questionTypeOption.maxQuestions} AS INTEGER),",
+            "CAST(#{questionTypeOption.timeLimit} AS INTEGER),",
+            "CAST(#{questionTypeOption.issueStandardId} AS INTEGER))",
+            "</foreach>",
+            ") AS v (id, question_type_id, min_number, max_number, time_limit, issue_standard_id)",
+            "WHERE question_type_options.id=v.id",
+            "</script>"})
+    void updateList(List<IssueStandardQuestionTypeOptionEntity> questionTypeOptions);
+
+    @Delete({"<script>",
+            "DELETE FROM question_type_options WHERE id IN",
+            "<foreach item='questionTypeOption' collection='list' open='(' separator=',' close=')'>",
+            "#{questionTypeOption.id}",
+            "</foreach>",
+            "</script>"})
+    void deleteList(List<IssueStandardQuestionTypeOptionEntity> questionTypeOptions);
+
+    @Delete({
+            "DELETE FROM question_type_options WHERE issue_standard_id IN (SELECT id FROM issue_standards WHERE ",
+            "subject_id=#{subjectId})"})
+    void deleteBySubjectId(Integer subjectId);
+
+    @Delete({
+            "DELETE FROM question_type_options WHERE issue_standard_id IN (SELECT i.id FROM issue_standards i JOIN ",
+            "subjects s ON i.subject_id=s.id WHERE s.user_id=#{userId})"})
+    void deleteByUserId(Integer userId);
 }
@@ -1,5 +1,6 @@
 package easytests.core.mappers;
 
+import easytests.core.cache.MapperCache;
 import easytests.core.entities.IssueStandardTopicPriorityEntity;
 import java.util.List;
 import org.apache.ibatis.annotations.*;
@@ -8,6 +9,13 @@ import org.apache.ibatis.annotations.*;
  * @author SingularityA
  */
 @Mapper
+@CacheNamespace(
+    implementation = MapperCache.class,
+    properties = {
+        @Property(name = "tables", value = "topic_priorities"),
+        @Property(name = "size", value = "512"),
+        @Property(name = "ttl", value = "300000")
+    })
 public interface IssueStandardTopicPrioritiesMapper {
 
     @Results(
@@ -29,6 +37,15 @@ public interface IssueStandardTopicPrioritiesMapper {
     @ResultMap("IssueStandardTopicPriority")
     List<IssueStandardTopicPriorityEntity> findByIssueStandardId(Integer issueStandardId);
 
+    @Select({"<script>",
+        "SELECT * FROM topic_priorities WHERE issue_standard_id IN",
+        "<foreach item='issueStandardId' collection='list' open='(' separator=',' close=')'>",
+        "#{issueStandardId}",
+        "</foreach>",
+        "</script>"})
+    @ResultMap("IssueStandardTopicPriority")
+    List<IssueStandardTopicPriorityEntity> findByIssueStandardIds(List<Integer> issueStandardIds);
+
     @Insert("INSERT INTO topic_priorities (topic_id, is_preferable, issue_standard_id)"
             + " VALUES (#{topicId}, #{isPreferable}, #{issueStandardId})")
     @Options(useGeneratedKeys = true, keyColumn = "id")
@@ -40,4 +57,46 @@ public interface IssueStandardTopicPrioritiesMapper {
 
     @Delete("DELETE FROM topic_priorities WHERE id=#{id}")
     void delete(IssueStandardTopicPriorityEntity issueStandardTopicPriority);
+
+    @Insert({"<script>",
+            "INSERT INTO topic_priorities (topic_id, is_preferable, issue_standard_id) VALUES",
+            "<foreach item='topicPriority' collection='list' separator=','>",
+            "(#{topicPriority.topicId}, #{topicPriority.isPreferable},",
+            "#{topicPriority.issueStandardId})",
+            "</foreach>",
+            "</script>"})
+    @Options(useGeneratedKeys = true, keyColumn = "id")
+    void insertList(List<IssueStandardTopicPriorityEntity> topicPriorities);
+
+    @Update({"<script>",
+            "UPDATE topic_priorities SET topic_id=v.topic_id, is_preferable=v.is_preferable,",
+            "issue_standard_id=v.issue_standard_id",
+            "FROM (VALUES",
+            "<foreach item='topicPriority' collection='list' separator=','>",
+            "(CAST(#{topicPriority.id} AS INTEGER), CAST(#{topicPriority.topicId} AS INTEGER),",
+            "CAST(#{topicPriority.isPreferable} AS BOOLEAN),",
+            "CAST(#{topicPriority.issueStandardId} AS INTEGER))",
+            "</foreach>",
+            ") AS v (id, topic_id, is_preferable, issue_standard_id)",
+            "WHERE topic_priorities.id=v.id",
+            "</script>"})
+    void updateList(List<IssueStandardTopicPriorityEntity> topicPriorities);
+
+    @Delete({"<script>",
+            "DELETE FROM topic_priorities WHERE id IN",
+            "<foreach item='topicPriority' collection='list' open='(' separator=',' close=')'>",
+            "#{topicPriority.id}",
+            "</foreach>",
+            "</script>"})
+    void deleteList(List<IssueStandardTopicPriorityEntity> topicPriorities);
+
+    @Delete({
+            "DELETE FROM topic_priorities WHERE issue_standard_id IN (SELECT id FROM issue_standards WHERE ",
+            "subject_id=#{subjectId})"})
+    void deleteBySubjectId(Integer subjectId);
+
+    @Delete({
+            "DELETE FROM topic_priorities WHERE issue_standard_id IN (SELECT i.id FROM issue_standards i JOIN ",
+            "subjects s ON i.subject_id=s.id WHERE s.user_id=#{userId})"})
+    void deleteByUserId(Integer userId);
 }
@@ -1,5 +1,6 @@
 package easytests.core.mappers;
 
+import easytests.core.cache.MapperCache;
 import easytests.core.entities.IssueStandardEntity;
 import java.util.List;
 import org.apache.ibatis.annotations.*;
@@ -8,6 +9,13 @@ import org.apache.ibatis.annotations.*;
  * @author SingularityA
  */
 @Mapper
+@CacheNamespace(
+    implementation = MapperCache.class,
+    properties = {
+        @Property(name = "tables", value = "issue_standards"),
+        @Property(name = "size", value = "512"),
+        @Property(name = "ttl", value = "300000")
+    })
 public interface IssueStandardsMapper {
 
     @Results(
@@ -29,6 +37,13 @@ public interface IssueStandardsMapper {
     @ResultMap("IssueStandard")
     IssueStandardEntity findBySubjectId(Integer subjectId);
 
+    @Select({"<script>",
+        "SELECT * FROM issue_standards WHERE subject_id IN",
+        "<foreach item='subjectId' collection='list' open='(' separator=',' close=')'>#{subjectId}</foreach>",
+        "</script>"})
+    @ResultMap("IssueStandard")
+    List<IssueStandardEntity> findBySubjectIds(List<Integer> subjectIds);
+
     @Insert("INSERT INTO issue_standards (time_limit, questions_number, subject_id)"
             + " VALUES (#{timeLimit}, #{questionsNumber}, #{subjectId})")
     @Options(useGeneratedKeys = true, keyColumn = "id")
@@ -40,4 +55,10 @@ public interface IssueStandardsMapper {
 
     @Delete("DELETE FROM issue_standards WHERE id=#{id}")
     void delete(IssueStandardEntity issueStandard);
+
+    @Delete("DELETE FROM issue_standards WHERE subject_id=#{subjectId}")
+    void deleteBySubjectId(Integer subjectId);
+
+    @Delete("DELETE FROM issue_standards WHERE subject_id IN (SELECT id FROM subjects WHERE user_id=#{userId})")
+    void deleteByUserId(Integer userId);
 }
@@ -39,4 +39,11 @@ public interface IssuesMapper {
     @Select("SELECT * FROM issues WHERE subject_id=#{subjectId}")
     @ResultMap("Issue")
     List<IssueEntity> findBySubjectId(Integer subjectId);
+
+    @Select({"<script>",
+            "SELECT * FROM issues WHERE subject_id IN",
+            "<foreach item='subjectId' collection='list' open='(' separator=',' close=')'>#{subjectId}</foreach>",
+            "</script>"})
+    @ResultMap("Issue")
+    List<IssueEntity> findBySubjectIds(List<Integer> subjectIds);
 }
@@ -0,0 +1,35 @@
+package easytests.core.mappers;
+
+import org.apache.ibatis.annotations.Select;
+
+
+/**
+ * Resolves the user owning a model with one primary key join instead of loading the whole chain of models.
+ *
+ * @author malinink
+ */
+public interface OwnershipMapper {
+    @Select("SELECT user_id FROM subjects WHERE id=#{subjectId}")
+    Integer findSubjectOwnerId(Integer subjectId);
+
+    @Select({"SELECT s.user_id FROM topics t",
+        "JOIN subjects s ON s.id=t.subject_id",
+        "WHERE t.id=#{topicId}"})
+    Integer findTopicOwnerId(Integer topicId);
+
+    @Select({"SELECT s.user_id FROM questions q",
+        "JOIN topics t ON t.id=q.topic_id",
+        "JOIN subjects s ON s.id=t.subject_id",
+        "WHERE q.id=#{questionId}"})
+    Integer findQuestionOwnerId(Integer questionId);
+
+    @Select({"SELECT s.user_id FROM issue_standards i",
+        "JOIN subjects s ON s.id=i.subject_id",
+        "WHERE i.id=#{issueStandardId}"})
+    Integer findIssueStandardOwnerId(Integer issueStandardId);
+
+    @Select({"SELECT s.user_id FROM issues i",
+        "JOIN subjects s ON s.id=i.subject_id",
+        "WHERE i.id=#{issueId}"})
+    Integer findIssueOwnerId(Integer issueId);
+}
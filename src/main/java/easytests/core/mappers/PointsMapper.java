@@ -39,4 +39,39 @@ public interface PointsMapper {
     @Delete("DELETE FROM points WHERE id=#{id}")
     void delete(PointEntity point);
 
+    @Insert({"<script>",
+            "INSERT INTO points (question_id, quiz_id) VALUES",
+            "<foreach item='point' collection='list' separator=','>",
+            "(#{point.questionId}, #{point.quizId})",
+            "</foreach>",
+            "</script>"})
+    @Options(useGeneratedKeys = true, keyColumn = "id")
+    void insertList(List<PointEntity> points);
+
+    @Insert({"<script>",
+            "INSERT INTO points (question_id, quiz_id) SELECT v.question_id, v.quiz_id FROM (VALUES",
+            "<foreach item='point' index='position' collection='list' separator=','>",
+            "(CAST(#{point.questionId} AS INTEGER), CAST(#{point.quizId} AS INTEGER), CAST(#{position} AS INTEGER))",
+            "</foreach>",
+            ") AS v (question_id, quiz_id, position) JOIN questions ON questions.id=v.question_id ORDER BY v.position",
+            "</script>"})
+    void insertListOfExistingQuestions(List<PointEntity> points);
+
+    @Update({"<script>",
+            "UPDATE points SET question_id=v.question_id, quiz_id=v.quiz_id",
+            "FROM (VALUES",
+            "<foreach item='point' collection='list' separator=','>",
+            "(CAST(#{point.id} AS INTEGER), CAST(#{point.questionId} AS INTEGER),",
+            "CAST(#{point.quizId} AS INTEGER))",
+            "</foreach>",
+            ") AS v (id, question_id, quiz_id)",
+            "WHERE points.id=v.id",
+            "</script>"})
+    void updateList(List<PointEntity> points);
+
+    @Delete({"<script>",
+            "DELETE FROM points WHERE id IN",
+            "<foreach item='point' collection='list' open='(' separator=',' close=')'>#{point.id}</foreach>",
+            "</script>"})
+    void deleteList(List<PointEntity> points);
 }
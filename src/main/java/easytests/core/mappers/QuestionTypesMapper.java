@@ -1,5 +1,6 @@
 package easytests.core.mappers;
 
+import easytests.core.cache.MapperCache;
 import easytests.core.entities.QuestionTypeEntity;
 import java.util.List;
 import org.apache.ibatis.annotations.*;
@@ -9,6 +10,13 @@ import org.apache.ibatis.annotations.*;
  * @author malinink
  */
 @Mapper
+@CacheNamespace(
+    implementation = MapperCache.class,
+    properties = {
+        @Property(name = "tables", value = "question_types"),
+        @Property(name = "size", value = "64"),
+        @Property(name = "ttl", value = "3600000")
+    })
 @SuppressWarnings("checkstyle:linelength")
 public interface QuestionTypesMapper {
     @Results(
@@ -29,6 +29,26 @@ public interface QuestionsMapper {
     @ResultMap("Question")
     List<QuestionEntity> findByTopicId(Integer topicId);
 
+    @Select("SELECT * FROM questions WHERE topic_id=#{topicId} AND id > #{afterId} ORDER BY id LIMIT #{limit}")
+    @ResultMap("Question")
+    List<QuestionEntity> findPageByTopicId(
+            @Param("topicId") Integer topicId,
+            @Param("afterId") Integer afterId,
+            @Param("limit") Integer limit);
+
+    @Select({"<script>",
+            "SELECT * FROM questions where topic_id IN",
+            "<foreach item='topicId' collection='list' open='(' separator=',' close=')'>#{topicId}</foreach>",
+            "</script>"})
+    @ResultMap("Question")
+    List<QuestionEntity> findByTopicIds(List<Integer> topicIds);
+
+    @Select({
+            "SELECT q.id, q.question_type_id, q.topic_id FROM questions q ",
+            "JOIN topics t ON t.id=q.topic_id WHERE t.subject_id=#{subjectId}"})
+    @ResultMap("Question")
+    List<QuestionEntity> findPoolBySubjectId(Integer subjectId);
+
     @Insert("INSERT INTO questions (text, question_type_id, topic_id) VALUES(#{text}, #{questionTypeId}, #{topicId})")
     @Options(useGeneratedKeys = true, keyColumn = "id")
     void insert(QuestionEntity question);
@@ -39,4 +59,41 @@ public interface QuestionsMapper {
     @Delete("DELETE FROM questions WHERE id=#{id}")
     void delete(QuestionEntity question);
 
+    @Insert({"<script>",
+            "INSERT INTO questions (text, question_type_id, topic_id) VALUES",
+            "<foreach item='question' collection='list' separator=','>",
+            "(#{question.text}, #{question.questionTypeId}, #{question.topicId})",
+            "</foreach>",
+            "</script>"})
+    @Options(useGeneratedKeys = true, keyColumn = "id")
+    void insertList(List<QuestionEntity> questions);
+
+    @Update({"<script>",
+            "UPDATE questions SET text=v.text, question_type_id=v.question_type_id, topic_id=v.topic_id",
+            "FROM (VALUES",
+            "<foreach item='question' collection='list' separator=','>",
+            "(CAST(#{question.id} AS INTEGER), CAST(#{question.text} AS VARCHAR),",
+            "CAST(#{question.questionTypeId} AS INTEGER), CAST(#{question.topicId} AS INTEGER))",
+            "</foreach>",
+            ") AS v (id, text, question_type_id, topic_id)",
+            "WHERE questions.id=v.id",
+            "</script>"})
+    void updateList(List<QuestionEntity> questions);
+
+    @Delete({"<script>",
+            "DELETE FROM questions WHERE id IN",
+            "<foreach item='question' collection='list' open='(' separator=',' close=')'>#{question.id}</foreach>",
+            "</script>"})
+    void deleteList(List<QuestionEntity> questions);
+
+    @Delete("DELETE FROM questions WHERE topic_id=#{topicId}")
+    void deleteByTopicId(Integer topicId);
+
+    @Delete("DELETE FROM questions WHERE topic_id IN (SELECT id FROM topics WHERE subject_id=#{subjectId})")
+    void deleteBySubjectId(Integer subjectId);
+
+    @Delete({
+            "DELETE FROM questions WHERE topic_id IN (SELECT t.id FROM topics t JOIN subjects s ON ",
+            "t.subject_id=s.id WHERE s.user_id=#{userId})"})
+    void deleteByUserId(Integer userId);
 }
@@ -1,6 +1,8 @@
 package easytests.core.mappers;
 
+import easytests.core.entities.QuizClaimEntity;
 import easytests.core.entities.QuizEntity;
+import easytests.core.entities.TesteeEntity;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -34,10 +36,84 @@ public interface QuizzesMapper {
     @ResultMap("Quiz")
     List<QuizEntity> findByIssueId(Integer issueId);
 
+    @Select("SELECT * FROM quizzes WHERE invite_code=#{inviteCode}")
+    @ResultMap("Quiz")
+    QuizEntity findByInviteCode(String inviteCode);
+
+    @Select({"SELECT * FROM quizzes WHERE invite_code IS NOT NULL AND NOT code_expired",
+            "ORDER BY id DESC LIMIT #{limit}"})
+    @ResultMap("Quiz")
+    List<QuizEntity> findActive(Integer limit);
+
+    @Select({"<script>",
+            "SELECT q.id, q.started_at + s.time_limit * INTERVAL '1 second' AS finished_at FROM quizzes q",
+            "JOIN issues i ON i.id=q.issue_id JOIN issue_standards s ON s.subject_id=i.subject_id",
+            "WHERE q.started_at IS NOT NULL AND q.finished_at IS NULL AND s.time_limit IS NOT NULL",
+            "<if test='quizId != null'>AND q.id=#{quizId}</if>",
+            "</script>"})
+    @ResultMap("Quiz")
+    List<QuizEntity> findDeadlines(@Param("quizId") Integer quizId);
+
+    @Update({"<script>",
+            "UPDATE quizzes SET finished_at=v.finished_at FROM (VALUES",
+            "<foreach item='quiz' collection='list' separator=','>",
+            "(CAST(#{quiz.id} AS INTEGER), CAST(#{quiz.finishedAt} AS TIMESTAMP))",
+            "</foreach>",
+            ") AS v (id, finished_at)",
+            "WHERE quizzes.id=v.id AND quizzes.finished_at IS NULL",
+            "</script>"})
+    void finishList(List<QuizEntity> quizzes);
+
+    @Select("SELECT nextval('quizzes_invite_code_seq')")
+    @Options(useCache = false)
+    Long nextInviteCodeBlock();
+
     @Insert("INSERT INTO quizzes (issue_id, invite_code, code_expired, started_at, finished_at) VALUES (#{issueId},#{inviteCode},#{codeExpired},#{startedAt},#{finishedAt})")
     @Options(useGeneratedKeys = true, keyColumn = "id")
     void insert(QuizEntity quiz);
 
+    @Insert({"<script>",
+            "INSERT INTO quizzes (issue_id, invite_code, code_expired, started_at, finished_at) VALUES",
+            "<foreach item='quiz' collection='list' separator=','>",
+            "(#{quiz.issueId}, #{quiz.inviteCode}, #{quiz.codeExpired}, #{quiz.startedAt}, #{quiz.finishedAt})",
+            "</foreach>",
+            "</script>"})
+    @Options(useGeneratedKeys = true, keyColumn = "id")
+    void insertList(List<QuizEntity> quizzes);
+
+    @Select({"<script>",
+            "WITH quiz AS (INSERT INTO quizzes (issue_id, invite_code, code_expired)",
+            "VALUES (#{quiz.issueId}, #{quiz.inviteCode}, #{quiz.codeExpired}) RETURNING id),",
+            "point AS (INSERT INTO points (question_id, quiz_id) SELECT v.question_id, quiz.id FROM quiz, (VALUES",
+            "<foreach item='questionId' index='position' collection='questionsIds' separator=','>",
+            "(CAST(#{questionId} AS INTEGER), CAST(#{position} AS INTEGER))",
+            "</foreach>",
+            ") AS v (question_id, position) JOIN questions ON questions.id=v.question_id ORDER BY v.position)",
+            "SELECT id FROM quiz",
+            "</script>"})
+    @Options(flushCache = Options.FlushCachePolicy.TRUE, useCache = false)
+    Integer insertWithPoints(@Param("quiz") QuizEntity quiz, @Param("questionsIds") List<Integer> questionsIds);
+
+    @Select({"WITH quiz AS (UPDATE quizzes SET started_at=now(), code_expired=TRUE",
+            "WHERE invite_code=#{inviteCode} AND NOT code_expired RETURNING *),",
+            "testee AS (INSERT INTO testees (first_name, last_name, surname, group_number, quiz_id)",
+            "SELECT #{testee.firstName}, #{testee.lastName}, #{testee.surname}, #{testee.groupNumber}, quiz.id",
+            "FROM quiz RETURNING id)",
+            "SELECT quiz.*, testee.id AS testee_id FROM quiz, testee"})
+    @Results(
+            id = "QuizClaim",
+            value = {
+                    @Result(property = "id", column = "id"),
+                    @Result(property = "issueId", column = "issue_id"),
+                    @Result(property = "inviteCode", column = "invite_code"),
+                    @Result(property = "codeExpired", column = "code_expired"),
+                    @Result(property = "startedAt", column = "started_at", javaType = LocalDateTime.class),
+                    @Result(property = "finishedAt", column = "finished_at", javaType = LocalDateTime.class),
+                    @Result(property = "testeeId", column = "testee_id")
+            })
+    @Options(flushCache = Options.FlushCachePolicy.TRUE, useCache = false)
+    QuizClaimEntity claim(@Param("inviteCode") String inviteCode, @Param("testee") TesteeEntity testee);
+
     @Update("UPDATE quizzes SET issue_id=#{issueId}, invite_code=#{inviteCode}, code_expired=#{codeExpired}, started_at=#{startedAt},finished_at=#{finishedAt} WHERE id=#{id}")
     void update(QuizEntity quiz);
 
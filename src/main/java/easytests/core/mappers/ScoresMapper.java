@@ -0,0 +1,72 @@
+package easytests.core.mappers;
+
+import easytests.core.entities.ScoreEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.*;
+
+
+/**
+ * @author malinink
+ */
+@Mapper
+public interface ScoresMapper {
+
+    @Select("SELECT * FROM scores WHERE quiz_id=#{quizId}")
+    @Results(
+        id = "Score",
+        value = {
+            @Result(property = "id", column = "id"),
+            @Result(property = "quizId", column = "quiz_id"),
+            @Result(property = "points", column = "points"),
+            @Result(property = "rightPoints", column = "right_points"),
+            @Result(property = "gradedAt", column = "graded_at", javaType = LocalDateTime.class)
+        })
+    ScoreEntity findByQuizId(Integer quizId);
+
+    @Select("SELECT s.* FROM scores s JOIN quizzes q ON q.id=s.quiz_id WHERE q.issue_id=#{issueId} ORDER BY s.quiz_id")
+    @ResultMap("Score")
+    List<ScoreEntity> findByIssueId(Integer issueId);
+
+    @Select({"<script>",
+            "SELECT DISTINCT s.quiz_id FROM scores s JOIN points p ON p.quiz_id=s.quiz_id WHERE p.question_id IN",
+            "<foreach item='questionId' collection='list' open='(' separator=',' close=')'>#{questionId}</foreach>",
+            "ORDER BY s.quiz_id",
+            "</script>"})
+    List<Integer> findQuizzesIdsByQuestionsIds(List<Integer> questionsIds);
+
+    /**
+     * Grades all quizzes of the issue, or the given quizzes when the issue id is null, and stores their scores.
+     * A point is right when the chosen answers of its question are exactly the right ones.
+     * Scores are upserted on quiz_id, so concurrent gradings of a new quiz can't collide (PostgreSQL 9.5+).
+     */
+    @Select({"<script>",
+            "WITH graded_quizzes AS (SELECT id FROM quizzes WHERE",
+            "<choose>",
+            "<when test='issueId != null'>issue_id=#{issueId}</when>",
+            "<otherwise>",
+            "id IN <foreach item='quizId' collection='quizzesIds' open='(' separator=',' close=')'>#{quizId}</foreach>",
+            "</otherwise>",
+            "</choose>",
+            "), graded_points AS (",
+            "SELECT p.id, p.quiz_id, COALESCE(BOOL_AND(a.is_right = (s.id IS NOT NULL)), FALSE) AS is_right",
+            "FROM graded_quizzes q JOIN points p ON p.quiz_id=q.id",
+            "LEFT JOIN answers a ON a.question_id=p.question_id",
+            "LEFT JOIN solutions s ON s.point_id=p.id AND s.answer_id=a.id",
+            "GROUP BY p.id, p.quiz_id",
+            "), graded AS (",
+            "SELECT q.id AS quiz_id, COUNT(p.id) AS points,",
+            "COALESCE(SUM(CASE WHEN p.is_right THEN 1 ELSE 0 END), 0) AS right_points",
+            "FROM graded_quizzes q LEFT JOIN graded_points p ON p.quiz_id=q.id GROUP BY q.id",
+            "), upserted AS (",
+            "INSERT INTO scores (quiz_id, points, right_points, graded_at)",
+            "SELECT g.quiz_id, g.points, g.right_points, now() FROM graded g",
+            "ON CONFLICT (quiz_id) DO UPDATE SET points=EXCLUDED.points, right_points=EXCLUDED.right_points,",
+            "graded_at=EXCLUDED.graded_at RETURNING *",
+            ")",
+            "SELECT * FROM upserted ORDER BY quiz_id",
+            "</script>"})
+    @ResultMap("Score")
+    @Options(flushCache = Options.FlushCachePolicy.TRUE, useCache = false)
+    List<ScoreEntity> grade(@Param("issueId") Integer issueId, @Param("quizzesIds") List<Integer> quizzesIds);
+}
@@ -1,14 +1,19 @@
 package easytests.core.mappers;
 
 import easytests.core.entities.SolutionEntity;
+import easytests.core.entities.SolutionExportEntity;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 /**
  * @author SingularityA
  */
 @Mapper
 public interface SolutionsMapper {
+    int EXPORT_FETCH_SIZE = 1000;
 
     @Results(
         id = "Solution",
@@ -37,4 +42,97 @@ public interface SolutionsMapper {
 
     @Delete("DELETE FROM solutions WHERE id=#{id}")
     void delete(SolutionEntity solution);
+
+    @Insert({"<script>",
+            "INSERT INTO solutions (answer_id, point_id) VALUES",
+            "<foreach item='solution' collection='list' separator=','>",
+            "(#{solution.answerId}, #{solution.pointId})",
+            "</foreach>",
+            "</script>"})
+    @Options(useGeneratedKeys = true, keyColumn = "id")
+    void insertList(List<SolutionEntity> solutions);
+
+    @Update({"<script>",
+            "UPDATE solutions SET answer_id=v.answer_id, point_id=v.point_id",
+            "FROM (VALUES",
+            "<foreach item='solution' collection='list' separator=','>",
+            "(CAST(#{solution.id} AS INTEGER), CAST(#{solution.answerId} AS INTEGER),",
+            "CAST(#{solution.pointId} AS INTEGER))",
+            "</foreach>",
+            ") AS v (id, answer_id, point_id)",
+            "WHERE solutions.id=v.id",
+            "</script>"})
+    void updateList(List<SolutionEntity> solutions);
+
+    @Delete({"<script>",
+            "DELETE FROM solutions WHERE id IN",
+            "<foreach item='solution' collection='list' open='(' separator=',' close=')'>#{solution.id}</foreach>",
+            "</script>"})
+    void deleteList(List<SolutionEntity> solutions);
+
+    @Update({"<script>",
+            "<choose>",
+            "<when test='solutions.isEmpty()'>",
+            "DELETE FROM solutions WHERE point_id IN",
+            "<foreach item='pointId' collection='pointsIds' open='(' separator=',' close=')'>#{pointId}</foreach>",
+            "</when>",
+            "<otherwise>",
+            "WITH submitted (answer_id, point_id) AS (VALUES",
+            "<foreach item='solution' collection='solutions' separator=','>",
+            "(CAST(#{solution.answerId} AS INTEGER), CAST(#{solution.pointId} AS INTEGER))",
+            "</foreach>",
+            "), deleted AS (",
+            "DELETE FROM solutions s WHERE s.point_id IN",
+            "<foreach item='pointId' collection='pointsIds' open='(' separator=',' close=')'>#{pointId}</foreach>",
+            "AND NOT EXISTS (SELECT 1 FROM submitted v WHERE v.answer_id=s.answer_id AND v.point_id=s.point_id)",
+            ")",
+            "INSERT INTO solutions (answer_id, point_id) SELECT v.answer_id, v.point_id FROM submitted v",
+            "WHERE NOT EXISTS (SELECT 1 FROM solutions s WHERE s.answer_id=v.answer_id AND s.point_id=v.point_id)",
+            "</otherwise>",
+            "</choose>",
+            "</script>"})
+    void replaceByPointsIds(
+            @Param("pointsIds") List<Integer> pointsIds,
+            @Param("solutions") List<SolutionEntity> solutions);
+
+    /**
+     * Must be iterated inside a transaction, PostgreSQL only fetches rows by portions with auto-commit off.
+     */
+    @Select({"SELECT q.issue_id, q.id AS quiz_id, q.invite_code, t.first_name, t.last_name, t.surname,",
+            "t.group_number, q.started_at, q.finished_at, p.id AS point_id, p.question_id, s.answer_id, a.is_right",
+            "FROM quizzes q JOIN points p ON p.quiz_id=q.id JOIN solutions s ON s.point_id=p.id",
+            "LEFT JOIN answers a ON a.id=s.answer_id LEFT JOIN testees t ON t.quiz_id=q.id",
+            "WHERE q.issue_id=#{issueId} ORDER BY q.id, p.id, s.answer_id"})
+    @Results(
+        id = "SolutionExport",
+        value = {
+            @Result(property = "issueId", column = "issue_id"),
+            @Result(property = "quizId", column = "quiz_id"),
+            @Result(property = "inviteCode", column = "invite_code"),
+            @Result(property = "testeeFirstName", column = "first_name"),
+            @Result(property = "testeeLastName", column = "last_name"),
+            @Result(property = "testeeSurname", column = "surname"),
+            @Result(property = "testeeGroupNumber", column = "group_number"),
+            @Result(property = "startedAt", column = "started_at", javaType = LocalDateTime.class),
+            @Result(property = "finishedAt", column = "finished_at", javaType = LocalDateTime.class),
+            @Result(property = "pointId", column = "point_id"),
+            @Result(property = "questionId", column = "question_id"),
+            @Result(property = "answerId", column = "answer_id"),
+            @Result(property = "right", column = "is_right")
+        })
+    @Options(fetchSize = EXPORT_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY, useCache = false)
+    Cursor<SolutionExportEntity> exportByIssueId(Integer issueId);
+
+    /**
+     * Must be iterated inside a transaction, PostgreSQL only fetches rows by portions with auto-commit off.
+     */
+    @Select({"SELECT q.issue_id, q.id AS quiz_id, q.invite_code, t.first_name, t.last_name, t.surname,",
+            "t.group_number, q.started_at, q.finished_at, p.id AS point_id, p.question_id, s.answer_id, a.is_right",
+            "FROM issues i JOIN quizzes q ON q.issue_id=i.id JOIN points p ON p.quiz_id=q.id",
+            "JOIN solutions s ON s.point_id=p.id",
+            "LEFT JOIN answers a ON a.id=s.answer_id LEFT JOIN testees t ON t.quiz_id=q.id",
+            "WHERE i.subject_id=#{subjectId} ORDER BY q.issue_id, q.id, p.id, s.answer_id"})
+    @ResultMap("SolutionExport")
+    @Options(fetchSize = EXPORT_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY, useCache = false)
+    Cursor<SolutionExportEntity> exportBySubjectId(Integer subjectId);
 }
@@ -29,6 +29,13 @@ public interface SubjectsMapper {
     @ResultMap("Subject")
     List<SubjectEntity> findByUserId(Integer userId);
 
+    @Select("SELECT * FROM subjects WHERE user_id=#{userId} AND id > #{afterId} ORDER BY id LIMIT #{limit}")
+    @ResultMap("Subject")
+    List<SubjectEntity> findPageByUserId(
+            @Param("userId") Integer userId,
+            @Param("afterId") Integer afterId,
+            @Param("limit") Integer limit);
+
     @Insert("INSERT INTO subjects (name, description, user_id) VALUES (#{name}, #{description}, #{userId})")
     @Options(useGeneratedKeys = true, keyColumn = "id")
     void insert(SubjectEntity subject);
@@ -39,4 +46,6 @@ public interface SubjectsMapper {
     @Delete("DELETE FROM subjects WHERE id=#{id}")
     void delete(SubjectEntity subject);
 
+    @Delete("DELETE FROM subjects WHERE user_id=#{userId}")
+    void deleteByUserId(Integer userId);
 }
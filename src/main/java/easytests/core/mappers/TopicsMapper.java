@@ -27,6 +27,20 @@ public interface TopicsMapper {
     @ResultMap("Topic")
     List<TopicEntity> findBySubjectId(Integer subjectId);
 
+    @Select({"<script>",
+        "SELECT * FROM topics where subject_id IN",
+        "<foreach item='subjectId' collection='list' open='(' separator=',' close=')'>#{subjectId}</foreach>",
+        "</script>"})
+    @ResultMap("Topic")
+    List<TopicEntity> findBySubjectIds(List<Integer> subjectIds);
+
+    @Select({"<script>",
+        "SELECT * FROM topics where id IN",
+        "<foreach item='id' collection='list' open='(' separator=',' close=')'>#{id}</foreach>",
+        "</script>"})
+    @ResultMap("Topic")
+    List<TopicEntity> findByIds(List<Integer> ids);
+
     @Insert("INSERT INTO topics (name, subject_id) VALUES(#{name}, #{subjectId})")
     @Options(useGeneratedKeys = true, keyColumn = "id")
     void insert(TopicEntity topic);
@@ -36,4 +50,37 @@ public interface TopicsMapper {
 
     @Delete("DELETE FROM topics WHERE id=#{id}")
     void delete(TopicEntity topic);
+
+    @Insert({"<script>",
+            "INSERT INTO topics (name, subject_id) VALUES",
+            "<foreach item='topic' collection='list' separator=','>",
+            "(#{topic.name}, #{topic.subjectId})",
+            "</foreach>",
+            "</script>"})
+    @Options(useGeneratedKeys = true, keyColumn = "id")
+    void insertList(List<TopicEntity> topics);
+
+    @Update({"<script>",
+            "UPDATE topics SET name=v.name, subject_id=v.subject_id",
+            "FROM (VALUES",
+            "<foreach item='topic' collection='list' separator=','>",
+            "(CAST(#{topic.id} AS INTEGER), CAST(#{topic.name} AS VARCHAR),",
+            "CAST(#{topic.subjectId} AS INTEGER))",
+            "</foreach>",
+            ") AS v (id, name, subject_id)",
+            "WHERE topics.id=v.id",
+            "</script>"})
+    void updateList(List<TopicEntity> topics);
+
+    @Delete({"<script>",
+            "DELETE FROM topics WHERE id IN",
+            "<foreach item='topic' collection='list' open='(' separator=',' close=')'>#{topic.id}</foreach>",
+            "</script>"})
+    void deleteList(List<TopicEntity> topics);
+
+    @Delete("DELETE FROM topics WHERE subject_id=#{subjectId}")
+    void deleteBySubjectId(Integer subjectId);
+
+    @Delete("DELETE FROM topics WHERE subject_id IN (SELECT id FROM subjects WHERE user_id=#{userId})")
+    void deleteByUserId(Integer userId);
 }
@@ -1,5 +1,6 @@
 package easytests.core.mappers;
 
+import easytests.core.cache.MapperCache;
 import easytests.core.entities.UserEntity;
 import java.util.List;
 import org.apache.ibatis.annotations.*;
@@ -9,6 +10,13 @@ import org.apache.ibatis.annotations.*;
  * @author malinink
  */
 @Mapper
+@CacheNamespace(
+    implementation = MapperCache.class,
+    properties = {
+        @Property(name = "tables", value = "users"),
+        @Property(name = "size", value = "1024"),
+        @Property(name = "ttl", value = "300000")
+    })
 @SuppressWarnings("checkstyle:linelength")
 public interface UsersMapper {
     @Results(
@@ -26,11 +34,15 @@ public interface UsersMapper {
     @Select("SELECT * FROM users")
     List<UserEntity> findAll();
 
+    @Select("SELECT * FROM users WHERE id > #{afterId} ORDER BY id LIMIT #{limit}")
+    @ResultMap("User")
+    List<UserEntity> findPage(@Param("afterId") Integer afterId, @Param("limit") Integer limit);
+
     @Select("SELECT * FROM users where id=#{id}")
     @ResultMap("User")
     UserEntity find(Integer id);
 
-    @Select("SELECT * FROM users where email=#{email}")
+    @Select("SELECT * FROM users where lower(email)=lower(#{email})")
     @ResultMap("User")
     UserEntity findByEmail(String email);
 
@@ -41,6 +53,15 @@ public interface UsersMapper {
     @Update("UPDATE users SET first_name=#{firstName}, last_name=#{lastName}, surname=#{surname}, email=#{email}, password=#{password}, is_admin=#{isAdmin}, state=#{state} WHERE id=#{id}")
     void update(UserEntity user);
 
+    @Select({"UPDATE users SET first_name=#{firstName}, last_name=#{lastName}, surname=#{surname}, email=#{email},",
+            "password=#{password}, is_admin=#{isAdmin}, state=#{state} FROM users old",
+            "WHERE users.id=#{id} AND old.id=users.id",
+            "RETURNING old.id, old.first_name, old.last_name, old.surname, old.email, old.password, old.is_admin,",
+            "old.state"})
+    @ResultMap("User")
+    @Options(flushCache = Options.FlushCachePolicy.TRUE, useCache = false)
+    UserEntity updateReturningPrevious(UserEntity user);
+
     @Delete("DELETE FROM users WHERE id=#{id}")
     void delete(UserEntity user);
 }
@@ -0,0 +1,31 @@
+package easytests.core.models;
+
+import easytests.core.entities.ScoreEntity;
+import easytests.core.models.empty.QuizModelEmpty;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+
+/**
+ * @author malinink
+ */
+@Data
+public class ScoreModel implements ScoreModelInterface {
+    private Integer id;
+
+    private QuizModelInterface quiz;
+
+    private Integer points;
+
+    private Integer rightPoints;
+
+    private LocalDateTime gradedAt;
+
+    public void map(ScoreEntity scoreEntity) {
+        this.setId(scoreEntity.getId());
+        this.setQuiz(new QuizModelEmpty(scoreEntity.getQuizId()));
+        this.setPoints(scoreEntity.getPoints());
+        this.setRightPoints(scoreEntity.getRightPoints());
+        this.setGradedAt(scoreEntity.getGradedAt());
+    }
+}
@@ -0,0 +1,30 @@
+package easytests.core.models;
+
+import easytests.core.entities.ScoreEntity;
+import java.time.LocalDateTime;
+
+
+/**
+ * @author malinink
+ */
+public interface ScoreModelInterface extends ModelInterface {
+    void setId(Integer id);
+
+    QuizModelInterface getQuiz();
+
+    void setQuiz(QuizModelInterface quiz);
+
+    Integer getPoints();
+
+    void setPoints(Integer points);
+
+    Integer getRightPoints();
+
+    void setRightPoints(Integer rightPoints);
+
+    LocalDateTime getGradedAt();
+
+    void setGradedAt(LocalDateTime gradedAt);
+
+    void map(ScoreEntity scoreEntity);
+}
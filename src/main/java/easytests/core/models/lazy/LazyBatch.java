@@ -0,0 +1,72 @@
+package easytests.core.models.lazy;
+
+import easytests.core.models.IdentityInterface;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+
+/**
+ * Loads a relation of a group of sibling models with one call on the first access to any of them.
+ * Keys registered after the group has been loaded are loaded on their own.
+ *
+ * @author malinink
+ */
+public class LazyBatch<T> {
+    private final Function<List<Integer>, Map<Integer, T>> loader;
+
+    private final Set<Integer> keys = new LinkedHashSet<>();
+
+    private Map<Integer, T> loaded;
+
+    public LazyBatch(Function<List<Integer>, Map<Integer, T>> loader) {
+        this.loader = loader;
+    }
+
+    public static <M extends IdentityInterface> Map<Integer, M> index(List<M> models) {
+        final Map<Integer, M> index = new HashMap<>(models.size());
+        for (M model: models) {
+            index.put(model.getId(), model);
+        }
+        return index;
+    }
+
+    public static <M> Map<Integer, List<M>> group(List<M> models, Function<M, Integer> key) {
+        final Map<Integer, List<M>> groups = new HashMap<>();
+        for (M model: models) {
+            groups.computeIfAbsent(key.apply(model), groupKey -> new ArrayList<>()).add(model);
+        }
+        return groups;
+    }
+
+    public synchronized void register(Integer key) {
+        this.keys.add(key);
+    }
+
+    public synchronized T get(Integer key) {
+        if (this.loaded == null) {
+            this.loaded = new HashMap<>(this.keys.size());
+            this.load(new ArrayList<>(this.keys));
+        }
+        if (!this.loaded.containsKey(key)) {
+            this.load(Collections.singletonList(key));
+        }
+        return this.loaded.get(key);
+    }
+
+    public synchronized boolean isLoaded() {
+        return this.loaded != null;
+    }
+
+    private void load(List<Integer> loadKeys) {
+        this.loaded.putAll(this.loader.apply(loadKeys));
+        for (Integer loadKey: loadKeys) {
+            this.loaded.putIfAbsent(loadKey, null);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package easytests.core.models.lazy;
+
+import easytests.core.models.ModelInterface;
+import easytests.core.models.exceptions.CallMethodOnEmptyModelException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+
+/**
+ * Creates placeholders which know their id and load the model through a batch on any other call.
+ *
+ * @author malinink
+ */
+public final class LazyModels {
+    private LazyModels() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <M extends ModelInterface> M create(Class<M> type, Integer id, LazyBatch<M> batch) {
+        batch.register(id);
+        return (M) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[] {type},
+                new Handler<>(id, batch));
+    }
+
+    /**
+     * @author malinink
+     */
+    private static final class Handler<M extends ModelInterface> implements InvocationHandler {
+        private static final String GET_ID = "getId";
+
+        private final Integer id;
+
+        private final LazyBatch<M> batch;
+
+        private Handler(Integer id, LazyBatch<M> batch) {
+            this.id = id;
+            this.batch = batch;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (GET_ID.equals(method.getName()) && method.getParameterCount() == 0) {
+                return this.id;
+            }
+            final M model = this.batch.get(this.id);
+            if (model == null) {
+                throw new CallMethodOnEmptyModelException();
+            }
+            try {
+                return method.invoke(model, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
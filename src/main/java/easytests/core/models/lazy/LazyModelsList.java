@@ -0,0 +1,42 @@
+package easytests.core.models.lazy;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Read-only list of the models related to one parent, loaded through a batch on first access.
+ *
+ * @author malinink
+ */
+public class LazyModelsList<M> extends AbstractList<M> {
+    private final Integer key;
+
+    private final LazyBatch<List<M>> batch;
+
+    public LazyModelsList(Integer key, LazyBatch<List<M>> batch) {
+        super();
+        this.key = key;
+        this.batch = batch;
+        batch.register(key);
+    }
+
+    @Override
+    public M get(int index) {
+        return this.load().get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.load().size();
+    }
+
+    private List<M> load() {
+        final List<M> models = this.batch.get(this.key);
+        if (models == null) {
+            return Collections.emptyList();
+        }
+        return models;
+    }
+}
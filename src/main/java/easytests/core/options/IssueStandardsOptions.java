@@ -1,11 +1,17 @@
 package easytests.core.options;
 
 import easytests.core.models.IssueStandardModelInterface;
+import easytests.core.models.IssueStandardQuestionTypeOptionModelInterface;
+import easytests.core.models.IssueStandardTopicPriorityModelInterface;
+import easytests.core.models.SubjectModelInterface;
 import easytests.core.services.IssueStandardQuestionTypeOptionsServiceInterface;
 import easytests.core.services.IssueStandardTopicPrioritiesServiceInterface;
 import easytests.core.services.IssueStandardsServiceInterface;
 import easytests.core.services.SubjectsServiceInterface;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
 
@@ -76,8 +82,44 @@ public class IssueStandardsOptions implements IssueStandardsOptionsInterface {
 
     @Override
     public List<IssueStandardModelInterface> withRelations(List<IssueStandardModelInterface> issueStandardModels) {
-        for (IssueStandardModelInterface issueStandardModel: issueStandardModels) {
-            this.withRelations(issueStandardModel);
+        if (issueStandardModels.isEmpty()) {
+            return issueStandardModels;
+        }
+        if (this.topicPrioritiesOptions != null) {
+            final Map<Integer, List<IssueStandardTopicPriorityModelInterface>> topicPrioritiesByIssueStandardId
+                    = new HashMap<>();
+            for (IssueStandardTopicPriorityModelInterface topicPriorityModel: this.topicPrioritiesService
+                    .findByIssueStandards(issueStandardModels, this.topicPrioritiesOptions)) {
+                topicPrioritiesByIssueStandardId
+                        .computeIfAbsent(topicPriorityModel.getIssueStandard().getId(), id -> new ArrayList<>())
+                        .add(topicPriorityModel);
+            }
+            for (IssueStandardModelInterface issueStandardModel: issueStandardModels) {
+                issueStandardModel.setTopicPriorities(topicPrioritiesByIssueStandardId
+                        .getOrDefault(issueStandardModel.getId(), new ArrayList<>(0)));
+            }
+        }
+        if (this.questionTypeOptionsOptions != null) {
+            final Map<Integer, List<IssueStandardQuestionTypeOptionModelInterface>>
+                    questionTypeOptionsByIssueStandardId = new HashMap<>();
+            for (IssueStandardQuestionTypeOptionModelInterface questionTypeOptionModel: this.questionTypeOptionsService
+                    .findByIssueStandards(issueStandardModels, this.questionTypeOptionsOptions)) {
+                questionTypeOptionsByIssueStandardId
+                        .computeIfAbsent(questionTypeOptionModel.getIssueStandard().getId(), id -> new ArrayList<>())
+                        .add(questionTypeOptionModel);
+            }
+            for (IssueStandardModelInterface issueStandardModel: issueStandardModels) {
+                issueStandardModel.setQuestionTypeOptions(questionTypeOptionsByIssueStandardId
+                        .getOrDefault(issueStandardModel.getId(), new ArrayList<>(0)));
+            }
+        }
+        if (this.subjectsOptions != null) {
+            final Map<Integer, SubjectModelInterface> subjectsById = new HashMap<>();
+            for (IssueStandardModelInterface issueStandardModel: issueStandardModels) {
+                issueStandardModel.setSubject(subjectsById.computeIfAbsent(
+                        issueStandardModel.getSubject().getId(),
+                        id -> this.subjectsService.find(id, this.subjectsOptions)));
+            }
         }
         return issueStandardModels;
     }
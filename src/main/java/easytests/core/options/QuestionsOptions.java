@@ -1,11 +1,17 @@
 package easytests.core.options;
 
+import easytests.core.models.AnswerModelInterface;
 import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.QuestionTypeModelInterface;
+import easytests.core.models.TopicModelInterface;
 import easytests.core.services.AnswersServiceInterface;
 import easytests.core.services.QuestionTypesServiceInterface;
 import easytests.core.services.QuestionsServiceInterface;
 import easytests.core.services.TopicsServiceInterface;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
 
@@ -72,8 +78,36 @@ public class QuestionsOptions implements QuestionsOptionsInterface {
 
     @Override
     public List<QuestionModelInterface> withRelations(List<QuestionModelInterface> questionsModels) {
-        for (QuestionModelInterface questionModel: questionsModels) {
-            this.withRelations(questionModel);
+        if (questionsModels.isEmpty()) {
+            return questionsModels;
+        }
+        if (this.answersOptions != null) {
+            final Map<Integer, List<AnswerModelInterface>> answersByQuestionId = new HashMap<>();
+            for (AnswerModelInterface answerModel
+                    : this.answersService.findByQuestions(questionsModels, this.answersOptions)) {
+                answersByQuestionId
+                        .computeIfAbsent(answerModel.getQuestion().getId(), id -> new ArrayList<>())
+                        .add(answerModel);
+            }
+            for (QuestionModelInterface questionModel: questionsModels) {
+                questionModel.setAnswers(
+                        answersByQuestionId.getOrDefault(questionModel.getId(), new ArrayList<>(0)));
+            }
+        }
+        if (this.topicsOptions != null) {
+            final Map<Integer, TopicModelInterface> topicsById = new HashMap<>();
+            for (QuestionModelInterface questionModel: questionsModels) {
+                questionModel.setTopic(topicsById.computeIfAbsent(
+                        questionModel.getTopic().getId(), id -> this.topicsService.find(id, this.topicsOptions)));
+            }
+        }
+        if (this.questionTypesOptions != null) {
+            final Map<Integer, QuestionTypeModelInterface> questionTypesById = new HashMap<>();
+            for (QuestionModelInterface questionModel: questionsModels) {
+                questionModel.setQuestionType(questionTypesById.computeIfAbsent(
+                        questionModel.getQuestionType().getId(),
+                        id -> this.questionTypesService.find(id, this.questionTypesOptions)));
+            }
         }
         return questionsModels;
     }
@@ -1,9 +1,15 @@
 package easytests.core.options;
 
+import easytests.core.models.IssueModelInterface;
 import easytests.core.models.IssueStandardModelInterface;
 import easytests.core.models.SubjectModelInterface;
+import easytests.core.models.TopicModelInterface;
+import easytests.core.models.UserModelInterface;
 import easytests.core.services.*;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
 
@@ -85,9 +91,52 @@ public class SubjectsOptions implements SubjectsOptionsInterface {
 
     public List<SubjectModelInterface> withRelations(List<SubjectModelInterface> subjectsModels) {
 
-        for (SubjectModelInterface subjectModel: subjectsModels) {
-            this.withRelations(subjectModel);
+        if (subjectsModels.isEmpty()) {
+            return subjectsModels;
         }
+
+        if (this.usersOptions != null) {
+            final Map<Integer, UserModelInterface> usersById = new HashMap<>();
+            for (SubjectModelInterface subjectModel: subjectsModels) {
+                subjectModel.setUser(usersById.computeIfAbsent(
+                        subjectModel.getUser().getId(), id -> this.usersService.find(id, this.usersOptions)));
+            }
+        }
+        if (this.topicsOptions != null) {
+            final Map<Integer, List<TopicModelInterface>> topicsBySubjectId = new HashMap<>();
+            for (TopicModelInterface topicModel
+                    : this.topicsService.findBySubjects(subjectsModels, this.topicsOptions)) {
+                topicsBySubjectId
+                        .computeIfAbsent(topicModel.getSubject().getId(), id -> new ArrayList<>())
+                        .add(topicModel);
+            }
+            for (SubjectModelInterface subjectModel: subjectsModels) {
+                subjectModel.setTopics(topicsBySubjectId.getOrDefault(subjectModel.getId(), new ArrayList<>(0)));
+            }
+        }
+        if (this.issueStandardsOptions != null) {
+            final Map<Integer, IssueStandardModelInterface> issueStandardsBySubjectId = new HashMap<>();
+            for (IssueStandardModelInterface issueStandardModel
+                    : this.issueStandardsService.findBySubjects(subjectsModels, this.issueStandardsOptions)) {
+                issueStandardsBySubjectId.put(issueStandardModel.getSubject().getId(), issueStandardModel);
+            }
+            for (SubjectModelInterface subjectModel: subjectsModels) {
+                subjectModel.setIssueStandard(issueStandardsBySubjectId.get(subjectModel.getId()));
+            }
+        }
+        if (this.issuesOptions != null) {
+            final Map<Integer, List<IssueModelInterface>> issuesBySubjectId = new HashMap<>();
+            for (IssueModelInterface issueModel
+                    : this.issuesService.findBySubjects(subjectsModels, this.issuesOptions)) {
+                issuesBySubjectId
+                        .computeIfAbsent(issueModel.getSubject().getId(), id -> new ArrayList<>())
+                        .add(issueModel);
+            }
+            for (SubjectModelInterface subjectModel: subjectsModels) {
+                subjectModel.setIssues(issuesBySubjectId.getOrDefault(subjectModel.getId(), new ArrayList<>(0)));
+            }
+        }
+
         return subjectsModels;
 
     }
@@ -1,10 +1,15 @@
 package easytests.core.options;
 
+import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.SubjectModelInterface;
 import easytests.core.models.TopicModelInterface;
 import easytests.core.services.QuestionsServiceInterface;
 import easytests.core.services.SubjectsServiceInterface;
 import easytests.core.services.TopicsServiceInterface;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
 
@@ -55,8 +60,27 @@ public class TopicsOptions implements TopicsOptionsInterface {
 
     @Override
     public List<TopicModelInterface> withRelations(List<TopicModelInterface> topicsModels) {
-        for (TopicModelInterface topicModel: topicsModels) {
-            this.withRelations(topicModel);
+        if (topicsModels.isEmpty()) {
+            return topicsModels;
+        }
+        if (this.subjectsOptions != null) {
+            final Map<Integer, SubjectModelInterface> subjectsById = new HashMap<>();
+            for (TopicModelInterface topicModel: topicsModels) {
+                topicModel.setSubject(subjectsById.computeIfAbsent(
+                        topicModel.getSubject().getId(), id -> this.subjectsService.find(id, this.subjectsOptions)));
+            }
+        }
+        if (this.questionsOptions != null) {
+            final Map<Integer, List<QuestionModelInterface>> questionsByTopicId = new HashMap<>();
+            for (QuestionModelInterface questionModel
+                    : this.questionsService.findByTopics(topicsModels, this.questionsOptions)) {
+                questionsByTopicId
+                        .computeIfAbsent(questionModel.getTopic().getId(), id -> new ArrayList<>())
+                        .add(questionModel);
+            }
+            for (TopicModelInterface topicModel: topicsModels) {
+                topicModel.setQuestions(questionsByTopicId.getOrDefault(topicModel.getId(), new ArrayList<>(0)));
+            }
         }
         return topicsModels;
     }
@@ -0,0 +1,112 @@
+package easytests.core.options.builder;
+
+import easytests.core.entities.AnswerEntity;
+import easytests.core.entities.IssueStandardEntity;
+import easytests.core.entities.IssueStandardQuestionTypeOptionEntity;
+import easytests.core.entities.IssueStandardTopicPriorityEntity;
+import easytests.core.entities.QuestionEntity;
+import easytests.core.entities.SubjectEntity;
+import easytests.core.entities.TopicEntity;
+import easytests.core.fetch.FetchPlan;
+import easytests.core.mappers.AnswersMapper;
+import easytests.core.mappers.IssueStandardQuestionTypeOptionsMapper;
+import easytests.core.mappers.IssueStandardTopicPrioritiesMapper;
+import easytests.core.mappers.IssueStandardsMapper;
+import easytests.core.mappers.QuestionsMapper;
+import easytests.core.mappers.SubjectsMapper;
+import easytests.core.mappers.TopicsMapper;
+import easytests.core.models.AnswerModel;
+import easytests.core.models.AnswerModelInterface;
+import easytests.core.models.IssueStandardModel;
+import easytests.core.models.IssueStandardModelInterface;
+import easytests.core.models.IssueStandardQuestionTypeOptionModel;
+import easytests.core.models.IssueStandardQuestionTypeOptionModelInterface;
+import easytests.core.models.IssueStandardTopicPriorityModel;
+import easytests.core.models.IssueStandardTopicPriorityModelInterface;
+import easytests.core.models.QuestionModel;
+import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.SubjectModel;
+import easytests.core.models.SubjectModelInterface;
+import easytests.core.models.TopicModel;
+import easytests.core.models.TopicModelInterface;
+
+
+/**
+ * Fetch plans of the builders, declared once in dependency order so that they can reference each other.
+ *
+ * @author malinink
+ */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+final class FetchPlanDefinitions {
+    static final FetchPlan<SubjectModelInterface> SUBJECT = FetchPlan
+            .from("subjects", SubjectsMapper.class, "Subject", (SubjectEntity subjectEntity) -> {
+                final SubjectModelInterface subjectModel = new SubjectModel();
+                subjectModel.map(subjectEntity);
+                return subjectModel;
+            });
+
+    static final FetchPlan<TopicModelInterface> TOPIC = FetchPlan
+            .from("topics", TopicsMapper.class, "Topic", (TopicEntity topicEntity) -> {
+                final TopicModelInterface topicModel = new TopicModel();
+                topicModel.map(topicEntity);
+                return topicModel;
+            });
+
+    static final FetchPlan<QuestionModelInterface> QUESTION = FetchPlan
+            .from("questions", QuestionsMapper.class, "Question", (QuestionEntity questionEntity) -> {
+                final QuestionModelInterface questionModel = new QuestionModel();
+                questionModel.map(questionEntity);
+                return questionModel;
+            });
+
+    static final FetchPlan<AnswerModelInterface> ANSWER = FetchPlan
+            .from("answers", AnswersMapper.class, "AnswerEntity", (AnswerEntity answerEntity) -> {
+                final AnswerModelInterface answerModel = new AnswerModel();
+                answerModel.map(answerEntity);
+                return answerModel;
+            });
+
+    static final FetchPlan<IssueStandardModelInterface> ISSUE_STANDARD = FetchPlan
+            .from("issue_standards", IssueStandardsMapper.class, "IssueStandard", (IssueStandardEntity entity) -> {
+                final IssueStandardModelInterface issueStandardModel = new IssueStandardModel();
+                issueStandardModel.map(entity);
+                return issueStandardModel;
+            });
+
+    static final FetchPlan<IssueStandardTopicPriorityModelInterface> TOPIC_PRIORITY = FetchPlan
+            .from(
+                "topic_priorities",
+                IssueStandardTopicPrioritiesMapper.class,
+                "IssueStandardTopicPriority",
+                (IssueStandardTopicPriorityEntity entity) -> {
+                    final IssueStandardTopicPriorityModelInterface topicPriorityModel
+                            = new IssueStandardTopicPriorityModel();
+                    topicPriorityModel.map(entity);
+                    return topicPriorityModel;
+                });
+
+    static final FetchPlan<IssueStandardQuestionTypeOptionModelInterface> QUESTION_TYPE_OPTION = FetchPlan
+            .from(
+                "question_type_options",
+                IssueStandardQuestionTypeOptionsMapper.class,
+                "IssueStandardQuestionTypeOption",
+                (IssueStandardQuestionTypeOptionEntity entity) -> {
+                    final IssueStandardQuestionTypeOptionModelInterface questionTypeOptionModel
+                            = new IssueStandardQuestionTypeOptionModel();
+                    questionTypeOptionModel.map(entity);
+                    return questionTypeOptionModel;
+                });
+
+    static final FetchPlan<SubjectModelInterface> SUBJECT_VIEW = SUBJECT
+            .joinMany("subject_id", TOPIC, SubjectModelInterface::setTopics);
+
+    static final FetchPlan<QuestionModelInterface> QUESTION_VIEW = QUESTION
+            .joinMany("question_id", ANSWER, QuestionModelInterface::setAnswers);
+
+    static final FetchPlan<IssueStandardModelInterface> ISSUE_STANDARD_VIEW = ISSUE_STANDARD
+            .joinMany("issue_standard_id", TOPIC_PRIORITY, IssueStandardModelInterface::setTopicPriorities)
+            .joinMany("issue_standard_id", QUESTION_TYPE_OPTION, IssueStandardModelInterface::setQuestionTypeOptions);
+
+    private FetchPlanDefinitions() {
+    }
+}
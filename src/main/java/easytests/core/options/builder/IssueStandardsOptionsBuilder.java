@@ -1,7 +1,11 @@
 package easytests.core.options.builder;
 
+import easytests.core.fetch.CompiledFetchPlan;
+import easytests.core.fetch.FetchPlans;
+import easytests.core.models.IssueStandardModelInterface;
 import easytests.core.options.IssueStandardsOptions;
 import easytests.core.options.IssueStandardsOptionsInterface;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -19,6 +23,11 @@ public class IssueStandardsOptionsBuilder implements IssueStandardsOptionsBuilde
     @Autowired
     private IssueStandardQuestionTypeOptionsOptionsBuilder questionTypeOptionsOptionsBuilder;
 
+    @Autowired
+    private FetchPlans fetchPlans;
+
+    private CompiledFetchPlan<IssueStandardModelInterface> viewPlan;
+
     @Override
     public IssueStandardsOptionsInterface forDelete() {
         return new IssueStandardsOptions()
@@ -30,4 +39,14 @@ public class IssueStandardsOptionsBuilder implements IssueStandardsOptionsBuilde
     public IssueStandardsOptionsInterface forAuth() {
         return new IssueStandardsOptions().withSubject(this.subjectsOptionsBuilder.forAuth());
     }
+
+    @Override
+    public CompiledFetchPlan<IssueStandardModelInterface> forViewPlan() {
+        return this.viewPlan;
+    }
+
+    @PostConstruct
+    public void compilePlans() {
+        this.viewPlan = this.fetchPlans.compile(FetchPlanDefinitions.ISSUE_STANDARD_VIEW);
+    }
 }
@@ -1,5 +1,7 @@
 package easytests.core.options.builder;
 
+import easytests.core.fetch.CompiledFetchPlan;
+import easytests.core.models.IssueStandardModelInterface;
 import easytests.core.options.IssueStandardsOptionsInterface;
 
 /**
@@ -9,4 +11,6 @@ public interface IssueStandardsOptionsBuilderInterface extends OptionsBuilderInt
     IssueStandardsOptionsInterface forDelete();
 
     IssueStandardsOptionsInterface forAuth();
+
+    CompiledFetchPlan<IssueStandardModelInterface> forViewPlan();
 }
@@ -1,6 +1,10 @@
 package easytests.core.options.builder;
 
+import easytests.core.fetch.CompiledFetchPlan;
+import easytests.core.fetch.FetchPlans;
+import easytests.core.models.QuestionModelInterface;
 import easytests.core.options.*;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -15,6 +19,11 @@ public class QuestionsOptionsBuilder implements QuestionsOptionsBuilderInterface
     @Autowired
     private TopicsOptionsBuilder topicsOptionsBuilder;
 
+    @Autowired
+    private FetchPlans fetchPlans;
+
+    private CompiledFetchPlan<QuestionModelInterface> viewPlan;
+
     @Override
     public QuestionsOptionsInterface forDelete() {
         return new QuestionsOptions().withAnswers(this.answersOptionsBuilder.forDelete());
@@ -24,4 +33,14 @@ public class QuestionsOptionsBuilder implements QuestionsOptionsBuilderInterface
     public QuestionsOptionsInterface forAuth() {
         return new QuestionsOptions().withTopic(this.topicsOptionsBuilder.forAuth());
     }
+
+    @Override
+    public CompiledFetchPlan<QuestionModelInterface> forViewPlan() {
+        return this.viewPlan;
+    }
+
+    @PostConstruct
+    public void compilePlans() {
+        this.viewPlan = this.fetchPlans.compile(FetchPlanDefinitions.QUESTION_VIEW);
+    }
 }
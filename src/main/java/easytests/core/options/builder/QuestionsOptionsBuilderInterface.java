@@ -1,5 +1,7 @@
 package easytests.core.options.builder;
 
+import easytests.core.fetch.CompiledFetchPlan;
+import easytests.core.models.QuestionModelInterface;
 import easytests.core.options.QuestionsOptionsInterface;
 
 /**
@@ -9,4 +11,6 @@ public interface QuestionsOptionsBuilderInterface extends OptionsBuilderInterfac
     QuestionsOptionsInterface forDelete();
 
     QuestionsOptionsInterface forAuth();
+
+    CompiledFetchPlan<QuestionModelInterface> forViewPlan();
 }
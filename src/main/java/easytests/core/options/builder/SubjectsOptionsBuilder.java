@@ -1,7 +1,11 @@
 package easytests.core.options.builder;
 
+import easytests.core.fetch.CompiledFetchPlan;
+import easytests.core.fetch.FetchPlans;
+import easytests.core.models.SubjectModelInterface;
 import easytests.core.options.SubjectsOptions;
 import easytests.core.options.SubjectsOptionsInterface;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -19,6 +23,11 @@ public class SubjectsOptionsBuilder implements SubjectsOptionsBuilderInterface {
     @Autowired
     private IssueStandardsOptionsBuilder issueStandardsOptionsBuilder;
 
+    @Autowired
+    private FetchPlans fetchPlans;
+
+    private CompiledFetchPlan<SubjectModelInterface> viewPlan;
+
     @Override
     public SubjectsOptionsInterface forDelete() {
         return new SubjectsOptions()
@@ -30,4 +39,14 @@ public class SubjectsOptionsBuilder implements SubjectsOptionsBuilderInterface {
     public SubjectsOptionsInterface forAuth() {
         return new SubjectsOptions().withUser(this.usersOptionsBuilder.forAuth());
     }
+
+    @Override
+    public CompiledFetchPlan<SubjectModelInterface> forViewPlan() {
+        return this.viewPlan;
+    }
+
+    @PostConstruct
+    public void compilePlans() {
+        this.viewPlan = this.fetchPlans.compile(FetchPlanDefinitions.SUBJECT_VIEW);
+    }
 }
@@ -1,5 +1,7 @@
 package easytests.core.options.builder;
 
+import easytests.core.fetch.CompiledFetchPlan;
+import easytests.core.models.SubjectModelInterface;
 import easytests.core.options.SubjectsOptionsInterface;
 
 
@@ -10,4 +12,6 @@ public interface SubjectsOptionsBuilderInterface extends OptionsBuilderInterface
     SubjectsOptionsInterface forDelete();
 
     SubjectsOptionsInterface forAuth();
+
+    CompiledFetchPlan<SubjectModelInterface> forViewPlan();
 }
@@ -0,0 +1,93 @@
+package easytests.core.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Lock-free log-linear histogram in the spirit of HdrHistogram: every power of two range is split
+ * into 64 equal buckets, so reported values are within 1/64 of the recorded ones.
+ * Values are tracked up to 2^40 (about 18 minutes in nanoseconds), larger ones are clamped.
+ *
+ * @author malinink
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_HALF_COUNT_BITS = 6;
+
+    private static final int MAGNITUDE_OFFSET = Long.SIZE - 1 - SUB_BUCKET_HALF_COUNT_BITS;
+
+    private static final long HIGHEST_TRACKABLE_VALUE = (1L << 40) - 1;
+
+    private static final double HUNDRED = 100.0;
+
+    private final AtomicLongArray counts = new AtomicLongArray(bucketIndex(HIGHEST_TRACKABLE_VALUE) + 1);
+
+    private final AtomicLong total = new AtomicLong();
+
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long value) {
+        final long clamped = Math.min(Math.max(value, 0), HIGHEST_TRACKABLE_VALUE);
+        this.counts.incrementAndGet(bucketIndex(clamped));
+        this.total.addAndGet(clamped);
+        if (clamped > this.max.get()) {
+            this.max.accumulateAndGet(clamped, Math::max);
+        }
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (int index = 0; index < this.counts.length(); index++) {
+            count += this.counts.get(index);
+        }
+        return count;
+    }
+
+    public long getTotal() {
+        return this.total.get();
+    }
+
+    public long getMax() {
+        return this.max.get();
+    }
+
+    public double getMean() {
+        final long count = this.getCount();
+        if (count == 0) {
+            return 0;
+        }
+        return (double) this.getTotal() / count;
+    }
+
+    /**
+     * @param percentile from 0 to 100
+     * @return the highest value equivalent to the one at the given percentile, zero when nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        final long count = this.getCount();
+        final long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, HUNDRED) / HUNDRED * count));
+        long value = 0;
+        long seen = 0;
+        int index = 0;
+        while (count > 0 && index < this.counts.length()) {
+            seen += this.counts.get(index);
+            if (seen >= rank) {
+                value = Math.min(highestEquivalentValue(index), this.getMax());
+                break;
+            }
+            index++;
+        }
+        return value;
+    }
+
+    static int bucketIndex(long value) {
+        final int shift = Math.max(0, MAGNITUDE_OFFSET - Long.numberOfLeadingZeros(value));
+        return (shift << SUB_BUCKET_HALF_COUNT_BITS) + (int) (value >>> shift);
+    }
+
+    static long highestEquivalentValue(int index) {
+        final int shift = Math.max(0, (index >> SUB_BUCKET_HALF_COUNT_BITS) - 1);
+        final long subBucket = index - ((long) shift << SUB_BUCKET_HALF_COUNT_BITS);
+        return (subBucket << shift) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,71 @@
+package easytests.core.profiling;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * @author malinink
+ */
+public class StatementStatistics {
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    private static final double NANOS_PER_MILLI = 1000000.0;
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    private final LongAdder rows = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    public long getCalls() {
+        return this.latencies.getCount();
+    }
+
+    public long getRows() {
+        return this.rows.sum();
+    }
+
+    public long getErrors() {
+        return this.errors.sum();
+    }
+
+    public double getTotalMillis() {
+        return this.latencies.getTotal() / NANOS_PER_MILLI;
+    }
+
+    public double getMeanMicros() {
+        return this.latencies.getMean() / NANOS_PER_MICRO;
+    }
+
+    public double getP50Micros() {
+        return this.getPercentileMicros(50);
+    }
+
+    public double getP90Micros() {
+        return this.getPercentileMicros(90);
+    }
+
+    public double getP99Micros() {
+        return this.getPercentileMicros(99);
+    }
+
+    public double getP999Micros() {
+        return this.getPercentileMicros(99.9);
+    }
+
+    public double getMaxMicros() {
+        return this.latencies.getMax() / NANOS_PER_MICRO;
+    }
+
+    private double getPercentileMicros(double percentile) {
+        return this.latencies.getValueAtPercentile(percentile) / NANOS_PER_MICRO;
+    }
+
+    void record(long nanos, int rowsCount, boolean failed) {
+        this.latencies.record(nanos);
+        this.rows.add(rowsCount);
+        if (failed) {
+            this.errors.increment();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package easytests.core.profiling;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+
+/**
+ * Records calls, rows, errors and latencies of every mapper statement, keyed as Mapper.method.
+ * The executor is intercepted, so second-level cache hits are timed too; cursors are timed until opened
+ * and their rows are not counted.
+ *
+ * @author malinink
+ */
+@Intercepts({
+    @Signature(
+        type = Executor.class,
+        method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}
+    ),
+    @Signature(
+        type = Executor.class,
+        method = "query",
+        args = {
+            MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class,
+        }
+    ),
+    @Signature(
+        type = Executor.class,
+        method = "queryCursor",
+        args = {MappedStatement.class, Object.class, RowBounds.class}
+    ),
+    @Signature(
+        type = Executor.class,
+        method = "update",
+        args = {MappedStatement.class, Object.class}
+    )
+})
+public class StatementsInterceptor implements Interceptor {
+    private final Map<String, StatementStatistics> statistics = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        final MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        final StatementStatistics statementStatistics = this.getStatementStatistics(mappedStatement.getId());
+        final long startedAt = System.nanoTime();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+        } finally {
+            statementStatistics.record(System.nanoTime() - startedAt, countRows(result), failed);
+        }
+        return result;
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+    }
+
+    public Map<String, StatementStatistics> getStatistics() {
+        final Map<String, StatementStatistics> statementsStatistics = new TreeMap<>();
+        for (Map.Entry<String, StatementStatistics> entry: this.statistics.entrySet()) {
+            statementsStatistics.put(getStatementName(entry.getKey()), entry.getValue());
+        }
+        return statementsStatistics;
+    }
+
+    public void reset() {
+        this.statistics.clear();
+    }
+
+    private StatementStatistics getStatementStatistics(String statementId) {
+        final StatementStatistics statementStatistics = this.statistics.get(statementId);
+        if (statementStatistics != null) {
+            return statementStatistics;
+        }
+        return this.statistics.computeIfAbsent(statementId, id -> new StatementStatistics());
+    }
+
+    private static String getStatementName(String statementId) {
+        final int methodDot = statementId.lastIndexOf('.');
+        if (methodDot <= 0) {
+            return statementId;
+        }
+        return statementId.substring(statementId.lastIndexOf('.', methodDot - 1) + 1);
+    }
+
+    private static int countRows(Object result) {
+        int rows = 0;
+        if (result instanceof Collection) {
+            rows = ((Collection<?>) result).size();
+        } else if (result instanceof Integer) {
+            rows = Math.max(0, (Integer) result);
+        }
+        return rows;
+    }
+}
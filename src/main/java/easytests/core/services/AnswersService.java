@@ -5,10 +5,18 @@ import easytests.core.mappers.AnswersMapper;
 import easytests.core.models.AnswerModel;
 import easytests.core.models.AnswerModelInterface;
 import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.empty.QuestionModelEmpty;
 import easytests.core.options.AnswersOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -23,9 +31,15 @@ public class AnswersService implements AnswersServiceInterface {
     @Autowired
     private AnswersMapper answersMapper;
 
+    @Autowired
+    private IdentityMap identityMap;
+
     @Autowired
     private QuestionsService questionsService;
 
+    @Autowired
+    private RegradingService regradingService;
+
     @Override
     public List<AnswerModelInterface> findAll() {
         return this.map(this.answersMapper.findAll());
@@ -46,12 +60,28 @@ public class AnswersService implements AnswersServiceInterface {
     }
 
     @Override
-    public AnswerModelInterface find(Integer id) {
-        final AnswerEntity answerEntity = this.answersMapper.find(id);
-        if (answerEntity == null) {
-            return null;
+    public List<AnswerModelInterface> findByQuestions(List<QuestionModelInterface> questionsModels) {
+        if (questionsModels.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        final List<Integer> questionsIds = new ArrayList<>(questionsModels.size());
+        for (QuestionModelInterface questionModel: questionsModels) {
+            questionsIds.add(questionModel.getId());
         }
-        return this.map(answerEntity);
+        return this.map(this.answersMapper.findByQuestionIds(questionsIds));
+    }
+
+    @Override
+    public List<AnswerModelInterface> findByQuestions(
+            List<QuestionModelInterface> questionsModels,
+            AnswersOptionsInterface answersOptions
+    ) {
+        return this.withServices(answersOptions).withRelations(this.findByQuestions(questionsModels));
+    }
+
+    @Override
+    public AnswerModelInterface find(Integer id) {
+        return this.identityMap.find(AnswerModelInterface.class, id, () -> this.map(this.answersMapper.find(id)));
     }
 
     @Override
@@ -62,12 +92,22 @@ public class AnswersService implements AnswersServiceInterface {
     @Override
     public void save(AnswerModelInterface answerModel) {
         final AnswerEntity answerEntity = this.map(answerModel);
+        final Set<Integer> changedQuestionsIds = new LinkedHashSet<>();
         if (answerEntity.getId() == null) {
             this.answersMapper.insert(answerEntity);
             answerModel.setId(answerEntity.getId());
-            return;
+            this.identityMap.put(AnswerModelInterface.class, answerModel);
+            this.trackRight(Collections.singletonList(answerEntity), changedQuestionsIds);
+        } else {
+            final AnswerEntity previousEntity = this.answersMapper.updateReturningPrevious(answerEntity);
+            if (previousEntity != null) {
+                this.trackUpdated(
+                        Collections.singletonList(previousEntity),
+                        Collections.singletonList(answerEntity),
+                        changedQuestionsIds);
+            }
         }
-        this.answersMapper.update(answerEntity);
+        this.regrade(changedQuestionsIds);
     }
     
     @Override
@@ -77,9 +117,34 @@ public class AnswersService implements AnswersServiceInterface {
     
     @Override
     public void save(List<AnswerModelInterface> answersModels) {
+        final List<AnswerModelInterface> insertModels = new ArrayList<>();
+        final List<AnswerEntity> insertEntities = new ArrayList<>();
+        final List<AnswerEntity> updateEntities = new ArrayList<>();
         for (AnswerModelInterface answerModel: answersModels) {
-            this.save(answerModel);
+            final AnswerEntity answerEntity = this.map(answerModel);
+            if (answerEntity.getId() == null) {
+                insertModels.add(answerModel);
+                insertEntities.add(answerEntity);
+            } else {
+                updateEntities.add(answerEntity);
+            }
+        }
+        final Set<Integer> changedQuestionsIds = new LinkedHashSet<>();
+        if (!insertEntities.isEmpty()) {
+            this.answersMapper.insertList(insertEntities);
+            for (int i = 0; i < insertModels.size(); i++) {
+                insertModels.get(i).setId(insertEntities.get(i).getId());
+                this.identityMap.put(AnswerModelInterface.class, insertModels.get(i));
+            }
+            this.trackRight(insertEntities, changedQuestionsIds);
+        }
+        if (!updateEntities.isEmpty()) {
+            this.trackUpdated(
+                    this.answersMapper.updateListReturningPrevious(updateEntities),
+                    updateEntities,
+                    changedQuestionsIds);
         }
+        this.regrade(changedQuestionsIds);
     }
 
     @Override
@@ -95,7 +160,13 @@ public class AnswersService implements AnswersServiceInterface {
         if (answerEntity.getId() == null) {
             throw new DeleteUnidentifiedModelException();
         }
-        this.answersMapper.delete(answerEntity);
+        final AnswerEntity deletedEntity = this.answersMapper.delete(answerEntity);
+        this.identityMap.evict(AnswerModelInterface.class, answerModel.getId());
+        if (deletedEntity != null) {
+            final Set<Integer> changedQuestionsIds = new LinkedHashSet<>();
+            this.trackRight(Collections.singletonList(deletedEntity), changedQuestionsIds);
+            this.regrade(changedQuestionsIds);
+        }
     }
     
     @Override
@@ -105,18 +176,73 @@ public class AnswersService implements AnswersServiceInterface {
     
     @Override
     public void delete(List<AnswerModelInterface> answersModels) {
+        final List<AnswerEntity> deleteEntities = new ArrayList<>(answersModels.size());
         for (AnswerModelInterface answerModel: answersModels) {
-            this.save(answerModel);
+            final AnswerEntity answerEntity = this.map(answerModel);
+            if (answerEntity.getId() == null) {
+                throw new DeleteUnidentifiedModelException();
+            }
+            deleteEntities.add(answerEntity);
+        }
+        final Set<Integer> changedQuestionsIds = new LinkedHashSet<>();
+        if (!deleteEntities.isEmpty()) {
+            this.trackRight(this.answersMapper.deleteList(deleteEntities), changedQuestionsIds);
         }
+        for (AnswerModelInterface answerModel: answersModels) {
+            this.identityMap.evict(AnswerModelInterface.class, answerModel.getId());
+        }
+        this.regrade(changedQuestionsIds);
     }
 
     @Override
     public void delete(List<AnswerModelInterface> answersModels, AnswersOptionsInterface answersOptions) {
         for (AnswerModelInterface answerModel: answersModels) {
-            this.save(answerModel, answersOptions);
+            this.delete(answerModel, answersOptions);
         }
     }
     
+    /**
+     * An inserted or deleted right answer changes the right answers set of its question, a wrong one changes
+     * no score.
+     */
+    private void trackRight(List<AnswerEntity> answersEntities, Set<Integer> changedQuestionsIds) {
+        for (AnswerEntity answerEntity: answersEntities) {
+            if (Boolean.TRUE.equals(answerEntity.getRight())) {
+                changedQuestionsIds.add(answerEntity.getQuestionId());
+            }
+        }
+    }
+
+    private void trackUpdated(
+            List<AnswerEntity> previousEntities,
+            List<AnswerEntity> answersEntities,
+            Set<Integer> changedQuestionsIds
+    ) {
+        final Map<Integer, AnswerEntity> previousEntitiesMap = new HashMap<>(previousEntities.size());
+        for (AnswerEntity previousEntity: previousEntities) {
+            previousEntitiesMap.put(previousEntity.getId(), previousEntity);
+        }
+        for (AnswerEntity answerEntity: answersEntities) {
+            final AnswerEntity previousEntity = previousEntitiesMap.get(answerEntity.getId());
+            if (previousEntity != null
+                    && (!Objects.equals(previousEntity.getRight(), answerEntity.getRight())
+                    || !Objects.equals(previousEntity.getQuestionId(), answerEntity.getQuestionId()))) {
+                changedQuestionsIds.add(previousEntity.getQuestionId());
+                changedQuestionsIds.add(answerEntity.getQuestionId());
+            }
+        }
+    }
+
+    private void regrade(Set<Integer> changedQuestionsIds) {
+        if (!changedQuestionsIds.isEmpty()) {
+            final List<QuestionModelInterface> questionsModels = new ArrayList<>(changedQuestionsIds.size());
+            for (Integer questionId: changedQuestionsIds) {
+                questionsModels.add(new QuestionModelEmpty(questionId));
+            }
+            this.regradingService.regrade(questionsModels);
+        }
+    }
+
     private AnswersOptionsInterface withServices(AnswersOptionsInterface answersOptions) {
         answersOptions.setAnswersService(this);
         answersOptions.setQuestionsService(this.questionsService);
@@ -124,6 +250,9 @@ public class AnswersService implements AnswersServiceInterface {
     }
 
     private AnswerModelInterface map(AnswerEntity answerEntity) {
+        if (answerEntity == null) {
+            return null;
+        }
         final AnswerModelInterface answerModel = new AnswerModel();
         answerModel.map(answerEntity);
         return answerModel;
@@ -138,7 +267,7 @@ public class AnswersService implements AnswersServiceInterface {
     private List<AnswerModelInterface> map(List<AnswerEntity> answersList) {
         final List<AnswerModelInterface> resultAnswerList = new ArrayList(answersList.size());
         for (AnswerEntity answer: answersList) {
-            resultAnswerList.add(this.map(answer));
+            resultAnswerList.add(this.identityMap.merge(AnswerModelInterface.class, this.map(answer)));
         }
         return resultAnswerList;
     }
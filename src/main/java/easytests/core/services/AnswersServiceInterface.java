@@ -18,6 +18,12 @@ public interface AnswersServiceInterface extends ServiceInterface {
             QuestionModelInterface questionModel, 
             AnswersOptionsInterface answersOptions);
 
+    List<AnswerModelInterface> findByQuestions(List<QuestionModelInterface> questionsModels);
+
+    List<AnswerModelInterface> findByQuestions(
+            List<QuestionModelInterface> questionsModels,
+            AnswersOptionsInterface answersOptions);
+
     AnswerModelInterface find(Integer id);
 
     AnswerModelInterface find(Integer id, AnswersOptionsInterface answersOptions);
@@ -0,0 +1,112 @@
+package easytests.core.services;
+
+import easytests.core.mappers.AnswersMapper;
+import easytests.core.mappers.IssueStandardQuestionTypeOptionsMapper;
+import easytests.core.mappers.IssueStandardTopicPrioritiesMapper;
+import easytests.core.mappers.IssueStandardsMapper;
+import easytests.core.mappers.QuestionsMapper;
+import easytests.core.mappers.SubjectsMapper;
+import easytests.core.mappers.TopicsMapper;
+import easytests.core.models.ModelInterface;
+import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.SubjectModelInterface;
+import easytests.core.models.TopicModelInterface;
+import easytests.core.models.UserModelInterface;
+import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+
+/**
+ * Deletes a model together with its dependent rows by one set-based statement per level,
+ * in the same children-first order as the forDelete options, without loading the dependents.
+ *
+ * @author malinink
+ */
+@Service
+public class CascadeDeletesService implements CascadeDeletesServiceInterface {
+    @Autowired
+    private AnswersMapper answersMapper;
+
+    @Autowired
+    private QuestionsMapper questionsMapper;
+
+    @Autowired
+    private TopicsMapper topicsMapper;
+
+    @Autowired
+    private IssueStandardTopicPrioritiesMapper topicPrioritiesMapper;
+
+    @Autowired
+    private IssueStandardQuestionTypeOptionsMapper questionTypeOptionsMapper;
+
+    @Autowired
+    private IssueStandardsMapper issueStandardsMapper;
+
+    @Autowired
+    private SubjectsMapper subjectsMapper;
+
+    @Autowired
+    private UsersService usersService;
+
+    @Autowired
+    private SubjectsService subjectsService;
+
+    @Autowired
+    private TopicsService topicsService;
+
+    @Autowired
+    private QuestionsService questionsService;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void delete(UserModelInterface userModel) {
+        final Integer userId = this.checkIdentified(userModel);
+        this.answersMapper.deleteByUserId(userId);
+        this.questionsMapper.deleteByUserId(userId);
+        this.topicsMapper.deleteByUserId(userId);
+        this.topicPrioritiesMapper.deleteByUserId(userId);
+        this.questionTypeOptionsMapper.deleteByUserId(userId);
+        this.issueStandardsMapper.deleteByUserId(userId);
+        this.subjectsMapper.deleteByUserId(userId);
+        this.usersService.delete(userModel);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void delete(SubjectModelInterface subjectModel) {
+        final Integer subjectId = this.checkIdentified(subjectModel);
+        this.answersMapper.deleteBySubjectId(subjectId);
+        this.questionsMapper.deleteBySubjectId(subjectId);
+        this.topicsMapper.deleteBySubjectId(subjectId);
+        this.topicPrioritiesMapper.deleteBySubjectId(subjectId);
+        this.questionTypeOptionsMapper.deleteBySubjectId(subjectId);
+        this.issueStandardsMapper.deleteBySubjectId(subjectId);
+        this.subjectsService.delete(subjectModel);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void delete(TopicModelInterface topicModel) {
+        final Integer topicId = this.checkIdentified(topicModel);
+        this.answersMapper.deleteByTopicId(topicId);
+        this.questionsMapper.deleteByTopicId(topicId);
+        this.topicsService.delete(topicModel);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void delete(QuestionModelInterface questionModel) {
+        final Integer questionId = this.checkIdentified(questionModel);
+        this.answersMapper.deleteByQuestionId(questionId);
+        this.questionsService.delete(questionModel);
+    }
+
+    private Integer checkIdentified(ModelInterface model) {
+        if (model.getId() == null) {
+            throw new DeleteUnidentifiedModelException();
+        }
+        return model.getId();
+    }
+}
@@ -0,0 +1,20 @@
+package easytests.core.services;
+
+import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.SubjectModelInterface;
+import easytests.core.models.TopicModelInterface;
+import easytests.core.models.UserModelInterface;
+
+
+/**
+ * @author malinink
+ */
+public interface CascadeDeletesServiceInterface extends ServiceInterface {
+    void delete(UserModelInterface userModel);
+
+    void delete(SubjectModelInterface subjectModel);
+
+    void delete(TopicModelInterface topicModel);
+
+    void delete(QuestionModelInterface questionModel);
+}
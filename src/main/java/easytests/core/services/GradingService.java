@@ -0,0 +1,90 @@
+package easytests.core.services;
+
+import easytests.core.entities.ScoreEntity;
+import easytests.core.mappers.ScoresMapper;
+import easytests.core.models.IssueModelInterface;
+import easytests.core.models.QuizModelInterface;
+import easytests.core.models.ScoreModel;
+import easytests.core.models.ScoreModelInterface;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+
+/**
+ * Scores quizzes with aggregate queries over points, answers and solutions, so grading a whole issue costs
+ * a single statement. Pending solution submissions are flushed before grading.
+ *
+ * @author malinink
+ */
+@Service
+public class GradingService implements GradingServiceInterface {
+    @Autowired
+    private ScoresMapper scoresMapper;
+
+    @Autowired
+    private SolutionSubmissionsService solutionSubmissionsService;
+
+    @Override
+    public List<ScoreModelInterface> grade(IssueModelInterface issueModel) {
+        this.solutionSubmissionsService.flush();
+        return this.map(this.scoresMapper.grade(issueModel.getId(), null));
+    }
+
+    @Override
+    public List<ScoreModelInterface> grade(List<QuizModelInterface> quizzesModels) {
+        if (quizzesModels.isEmpty()) {
+            return new ArrayList<>();
+        }
+        this.solutionSubmissionsService.flush();
+        return this.gradeFlushed(quizzesModels);
+    }
+
+    @Override
+    public ScoreModelInterface grade(QuizModelInterface quizModel) {
+        return this.grade(Collections.singletonList(quizModel)).get(0);
+    }
+
+    @Override
+    public List<ScoreModelInterface> findByIssue(IssueModelInterface issueModel) {
+        return this.map(this.scoresMapper.findByIssueId(issueModel.getId()));
+    }
+
+    @Override
+    public ScoreModelInterface findByQuiz(QuizModelInterface quizModel) {
+        return this.map(this.scoresMapper.findByQuizId(quizModel.getId()));
+    }
+
+    /**
+     * Grades without flushing pending solution submissions, for callers grading many batches after one flush.
+     */
+    List<ScoreModelInterface> gradeFlushed(List<QuizModelInterface> quizzesModels) {
+        if (quizzesModels.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final List<Integer> quizzesIds = new ArrayList<>(quizzesModels.size());
+        for (QuizModelInterface quizModel: quizzesModels) {
+            quizzesIds.add(quizModel.getId());
+        }
+        return this.map(this.scoresMapper.grade(null, quizzesIds));
+    }
+
+    private ScoreModelInterface map(ScoreEntity scoreEntity) {
+        if (scoreEntity == null) {
+            return null;
+        }
+        final ScoreModelInterface scoreModel = new ScoreModel();
+        scoreModel.map(scoreEntity);
+        return scoreModel;
+    }
+
+    private List<ScoreModelInterface> map(List<ScoreEntity> scoresEntities) {
+        final List<ScoreModelInterface> scoresModels = new ArrayList<>(scoresEntities.size());
+        for (ScoreEntity scoreEntity: scoresEntities) {
+            scoresModels.add(this.map(scoreEntity));
+        }
+        return scoresModels;
+    }
+}
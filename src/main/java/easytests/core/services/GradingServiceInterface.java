@@ -0,0 +1,25 @@
+package easytests.core.services;
+
+import easytests.core.models.IssueModelInterface;
+import easytests.core.models.QuizModelInterface;
+import easytests.core.models.ScoreModelInterface;
+import java.util.List;
+
+
+/**
+ * @author malinink
+ */
+public interface GradingServiceInterface extends ServiceInterface {
+    /**
+     * Grades every quiz of the issue and stores the scores.
+     */
+    List<ScoreModelInterface> grade(IssueModelInterface issueModel);
+
+    List<ScoreModelInterface> grade(List<QuizModelInterface> quizzesModels);
+
+    ScoreModelInterface grade(QuizModelInterface quizModel);
+
+    List<ScoreModelInterface> findByIssue(IssueModelInterface issueModel);
+
+    ScoreModelInterface findByQuiz(QuizModelInterface quizModel);
+}
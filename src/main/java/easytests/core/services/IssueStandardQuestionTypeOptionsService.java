@@ -7,6 +7,7 @@ import easytests.core.models.IssueStandardQuestionTypeOptionModel;
 import easytests.core.models.IssueStandardQuestionTypeOptionModelInterface;
 import easytests.core.options.IssueStandardQuestionTypeOptionsOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +22,9 @@ public class IssueStandardQuestionTypeOptionsService implements IssueStandardQue
     @Autowired
     private IssueStandardQuestionTypeOptionsMapper questionTypeOptionsMapper;
 
+    @Autowired
+    private IdentityMap identityMap;
+
     @Autowired
     private QuestionTypesServiceInterface questionTypesService;
 
@@ -41,11 +45,10 @@ public class IssueStandardQuestionTypeOptionsService implements IssueStandardQue
 
     @Override
     public IssueStandardQuestionTypeOptionModelInterface find(Integer id) {
-        final IssueStandardQuestionTypeOptionEntity questionTypeOptionEntity = this.questionTypeOptionsMapper.find(id);
-        if (questionTypeOptionEntity == null) {
-            return null;
-        }
-        return this.map(questionTypeOptionEntity);
+        return this.identityMap.find(
+                IssueStandardQuestionTypeOptionModelInterface.class,
+                id,
+                () -> this.map(this.questionTypeOptionsMapper.find(id)));
     }
 
     @Override
@@ -70,6 +73,29 @@ public class IssueStandardQuestionTypeOptionsService implements IssueStandardQue
         return this.withServices(questionTypeOptionsOptions).withRelations(this.findByIssueStandard(issueStandard));
     }
 
+    @Override
+    public List<IssueStandardQuestionTypeOptionModelInterface>
+        findByIssueStandards(List<IssueStandardModelInterface> issueStandards) {
+
+        if (issueStandards.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        final List<Integer> issueStandardsIds = new ArrayList<>(issueStandards.size());
+        for (IssueStandardModelInterface issueStandard: issueStandards) {
+            issueStandardsIds.add(issueStandard.getId());
+        }
+        return this.map(this.questionTypeOptionsMapper.findByIssueStandardIds(issueStandardsIds));
+    }
+
+    @Override
+    public List<IssueStandardQuestionTypeOptionModelInterface>
+        findByIssueStandards(List<IssueStandardModelInterface> issueStandards,
+                         IssueStandardQuestionTypeOptionsOptionsInterface questionTypeOptionsOptions) {
+
+        return this.withServices(questionTypeOptionsOptions)
+                .withRelations(this.findByIssueStandards(issueStandards));
+    }
+
     @Override
     public void save(IssueStandardQuestionTypeOptionModelInterface questionTypeOptionModel) {
         final IssueStandardQuestionTypeOptionEntity questionTypeOptionEntity = this.map(questionTypeOptionModel);
@@ -79,12 +105,32 @@ public class IssueStandardQuestionTypeOptionsService implements IssueStandardQue
         }
         this.questionTypeOptionsMapper.insert(questionTypeOptionEntity);
         questionTypeOptionModel.setId(questionTypeOptionEntity.getId());
+        this.identityMap.put(IssueStandardQuestionTypeOptionModelInterface.class, questionTypeOptionModel);
     }
 
     @Override
     public void save(List<IssueStandardQuestionTypeOptionModelInterface> questionTypeOptionModels) {
+        final List<IssueStandardQuestionTypeOptionModelInterface> insertModels = new ArrayList<>();
+        final List<IssueStandardQuestionTypeOptionEntity> insertEntities = new ArrayList<>();
+        final List<IssueStandardQuestionTypeOptionEntity> updateEntities = new ArrayList<>();
         for (IssueStandardQuestionTypeOptionModelInterface questionTypeOptionModel: questionTypeOptionModels) {
-            this.save(questionTypeOptionModel);
+            final IssueStandardQuestionTypeOptionEntity questionTypeOptionEntity = this.map(questionTypeOptionModel);
+            if (questionTypeOptionEntity.getId() == null) {
+                insertModels.add(questionTypeOptionModel);
+                insertEntities.add(questionTypeOptionEntity);
+            } else {
+                updateEntities.add(questionTypeOptionEntity);
+            }
+        }
+        if (!insertEntities.isEmpty()) {
+            this.questionTypeOptionsMapper.insertList(insertEntities);
+            for (int i = 0; i < insertModels.size(); i++) {
+                insertModels.get(i).setId(insertEntities.get(i).getId());
+                this.identityMap.put(IssueStandardQuestionTypeOptionModelInterface.class, insertModels.get(i));
+            }
+        }
+        if (!updateEntities.isEmpty()) {
+            this.questionTypeOptionsMapper.updateList(updateEntities);
         }
     }
 
@@ -111,12 +157,27 @@ public class IssueStandardQuestionTypeOptionsService implements IssueStandardQue
             throw new DeleteUnidentifiedModelException();
         }
         this.questionTypeOptionsMapper.delete(questionTypeOptionEntity);
+        this.identityMap.evict(IssueStandardQuestionTypeOptionModelInterface.class, questionTypeOptionModel.getId());
     }
 
     @Override
     public void delete(List<IssueStandardQuestionTypeOptionModelInterface> questionTypeOptionModels) {
+        final List<IssueStandardQuestionTypeOptionEntity> deleteEntities =
+                new ArrayList<>(questionTypeOptionModels.size());
         for (IssueStandardQuestionTypeOptionModelInterface questionTypeOptionModel: questionTypeOptionModels) {
-            this.delete(questionTypeOptionModel);
+            final IssueStandardQuestionTypeOptionEntity questionTypeOptionEntity = this.map(questionTypeOptionModel);
+            if (questionTypeOptionEntity.getId() == null) {
+                throw new DeleteUnidentifiedModelException();
+            }
+            deleteEntities.add(questionTypeOptionEntity);
+        }
+        if (!deleteEntities.isEmpty()) {
+            this.questionTypeOptionsMapper.deleteList(deleteEntities);
+        }
+        for (IssueStandardQuestionTypeOptionModelInterface questionTypeOptionModel: questionTypeOptionModels) {
+            this.identityMap.evict(
+                    IssueStandardQuestionTypeOptionModelInterface.class,
+                    questionTypeOptionModel.getId());
         }
     }
 
@@ -147,7 +208,9 @@ public class IssueStandardQuestionTypeOptionsService implements IssueStandardQue
 
     private IssueStandardQuestionTypeOptionModelInterface
         map(IssueStandardQuestionTypeOptionEntity questionTypeOptionEntity) {
-
+        if (questionTypeOptionEntity == null) {
+            return null;
+        }
         final IssueStandardQuestionTypeOptionModelInterface questionTypeOptionModel
                 = new IssueStandardQuestionTypeOptionModel();
         questionTypeOptionModel.map(questionTypeOptionEntity);
@@ -170,7 +233,9 @@ public class IssueStandardQuestionTypeOptionsService implements IssueStandardQue
                 questionTypeOptionModels = new ArrayList<>(questionTypeOptionEntities.size());
 
         for (IssueStandardQuestionTypeOptionEntity questionTypeOptionEntity: questionTypeOptionEntities) {
-            questionTypeOptionModels.add(this.map(questionTypeOptionEntity));
+            questionTypeOptionModels.add(this.identityMap.merge(
+                    IssueStandardQuestionTypeOptionModelInterface.class,
+                    this.map(questionTypeOptionEntity)));
         }
         return questionTypeOptionModels;
     }
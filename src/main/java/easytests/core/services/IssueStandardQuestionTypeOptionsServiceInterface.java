@@ -28,6 +28,13 @@ public interface IssueStandardQuestionTypeOptionsServiceInterface extends Servic
             IssueStandardModelInterface issueStandard,
             IssueStandardQuestionTypeOptionsOptionsInterface questionTypeOptionsOptions);
 
+    List<IssueStandardQuestionTypeOptionModelInterface> findByIssueStandards(
+            List<IssueStandardModelInterface> issueStandards);
+
+    List<IssueStandardQuestionTypeOptionModelInterface> findByIssueStandards(
+            List<IssueStandardModelInterface> issueStandards,
+            IssueStandardQuestionTypeOptionsOptionsInterface questionTypeOptionsOptions);
+
     void save(IssueStandardQuestionTypeOptionModelInterface questionTypeOptionModel);
 
     void save(List<IssueStandardQuestionTypeOptionModelInterface> questionTypeOptionModels);
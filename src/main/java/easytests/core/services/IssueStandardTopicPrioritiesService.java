@@ -7,6 +7,7 @@ import easytests.core.models.IssueStandardTopicPriorityModel;
 import easytests.core.models.IssueStandardTopicPriorityModelInterface;
 import easytests.core.options.IssueStandardTopicPrioritiesOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +22,9 @@ public class IssueStandardTopicPrioritiesService implements IssueStandardTopicPr
     @Autowired
     private IssueStandardTopicPrioritiesMapper topicPrioritiesMapper;
 
+    @Autowired
+    private IdentityMap identityMap;
+
     @Autowired
     private TopicsService topicsService;
 
@@ -41,11 +45,10 @@ public class IssueStandardTopicPrioritiesService implements IssueStandardTopicPr
 
     @Override
     public IssueStandardTopicPriorityModelInterface find(Integer id) {
-        final IssueStandardTopicPriorityEntity topicPriorityEntity = this.topicPrioritiesMapper.find(id);
-        if (topicPriorityEntity == null) {
-            return null;
-        }
-        return this.map(topicPriorityEntity);
+        return this.identityMap.find(
+                IssueStandardTopicPriorityModelInterface.class,
+                id,
+                () -> this.map(this.topicPrioritiesMapper.find(id)));
     }
 
     @Override
@@ -70,6 +73,28 @@ public class IssueStandardTopicPrioritiesService implements IssueStandardTopicPr
         return this.withServices(topicPrioritiesOptions).withRelations(this.findByIssueStandard(issueStandard));
     }
 
+    @Override
+    public List<IssueStandardTopicPriorityModelInterface> findByIssueStandards(
+            List<IssueStandardModelInterface> issueStandards) {
+
+        if (issueStandards.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        final List<Integer> issueStandardsIds = new ArrayList<>(issueStandards.size());
+        for (IssueStandardModelInterface issueStandard: issueStandards) {
+            issueStandardsIds.add(issueStandard.getId());
+        }
+        return this.map(this.topicPrioritiesMapper.findByIssueStandardIds(issueStandardsIds));
+    }
+
+    @Override
+    public List<IssueStandardTopicPriorityModelInterface> findByIssueStandards(
+            List<IssueStandardModelInterface> issueStandards,
+            IssueStandardTopicPrioritiesOptionsInterface topicPrioritiesOptions) {
+
+        return this.withServices(topicPrioritiesOptions).withRelations(this.findByIssueStandards(issueStandards));
+    }
+
     @Override
     public void save(IssueStandardTopicPriorityModelInterface topicPriorityModel) {
         final IssueStandardTopicPriorityEntity topicPriorityEntity = this.map(topicPriorityModel);
@@ -79,12 +104,32 @@ public class IssueStandardTopicPrioritiesService implements IssueStandardTopicPr
         }
         this.topicPrioritiesMapper.insert(topicPriorityEntity);
         topicPriorityModel.setId(topicPriorityEntity.getId());
+        this.identityMap.put(IssueStandardTopicPriorityModelInterface.class, topicPriorityModel);
     }
 
     @Override
     public void save(List<IssueStandardTopicPriorityModelInterface> topicPriorityModels) {
+        final List<IssueStandardTopicPriorityModelInterface> insertModels = new ArrayList<>();
+        final List<IssueStandardTopicPriorityEntity> insertEntities = new ArrayList<>();
+        final List<IssueStandardTopicPriorityEntity> updateEntities = new ArrayList<>();
         for (IssueStandardTopicPriorityModelInterface topicPriorityModel: topicPriorityModels) {
-            this.save(topicPriorityModel);
+            final IssueStandardTopicPriorityEntity topicPriorityEntity = this.map(topicPriorityModel);
+            if (topicPriorityEntity.getId() == null) {
+                insertModels.add(topicPriorityModel);
+                insertEntities.add(topicPriorityEntity);
+            } else {
+                updateEntities.add(topicPriorityEntity);
+            }
+        }
+        if (!insertEntities.isEmpty()) {
+            this.topicPrioritiesMapper.insertList(insertEntities);
+            for (int i = 0; i < insertModels.size(); i++) {
+                insertModels.get(i).setId(insertEntities.get(i).getId());
+                this.identityMap.put(IssueStandardTopicPriorityModelInterface.class, insertModels.get(i));
+            }
+        }
+        if (!updateEntities.isEmpty()) {
+            this.topicPrioritiesMapper.updateList(updateEntities);
         }
     }
 
@@ -111,12 +156,24 @@ public class IssueStandardTopicPrioritiesService implements IssueStandardTopicPr
             throw new DeleteUnidentifiedModelException();
         }
         this.topicPrioritiesMapper.delete(topicPriorityEntity);
+        this.identityMap.evict(IssueStandardTopicPriorityModelInterface.class, topicPriorityModel.getId());
     }
 
     @Override
     public void delete(List<IssueStandardTopicPriorityModelInterface> topicPriorityModels) {
+        final List<IssueStandardTopicPriorityEntity> deleteEntities = new ArrayList<>(topicPriorityModels.size());
         for (IssueStandardTopicPriorityModelInterface topicPriorityModel: topicPriorityModels) {
-            this.delete(topicPriorityModel);
+            final IssueStandardTopicPriorityEntity topicPriorityEntity = this.map(topicPriorityModel);
+            if (topicPriorityEntity.getId() == null) {
+                throw new DeleteUnidentifiedModelException();
+            }
+            deleteEntities.add(topicPriorityEntity);
+        }
+        if (!deleteEntities.isEmpty()) {
+            this.topicPrioritiesMapper.deleteList(deleteEntities);
+        }
+        for (IssueStandardTopicPriorityModelInterface topicPriorityModel: topicPriorityModels) {
+            this.identityMap.evict(IssueStandardTopicPriorityModelInterface.class, topicPriorityModel.getId());
         }
     }
 
@@ -146,6 +203,9 @@ public class IssueStandardTopicPrioritiesService implements IssueStandardTopicPr
     }
 
     private IssueStandardTopicPriorityModelInterface map(IssueStandardTopicPriorityEntity topicPriorityEntity) {
+        if (topicPriorityEntity == null) {
+            return null;
+        }
         final IssueStandardTopicPriorityModelInterface topicPriorityModel = new IssueStandardTopicPriorityModel();
         topicPriorityModel.map(topicPriorityEntity);
         return topicPriorityModel;
@@ -164,7 +224,9 @@ public class IssueStandardTopicPrioritiesService implements IssueStandardTopicPr
                 = new ArrayList<>(topicPriorityEntities.size());
 
         for (IssueStandardTopicPriorityEntity topicPriorityEntity : topicPriorityEntities) {
-            topicPriorityModels.add(this.map(topicPriorityEntity));
+            topicPriorityModels.add(this.identityMap.merge(
+                    IssueStandardTopicPriorityModelInterface.class,
+                    this.map(topicPriorityEntity)));
         }
         return topicPriorityModels;
     }
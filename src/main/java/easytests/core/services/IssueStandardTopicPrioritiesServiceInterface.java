@@ -29,6 +29,13 @@ public interface IssueStandardTopicPrioritiesServiceInterface extends ServiceInt
             IssueStandardModelInterface issueStandard,
             IssueStandardTopicPrioritiesOptionsInterface topicPrioritiesOptions);
 
+    List<IssueStandardTopicPriorityModelInterface> findByIssueStandards(
+            List<IssueStandardModelInterface> issueStandards);
+
+    List<IssueStandardTopicPriorityModelInterface> findByIssueStandards(
+            List<IssueStandardModelInterface> issueStandards,
+            IssueStandardTopicPrioritiesOptionsInterface topicPrioritiesOptions);
+
     void save(IssueStandardTopicPriorityModelInterface topicPriorityModel);
 
     void save(List<IssueStandardTopicPriorityModelInterface> topicPriorityModels);
@@ -1,12 +1,15 @@
 package easytests.core.services;
 
 import easytests.core.entities.*;
+import easytests.core.fetch.CompiledFetchPlan;
+import easytests.core.fetch.FetchPlans;
 import easytests.core.mappers.IssueStandardsMapper;
 import easytests.core.models.IssueStandardModel;
 import easytests.core.models.IssueStandardModelInterface;
 import easytests.core.models.SubjectModelInterface;
 import easytests.core.options.IssueStandardsOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +24,12 @@ public class IssueStandardsService implements IssueStandardsServiceInterface {
     @Autowired
     private IssueStandardsMapper issueStandardsMapper;
 
+    @Autowired
+    private IdentityMap identityMap;
+
+    @Autowired
+    private OwnershipService ownershipService;
+
     @Autowired
     private IssueStandardTopicPrioritiesService topicPrioritiesService;
 
@@ -30,6 +39,9 @@ public class IssueStandardsService implements IssueStandardsServiceInterface {
     @Autowired
     private SubjectsService subjectsService;
 
+    @Autowired
+    private FetchPlans fetchPlans;
+
     @Override
     public List<IssueStandardModelInterface> findAll() {
         return this.map(this.issueStandardsMapper.findAll());
@@ -42,11 +54,10 @@ public class IssueStandardsService implements IssueStandardsServiceInterface {
 
     @Override
     public IssueStandardModelInterface find(Integer id) {
-        final IssueStandardEntity issueStandardEntity = this.issueStandardsMapper.find(id);
-        if (issueStandardEntity == null) {
-            return null;
-        }
-        return this.map(issueStandardEntity);
+        return this.identityMap.find(
+                IssueStandardModelInterface.class,
+                id,
+                () -> this.map(this.issueStandardsMapper.find(id)));
     }
 
     @Override
@@ -54,6 +65,11 @@ public class IssueStandardsService implements IssueStandardsServiceInterface {
         return this.withServices(issueStandardsOptions).withRelations(this.find(id));
     }
 
+    @Override
+    public IssueStandardModelInterface find(Integer id, CompiledFetchPlan<IssueStandardModelInterface> fetchPlan) {
+        return this.fetchPlans.find(fetchPlan, id);
+    }
+
     @Override
     public IssueStandardModelInterface findBySubject(SubjectModelInterface subject) {
         final IssueStandardEntity issueStandardEntity = this.issueStandardsMapper.findBySubjectId(subject.getId());
@@ -69,6 +85,24 @@ public class IssueStandardsService implements IssueStandardsServiceInterface {
         return this.withServices(issueStandardsOptions).withRelations(this.findBySubject(subjectModel));
     }
 
+    @Override
+    public List<IssueStandardModelInterface> findBySubjects(List<SubjectModelInterface> subjectsModels) {
+        if (subjectsModels.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        final List<Integer> subjectsIds = new ArrayList<>(subjectsModels.size());
+        for (SubjectModelInterface subjectModel: subjectsModels) {
+            subjectsIds.add(subjectModel.getId());
+        }
+        return this.map(this.issueStandardsMapper.findBySubjectIds(subjectsIds));
+    }
+
+    @Override
+    public List<IssueStandardModelInterface> findBySubjects(List<SubjectModelInterface> subjectsModels,
+                                                            IssueStandardsOptionsInterface issueStandardsOptions) {
+        return this.withServices(issueStandardsOptions).withRelations(this.findBySubjects(subjectsModels));
+    }
+
     @Override
     public void save(IssueStandardModelInterface issueStandardModel) {
         final IssueStandardEntity issueStandardEntity = this.map(issueStandardModel);
@@ -78,6 +112,7 @@ public class IssueStandardsService implements IssueStandardsServiceInterface {
         }
         this.issueStandardsMapper.insert(issueStandardEntity);
         issueStandardModel.setId(issueStandardEntity.getId());
+        this.identityMap.put(IssueStandardModelInterface.class, issueStandardModel);
     }
 
     @Override
@@ -111,6 +146,8 @@ public class IssueStandardsService implements IssueStandardsServiceInterface {
             throw new DeleteUnidentifiedModelException();
         }
         this.issueStandardsMapper.delete(issueStandardEntity);
+        this.identityMap.evict(IssueStandardModelInterface.class, issueStandardModel.getId());
+        this.ownershipService.evictIssueStandard(issueStandardModel.getId());
     }
 
     @Override
@@ -145,6 +182,9 @@ public class IssueStandardsService implements IssueStandardsServiceInterface {
     }
 
     private IssueStandardModelInterface map(IssueStandardEntity issueStandardEntity) {
+        if (issueStandardEntity == null) {
+            return null;
+        }
         final IssueStandardModelInterface issueStandardModel = new IssueStandardModel();
         issueStandardModel.map(issueStandardEntity);
         return issueStandardModel;
@@ -159,7 +199,9 @@ public class IssueStandardsService implements IssueStandardsServiceInterface {
     private List<IssueStandardModelInterface> map(List<IssueStandardEntity> issueStandardEntities) {
         final List<IssueStandardModelInterface> issueStandardModels = new ArrayList<>(issueStandardEntities.size());
         for (IssueStandardEntity issueStandardEntity: issueStandardEntities) {
-            issueStandardModels.add(this.map(issueStandardEntity));
+            issueStandardModels.add(this.identityMap.merge(
+                    IssueStandardModelInterface.class,
+                    this.map(issueStandardEntity)));
         }
         return issueStandardModels;
     }
@@ -1,5 +1,6 @@
 package easytests.core.services;
 
+import easytests.core.fetch.CompiledFetchPlan;
 import easytests.core.models.IssueStandardModelInterface;
 import easytests.core.models.SubjectModelInterface;
 import easytests.core.options.IssueStandardsOptionsInterface;
@@ -18,11 +19,18 @@ public interface IssueStandardsServiceInterface extends ServiceInterface {
 
     IssueStandardModelInterface find(Integer id, IssueStandardsOptionsInterface issueStandardsOptions);
 
+    IssueStandardModelInterface find(Integer id, CompiledFetchPlan<IssueStandardModelInterface> fetchPlan);
+
     IssueStandardModelInterface findBySubject(SubjectModelInterface subjectModel);
 
     IssueStandardModelInterface findBySubject(SubjectModelInterface subjectModel,
                                               IssueStandardsOptionsInterface issueStandardsOptions);
 
+    List<IssueStandardModelInterface> findBySubjects(List<SubjectModelInterface> subjectsModels);
+
+    List<IssueStandardModelInterface> findBySubjects(List<SubjectModelInterface> subjectsModels,
+                                                     IssueStandardsOptionsInterface issueStandardsOptions);
+
     void save(IssueStandardModelInterface issueStandardModel);
 
     void save(List<IssueStandardModelInterface> issueStandardModels);
@@ -7,6 +7,7 @@ import easytests.core.models.IssueModelInterface;
 import easytests.core.models.SubjectModelInterface;
 import easytests.core.options.IssuesOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +23,12 @@ public class IssuesService implements IssuesServiceInterface {
     @Autowired
     private IssuesMapper issuesMapper;
 
+    @Autowired
+    private IdentityMap identityMap;
+
+    @Autowired
+    private OwnershipService ownershipService;
+
     @Autowired
     private QuizzesService quizzesService;
 
@@ -40,7 +47,7 @@ public class IssuesService implements IssuesServiceInterface {
 
     @Override
     public IssueModelInterface find(Integer id) {
-        return this.map(this.issuesMapper.find(id));
+        return this.identityMap.find(IssueModelInterface.class, id, () -> this.map(this.issuesMapper.find(id)));
     }
 
     @Override
@@ -54,6 +61,7 @@ public class IssuesService implements IssuesServiceInterface {
         if (issueEntity.getId() == null) {
             this.issuesMapper.insert(issueEntity);
             issueModel.setId(issueEntity.getId());
+            this.identityMap.put(IssueModelInterface.class, issueModel);
             return;
         }
         this.issuesMapper.update(issueEntity);
@@ -85,6 +93,8 @@ public class IssuesService implements IssuesServiceInterface {
             throw new DeleteUnidentifiedModelException();
         }
         this.issuesMapper.delete(issueEntity);
+        this.identityMap.evict(IssueModelInterface.class, issueModel.getId());
+        this.ownershipService.evictIssue(issueModel.getId());
     }
 
     @Override
@@ -117,6 +127,24 @@ public class IssuesService implements IssuesServiceInterface {
         return this.withServices(issueOptions).withRelations(this.findBySubject(subjectModel));
     }
 
+    @Override
+    public List<IssueModelInterface> findBySubjects(List<SubjectModelInterface> subjectsModels) {
+        if (subjectsModels.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        final List<Integer> subjectsIds = new ArrayList<>(subjectsModels.size());
+        for (SubjectModelInterface subjectModel: subjectsModels) {
+            subjectsIds.add(subjectModel.getId());
+        }
+        return this.map(this.issuesMapper.findBySubjectIds(subjectsIds));
+    }
+
+    @Override
+    public List<IssueModelInterface> findBySubjects(List<SubjectModelInterface> subjectsModels,
+                                                    IssuesOptionsInterface issueOptions) {
+        return this.withServices(issueOptions).withRelations(this.findBySubjects(subjectsModels));
+    }
+
     private IssueModelInterface map(IssueEntity issueEntity) {
         if (issueEntity == null) {
             return null;
@@ -135,7 +163,7 @@ public class IssuesService implements IssuesServiceInterface {
     private List<IssueModelInterface> map(List<IssueEntity> issuesList) {
         final List<IssueModelInterface> resultIssueList = new ArrayList(issuesList.size());
         for (IssueEntity issue: issuesList) {
-            resultIssueList.add(this.map(issue));
+            resultIssueList.add(this.identityMap.merge(IssueModelInterface.class, this.map(issue)));
         }
         return resultIssueList;
     }
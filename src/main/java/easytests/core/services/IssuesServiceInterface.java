@@ -23,6 +23,12 @@ public interface IssuesServiceInterface extends ServiceInterface {
 
     List<IssueModelInterface> findBySubject(SubjectModelInterface subjectModel, IssuesOptionsInterface issueOptions);
 
+    List<IssueModelInterface> findBySubjects(List<SubjectModelInterface> subjectsModels);
+
+    List<IssueModelInterface> findBySubjects(
+            List<SubjectModelInterface> subjectsModels,
+            IssuesOptionsInterface issueOptions);
+
     void save(IssueModelInterface issueModel);
 
     void save(IssueModelInterface issueModel, IssuesOptionsInterface issueOptions);
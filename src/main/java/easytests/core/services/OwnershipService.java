@@ -0,0 +1,132 @@
+package easytests.core.services;
+
+import easytests.core.cache.MapperCache;
+import easytests.core.mappers.OwnershipMapper;
+import easytests.core.models.UserModelInterface;
+import easytests.core.services.ownership.Ownership;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+
+/**
+ * Checks that a model belongs to a user. Owner ids of existing models are remembered for a short while
+ * in a bounded cache, missing models are not, so a model created right after a miss is found at once.
+ * Deleting a model evicts it; deleting a subject, a topic or a user clears the whole cache,
+ * as their dependent rows are deleted without being loaded.
+ *
+ * @author malinink
+ */
+@Service
+public class OwnershipService implements OwnershipServiceInterface {
+    private static final long TTL = 60000L;
+
+    private static final int SIZE = 16384;
+
+    private static final String SUBJECT = "subject:";
+
+    private static final String TOPIC = "topic:";
+
+    private static final String QUESTION = "question:";
+
+    private static final String ISSUE_STANDARD = "issueStandard:";
+
+    private static final String ISSUE = "issue:";
+
+    private final MapperCache owners = new MapperCache(OwnershipService.class.getName(), false);
+
+    @Autowired
+    private OwnershipMapper ownershipMapper;
+
+    public OwnershipService() {
+        this.owners.setSize(SIZE);
+        this.owners.setTtl(TTL);
+    }
+
+    @Override
+    public Ownership checkSubject(UserModelInterface userModel, Integer subjectId) {
+        return this.check(userModel, SUBJECT, subjectId, this.ownershipMapper::findSubjectOwnerId);
+    }
+
+    @Override
+    public Ownership checkTopic(UserModelInterface userModel, Integer topicId) {
+        return this.check(userModel, TOPIC, topicId, this.ownershipMapper::findTopicOwnerId);
+    }
+
+    @Override
+    public Ownership checkQuestion(UserModelInterface userModel, Integer questionId) {
+        return this.check(userModel, QUESTION, questionId, this.ownershipMapper::findQuestionOwnerId);
+    }
+
+    @Override
+    public Ownership checkIssueStandard(UserModelInterface userModel, Integer issueStandardId) {
+        return this.check(userModel, ISSUE_STANDARD, issueStandardId, this.ownershipMapper::findIssueStandardOwnerId);
+    }
+
+    @Override
+    public Ownership checkIssue(UserModelInterface userModel, Integer issueId) {
+        return this.check(userModel, ISSUE, issueId, this.ownershipMapper::findIssueOwnerId);
+    }
+
+    @Override
+    public void evictQuestion(Integer questionId) {
+        this.evict(QUESTION + questionId);
+    }
+
+    @Override
+    public void evictIssueStandard(Integer issueStandardId) {
+        this.evict(ISSUE_STANDARD + issueStandardId);
+    }
+
+    @Override
+    public void evictIssue(Integer issueId) {
+        this.evict(ISSUE + issueId);
+    }
+
+    @Override
+    public void evictAll() {
+        this.evict(null);
+    }
+
+    private Ownership check(
+            UserModelInterface userModel,
+            String type,
+            Integer id,
+            Function<Integer, Integer> ownerIdLoader) {
+        final String key = type + id;
+        Integer ownerId = (Integer) this.owners.getObject(key);
+        if (ownerId == null) {
+            ownerId = ownerIdLoader.apply(id);
+            if (ownerId != null) {
+                this.owners.putObject(key, ownerId);
+            }
+        }
+        return Ownership.of(ownerId, userModel.getId());
+    }
+
+    /**
+     * Evicts the key, or everything when it is null, at once and once more after the current transaction
+     * commits, so a check running before the commit can't keep a deleted model cached.
+     */
+    private void evict(String key) {
+        this.remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                    @Override
+                    public void afterCommit() {
+                        OwnershipService.this.remove(key);
+                    }
+                });
+        }
+    }
+
+    private void remove(String key) {
+        if (key == null) {
+            this.owners.clear();
+        } else {
+            this.owners.removeObject(key);
+        }
+    }
+}
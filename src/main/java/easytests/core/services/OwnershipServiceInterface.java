@@ -0,0 +1,28 @@
+package easytests.core.services;
+
+import easytests.core.models.UserModelInterface;
+import easytests.core.services.ownership.Ownership;
+
+
+/**
+ * @author malinink
+ */
+public interface OwnershipServiceInterface extends ServiceInterface {
+    Ownership checkSubject(UserModelInterface userModel, Integer subjectId);
+
+    Ownership checkTopic(UserModelInterface userModel, Integer topicId);
+
+    Ownership checkQuestion(UserModelInterface userModel, Integer questionId);
+
+    Ownership checkIssueStandard(UserModelInterface userModel, Integer issueStandardId);
+
+    Ownership checkIssue(UserModelInterface userModel, Integer issueId);
+
+    void evictQuestion(Integer questionId);
+
+    void evictIssueStandard(Integer issueStandardId);
+
+    void evictIssue(Integer issueId);
+
+    void evictAll();
+}
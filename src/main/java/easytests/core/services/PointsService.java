@@ -7,6 +7,7 @@ import easytests.core.models.PointModelInterface;
 import easytests.core.models.QuizModelInterface;
 import easytests.core.options.PointsOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,6 +23,9 @@ public class PointsService implements PointsServiceInterface {
     @Autowired
     private PointsMapper pointsMapper;
 
+    @Autowired
+    private IdentityMap identityMap;
+
     @Autowired
     private QuizzesService quizzesService;
 
@@ -43,13 +47,7 @@ public class PointsService implements PointsServiceInterface {
 
     @Override
     public PointModelInterface find(Integer id) {
-
-        final PointEntity pointEntity = this.pointsMapper.find(id);
-        if (pointEntity == null) {
-            return null;
-        }
-        return this.map(pointEntity);
-
+        return this.identityMap.find(PointModelInterface.class, id, () -> this.map(this.pointsMapper.find(id)));
     }
 
     @Override
@@ -74,6 +72,7 @@ public class PointsService implements PointsServiceInterface {
         if (pointEntity.getId() == null) {
             this.pointsMapper.insert(pointEntity);
             pointModel.setId(pointEntity.getId());
+            this.identityMap.put(PointModelInterface.class, pointModel);
             return;
         }
         this.pointsMapper.update(pointEntity);
@@ -87,11 +86,28 @@ public class PointsService implements PointsServiceInterface {
 
     @Override
     public void save(List<PointModelInterface> pointsModels) {
-
+        final List<PointModelInterface> insertModels = new ArrayList<>();
+        final List<PointEntity> insertEntities = new ArrayList<>();
+        final List<PointEntity> updateEntities = new ArrayList<>();
         for (PointModelInterface pointModel: pointsModels) {
-            this.save(pointModel);
+            final PointEntity pointEntity = this.map(pointModel);
+            if (pointEntity.getId() == null) {
+                insertModels.add(pointModel);
+                insertEntities.add(pointEntity);
+            } else {
+                updateEntities.add(pointEntity);
+            }
+        }
+        if (!insertEntities.isEmpty()) {
+            this.pointsMapper.insertList(insertEntities);
+            for (int i = 0; i < insertModels.size(); i++) {
+                insertModels.get(i).setId(insertEntities.get(i).getId());
+                this.identityMap.put(PointModelInterface.class, insertModels.get(i));
+            }
+        }
+        if (!updateEntities.isEmpty()) {
+            this.pointsMapper.updateList(updateEntities);
         }
-
     }
 
     @Override
@@ -111,6 +127,7 @@ public class PointsService implements PointsServiceInterface {
             throw new DeleteUnidentifiedModelException();
         }
         this.pointsMapper.delete(pointEntity);
+        this.identityMap.evict(PointModelInterface.class, pointModel.getId());
 
     }
 
@@ -121,11 +138,20 @@ public class PointsService implements PointsServiceInterface {
 
     @Override
     public void delete(List<PointModelInterface> pointsModels) {
-
+        final List<PointEntity> deleteEntities = new ArrayList<>(pointsModels.size());
         for (PointModelInterface pointModel: pointsModels) {
-            this.delete(pointModel);
+            final PointEntity pointEntity = this.map(pointModel);
+            if (pointEntity.getId() == null) {
+                throw new DeleteUnidentifiedModelException();
+            }
+            deleteEntities.add(pointEntity);
+        }
+        if (!deleteEntities.isEmpty()) {
+            this.pointsMapper.deleteList(deleteEntities);
+        }
+        for (PointModelInterface pointModel: pointsModels) {
+            this.identityMap.evict(PointModelInterface.class, pointModel.getId());
         }
-
     }
 
     @Override
@@ -146,7 +172,9 @@ public class PointsService implements PointsServiceInterface {
     }
 
     private PointModel map(PointEntity pointEntity) {
-
+        if (pointEntity == null) {
+            return null;
+        }
         final PointModel pointModel = new PointModel();
         pointModel.map(pointEntity);
         return pointModel;
@@ -157,7 +185,7 @@ public class PointsService implements PointsServiceInterface {
 
         final List<PointModelInterface> resultPointList = new ArrayList<>(pointsList.size());
         for (PointEntity point: pointsList) {
-            resultPointList.add(this.map(point));
+            resultPointList.add(this.identityMap.merge(PointModelInterface.class, this.map(point)));
         }
         return resultPointList;
 
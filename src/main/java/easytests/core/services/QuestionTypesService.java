@@ -5,6 +5,7 @@ import easytests.core.mappers.QuestionTypesMapper;
 import easytests.core.models.QuestionTypeModel;
 import easytests.core.models.QuestionTypeModelInterface;
 import easytests.core.options.QuestionTypesOptionsInterface;
+import easytests.core.services.identity.IdentityMap;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +20,9 @@ public class QuestionTypesService implements QuestionTypesServiceInterface {
     @Autowired
     private QuestionTypesMapper questionTypesMapper;
 
+    @Autowired
+    private IdentityMap identityMap;
+
     @Override
     public List<QuestionTypeModelInterface> findAll() {
         return this.map(this.questionTypesMapper.findAll());
@@ -31,7 +35,10 @@ public class QuestionTypesService implements QuestionTypesServiceInterface {
 
     @Override
     public QuestionTypeModelInterface find(Integer id) {
-        return this.map(this.questionTypesMapper.find(id));
+        return this.identityMap.find(
+                QuestionTypeModelInterface.class,
+                id,
+                () -> this.map(this.questionTypesMapper.find(id)));
     }
 
     @Override
@@ -62,7 +69,9 @@ public class QuestionTypesService implements QuestionTypesServiceInterface {
         final List<QuestionTypeModelInterface> resultQuestionTypesEntities =
                 new ArrayList(questionTypesEntities.size());
         for (QuestionTypeEntity questionTypeEntity: questionTypesEntities) {
-            resultQuestionTypesEntities.add(this.map(questionTypeEntity));
+            resultQuestionTypesEntities.add(this.identityMap.merge(
+                    QuestionTypeModelInterface.class,
+                    this.map(questionTypeEntity)));
         }
         return resultQuestionTypesEntities;
     }
@@ -0,0 +1,112 @@
+package easytests.core.services;
+
+import easytests.core.entities.AnswerEntity;
+import easytests.core.entities.QuestionEntity;
+import easytests.core.entities.TopicEntity;
+import easytests.core.mappers.AnswersMapper;
+import easytests.core.mappers.QuestionsMapper;
+import easytests.core.mappers.TopicsMapper;
+import easytests.core.models.AnswerModelInterface;
+import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.TopicModelInterface;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+
+/**
+ * Writes question banks with one multi-row insert per table, fanning generated ids out to the child rows.
+ * Answers go straight to the mapper, there is nothing to regrade for questions which are just created.
+ *
+ * @author malinink
+ */
+@Service
+public class QuestionsBulkService implements QuestionsBulkServiceInterface {
+    @Autowired
+    private TopicsMapper topicsMapper;
+
+    @Autowired
+    private QuestionsMapper questionsMapper;
+
+    @Autowired
+    private AnswersMapper answersMapper;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void insert(List<QuestionModelInterface> questionsModels) {
+        if (questionsModels.isEmpty()) {
+            return;
+        }
+        final Map<TopicModelInterface, TopicEntity> topicsEntities = this.insertTopics(questionsModels);
+        final List<QuestionEntity> questionsEntities = this.insertQuestions(questionsModels, topicsEntities);
+        final List<AnswerModelInterface> answersModels = new ArrayList<>();
+        final List<AnswerEntity> answersEntities =
+                this.insertAnswers(questionsModels, questionsEntities, answersModels);
+
+        for (Map.Entry<TopicModelInterface, TopicEntity> topic: topicsEntities.entrySet()) {
+            topic.getKey().setId(topic.getValue().getId());
+        }
+        for (int index = 0; index < questionsModels.size(); index++) {
+            questionsModels.get(index).setId(questionsEntities.get(index).getId());
+        }
+        for (int index = 0; index < answersModels.size(); index++) {
+            answersModels.get(index).setId(answersEntities.get(index).getId());
+        }
+    }
+
+    private Map<TopicModelInterface, TopicEntity> insertTopics(List<QuestionModelInterface> questionsModels) {
+        final Map<TopicModelInterface, TopicEntity> topicsEntities = new IdentityHashMap<>();
+        for (QuestionModelInterface questionModel: questionsModels) {
+            final TopicModelInterface topicModel = questionModel.getTopic();
+            if (topicModel.getId() == null && !topicsEntities.containsKey(topicModel)) {
+                final TopicEntity topicEntity = new TopicEntity();
+                topicEntity.map(topicModel);
+                topicsEntities.put(topicModel, topicEntity);
+            }
+        }
+        if (!topicsEntities.isEmpty()) {
+            this.topicsMapper.insertList(new ArrayList<>(topicsEntities.values()));
+        }
+        return topicsEntities;
+    }
+
+    private List<QuestionEntity> insertQuestions(
+            List<QuestionModelInterface> questionsModels,
+            Map<TopicModelInterface, TopicEntity> topicsEntities) {
+        final List<QuestionEntity> questionsEntities = new ArrayList<>(questionsModels.size());
+        for (QuestionModelInterface questionModel: questionsModels) {
+            final QuestionEntity questionEntity = new QuestionEntity();
+            questionEntity.map(questionModel);
+            if (topicsEntities.containsKey(questionModel.getTopic())) {
+                questionEntity.setTopicId(topicsEntities.get(questionModel.getTopic()).getId());
+            }
+            questionsEntities.add(questionEntity);
+        }
+        this.questionsMapper.insertList(questionsEntities);
+        return questionsEntities;
+    }
+
+    private List<AnswerEntity> insertAnswers(
+            List<QuestionModelInterface> questionsModels,
+            List<QuestionEntity> questionsEntities,
+            List<AnswerModelInterface> answersModels) {
+        final List<AnswerEntity> answersEntities = new ArrayList<>();
+        for (int index = 0; index < questionsModels.size(); index++) {
+            for (AnswerModelInterface answerModel: questionsModels.get(index).getAnswers()) {
+                final AnswerEntity answerEntity = new AnswerEntity();
+                answerEntity.map(answerModel);
+                answerEntity.setQuestionId(questionsEntities.get(index).getId());
+                answersEntities.add(answerEntity);
+                answersModels.add(answerModel);
+            }
+        }
+        if (!answersEntities.isEmpty()) {
+            this.answersMapper.insertList(answersEntities);
+        }
+        return answersEntities;
+    }
+}
@@ -0,0 +1,16 @@
+package easytests.core.services;
+
+import easytests.core.models.QuestionModelInterface;
+import java.util.List;
+
+
+/**
+ * @author malinink
+ */
+public interface QuestionsBulkServiceInterface extends ServiceInterface {
+    /**
+     * Inserts new questions with their answers and with topics which are not saved yet.
+     * Ids are set to the models only when all of them are inserted.
+     */
+    void insert(List<QuestionModelInterface> questionsModels);
+}
@@ -1,14 +1,29 @@
 package easytests.core.services;
 
 import easytests.core.entities.QuestionEntity;
+import easytests.core.fetch.CompiledFetchPlan;
+import easytests.core.fetch.FetchPlans;
 import easytests.core.mappers.QuestionsMapper;
+import easytests.core.models.AnswerModelInterface;
 import easytests.core.models.QuestionModel;
 import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.QuestionTypeModelInterface;
 import easytests.core.models.TopicModelInterface;
+import easytests.core.models.empty.ModelsListEmpty;
+import easytests.core.models.empty.QuestionModelEmpty;
+import easytests.core.models.empty.QuestionTypeModelEmpty;
+import easytests.core.models.empty.TopicModelEmpty;
+import easytests.core.models.lazy.LazyBatch;
+import easytests.core.models.lazy.LazyModels;
+import easytests.core.models.lazy.LazyModelsList;
 import easytests.core.options.QuestionsOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
+import easytests.core.services.paging.Page;
+import easytests.core.services.paging.PageRequest;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -16,11 +31,21 @@ import org.springframework.stereotype.Service;
  * @author firkhraag
  */
 @Service
+@SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class QuestionsService implements QuestionsServiceInterface {
 
     @Autowired
     private QuestionsMapper questionsMapper;
 
+    @Autowired
+    private IdentityMap identityMap;
+
+    @Autowired
+    private OwnershipService ownershipService;
+
+    @Autowired
+    private FetchPlans fetchPlans;
+
     @Autowired
     private AnswersService answersService;
 
@@ -43,7 +68,7 @@ public class QuestionsService implements QuestionsServiceInterface {
     @Override
 
     public QuestionModelInterface find(Integer id) {
-        return this.map(this.questionsMapper.find(id));
+        return this.identityMap.find(QuestionModelInterface.class, id, () -> this.map(this.questionsMapper.find(id)));
     }
 
     @Override
@@ -51,11 +76,26 @@ public class QuestionsService implements QuestionsServiceInterface {
         return this.withServices(questionsOptions).withRelations(this.find(id));
     }
 
+    @Override
+    public QuestionModelInterface find(Integer id, CompiledFetchPlan<QuestionModelInterface> fetchPlan) {
+        return this.fetchPlans.find(fetchPlan, id);
+    }
+
     @Override
     public List<QuestionModelInterface> findByTopic(TopicModelInterface topicModel) {
         return this.map(this.questionsMapper.findByTopicId(topicModel.getId()));
     }
 
+    @Override
+    public Page<QuestionModelInterface> findPageByTopic(TopicModelInterface topicModel, PageRequest pageRequest) {
+        return new Page<>(
+                this.map(this.questionsMapper.findPageByTopicId(
+                        topicModel.getId(),
+                        pageRequest.getAfterId(),
+                        pageRequest.getLimit())),
+                pageRequest);
+    }
+
     @Override
     public List<QuestionModelInterface> findByTopic(
             TopicModelInterface topicModel,
@@ -64,12 +104,60 @@ public class QuestionsService implements QuestionsServiceInterface {
         return questionsOptions.withRelations(this.map(this.questionsMapper.findByTopicId(topicModel.getId())));
     }
 
+    @Override
+    public List<QuestionModelInterface> findByTopics(List<TopicModelInterface> topicsModels) {
+        if (topicsModels.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        final List<Integer> topicsIds = new ArrayList<>(topicsModels.size());
+        for (TopicModelInterface topicModel: topicsModels) {
+            topicsIds.add(topicModel.getId());
+        }
+        return this.map(this.questionsMapper.findByTopicIds(topicsIds));
+    }
+
+    @Override
+    public List<QuestionModelInterface> findByTopics(
+            List<TopicModelInterface> topicsModels,
+            QuestionsOptionsInterface questionsOptions
+    ) {
+        return this.withServices(questionsOptions).withRelations(this.findByTopics(topicsModels));
+    }
+
+    @Override
+    public List<QuestionModelInterface> withLazyRelations(List<QuestionModelInterface> questionsModels) {
+        final LazyBatch<TopicModelInterface> topics = new LazyBatch<>(
+                ids -> LazyBatch.index(this.topicsService.findByIds(ids)));
+        final LazyBatch<QuestionTypeModelInterface> questionTypes = new LazyBatch<>(
+                ids -> LazyBatch.index(this.questionTypesService.findAll()));
+        final LazyBatch<List<AnswerModelInterface>> answers = new LazyBatch<>(this::findAnswersByQuestionsIds);
+        for (QuestionModelInterface questionModel: questionsModels) {
+            if (questionModel.getTopic() instanceof TopicModelEmpty) {
+                questionModel.setTopic(LazyModels.create(
+                        TopicModelInterface.class,
+                        questionModel.getTopic().getId(),
+                        topics));
+            }
+            if (questionModel.getQuestionType() instanceof QuestionTypeModelEmpty) {
+                questionModel.setQuestionType(LazyModels.create(
+                        QuestionTypeModelInterface.class,
+                        questionModel.getQuestionType().getId(),
+                        questionTypes));
+            }
+            if (questionModel.getAnswers() instanceof ModelsListEmpty) {
+                questionModel.setAnswers(new LazyModelsList<>(questionModel.getId(), answers));
+            }
+        }
+        return questionsModels;
+    }
+
     @Override
     public void save(QuestionModelInterface questionModel) {
         final QuestionEntity questionEntity = this.map(questionModel);
         if (questionEntity.getId() == null) {
             this.questionsMapper.insert(questionEntity);
             questionModel.setId(questionEntity.getId());
+            this.identityMap.put(QuestionModelInterface.class, questionModel);
             return;
         }
         this.questionsMapper.update(questionEntity);
@@ -82,8 +170,27 @@ public class QuestionsService implements QuestionsServiceInterface {
 
     @Override
     public void save(List<QuestionModelInterface> questionsModels) {
+        final List<QuestionModelInterface> insertModels = new ArrayList<>();
+        final List<QuestionEntity> insertEntities = new ArrayList<>();
+        final List<QuestionEntity> updateEntities = new ArrayList<>();
         for (QuestionModelInterface questionModel: questionsModels) {
-            this.save(questionModel);
+            final QuestionEntity questionEntity = this.map(questionModel);
+            if (questionEntity.getId() == null) {
+                insertModels.add(questionModel);
+                insertEntities.add(questionEntity);
+            } else {
+                updateEntities.add(questionEntity);
+            }
+        }
+        if (!insertEntities.isEmpty()) {
+            this.questionsMapper.insertList(insertEntities);
+            for (int i = 0; i < insertModels.size(); i++) {
+                insertModels.get(i).setId(insertEntities.get(i).getId());
+                this.identityMap.put(QuestionModelInterface.class, insertModels.get(i));
+            }
+        }
+        if (!updateEntities.isEmpty()) {
+            this.questionsMapper.updateList(updateEntities);
         }
     }
 
@@ -101,6 +208,8 @@ public class QuestionsService implements QuestionsServiceInterface {
             throw new DeleteUnidentifiedModelException();
         }
         this.questionsMapper.delete(questionEntity);
+        this.identityMap.evict(QuestionModelInterface.class, questionModel.getId());
+        this.ownershipService.evictQuestion(questionModel.getId());
     }
 
     @Override
@@ -110,8 +219,19 @@ public class QuestionsService implements QuestionsServiceInterface {
 
     @Override
     public void delete(List<QuestionModelInterface> questionsModels) {
+        final List<QuestionEntity> deleteEntities = new ArrayList<>(questionsModels.size());
+        for (QuestionModelInterface questionModel: questionsModels) {
+            final QuestionEntity questionEntity = this.map(questionModel);
+            if (questionEntity.getId() == null) {
+                throw new DeleteUnidentifiedModelException();
+            }
+            deleteEntities.add(questionEntity);
+        }
+        if (!deleteEntities.isEmpty()) {
+            this.questionsMapper.deleteList(deleteEntities);
+        }
         for (QuestionModelInterface questionModel: questionsModels) {
-            this.delete(questionModel);
+            this.identityMap.evict(QuestionModelInterface.class, questionModel.getId());
         }
     }
 
@@ -130,6 +250,16 @@ public class QuestionsService implements QuestionsServiceInterface {
         return questionsOptions;
     }
 
+    private Map<Integer, List<AnswerModelInterface>> findAnswersByQuestionsIds(List<Integer> questionsIds) {
+        final List<QuestionModelInterface> questionsModels = new ArrayList<>(questionsIds.size());
+        for (Integer questionId: questionsIds) {
+            questionsModels.add(new QuestionModelEmpty(questionId));
+        }
+        return LazyBatch.group(
+                this.answersService.findByQuestions(questionsModels),
+                answerModel -> answerModel.getQuestion().getId());
+    }
+
     private QuestionModelInterface map(QuestionEntity questionEntity) {
         if (questionEntity == null) {
             return null;
@@ -148,7 +278,7 @@ public class QuestionsService implements QuestionsServiceInterface {
     private List<QuestionModelInterface> map(List<QuestionEntity> questionsList) {
         final List<QuestionModelInterface> resultQuestionList = new ArrayList(questionsList.size());
         for (QuestionEntity question: questionsList) {
-            resultQuestionList.add(this.map(question));
+            resultQuestionList.add(this.identityMap.merge(QuestionModelInterface.class, this.map(question)));
         }
         return resultQuestionList;
     }
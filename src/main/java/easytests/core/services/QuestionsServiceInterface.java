@@ -1,8 +1,11 @@
 package easytests.core.services;
 
+import easytests.core.fetch.CompiledFetchPlan;
 import easytests.core.models.QuestionModelInterface;
 import easytests.core.models.TopicModelInterface;
 import easytests.core.options.QuestionsOptionsInterface;
+import easytests.core.services.paging.Page;
+import easytests.core.services.paging.PageRequest;
 import java.util.List;
 
 /**
@@ -16,14 +19,26 @@ public interface QuestionsServiceInterface extends ServiceInterface {
 
     List<QuestionModelInterface> findByTopic(TopicModelInterface topicModel);
 
+    Page<QuestionModelInterface> findPageByTopic(TopicModelInterface topicModel, PageRequest pageRequest);
+
     List<QuestionModelInterface> findByTopic(
             TopicModelInterface topicModel, 
             QuestionsOptionsInterface questionsOptions);
 
+    List<QuestionModelInterface> findByTopics(List<TopicModelInterface> topicsModels);
+
+    List<QuestionModelInterface> findByTopics(
+            List<TopicModelInterface> topicsModels,
+            QuestionsOptionsInterface questionsOptions);
+
+    List<QuestionModelInterface> withLazyRelations(List<QuestionModelInterface> questionsModels);
+
     QuestionModelInterface find(Integer id);
 
     QuestionModelInterface find(Integer id, QuestionsOptionsInterface questionsOptions);
 
+    QuestionModelInterface find(Integer id, CompiledFetchPlan<QuestionModelInterface> fetchPlan);
+
     void save(QuestionModelInterface questionModel);
 
     void save(QuestionModelInterface questionModel, QuestionsOptionsInterface questionsOptions);
@@ -0,0 +1,229 @@
+package easytests.core.services;
+
+import easytests.core.entities.PointEntity;
+import easytests.core.entities.QuizEntity;
+import easytests.core.mappers.PointsMapper;
+import easytests.core.mappers.QuestionsMapper;
+import easytests.core.mappers.QuizzesMapper;
+import easytests.core.models.IssueModelInterface;
+import easytests.core.models.IssueStandardModelInterface;
+import easytests.core.models.QuizModel;
+import easytests.core.models.QuizModelInterface;
+import easytests.core.models.SubjectModelInterface;
+import easytests.core.options.builder.IssueStandardsOptionsBuilder;
+import easytests.core.services.exceptions.QuizGenerationException;
+import easytests.core.services.generation.IssuingReport;
+import easytests.core.services.generation.QuestionsPool;
+import easytests.core.services.invites.ActiveInviteCodes;
+import easytests.core.services.invites.InviteCodeGenerator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+
+/**
+ * Generates quizzes of an issue following the issue standard of its subject. Questions pools are built once
+ * per subject and kept for a short while, points are written only for questions that still exist.
+ * A quiz and all of its points are written with a single statement.
+ * Bulk issuing samples all quizzes in parallel and writes them with multi-row inserts in one transaction.
+ *
+ * @author malinink
+ */
+@Service
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+public class QuizGenerationService implements QuizGenerationServiceInterface {
+    private static final long POOL_TTL = 10000L;
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final Map<Integer, PoolEntry> pools = new ConcurrentHashMap<>();
+
+    @Autowired
+    private QuestionsMapper questionsMapper;
+
+    @Autowired
+    private QuizzesMapper quizzesMapper;
+
+    @Autowired
+    private PointsMapper pointsMapper;
+
+    @Autowired
+    private IssueStandardsService issueStandardsService;
+
+    @Autowired
+    private IssueStandardsOptionsBuilder issueStandardsOptionsBuilder;
+
+    @Autowired
+    private InviteCodeGenerator inviteCodeGenerator;
+
+    @Autowired
+    private ActiveInviteCodes activeInviteCodes;
+
+    @Override
+    public QuizModelInterface generate(IssueModelInterface issueModel) {
+        final int[] questionsIds = this.getPool(issueModel.getSubject()).sample(ThreadLocalRandom.current());
+        final QuizEntity quizEntity = this.createQuizEntity(issueModel);
+        quizEntity.setId(this.quizzesMapper.insertWithPoints(quizEntity, this.toList(questionsIds)));
+        this.activateInviteCodes(Collections.singletonList(quizEntity));
+        return this.map(quizEntity);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public IssuingReport issue(IssueModelInterface issueModel, int quizzesNumber) {
+        final long startedAt = System.nanoTime();
+        final QuestionsPool pool = this.getPool(issueModel.getSubject());
+        final List<int[]> samples = IntStream.range(0, quizzesNumber)
+                .parallel()
+                .mapToObj(index -> pool.sample(ThreadLocalRandom.current()))
+                .collect(Collectors.toList());
+        final long generatedAt = System.nanoTime();
+
+        final List<QuizEntity> quizzesEntities = new ArrayList<>(quizzesNumber);
+        for (int index = 0; index < quizzesNumber; index++) {
+            quizzesEntities.add(this.createQuizEntity(issueModel));
+        }
+        this.inBatches(quizzesEntities, this.quizzesMapper::insertList);
+
+        final List<PointEntity> pointsEntities = new ArrayList<>();
+        for (int index = 0; index < quizzesNumber; index++) {
+            for (int questionId: samples.get(index)) {
+                final PointEntity pointEntity = new PointEntity();
+                pointEntity.setQuestionId(questionId);
+                pointEntity.setQuizId(quizzesEntities.get(index).getId());
+                pointsEntities.add(pointEntity);
+            }
+        }
+        this.inBatches(pointsEntities, this.pointsMapper::insertListOfExistingQuestions);
+        this.activateInviteCodes(quizzesEntities);
+
+        final List<QuizModelInterface> quizzesModels = quizzesEntities.stream()
+                .map(this::map)
+                .collect(Collectors.toList());
+        return new IssuingReport(quizzesModels, generatedAt - startedAt, System.nanoTime() - startedAt);
+    }
+
+    @Override
+    public void evict(SubjectModelInterface subjectModel) {
+        this.pools.remove(subjectModel.getId());
+    }
+
+    /**
+     * Only claiming the entry happens inside the map, the pool itself is built by the claiming thread
+     * while concurrent callers for the same subject wait on its future.
+     */
+    QuestionsPool getPool(SubjectModelInterface subjectModel) {
+        final long now = System.currentTimeMillis();
+        PoolEntry entry = this.pools.get(subjectModel.getId());
+        if (entry == null || entry.expiresAt <= now) {
+            final PoolEntry fresh = new PoolEntry(new CompletableFuture<>(), now + POOL_TTL);
+            entry = this.pools.compute(
+                    subjectModel.getId(),
+                    (subjectId, current) -> current == null || current.expiresAt <= now ? fresh : current);
+            if (entry == fresh) {
+                this.buildPool(subjectModel, fresh);
+            }
+        }
+        return this.awaitPool(entry);
+    }
+
+    /**
+     * Invite codes become active once the quizzes are committed, so a rolled back issue leaves none behind.
+     */
+    private void activateInviteCodes(List<QuizEntity> quizzesEntities) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                    @Override
+                    public void afterCommit() {
+                        quizzesEntities.forEach(QuizGenerationService.this.activeInviteCodes::put);
+                    }
+                });
+        } else {
+            quizzesEntities.forEach(this.activeInviteCodes::put);
+        }
+    }
+
+    private void buildPool(SubjectModelInterface subjectModel, PoolEntry entry) {
+        try {
+            entry.pool.complete(this.buildPool(subjectModel));
+        } catch (RuntimeException e) {
+            this.pools.remove(subjectModel.getId(), entry);
+            entry.pool.completeExceptionally(e);
+        }
+    }
+
+    private QuestionsPool awaitPool(PoolEntry entry) {
+        try {
+            return entry.pool.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private QuestionsPool buildPool(SubjectModelInterface subjectModel) {
+        final IssueStandardModelInterface issueStandardModel = this.issueStandardsService.findBySubject(subjectModel);
+        if (issueStandardModel == null) {
+            throw new QuizGenerationException("Subject has no issue standard");
+        }
+        return new QuestionsPool(
+                this.issueStandardsService.find(
+                        issueStandardModel.getId(),
+                        this.issueStandardsOptionsBuilder.forViewPlan()),
+                this.questionsMapper.findPoolBySubjectId(subjectModel.getId()));
+    }
+
+    private QuizEntity createQuizEntity(IssueModelInterface issueModel) {
+        final QuizEntity quizEntity = new QuizEntity();
+        quizEntity.setIssueId(issueModel.getId());
+        quizEntity.setInviteCode(this.inviteCodeGenerator.generate());
+        quizEntity.setCodeExpired(false);
+        return quizEntity;
+    }
+
+    private QuizModelInterface map(QuizEntity quizEntity) {
+        final QuizModel quizModel = new QuizModel();
+        quizModel.map(quizEntity);
+        return quizModel;
+    }
+
+    private <T> void inBatches(List<T> entities, Consumer<List<T>> insert) {
+        for (int from = 0; from < entities.size(); from += BATCH_SIZE) {
+            insert.accept(entities.subList(from, Math.min(entities.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    private List<Integer> toList(int[] questionsIds) {
+        return Arrays.stream(questionsIds).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * @author malinink
+     */
+    private static final class PoolEntry {
+        private final CompletableFuture<QuestionsPool> pool;
+
+        private final long expiresAt;
+
+        private PoolEntry(CompletableFuture<QuestionsPool> pool, long expiresAt) {
+            this.pool = pool;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package easytests.core.services;
+
+import easytests.core.models.IssueModelInterface;
+import easytests.core.models.QuizModelInterface;
+import easytests.core.models.SubjectModelInterface;
+import easytests.core.services.generation.IssuingReport;
+
+
+/**
+ * @author malinink
+ */
+public interface QuizGenerationServiceInterface extends ServiceInterface {
+    QuizModelInterface generate(IssueModelInterface issueModel);
+
+    IssuingReport issue(IssueModelInterface issueModel, int quizzesNumber);
+
+    void evict(SubjectModelInterface subjectModel);
+}
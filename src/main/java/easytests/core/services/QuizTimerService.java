@@ -0,0 +1,140 @@
+package easytests.core.services;
+
+import easytests.core.entities.QuizEntity;
+import easytests.core.mappers.QuizzesMapper;
+import easytests.core.models.QuizModelInterface;
+import easytests.core.models.empty.QuizModelEmpty;
+import easytests.core.services.timer.TimingWheel;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+
+/**
+ * Finishes started quizzes when the time limit of their issue standard, in seconds, runs out. Deadlines live
+ * in a timing wheel advanced once a second, due quizzes are finished with one batched update per tick,
+ * and the wheel is rebuilt from the started but unfinished quizzes on startup.
+ *
+ * @author malinink
+ */
+@Service
+public class QuizTimerService implements QuizTimerServiceInterface {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QuizTimerService.class);
+
+    private static final long TICK = 1000L;
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final TimingWheel timingWheel = new TimingWheel(TICK, System.currentTimeMillis());
+
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    private ScheduledExecutorService executor;
+
+    @Autowired
+    private QuizzesMapper quizzesMapper;
+
+    @Autowired
+    private SolutionSubmissionsService solutionSubmissionsService;
+
+    @Autowired
+    private GradingService gradingService;
+
+    @PostConstruct
+    public void startTimer() {
+        this.schedule(this.quizzesMapper.findDeadlines(null));
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "quiz-timer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.executor.scheduleWithFixedDelay(this::tick, TICK, TICK, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopTimer() {
+        this.executor.shutdownNow();
+    }
+
+    @Override
+    public void start(QuizModelInterface quizModel) {
+        this.schedule(this.quizzesMapper.findDeadlines(quizModel.getId()));
+    }
+
+    @Override
+    public void cancel(QuizModelInterface quizModel) {
+        this.timingWheel.cancel(quizModel.getId());
+    }
+
+    @Override
+    public int getScheduled() {
+        return this.timingWheel.size();
+    }
+
+    /**
+     * Never throws: an exception escaping a scheduleWithFixedDelay task would cancel every later tick.
+     * Due quizzes that could not be finished and graded are scheduled again for the next tick.
+     */
+    void tick() {
+        final Map<Integer, Long> deadlines = this.timingWheel.advance(System.currentTimeMillis());
+        try {
+            this.finish(deadlines);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to finish {} due quizzes, retrying on next tick", deadlines.size(), e);
+            for (Map.Entry<Integer, Long> deadline: deadlines.entrySet()) {
+                this.timingWheel.schedule(deadline.getKey(), deadline.getValue());
+            }
+        }
+    }
+
+    private void schedule(List<QuizEntity> deadlines) {
+        for (QuizEntity quizEntity: deadlines) {
+            this.timingWheel.schedule(
+                    quizEntity.getId(),
+                    quizEntity.getFinishedAt().atZone(this.zoneId).toInstant().toEpochMilli());
+        }
+    }
+
+    private void finish(Map<Integer, Long> deadlines) {
+        final List<QuizEntity> quizzesEntities = new ArrayList<>(deadlines.size());
+        for (Map.Entry<Integer, Long> deadline: deadlines.entrySet()) {
+            final QuizEntity quizEntity = new QuizEntity();
+            quizEntity.setId(deadline.getKey());
+            quizEntity.setFinishedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(deadline.getValue()), this.zoneId));
+            quizzesEntities.add(quizEntity);
+        }
+        for (int from = 0; from < quizzesEntities.size(); from += BATCH_SIZE) {
+            final List<QuizEntity> batch = quizzesEntities.subList(
+                    from,
+                    Math.min(quizzesEntities.size(), from + BATCH_SIZE));
+            try {
+                this.solutionSubmissionsService.flush();
+                this.quizzesMapper.finishList(batch);
+                this.gradingService.grade(this.toModels(batch));
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to finish {} quizzes, retrying on next tick", batch.size(), e);
+                this.schedule(batch);
+            }
+        }
+    }
+
+    private List<QuizModelInterface> toModels(List<QuizEntity> quizzesEntities) {
+        final List<QuizModelInterface> quizzesModels = new ArrayList<>(quizzesEntities.size());
+        for (QuizEntity quizEntity: quizzesEntities) {
+            quizzesModels.add(new QuizModelEmpty(quizEntity.getId()));
+        }
+        return quizzesModels;
+    }
+}
@@ -0,0 +1,15 @@
+package easytests.core.services;
+
+import easytests.core.models.QuizModelInterface;
+
+
+/**
+ * @author malinink
+ */
+public interface QuizTimerServiceInterface extends ServiceInterface {
+    void start(QuizModelInterface quizModel);
+
+    void cancel(QuizModelInterface quizModel);
+
+    int getScheduled();
+}
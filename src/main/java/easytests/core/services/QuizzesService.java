@@ -1,12 +1,17 @@
 package easytests.core.services;
 
+import easytests.core.entities.QuizClaimEntity;
 import easytests.core.entities.QuizEntity;
+import easytests.core.entities.TesteeEntity;
 import easytests.core.mappers.QuizzesMapper;
 import easytests.core.models.IssueModelInterface;
 import easytests.core.models.QuizModel;
 import easytests.core.models.QuizModelInterface;
+import easytests.core.models.TesteeModelInterface;
 import easytests.core.options.QuizzesOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
+import easytests.core.services.invites.ActiveInviteCodes;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +26,9 @@ public class QuizzesService implements QuizzesServiceInterface {
     @Autowired
     private QuizzesMapper quizzesMapper;
 
+    @Autowired
+    private IdentityMap identityMap;
+
     @Autowired
     private IssuesService issuesService;
 
@@ -30,6 +38,18 @@ public class QuizzesService implements QuizzesServiceInterface {
     @Autowired
     private TesteesService testeesService;
 
+    @Autowired
+    private ActiveInviteCodes activeInviteCodes;
+
+    @Autowired
+    private QuizTimerService quizTimerService;
+
+    @Autowired
+    private SolutionSubmissionsService solutionSubmissionsService;
+
+    @Autowired
+    private GradingService gradingService;
+
     @Override
     public List<QuizModelInterface> findAll() {
         return this.map(this.quizzesMapper.findAll());
@@ -41,11 +61,7 @@ public class QuizzesService implements QuizzesServiceInterface {
     }
 
     public QuizModelInterface find(Integer id) {
-        final QuizEntity quizEntity = this.quizzesMapper.find(id);
-        if (quizEntity == null) {
-            return null;
-        }
-        return this.map(quizEntity);
+        return this.identityMap.find(QuizModelInterface.class, id, () -> this.map(this.quizzesMapper.find(id)));
     }
 
     @Override
@@ -67,15 +83,57 @@ public class QuizzesService implements QuizzesServiceInterface {
         return quizzesOptions.withRelations(this.map(this.quizzesMapper.findByIssueId(issueModel.getId())));
     }
 
+    @Override
+    public QuizModelInterface findByInviteCode(String inviteCode) {
+        QuizEntity quizEntity = this.activeInviteCodes.get(inviteCode);
+        if (quizEntity == null) {
+            quizEntity = this.quizzesMapper.findByInviteCode(inviteCode);
+            if (quizEntity != null) {
+                this.activeInviteCodes.put(quizEntity);
+            }
+        }
+        return this.map(quizEntity);
+    }
+
+    @Override
+    public QuizModelInterface claim(String inviteCode, TesteeModelInterface testeeModel) {
+        final TesteeEntity testeeEntity = new TesteeEntity();
+        testeeEntity.setFirstName(testeeModel.getFirstName());
+        testeeEntity.setLastName(testeeModel.getLastName());
+        testeeEntity.setSurname(testeeModel.getSurname());
+        testeeEntity.setGroupNumber(testeeModel.getGroupNumber());
+        final QuizClaimEntity quizClaimEntity = this.quizzesMapper.claim(inviteCode, testeeEntity);
+        this.activeInviteCodes.remove(inviteCode);
+        if (quizClaimEntity == null) {
+            return null;
+        }
+        final QuizModel quizModel = this.map(quizClaimEntity);
+        testeeModel.setId(quizClaimEntity.getTesteeId());
+        testeeModel.setQuiz(quizModel);
+        quizModel.setTestee(testeeModel);
+        this.identityMap.put(QuizModelInterface.class, quizModel);
+        this.quizTimerService.start(quizModel);
+        return quizModel;
+    }
+
     @Override
     public void save(QuizModelInterface quizModel) {
         final QuizEntity quizEntity = this.map(quizModel);
+        if (quizEntity.getFinishedAt() != null) {
+            this.solutionSubmissionsService.flush();
+        }
         if (quizEntity.getId() == null) {
             this.quizzesMapper.insert(quizEntity);
             quizModel.setId(quizEntity.getId());
-            return;
+            this.identityMap.put(QuizModelInterface.class, quizModel);
+        } else {
+            this.quizzesMapper.update(quizEntity);
+        }
+        this.activeInviteCodes.put(quizEntity);
+        if (quizEntity.getFinishedAt() != null) {
+            this.quizTimerService.cancel(quizModel);
+            this.gradingService.grade(quizModel);
         }
-        this.quizzesMapper.update(quizEntity);
     }
 
     @Override
@@ -104,6 +162,8 @@ public class QuizzesService implements QuizzesServiceInterface {
             throw new DeleteUnidentifiedModelException();
         }
         this.quizzesMapper.delete(quizEntity);
+        this.identityMap.evict(QuizModelInterface.class, quizModel.getId());
+        this.activeInviteCodes.remove(quizEntity.getInviteCode());
     }
 
     @Override
@@ -132,6 +192,9 @@ public class QuizzesService implements QuizzesServiceInterface {
     }
 
     private QuizModel map(QuizEntity quizEntity) {
+        if (quizEntity == null) {
+            return null;
+        }
         final QuizModel quizModel = new QuizModel();
         quizModel.map(quizEntity);
         return quizModel;
@@ -140,7 +203,7 @@ public class QuizzesService implements QuizzesServiceInterface {
     private List<QuizModelInterface> map(List<QuizEntity> quizzesList) {
         final List<QuizModelInterface> resultQuizList = new ArrayList(quizzesList.size());
         for (QuizEntity quiz: quizzesList) {
-            resultQuizList.add(this.map(quiz));
+            resultQuizList.add(this.identityMap.merge(QuizModelInterface.class, this.map(quiz)));
         }
         return resultQuizList;
     }
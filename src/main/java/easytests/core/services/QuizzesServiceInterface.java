@@ -2,6 +2,7 @@ package easytests.core.services;
 
 import easytests.core.models.IssueModelInterface;
 import easytests.core.models.QuizModelInterface;
+import easytests.core.models.TesteeModelInterface;
 import easytests.core.options.QuizzesOptionsInterface;
 
 import java.util.List;
@@ -22,6 +23,16 @@ public interface QuizzesServiceInterface extends ServiceInterface {
 
     List<QuizModelInterface> findByIssue(IssueModelInterface issueModel, QuizzesOptionsInterface quizzesOptions);
 
+    QuizModelInterface findByInviteCode(String inviteCode);
+
+    /**
+     * Starts the quiz of a not yet expired invite code and attaches the testee to it with a single statement,
+     * so of concurrent claims of the same code exactly one succeeds, whichever node serves it.
+     *
+     * @return the started quiz, or null when the code is unknown or has already been used
+     */
+    QuizModelInterface claim(String inviteCode, TesteeModelInterface testeeModel);
+
     void save(QuizModelInterface quizModel);
 
     void save(QuizModelInterface quizModel, QuizzesOptionsInterface quizzesOptions);
@@ -0,0 +1,171 @@
+package easytests.core.services;
+
+import easytests.core.mappers.ScoresMapper;
+import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.QuizModelInterface;
+import easytests.core.models.empty.QuizModelEmpty;
+import easytests.core.services.grading.RegradingJob;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+
+/**
+ * Re-grades in the background the scored quizzes affected by answers whose correctness changed. Changes made
+ * while a job is still queued are merged into it, and the affected quizzes are graded in batches so the job
+ * reports its progress. Inside a transaction the questions are queued only once it commits, so a rolled back
+ * change leaves no job behind and the scores are graded from the committed answers. The questions of a failed
+ * job are queued again after a delay, a few times at most.
+ *
+ * @author malinink
+ */
+@Service
+public class RegradingService implements RegradingServiceInterface {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegradingService.class);
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final int HISTORY_SIZE = 100;
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final long RETRY_DELAY = 30L;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private final Deque<RegradingJob> jobs = new LinkedList<>();
+
+    private RegradingJob queuedJob;
+
+    private ScheduledExecutorService executor;
+
+    @Autowired
+    private ScoresMapper scoresMapper;
+
+    @Autowired
+    private GradingService gradingService;
+
+    @Autowired
+    private SolutionSubmissionsService solutionSubmissionsService;
+
+    @PostConstruct
+    public void startRegrading() {
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "quiz-regrading");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    @PreDestroy
+    public void stopRegrading() {
+        this.executor.shutdownNow();
+    }
+
+    @Override
+    public void regrade(List<QuestionModelInterface> questionsModels) {
+        final Set<Integer> questionsIds = new LinkedHashSet<>();
+        for (QuestionModelInterface questionModel: questionsModels) {
+            questionsIds.add(questionModel.getId());
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                    @Override
+                    public void afterCommit() {
+                        RegradingService.this.submit(RegradingService.this.queue(questionsIds));
+                    }
+                });
+        } else {
+            this.submit(this.queue(questionsIds));
+        }
+    }
+
+    @Override
+    public List<RegradingJob> getJobs() {
+        synchronized (this.jobs) {
+            return new ArrayList<>(this.jobs);
+        }
+    }
+
+    @Override
+    public RegradingJob findJob(Integer id) {
+        RegradingJob foundJob = null;
+        for (RegradingJob regradingJob: this.getJobs()) {
+            if (regradingJob.getId().equals(id)) {
+                foundJob = regradingJob;
+            }
+        }
+        return foundJob;
+    }
+
+    void run(RegradingJob regradingJob) {
+        if (regradingJob.getState() != RegradingJob.State.QUEUED) {
+            return;
+        }
+        try {
+            final List<Integer> quizzesIds = this.scoresMapper.findQuizzesIdsByQuestionsIds(regradingJob.start());
+            regradingJob.setTotal(quizzesIds.size());
+            this.solutionSubmissionsService.flush();
+            for (int from = 0; from < quizzesIds.size(); from += BATCH_SIZE) {
+                final List<QuizModelInterface> quizzesModels = new ArrayList<>(BATCH_SIZE);
+                for (Integer quizId: quizzesIds.subList(from, Math.min(quizzesIds.size(), from + BATCH_SIZE))) {
+                    quizzesModels.add(new QuizModelEmpty(quizId));
+                }
+                this.gradingService.gradeFlushed(quizzesModels);
+                regradingJob.graded(quizzesModels.size());
+            }
+            regradingJob.finish(RegradingJob.State.DONE);
+            LOGGER.info("Re-graded {} quizzes in job {}", quizzesIds.size(), regradingJob.getId());
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to re-grade quizzes in job {}", regradingJob.getId(), e);
+            regradingJob.finish(RegradingJob.State.FAILED);
+            this.retry(regradingJob);
+        }
+    }
+
+    private void retry(RegradingJob regradingJob) {
+        if (regradingJob.getAttempt() < MAX_ATTEMPTS) {
+            final RegradingJob retryJob = this.queue(
+                    new LinkedHashSet<>(regradingJob.getQuestionsIds()),
+                    regradingJob.getAttempt() + 1);
+            LOGGER.info("Retrying job {} as job {} in {} seconds", regradingJob.getId(), retryJob.getId(), RETRY_DELAY);
+            this.executor.schedule(() -> this.run(retryJob), RETRY_DELAY, TimeUnit.SECONDS);
+        }
+    }
+
+    private RegradingJob queue(Set<Integer> questionsIds) {
+        return this.queue(questionsIds, 1);
+    }
+
+    private synchronized RegradingJob queue(Set<Integer> questionsIds, int attempt) {
+        if (this.queuedJob == null || !this.queuedJob.addQuestions(questionsIds)) {
+            this.queuedJob = new RegradingJob(this.sequence.incrementAndGet(), questionsIds, attempt);
+            synchronized (this.jobs) {
+                this.jobs.addFirst(this.queuedJob);
+                while (this.jobs.size() > HISTORY_SIZE) {
+                    this.jobs.removeLast();
+                }
+            }
+        }
+        return this.queuedJob;
+    }
+
+    private void submit(RegradingJob regradingJob) {
+        this.executor.execute(() -> this.run(regradingJob));
+    }
+}
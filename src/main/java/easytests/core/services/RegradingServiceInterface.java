@@ -0,0 +1,20 @@
+package easytests.core.services;
+
+import easytests.core.models.QuestionModelInterface;
+import easytests.core.services.grading.RegradingJob;
+import java.util.List;
+
+
+/**
+ * @author malinink
+ */
+public interface RegradingServiceInterface extends ServiceInterface {
+    /**
+     * Queues re-grading of the scored quizzes using the questions, once the current transaction, if any, commits.
+     */
+    void regrade(List<QuestionModelInterface> questionsModels);
+
+    List<RegradingJob> getJobs();
+
+    RegradingJob findJob(Integer id);
+}
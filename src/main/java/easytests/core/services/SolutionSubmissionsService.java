@@ -0,0 +1,148 @@
+package easytests.core.services;
+
+import easytests.core.entities.SolutionEntity;
+import easytests.core.mappers.SolutionsMapper;
+import easytests.core.models.AnswerModelInterface;
+import easytests.core.models.PointModelInterface;
+import easytests.core.services.exceptions.SubmissionsOverflowException;
+import easytests.core.services.submissions.FlushStatistics;
+import easytests.core.services.submissions.SubmissionsBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+
+/**
+ * Write-behind store of testee solutions. Submissions are buffered per point, so only the latest answers
+ * of a point are written, and flushed with one statement per batch every interval or as soon as a batch
+ * is full. A full buffer makes the submitting thread flush itself.
+ *
+ * @author malinink
+ */
+@Service
+public class SolutionSubmissionsService implements SolutionSubmissionsServiceInterface {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SolutionSubmissionsService.class);
+
+    private static final int CAPACITY = 100000;
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final long INTERVAL = 200L;
+
+    private final SubmissionsBuffer buffer = new SubmissionsBuffer(CAPACITY);
+
+    private final FlushStatistics statistics = new FlushStatistics();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private volatile boolean flushing;
+
+    private ScheduledExecutorService executor;
+
+    @Autowired
+    private SolutionsMapper solutionsMapper;
+
+    @PostConstruct
+    public void startFlushing() {
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "solutions-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.executor.scheduleWithFixedDelay(this::flush, INTERVAL, INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopFlushing() {
+        this.executor.shutdown();
+        this.flush();
+    }
+
+    @Override
+    public void submit(PointModelInterface pointModel, List<AnswerModelInterface> answersModels) {
+        final List<Integer> answersIds = new ArrayList<>(answersModels.size());
+        for (AnswerModelInterface answerModel: answersModels) {
+            answersIds.add(answerModel.getId());
+        }
+        if (!this.buffer.offer(pointModel.getId(), answersIds)) {
+            this.flush();
+            if (!this.buffer.offer(pointModel.getId(), answersIds)) {
+                throw new SubmissionsOverflowException("Solutions can not be written, try again later");
+            }
+        }
+        if (this.buffer.getDepth() >= BATCH_SIZE && this.flushRequested.compareAndSet(false, true)) {
+            this.executor.execute(() -> {
+                    this.flushRequested.set(false);
+                    this.flush();
+                });
+        }
+    }
+
+    /**
+     * Returns at once when nothing is buffered and no flush is writing, so callers such as quiz finishing
+     * do not queue up behind the flush lock.
+     */
+    @Override
+    public void flush() {
+        if (this.buffer.getDepth() == 0 && !this.flushing) {
+            return;
+        }
+        synchronized (this) {
+            this.flushing = true;
+            try {
+                boolean written = true;
+                while (written && this.buffer.getDepth() > 0) {
+                    final Map<Integer, List<Integer>> submissions = this.buffer.drain(BATCH_SIZE);
+                    written = submissions.isEmpty() || this.write(submissions);
+                }
+            } finally {
+                this.flushing = false;
+            }
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return this.buffer.getDepth();
+    }
+
+    @Override
+    public FlushStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    private boolean write(Map<Integer, List<Integer>> submissions) {
+        final long startedAt = System.nanoTime();
+        final List<SolutionEntity> solutionsEntities = new ArrayList<>();
+        for (Map.Entry<Integer, List<Integer>> submission: submissions.entrySet()) {
+            for (Integer answerId: submission.getValue()) {
+                final SolutionEntity solutionEntity = new SolutionEntity();
+                solutionEntity.setAnswerId(answerId);
+                solutionEntity.setPointId(submission.getKey());
+                solutionsEntities.add(solutionEntity);
+            }
+        }
+        boolean written = true;
+        try {
+            this.solutionsMapper.replaceByPointsIds(new ArrayList<>(submissions.keySet()), solutionsEntities);
+            this.statistics.flushed(submissions.size(), System.nanoTime() - startedAt);
+        } catch (DataAccessException e) {
+            LOGGER.error("Failed to write solutions of {} points, keeping them buffered", submissions.size(), e);
+            this.statistics.failed();
+            this.buffer.restore(submissions);
+            written = false;
+        }
+        return written;
+    }
+}
@@ -0,0 +1,26 @@
+package easytests.core.services;
+
+import easytests.core.models.AnswerModelInterface;
+import easytests.core.models.PointModelInterface;
+import easytests.core.services.submissions.FlushStatistics;
+import java.util.List;
+
+
+/**
+ * @author malinink
+ */
+public interface SolutionSubmissionsServiceInterface extends ServiceInterface {
+    /**
+     * Replaces the chosen answers of the point. The solutions are written asynchronously.
+     */
+    void submit(PointModelInterface pointModel, List<AnswerModelInterface> answersModels);
+
+    /**
+     * Writes all pending submissions before returning.
+     */
+    void flush();
+
+    int getQueueDepth();
+
+    FlushStatistics getStatistics();
+}
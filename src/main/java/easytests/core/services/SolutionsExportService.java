@@ -0,0 +1,54 @@
+package easytests.core.services;
+
+import easytests.core.entities.SolutionExportEntity;
+import easytests.core.mappers.SolutionsMapper;
+import easytests.core.models.IssueModelInterface;
+import easytests.core.models.SubjectModelInterface;
+import easytests.core.services.export.ExportFormat;
+import easytests.core.services.export.SolutionsExportWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+
+/**
+ * Exports results row by row from a database cursor, so memory use does not depend on the export size.
+ * Exports run in read only transactions, which keeps the cursor open and lets the driver fetch by portions.
+ *
+ * @author malinink
+ */
+@Service
+public class SolutionsExportService implements SolutionsExportServiceInterface {
+    @Autowired
+    private SolutionsMapper solutionsMapper;
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = Exception.class)
+    public long export(IssueModelInterface issueModel, ExportFormat format, OutputStream outputStream)
+            throws IOException {
+        return this.export(this.solutionsMapper.exportByIssueId(issueModel.getId()), format, outputStream);
+    }
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = Exception.class)
+    public long export(SubjectModelInterface subjectModel, ExportFormat format, OutputStream outputStream)
+            throws IOException {
+        return this.export(this.solutionsMapper.exportBySubjectId(subjectModel.getId()), format, outputStream);
+    }
+
+    private long export(Cursor<SolutionExportEntity> cursor, ExportFormat format, OutputStream outputStream)
+            throws IOException {
+        final SolutionsExportWriter solutionsExportWriter = new SolutionsExportWriter(format, outputStream);
+        try (Cursor<SolutionExportEntity> solutionsExportEntities = cursor) {
+            solutionsExportWriter.writeHeader();
+            for (SolutionExportEntity solutionExportEntity: solutionsExportEntities) {
+                solutionsExportWriter.write(solutionExportEntity);
+            }
+            solutionsExportWriter.flush();
+        }
+        return solutionsExportWriter.getRows();
+    }
+}
@@ -0,0 +1,22 @@
+package easytests.core.services;
+
+import easytests.core.models.IssueModelInterface;
+import easytests.core.models.SubjectModelInterface;
+import easytests.core.services.export.ExportFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+
+
+/**
+ * @author malinink
+ */
+public interface SolutionsExportServiceInterface extends ServiceInterface {
+    /**
+     * Streams chosen answers of all quizzes of the issue to the output stream.
+     *
+     * @return number of exported rows
+     */
+    long export(IssueModelInterface issueModel, ExportFormat format, OutputStream outputStream) throws IOException;
+
+    long export(SubjectModelInterface subjectModel, ExportFormat format, OutputStream outputStream) throws IOException;
+}
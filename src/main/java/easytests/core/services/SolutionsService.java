@@ -7,6 +7,7 @@ import easytests.core.models.SolutionModel;
 import easytests.core.models.SolutionModelInterface;
 import easytests.core.options.SolutionsOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +23,9 @@ public class SolutionsService implements SolutionsServiceInterface {
     @Autowired
     private SolutionsMapper solutionsMapper;
 
+    @Autowired
+    private IdentityMap identityMap;
+
     @Autowired
     private PointsService pointsService;
 
@@ -37,11 +41,7 @@ public class SolutionsService implements SolutionsServiceInterface {
 
     @Override
     public SolutionModelInterface find(Integer id) {
-        final SolutionEntity solutionEntity = this.solutionsMapper.find(id);
-        if (solutionEntity == null) {
-            return null;
-        }
-        return this.map(solutionEntity);
+        return this.identityMap.find(SolutionModelInterface.class, id, () -> this.map(this.solutionsMapper.find(id)));
     }
 
     @Override
@@ -68,6 +68,7 @@ public class SolutionsService implements SolutionsServiceInterface {
         }
         this.solutionsMapper.insert(solutionEntity);
         solutionModel.setId(solutionEntity.getId());
+        this.identityMap.put(SolutionModelInterface.class, solutionModel);
     }
 
     @Override
@@ -78,8 +79,27 @@ public class SolutionsService implements SolutionsServiceInterface {
 
     @Override
     public void save(List<SolutionModelInterface> solutionModels) {
+        final List<SolutionModelInterface> insertModels = new ArrayList<>();
+        final List<SolutionEntity> insertEntities = new ArrayList<>();
+        final List<SolutionEntity> updateEntities = new ArrayList<>();
         for (SolutionModelInterface solutionModel: solutionModels) {
-            this.save(solutionModel);
+            final SolutionEntity solutionEntity = this.map(solutionModel);
+            if (solutionEntity.getId() == null) {
+                insertModels.add(solutionModel);
+                insertEntities.add(solutionEntity);
+            } else {
+                updateEntities.add(solutionEntity);
+            }
+        }
+        if (!insertEntities.isEmpty()) {
+            this.solutionsMapper.insertList(insertEntities);
+            for (int i = 0; i < insertModels.size(); i++) {
+                insertModels.get(i).setId(insertEntities.get(i).getId());
+                this.identityMap.put(SolutionModelInterface.class, insertModels.get(i));
+            }
+        }
+        if (!updateEntities.isEmpty()) {
+            this.solutionsMapper.updateList(updateEntities);
         }
     }
 
@@ -97,12 +117,24 @@ public class SolutionsService implements SolutionsServiceInterface {
             throw new DeleteUnidentifiedModelException();
         }
         this.solutionsMapper.delete(solutionEntity);
+        this.identityMap.evict(SolutionModelInterface.class, solutionModel.getId());
     }
 
     @Override
     public void delete(List<SolutionModelInterface> solutionsModel) {
+        final List<SolutionEntity> deleteEntities = new ArrayList<>(solutionsModel.size());
         for (SolutionModelInterface solutionModel: solutionsModel) {
-            this.delete(solutionModel);
+            final SolutionEntity solutionEntity = this.map(solutionModel);
+            if (solutionEntity.getId() == null) {
+                throw new DeleteUnidentifiedModelException();
+            }
+            deleteEntities.add(solutionEntity);
+        }
+        if (!deleteEntities.isEmpty()) {
+            this.solutionsMapper.deleteList(deleteEntities);
+        }
+        for (SolutionModelInterface solutionModel: solutionsModel) {
+            this.identityMap.evict(SolutionModelInterface.class, solutionModel.getId());
         }
     }
 
@@ -119,6 +151,9 @@ public class SolutionsService implements SolutionsServiceInterface {
     }
 
     private SolutionModelInterface map(SolutionEntity solutionEntity) {
+        if (solutionEntity == null) {
+            return null;
+        }
         final SolutionModelInterface solutionModel = new SolutionModel();
         solutionModel.map(solutionEntity);
         return solutionModel;
@@ -133,7 +168,7 @@ public class SolutionsService implements SolutionsServiceInterface {
     private List<SolutionModelInterface> map(List<SolutionEntity> solutionEntities) {
         final List<SolutionModelInterface> solutionModels = new ArrayList(solutionEntities.size());
         for (SolutionEntity solutionEntity: solutionEntities) {
-            solutionModels.add(this.map(solutionEntity));
+            solutionModels.add(this.identityMap.merge(SolutionModelInterface.class, this.map(solutionEntity)));
         }
         return solutionModels;
     }
@@ -1,12 +1,17 @@
 package easytests.core.services;
 
 import easytests.core.entities.*;
+import easytests.core.fetch.CompiledFetchPlan;
+import easytests.core.fetch.FetchPlans;
 import easytests.core.mappers.SubjectsMapper;
 import easytests.core.models.SubjectModel;
 import easytests.core.models.SubjectModelInterface;
 import easytests.core.models.UserModelInterface;
 import easytests.core.options.SubjectsOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
+import easytests.core.services.paging.Page;
+import easytests.core.services.paging.PageRequest;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +27,15 @@ public class SubjectsService implements SubjectsServiceInterface {
     @Autowired
     private SubjectsMapper subjectsMapper;
 
+    @Autowired
+    private IdentityMap identityMap;
+
+    @Autowired
+    private OwnershipService ownershipService;
+
+    @Autowired
+    private FetchPlans fetchPlans;
+
     @Autowired
     private UsersService usersService;
 
@@ -46,11 +60,7 @@ public class SubjectsService implements SubjectsServiceInterface {
 
     @Override
     public SubjectModelInterface find(Integer id) {
-        final SubjectEntity subjectEntity = this.subjectsMapper.find(id);
-        if (subjectEntity == null) {
-            return null;
-        }
-        return this.map(subjectEntity);
+        return this.identityMap.find(SubjectModelInterface.class, id, () -> this.map(this.subjectsMapper.find(id)));
     }
 
     @Override
@@ -58,11 +68,26 @@ public class SubjectsService implements SubjectsServiceInterface {
         return this.withServices(subjectsOptions).withRelations(this.find(id));
     }
 
+    @Override
+    public SubjectModelInterface find(Integer id, CompiledFetchPlan<SubjectModelInterface> fetchPlan) {
+        return this.fetchPlans.find(fetchPlan, id);
+    }
+
     @Override
     public List<SubjectModelInterface> findByUser(UserModelInterface userModel) {
         return this.map(this.subjectsMapper.findByUserId(userModel.getId()));
     }
 
+    @Override
+    public Page<SubjectModelInterface> findPageByUser(UserModelInterface userModel, PageRequest pageRequest) {
+        return new Page<>(
+                this.map(this.subjectsMapper.findPageByUserId(
+                        userModel.getId(),
+                        pageRequest.getAfterId(),
+                        pageRequest.getLimit())),
+                pageRequest);
+    }
+
     @Override
     public List<SubjectModelInterface> findByUser(
         UserModelInterface userModel,
@@ -77,6 +102,7 @@ public class SubjectsService implements SubjectsServiceInterface {
         if (subjectEntity.getId() == null) {
             this.subjectsMapper.insert(subjectEntity);
             subjectModel.setId(subjectEntity.getId());
+            this.identityMap.put(SubjectModelInterface.class, subjectModel);
             return;
         }
         this.subjectsMapper.update(subjectEntity);
@@ -108,6 +134,8 @@ public class SubjectsService implements SubjectsServiceInterface {
             throw new DeleteUnidentifiedModelException();
         }
         this.subjectsMapper.delete(subjectEntity);
+        this.identityMap.evict(SubjectModelInterface.class, subjectModel.getId());
+        this.ownershipService.evictAll();
     }
 
     @Override
@@ -137,6 +165,9 @@ public class SubjectsService implements SubjectsServiceInterface {
     }
 
     private SubjectModel map(SubjectEntity subjectEntity) {
+        if (subjectEntity == null) {
+            return null;
+        }
         final SubjectModel subjectModel = new SubjectModel();
         subjectModel.map(subjectEntity);
         return subjectModel;
@@ -145,7 +176,7 @@ public class SubjectsService implements SubjectsServiceInterface {
     private List<SubjectModelInterface> map(List<SubjectEntity> subjectsList) {
         final List<SubjectModelInterface> resultSubjectList = new ArrayList(subjectsList.size());
         for (SubjectEntity subject: subjectsList) {
-            resultSubjectList.add(this.map(subject));
+            resultSubjectList.add(this.identityMap.merge(SubjectModelInterface.class, this.map(subject)));
         }
         return resultSubjectList;
     }
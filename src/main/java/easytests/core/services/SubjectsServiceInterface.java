@@ -1,8 +1,11 @@
 package easytests.core.services;
 
+import easytests.core.fetch.CompiledFetchPlan;
 import easytests.core.models.SubjectModelInterface;
 import easytests.core.models.UserModelInterface;
 import easytests.core.options.SubjectsOptionsInterface;
+import easytests.core.services.paging.Page;
+import easytests.core.services.paging.PageRequest;
 import java.util.List;
 
 
@@ -18,8 +21,12 @@ public interface SubjectsServiceInterface extends ServiceInterface {
 
     SubjectModelInterface find(Integer id, SubjectsOptionsInterface subjectsOptions);
 
+    SubjectModelInterface find(Integer id, CompiledFetchPlan<SubjectModelInterface> fetchPlan);
+
     List<SubjectModelInterface> findByUser(UserModelInterface userModel);
 
+    Page<SubjectModelInterface> findPageByUser(UserModelInterface userModel, PageRequest pageRequest);
+
     List<SubjectModelInterface> findByUser(UserModelInterface userModel, SubjectsOptionsInterface subjectsOptions);
 
     void save(SubjectModelInterface subjectModel);
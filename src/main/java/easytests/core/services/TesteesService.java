@@ -7,6 +7,7 @@ import easytests.core.models.TesteeModel;
 import easytests.core.models.TesteeModelInterface;
 import easytests.core.options.TesteesOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +22,9 @@ public class TesteesService implements TesteesServiceInterface {
     @Autowired
     private TesteesMapper testeesMapper;
 
+    @Autowired
+    private IdentityMap identityMap;
+
     @Autowired
     private QuizzesService quizzesService;
 
@@ -51,7 +55,7 @@ public class TesteesService implements TesteesServiceInterface {
 
     @Override
     public TesteeModelInterface find(Integer id) {
-        return this.map(this.testeesMapper.find(id));
+        return this.identityMap.find(TesteeModelInterface.class, id, () -> this.map(this.testeesMapper.find(id)));
     }
 
     @Override
@@ -65,6 +69,7 @@ public class TesteesService implements TesteesServiceInterface {
         if (testeeEntity.getId() == null) {
             this.testeesMapper.insert(testeeEntity);
             testeeModel.setId(testeeEntity.getId());
+            this.identityMap.put(TesteeModelInterface.class, testeeModel);
             return;
         }
         this.testeesMapper.update(testeeEntity);
@@ -82,6 +87,7 @@ public class TesteesService implements TesteesServiceInterface {
             throw new DeleteUnidentifiedModelException();
         }
         this.testeesMapper.delete(testeeEntity);
+        this.identityMap.evict(TesteeModelInterface.class, testeeModel.getId());
     }
 
     @Override
@@ -113,7 +119,7 @@ public class TesteesService implements TesteesServiceInterface {
     private List<TesteeModelInterface> map(List<TesteeEntity> testeesList) {
         final List<TesteeModelInterface> resultTesteeList = new ArrayList(testeesList.size());
         for (TesteeEntity testee: testeesList) {
-            resultTesteeList.add(this.map(testee));
+            resultTesteeList.add(this.identityMap.merge(TesteeModelInterface.class, this.map(testee)));
         }
         return resultTesteeList;
     }
@@ -7,6 +7,7 @@ import easytests.core.models.TopicModel;
 import easytests.core.models.TopicModelInterface;
 import easytests.core.options.TopicsOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +22,12 @@ public class TopicsService implements TopicsServiceInterface {
     @Autowired
     private TopicsMapper topicsMapper;
 
+    @Autowired
+    private IdentityMap identityMap;
+
+    @Autowired
+    private OwnershipService ownershipService;
+
     @Autowired
     private SubjectsService subjectsService;
 
@@ -39,7 +46,7 @@ public class TopicsService implements TopicsServiceInterface {
 
     @Override
     public TopicModelInterface find(Integer id) {
-        return this.map(this.topicsMapper.find(id));
+        return this.identityMap.find(TopicModelInterface.class, id, () -> this.map(this.topicsMapper.find(id)));
     }
 
     @Override
@@ -59,12 +66,40 @@ public class TopicsService implements TopicsServiceInterface {
         return this.map(this.topicsMapper.findBySubjectId(subjectModel.getId()));
     }
 
+    @Override
+    public List<TopicModelInterface> findBySubjects(List<SubjectModelInterface> subjectsModels) {
+        if (subjectsModels.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        final List<Integer> subjectsIds = new ArrayList<>(subjectsModels.size());
+        for (SubjectModelInterface subjectModel: subjectsModels) {
+            subjectsIds.add(subjectModel.getId());
+        }
+        return this.map(this.topicsMapper.findBySubjectIds(subjectsIds));
+    }
+
+    @Override
+    public List<TopicModelInterface> findByIds(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        return this.map(this.topicsMapper.findByIds(ids));
+    }
+
+    @Override
+    public List<TopicModelInterface> findBySubjects(
+            List<SubjectModelInterface> subjectsModels,
+            TopicsOptionsInterface topicsOptions) {
+        return this.withServices(topicsOptions).withRelations(this.findBySubjects(subjectsModels));
+    }
+
     @Override
     public void save(TopicModelInterface topicModel) {
         final TopicEntity topicEntity = this.map(topicModel);
         if (topicEntity.getId() == null) {
             this.topicsMapper.insert(topicEntity);
             topicModel.setId(topicEntity.getId());
+            this.identityMap.put(TopicModelInterface.class, topicModel);
             return;
         }
         this.topicsMapper.update(topicEntity);
@@ -77,8 +112,27 @@ public class TopicsService implements TopicsServiceInterface {
 
     @Override
     public void save(List<TopicModelInterface> topicsModels) {
+        final List<TopicModelInterface> insertModels = new ArrayList<>();
+        final List<TopicEntity> insertEntities = new ArrayList<>();
+        final List<TopicEntity> updateEntities = new ArrayList<>();
         for (TopicModelInterface topicModel: topicsModels) {
-            this.save(topicModel);
+            final TopicEntity topicEntity = this.map(topicModel);
+            if (topicEntity.getId() == null) {
+                insertModels.add(topicModel);
+                insertEntities.add(topicEntity);
+            } else {
+                updateEntities.add(topicEntity);
+            }
+        }
+        if (!insertEntities.isEmpty()) {
+            this.topicsMapper.insertList(insertEntities);
+            for (int i = 0; i < insertModels.size(); i++) {
+                insertModels.get(i).setId(insertEntities.get(i).getId());
+                this.identityMap.put(TopicModelInterface.class, insertModels.get(i));
+            }
+        }
+        if (!updateEntities.isEmpty()) {
+            this.topicsMapper.updateList(updateEntities);
         }
     }
 
@@ -96,6 +150,8 @@ public class TopicsService implements TopicsServiceInterface {
             throw new DeleteUnidentifiedModelException();
         }
         this.topicsMapper.delete(topicEntity);
+        this.identityMap.evict(TopicModelInterface.class, topicModel.getId());
+        this.ownershipService.evictAll();
     }
 
     @Override
@@ -105,8 +161,19 @@ public class TopicsService implements TopicsServiceInterface {
 
     @Override
     public void delete(List<TopicModelInterface> topicsModels) {
+        final List<TopicEntity> deleteEntities = new ArrayList<>(topicsModels.size());
+        for (TopicModelInterface topicModel: topicsModels) {
+            final TopicEntity topicEntity = this.map(topicModel);
+            if (topicEntity.getId() == null) {
+                throw new DeleteUnidentifiedModelException();
+            }
+            deleteEntities.add(topicEntity);
+        }
+        if (!deleteEntities.isEmpty()) {
+            this.topicsMapper.deleteList(deleteEntities);
+        }
         for (TopicModelInterface topicModel: topicsModels) {
-            this.delete(topicModel);
+            this.identityMap.evict(TopicModelInterface.class, topicModel.getId());
         }
     }
 
@@ -142,7 +209,7 @@ public class TopicsService implements TopicsServiceInterface {
     private List<TopicModelInterface> map(List<TopicEntity> topicsList) {
         final List<TopicModelInterface> resultUsersList = new ArrayList(topicsList.size());
         for (TopicEntity topic: topicsList) {
-            resultUsersList.add(this.map(topic));
+            resultUsersList.add(this.identityMap.merge(TopicModelInterface.class, this.map(topic)));
         }
         return resultUsersList;
     }
@@ -22,6 +22,14 @@ public interface TopicsServiceInterface extends ServiceInterface {
 
     List<TopicModelInterface> findBySubject(SubjectModelInterface subjectModel);
 
+    List<TopicModelInterface> findBySubjects(List<SubjectModelInterface> subjectsModels);
+
+    List<TopicModelInterface> findByIds(List<Integer> ids);
+
+    List<TopicModelInterface> findBySubjects(
+            List<SubjectModelInterface> subjectsModels,
+            TopicsOptionsInterface topicsOptions);
+
     void save(TopicModelInterface topicModel);
 
     void save(TopicModelInterface topicModel, TopicsOptionsInterface topicsOptions);
@@ -5,10 +5,15 @@ import easytests.core.mappers.UsersMapper;
 import easytests.core.models.UserModel;
 import easytests.core.models.UserModelInterface;
 import easytests.core.options.UsersOptionsInterface;
+import easytests.core.services.events.UserChangedEvent;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
+import easytests.core.services.paging.Page;
+import easytests.core.services.paging.PageRequest;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 
@@ -20,9 +25,18 @@ public class UsersService implements UsersServiceInterface {
     @Autowired
     private UsersMapper usersMapper;
 
+    @Autowired
+    private IdentityMap identityMap;
+
+    @Autowired
+    private OwnershipService ownershipService;
+
     @Autowired
     private SubjectsService subjectsService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public List<UserModelInterface> findAll() {
         return this.map(this.usersMapper.findAll());
@@ -33,9 +47,16 @@ public class UsersService implements UsersServiceInterface {
         return this.withServices(usersOptions).withRelations(this.findAll());
     }
 
+    @Override
+    public Page<UserModelInterface> findPage(PageRequest pageRequest) {
+        return new Page<>(
+                this.map(this.usersMapper.findPage(pageRequest.getAfterId(), pageRequest.getLimit())),
+                pageRequest);
+    }
+
     @Override
     public UserModelInterface find(Integer id) {
-        return this.map(this.usersMapper.find(id));
+        return this.identityMap.find(UserModelInterface.class, id, () -> this.map(this.usersMapper.find(id)));
     }
 
     @Override
@@ -59,9 +80,14 @@ public class UsersService implements UsersServiceInterface {
         if (userEntity.getId() == null) {
             this.usersMapper.insert(userEntity);
             userModel.setId(userEntity.getId());
+            this.identityMap.put(UserModelInterface.class, userModel);
             return;
         }
-        this.usersMapper.update(userEntity);
+        final UserEntity previousEntity = this.usersMapper.updateReturningPrevious(userEntity);
+        if (previousEntity != null) {
+            this.publishChanged(previousEntity.getEmail());
+        }
+        this.publishChanged(userEntity.getEmail());
     }
 
     @Override
@@ -76,6 +102,9 @@ public class UsersService implements UsersServiceInterface {
             throw new DeleteUnidentifiedModelException();
         }
         this.usersMapper.delete(userEntity);
+        this.identityMap.evict(UserModelInterface.class, userModel.getId());
+        this.ownershipService.evictAll();
+        this.publishChanged(userEntity.getEmail());
     }
 
     @Override
@@ -83,6 +112,12 @@ public class UsersService implements UsersServiceInterface {
         this.withServices(usersOptions).deleteWithRelations(userModel);
     }
 
+    private void publishChanged(String email) {
+        if (email != null) {
+            this.eventPublisher.publishEvent(new UserChangedEvent(email));
+        }
+    }
+
     private UsersOptionsInterface withServices(UsersOptionsInterface usersOptions) {
         usersOptions.setUsersService(this);
         usersOptions.setSubjectsService(this.subjectsService);
@@ -107,7 +142,7 @@ public class UsersService implements UsersServiceInterface {
     private List<UserModelInterface> map(List<UserEntity> usersList) {
         final List<UserModelInterface> resultUsersList = new ArrayList(usersList.size());
         for (UserEntity user: usersList) {
-            resultUsersList.add(this.map(user));
+            resultUsersList.add(this.identityMap.merge(UserModelInterface.class, this.map(user)));
         }
         return resultUsersList;
     }
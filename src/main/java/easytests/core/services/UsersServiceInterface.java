@@ -2,6 +2,8 @@ package easytests.core.services;
 
 import easytests.core.models.UserModelInterface;
 import easytests.core.options.UsersOptionsInterface;
+import easytests.core.services.paging.Page;
+import easytests.core.services.paging.PageRequest;
 import java.util.List;
 
 
@@ -13,6 +15,8 @@ public interface UsersServiceInterface extends ServiceInterface {
 
     List<UserModelInterface> findAll(UsersOptionsInterface usersOptions);
 
+    Page<UserModelInterface> findPage(PageRequest pageRequest);
+
     UserModelInterface find(Integer id);
 
     UserModelInterface find(Integer id, UsersOptionsInterface usersOptions);
@@ -0,0 +1,19 @@
+package easytests.core.services.events;
+
+import lombok.Getter;
+
+
+/**
+ * Published by UsersService for every email whose user was updated or deleted, so that caches of other
+ * modules can drop what they hold for it.
+ *
+ * @author malinink
+ */
+@Getter
+public class UserChangedEvent {
+    private final String email;
+
+    public UserChangedEvent(String email) {
+        this.email = email;
+    }
+}
@@ -0,0 +1,10 @@
+package easytests.core.services.exceptions;
+
+/**
+ * @author malinink
+ */
+public class QuizGenerationException extends RuntimeException {
+    public QuizGenerationException(String message) {
+        super(message);
+    }
+}
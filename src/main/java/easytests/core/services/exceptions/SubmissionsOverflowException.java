@@ -0,0 +1,10 @@
+package easytests.core.services.exceptions;
+
+/**
+ * @author malinink
+ */
+public class SubmissionsOverflowException extends RuntimeException {
+    public SubmissionsOverflowException(String message) {
+        super(message);
+    }
+}
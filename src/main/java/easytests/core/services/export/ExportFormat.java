@@ -0,0 +1,39 @@
+package easytests.core.services.export;
+
+/**
+ * @author malinink
+ */
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return this.contentType;
+    }
+
+    public String getExtension() {
+        return this.extension;
+    }
+
+    /**
+     * @return format with the given extension or null when there is no such format
+     */
+    public static ExportFormat fromExtension(String extension) {
+        ExportFormat foundFormat = null;
+        for (ExportFormat format: values()) {
+            if (format.extension.equalsIgnoreCase(extension)) {
+                foundFormat = format;
+            }
+        }
+        return foundFormat;
+    }
+}
@@ -0,0 +1,140 @@
+package easytests.core.services.export;
+
+import easytests.core.entities.SolutionExportEntity;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Writes export rows one by one as CSV with a header line or as newline delimited JSON objects. Only the
+ * current row and the output buffer are held in memory.
+ *
+ * @author malinink
+ */
+public class SolutionsExportWriter {
+    private static final int BUFFER_SIZE = 65536;
+
+    private static final String[] COLUMNS = {
+        "issue_id",
+        "quiz_id",
+        "invite_code",
+        "testee_first_name",
+        "testee_last_name",
+        "testee_surname",
+        "testee_group_number",
+        "started_at",
+        "finished_at",
+        "point_id",
+        "question_id",
+        "answer_id",
+        "is_right",
+    };
+
+    private final ExportFormat format;
+
+    private final Writer writer;
+
+    private long rows;
+
+    public SolutionsExportWriter(ExportFormat format, OutputStream outputStream) {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    public long getRows() {
+        return this.rows;
+    }
+
+    public void writeHeader() throws IOException {
+        if (this.format == ExportFormat.CSV) {
+            this.writeCsv(COLUMNS);
+        }
+    }
+
+    public void write(SolutionExportEntity solutionExportEntity) throws IOException {
+        final Object[] values = {
+            solutionExportEntity.getIssueId(),
+            solutionExportEntity.getQuizId(),
+            solutionExportEntity.getInviteCode(),
+            solutionExportEntity.getTesteeFirstName(),
+            solutionExportEntity.getTesteeLastName(),
+            solutionExportEntity.getTesteeSurname(),
+            solutionExportEntity.getTesteeGroupNumber(),
+            solutionExportEntity.getStartedAt(),
+            solutionExportEntity.getFinishedAt(),
+            solutionExportEntity.getPointId(),
+            solutionExportEntity.getQuestionId(),
+            solutionExportEntity.getAnswerId(),
+            solutionExportEntity.getRight(),
+        };
+        if (this.format == ExportFormat.CSV) {
+            this.writeCsv(values);
+        } else {
+            this.writeJson(values);
+        }
+        this.rows++;
+    }
+
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
+    private void writeCsv(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                this.writer.write(',');
+            }
+            if (values[i] != null) {
+                this.writeCsvValue(values[i].toString());
+            }
+        }
+        this.writer.write("\r\n");
+    }
+
+    private void writeCsvValue(String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            this.writer.write(value);
+        } else {
+            this.writer.write('"');
+            this.writer.write(value.replace("\"", "\"\""));
+            this.writer.write('"');
+        }
+    }
+
+    private void writeJson(Object[] values) throws IOException {
+        this.writer.write('{');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                this.writer.write(',');
+            }
+            this.writeJsonString(COLUMNS[i]);
+            this.writer.write(':');
+            if (values[i] == null || values[i] instanceof Number || values[i] instanceof Boolean) {
+                this.writer.write(String.valueOf(values[i]));
+            } else {
+                this.writeJsonString(values[i].toString());
+            }
+        }
+        this.writer.write("}\n");
+    }
+
+    private void writeJsonString(String value) throws IOException {
+        this.writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+            if (character == '"' || character == '\\') {
+                this.writer.write('\\');
+                this.writer.write(character);
+            } else if (character < ' ') {
+                this.writer.write(String.format("\\u%04x", (int) character));
+            } else {
+                this.writer.write(character);
+            }
+        }
+        this.writer.write('"');
+    }
+}
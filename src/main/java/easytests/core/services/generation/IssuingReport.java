@@ -0,0 +1,47 @@
+package easytests.core.services.generation;
+
+import easytests.core.models.QuizModelInterface;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Quizzes created by one bulk issuing together with the time spent on generating and on writing them.
+ *
+ * @author malinink
+ */
+public class IssuingReport {
+    private final List<QuizModelInterface> quizzes;
+
+    private final long generationNanos;
+
+    private final long totalNanos;
+
+    public IssuingReport(List<QuizModelInterface> quizzes, long generationNanos, long totalNanos) {
+        this.quizzes = quizzes;
+        this.generationNanos = generationNanos;
+        this.totalNanos = totalNanos;
+    }
+
+    public List<QuizModelInterface> getQuizzes() {
+        return this.quizzes;
+    }
+
+    public long getGenerationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.generationNanos);
+    }
+
+    public long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.totalNanos);
+    }
+
+    /**
+     * @return quizzes issued per second, including writing them to the database
+     */
+    public double getThroughput() {
+        if (this.totalNanos <= 0) {
+            return 0;
+        }
+        return this.quizzes.size() * (double) TimeUnit.SECONDS.toNanos(1) / this.totalNanos;
+    }
+}
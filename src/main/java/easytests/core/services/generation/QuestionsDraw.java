@@ -0,0 +1,120 @@
+package easytests.core.services.generation;
+
+import easytests.core.services.exceptions.QuizGenerationException;
+import java.util.Random;
+
+
+/**
+ * One sampling out of a questions pool. Every bucket is a private copy of the pool ids that is consumed
+ * from the end as a partial Fisher-Yates shuffle, so each pick costs constant time.
+ *
+ * @author malinink
+ */
+class QuestionsDraw {
+    private final QuestionsPool pool;
+
+    private final Random random;
+
+    private final int[][][] questionsIds;
+
+    private final int[][] remaining;
+
+    private final int[] counts;
+
+    private final int[] picked;
+
+    private int size;
+
+    QuestionsDraw(QuestionsPool pool, Random random) {
+        this.pool = pool;
+        this.random = random;
+        this.questionsIds = new int[pool.getTypesNumber()][QuestionsPool.TIERS][];
+        this.remaining = new int[pool.getTypesNumber()][QuestionsPool.TIERS];
+        this.counts = new int[pool.getTypesNumber()];
+        this.picked = new int[pool.getQuestionsNumber()];
+        for (int type = 0; type < pool.getTypesNumber(); type++) {
+            for (int tier = 0; tier < QuestionsPool.TIERS; tier++) {
+                this.questionsIds[type][tier] = pool.getQuestionsIds(type, tier).clone();
+                this.remaining[type][tier] = this.questionsIds[type][tier].length;
+            }
+        }
+    }
+
+    int[] draw() {
+        int required = 0;
+        for (int type = 0; type < this.pool.getTypesNumber(); type++) {
+            required += this.pool.getMinNumber(type);
+        }
+        if (required > this.pool.getQuestionsNumber()) {
+            throw new QuizGenerationException("Question types require more questions than a quiz contains");
+        }
+        for (int type = 0; type < this.pool.getTypesNumber(); type++) {
+            this.drawMinimum(type);
+        }
+        for (int tier = 0; tier < QuestionsPool.TIERS; tier++) {
+            this.drawTier(tier);
+        }
+        if (this.size < this.picked.length) {
+            throw new QuizGenerationException("Not enough questions to fill a quiz");
+        }
+        this.shuffle();
+        return this.picked;
+    }
+
+    private void drawMinimum(int type) {
+        for (int tier = 0; tier < QuestionsPool.TIERS; tier++) {
+            while (this.counts[type] < this.pool.getMinNumber(type) && this.remaining[type][tier] > 0) {
+                this.pick(type, tier);
+            }
+        }
+        if (this.counts[type] < this.pool.getMinNumber(type)) {
+            throw new QuizGenerationException("Not enough questions to satisfy question type minimum");
+        }
+    }
+
+    private void drawTier(int tier) {
+        while (this.size < this.picked.length) {
+            int available = 0;
+            for (int type = 0; type < this.counts.length; type++) {
+                available += this.available(type, tier);
+            }
+            if (available == 0) {
+                break;
+            }
+            int position = this.random.nextInt(available);
+            int type = 0;
+            while (position >= this.available(type, tier)) {
+                position -= this.available(type, tier);
+                type++;
+            }
+            this.pick(type, tier);
+        }
+    }
+
+    private int available(int type, int tier) {
+        if (this.counts[type] >= this.pool.getMaxNumber(type)) {
+            return 0;
+        }
+        return this.remaining[type][tier];
+    }
+
+    private void pick(int type, int tier) {
+        final int[] bucket = this.questionsIds[type][tier];
+        final int last = --this.remaining[type][tier];
+        final int index = this.random.nextInt(last + 1);
+        final int questionId = bucket[index];
+        bucket[index] = bucket[last];
+        bucket[last] = questionId;
+        this.counts[type]++;
+        this.picked[this.size++] = questionId;
+    }
+
+    private void shuffle() {
+        for (int index = this.picked.length - 1; index > 0; index--) {
+            final int other = this.random.nextInt(index + 1);
+            final int questionId = this.picked[index];
+            this.picked[index] = this.picked[other];
+            this.picked[other] = questionId;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package easytests.core.services.generation;
+
+import easytests.core.entities.QuestionEntity;
+import easytests.core.models.IssueStandardModelInterface;
+import easytests.core.models.IssueStandardQuestionTypeOptionModelInterface;
+import easytests.core.models.IssueStandardTopicPriorityModelInterface;
+import easytests.core.services.exceptions.QuizGenerationException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+
+/**
+ * Question ids of a subject grouped by question type and by topic tier of its issue standard
+ * (preferable topics, topics without priority, unpreferable topics), together with the per type limits.
+ * It is immutable, so one pool serves any number of concurrent samplings.
+ *
+ * @author malinink
+ */
+public final class QuestionsPool {
+    static final int TIERS = 3;
+
+    private static final int PREFERABLE = 0;
+
+    private static final int NEUTRAL = 1;
+
+    private static final int UNPREFERABLE = 2;
+
+    private final int questionsNumber;
+
+    private final int[] minNumbers;
+
+    private final int[] maxNumbers;
+
+    private final int[][][] questionsIds;
+
+    public QuestionsPool(IssueStandardModelInterface issueStandardModel, List<QuestionEntity> questions) {
+        if (issueStandardModel.getQuestionsNumber() == null) {
+            throw new QuizGenerationException("Issue standard has no questions number");
+        }
+        final Map<Integer, Integer> tiers = tiers(issueStandardModel.getTopicPriorities());
+        final Map<Integer, IssueStandardQuestionTypeOptionModelInterface> options = new HashMap<>();
+        final Map<Integer, List<List<Integer>>> grouped = new TreeMap<>();
+        for (IssueStandardQuestionTypeOptionModelInterface option: issueStandardModel.getQuestionTypeOptions()) {
+            options.put(option.getQuestionType().getId(), option);
+            group(grouped, option.getQuestionType().getId());
+        }
+        for (QuestionEntity question: questions) {
+            group(grouped, question.getQuestionTypeId())
+                    .get(tiers.getOrDefault(question.getTopicId(), NEUTRAL))
+                    .add(question.getId());
+        }
+        this.questionsNumber = issueStandardModel.getQuestionsNumber();
+        this.minNumbers = new int[grouped.size()];
+        this.maxNumbers = new int[grouped.size()];
+        this.questionsIds = new int[grouped.size()][][];
+        int type = 0;
+        for (Map.Entry<Integer, List<List<Integer>>> entry: grouped.entrySet()) {
+            final IssueStandardQuestionTypeOptionModelInterface option = options.get(entry.getKey());
+            this.minNumbers[type] = limit(option == null ? null : option.getMinQuestions(), 0);
+            this.maxNumbers[type] = limit(option == null ? null : option.getMaxQuestions(), Integer.MAX_VALUE);
+            this.questionsIds[type] = new int[TIERS][];
+            for (int tier = 0; tier < TIERS; tier++) {
+                this.questionsIds[type][tier] = toArray(entry.getValue().get(tier));
+            }
+            type++;
+        }
+    }
+
+    /**
+     * Picks questions for one quiz. The minimum of every question type is satisfied first, then the quiz is
+     * filled up to the questions number tier by tier without exceeding the maximum of any question type.
+     * Inside a tier every remaining question has the same chance to be picked.
+     */
+    public int[] sample(Random random) {
+        return new QuestionsDraw(this, random).draw();
+    }
+
+    int getQuestionsNumber() {
+        return this.questionsNumber;
+    }
+
+    int getTypesNumber() {
+        return this.questionsIds.length;
+    }
+
+    int getMinNumber(int type) {
+        return this.minNumbers[type];
+    }
+
+    int getMaxNumber(int type) {
+        return this.maxNumbers[type];
+    }
+
+    int[] getQuestionsIds(int type, int tier) {
+        return this.questionsIds[type][tier];
+    }
+
+    private static Map<Integer, Integer> tiers(List<IssueStandardTopicPriorityModelInterface> topicPriorities) {
+        final Map<Integer, Integer> tiers = new HashMap<>();
+        for (IssueStandardTopicPriorityModelInterface topicPriority: topicPriorities) {
+            tiers.put(
+                    topicPriority.getTopic().getId(),
+                    Boolean.TRUE.equals(topicPriority.getIsPreferable()) ? PREFERABLE : UNPREFERABLE);
+        }
+        return tiers;
+    }
+
+    private static List<List<Integer>> group(Map<Integer, List<List<Integer>>> grouped, Integer questionTypeId) {
+        return grouped.computeIfAbsent(questionTypeId, key -> {
+                final List<List<Integer>> tiers = new ArrayList<>(TIERS);
+                for (int tier = 0; tier < TIERS; tier++) {
+                    tiers.add(new ArrayList<>());
+                }
+                return tiers;
+            });
+    }
+
+    private static int[] toArray(List<Integer> questionsIds) {
+        return questionsIds.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int limit(Integer value, int absent) {
+        if (value == null) {
+            return absent;
+        }
+        return value;
+    }
+}
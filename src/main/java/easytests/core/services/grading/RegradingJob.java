@@ -0,0 +1,130 @@
+package easytests.core.services.grading;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Re-grading of the scored quizzes using some questions. Questions keep being added to a job until it starts.
+ *
+ * @author malinink
+ */
+public class RegradingJob {
+    private final Integer id;
+
+    private final int attempt;
+
+    private final Set<Integer> questionsIds = new LinkedHashSet<>();
+
+    private final AtomicInteger graded = new AtomicInteger();
+
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile State state = State.QUEUED;
+
+    private volatile int total;
+
+    private volatile LocalDateTime finishedAt;
+
+    public RegradingJob(Integer id, Collection<Integer> questionsIds) {
+        this(id, questionsIds, 1);
+    }
+
+    public RegradingJob(Integer id, Collection<Integer> questionsIds, int attempt) {
+        this.id = id;
+        this.attempt = attempt;
+        this.questionsIds.addAll(questionsIds);
+    }
+
+    public Integer getId() {
+        return this.id;
+    }
+
+    /**
+     * @return 1 for a job queued by a change, more for a retry of a failed job
+     */
+    public int getAttempt() {
+        return this.attempt;
+    }
+
+    public synchronized List<Integer> getQuestionsIds() {
+        return new ArrayList<>(this.questionsIds);
+    }
+
+    public State getState() {
+        return this.state;
+    }
+
+    public int getTotal() {
+        return this.total;
+    }
+
+    public int getGraded() {
+        return this.graded.get();
+    }
+
+    /**
+     * @return share of the affected quizzes graded so far, from 0 to 1
+     */
+    public double getProgress() {
+        double progress = 0;
+        if (this.state == State.DONE) {
+            progress = 1;
+        } else if (this.total > 0) {
+            progress = (double) this.getGraded() / this.total;
+        }
+        return progress;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return this.createdAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return this.finishedAt;
+    }
+
+    /**
+     * @return false when the job has already started and can not take more questions
+     */
+    public synchronized boolean addQuestions(Collection<Integer> questionsIds) {
+        if (this.state != State.QUEUED) {
+            return false;
+        }
+        this.questionsIds.addAll(questionsIds);
+        return true;
+    }
+
+    public synchronized List<Integer> start() {
+        this.state = State.RUNNING;
+        return new ArrayList<>(this.questionsIds);
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public void graded(int quizzesNumber) {
+        this.graded.addAndGet(quizzesNumber);
+    }
+
+    public void finish(State finalState) {
+        this.finishedAt = LocalDateTime.now();
+        this.state = finalState;
+    }
+
+    /**
+     * @author malinink
+     */
+    public enum State {
+        QUEUED,
+        RUNNING,
+        DONE,
+        FAILED
+    }
+}
@@ -0,0 +1,106 @@
+package easytests.core.services.identity;
+
+import easytests.core.models.ModelInterface;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Unit-of-work scoped identity map. While a unit of work is open on the current thread
+ * each (type, id) pair is loaded at most once; outside of it every call is a passthrough.
+ *
+ * @author malinink
+ */
+@Component
+public class IdentityMap {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdentityMap.class);
+
+    private final ThreadLocal<UnitOfWork> unitOfWork = new ThreadLocal<>();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    public void open() {
+        this.unitOfWork.set(new UnitOfWork());
+    }
+
+    public void close() {
+        final UnitOfWork current = this.unitOfWork.get();
+        this.unitOfWork.remove();
+        if (current != null) {
+            LOGGER.debug("Identity map closed: {} hits, {} misses", current.hits, current.misses);
+        }
+    }
+
+    public boolean isOpen() {
+        return this.unitOfWork.get() != null;
+    }
+
+    public <T extends ModelInterface> T find(Class<T> type, Integer id, Supplier<T> loader) {
+        final UnitOfWork current = this.unitOfWork.get();
+        if (current == null || id == null) {
+            return loader.get();
+        }
+        T model = type.cast(current.get(type).get(id));
+        if (model == null) {
+            current.misses++;
+            this.misses.incrementAndGet();
+            model = this.merge(type, loader.get());
+        } else {
+            current.hits++;
+            this.hits.incrementAndGet();
+        }
+        return model;
+    }
+
+    public <T extends ModelInterface> T merge(Class<T> type, T model) {
+        final UnitOfWork current = this.unitOfWork.get();
+        if (current == null || model == null || model.getId() == null) {
+            return model;
+        }
+        return type.cast(current.get(type).computeIfAbsent(model.getId(), id -> model));
+    }
+
+    public <T extends ModelInterface> void put(Class<T> type, T model) {
+        final UnitOfWork current = this.unitOfWork.get();
+        if (current != null && model.getId() != null) {
+            current.get(type).put(model.getId(), model);
+        }
+    }
+
+    public <T extends ModelInterface> void evict(Class<T> type, Integer id) {
+        final UnitOfWork current = this.unitOfWork.get();
+        if (current != null) {
+            current.get(type).remove(id);
+        }
+    }
+
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * @author malinink
+     */
+    private static final class UnitOfWork {
+        private final Map<Class<?>, Map<Integer, ModelInterface>> models = new HashMap<>();
+
+        private long hits;
+
+        private long misses;
+
+        private Map<Integer, ModelInterface> get(Class<?> type) {
+            return this.models.computeIfAbsent(type, key -> new HashMap<>());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package easytests.core.services.invites;
+
+import easytests.core.cache.MapperCache;
+import easytests.core.entities.QuizEntity;
+import easytests.core.mappers.QuizzesMapper;
+import javax.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Quizzes whose invite code can still be entered, keyed by the code. It is filled with the most recent active
+ * quizzes on startup and with every quiz issued or saved afterwards. Entries of other nodes may lag behind,
+ * which is harmless because claiming a quiz checks the code atomically in the database.
+ *
+ * @author malinink
+ */
+@Component
+public class ActiveInviteCodes {
+    private static final int SIZE = 65536;
+
+    private static final long TTL = 3600000L;
+
+    private final MapperCache cache = new MapperCache(ActiveInviteCodes.class.getName(), false);
+
+    @Autowired
+    private QuizzesMapper quizzesMapper;
+
+    public ActiveInviteCodes() {
+        this.cache.setSize(SIZE);
+        this.cache.setTtl(TTL);
+    }
+
+    @PostConstruct
+    public void load() {
+        for (QuizEntity quizEntity: this.quizzesMapper.findActive(SIZE)) {
+            this.put(quizEntity);
+        }
+    }
+
+    public QuizEntity get(String inviteCode) {
+        return (QuizEntity) this.cache.getObject(inviteCode);
+    }
+
+    public void put(QuizEntity quizEntity) {
+        if (Boolean.TRUE.equals(quizEntity.getCodeExpired())) {
+            this.remove(quizEntity.getInviteCode());
+        } else if (quizEntity.getInviteCode() != null) {
+            this.cache.putObject(quizEntity.getInviteCode(), quizEntity);
+        }
+    }
+
+    public void remove(String inviteCode) {
+        if (inviteCode != null) {
+            this.cache.removeObject(inviteCode);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package easytests.core.services.invites;
+
+import easytests.core.mappers.QuizzesMapper;
+import java.util.SplittableRandom;
+import javax.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Collision free invite codes. Every code encodes a distinct value of a database sequence, reserved in blocks
+ * so generating needs no round trip most of the time, passed through a keyed Feistel permutation of 50 bits,
+ * so consecutive codes do not look alike, and written as ten base32 characters.
+ *
+ * @author malinink
+ */
+@Component
+public class InviteCodeGenerator {
+    private static final char[] ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789".toCharArray();
+
+    private static final int LENGTH = 10;
+
+    private static final int SYMBOL_BITS = 5;
+
+    private static final int HALF_BITS = LENGTH * SYMBOL_BITS / 2;
+
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+
+    private static final int ROUNDS = 4;
+
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private static final int BLOCK_SIZE = 1000;
+
+    private final long[] keys = new long[ROUNDS];
+
+    @Autowired
+    private QuizzesMapper quizzesMapper;
+
+    @Value("${invites.secret:easytests}")
+    private String secret;
+
+    private long next;
+
+    private long limit;
+
+    @PostConstruct
+    public void initKeys() {
+        final SplittableRandom random = new SplittableRandom(this.secret.hashCode());
+        for (int round = 0; round < ROUNDS; round++) {
+            this.keys[round] = random.nextLong();
+        }
+    }
+
+    public synchronized String generate() {
+        if (this.next >= this.limit) {
+            this.next = this.quizzesMapper.nextInviteCodeBlock();
+            this.limit = this.next + BLOCK_SIZE;
+        }
+        return this.encode(this.permute(this.next++));
+    }
+
+    long permute(long value) {
+        long left = value >>> HALF_BITS & HALF_MASK;
+        long right = value & HALF_MASK;
+        for (long key: this.keys) {
+            final long mixed = left ^ ((right ^ key) * MULTIPLIER >>> HALF_BITS & HALF_MASK);
+            left = right;
+            right = mixed;
+        }
+        return left << HALF_BITS | right;
+    }
+
+    private String encode(long value) {
+        final char[] code = new char[LENGTH];
+        for (int index = 0; index < LENGTH; index++) {
+            code[index] = ALPHABET[(int) (value >>> (LENGTH - 1 - index) * SYMBOL_BITS) & (ALPHABET.length - 1)];
+        }
+        return new String(code);
+    }
+}
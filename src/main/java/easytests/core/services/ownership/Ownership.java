@@ -0,0 +1,18 @@
+package easytests.core.services.ownership;
+
+
+/**
+ * @author malinink
+ */
+public enum Ownership {
+    OWNED,
+    FOREIGN,
+    ABSENT;
+
+    public static Ownership of(Integer ownerId, Integer userId) {
+        if (ownerId == null) {
+            return ABSENT;
+        }
+        return ownerId.equals(userId) ? OWNED : FOREIGN;
+    }
+}
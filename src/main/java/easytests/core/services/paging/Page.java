@@ -0,0 +1,37 @@
+package easytests.core.services.paging;
+
+import easytests.core.models.ModelInterface;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+
+
+/**
+ * @author malinink
+ */
+@Getter
+public final class Page<M extends ModelInterface> {
+    private final List<M> items;
+
+    private final PageRequest request;
+
+    private final Integer nextAfterId;
+
+    /**
+     * @param rows models fetched with request limit, that is at most one more than the page size
+     */
+    public Page(List<M> rows, PageRequest request) {
+        this.request = request;
+        if (rows.size() > request.getSize()) {
+            this.items = Collections.unmodifiableList(rows.subList(0, request.getSize()));
+            this.nextAfterId = this.items.get(this.items.size() - 1).getId();
+        } else {
+            this.items = Collections.unmodifiableList(rows);
+            this.nextAfterId = null;
+        }
+    }
+
+    public Boolean getHasNext() {
+        return this.nextAfterId != null;
+    }
+}
@@ -0,0 +1,58 @@
+package easytests.core.services.paging;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+
+/**
+ * Keyset page request: models are ordered by id and the page starts right after the last id seen.
+ *
+ * @author malinink
+ */
+@Getter
+@EqualsAndHashCode
+public final class PageRequest {
+    public static final int DEFAULT_SIZE = 50;
+
+    public static final int MAX_SIZE = 500;
+
+    private final Integer afterId;
+
+    private final Integer size;
+
+    private PageRequest(Integer afterId, Integer size) {
+        this.afterId = afterId;
+        this.size = size;
+    }
+
+    public static PageRequest first(Integer size) {
+        return after(null, size);
+    }
+
+    /**
+     * @param afterId last id of the previous page, null for the first page
+     * @param size requested page size, null for the default one; it is capped by MAX_SIZE
+     */
+    public static PageRequest after(Integer afterId, Integer size) {
+        Integer pageSize = DEFAULT_SIZE;
+        if (size != null && size > 0) {
+            pageSize = Math.min(size, MAX_SIZE);
+        }
+        Integer cursor = afterId;
+        if (cursor == null || cursor < 0) {
+            cursor = 0;
+        }
+        return new PageRequest(cursor, pageSize);
+    }
+
+    public Boolean getIsFirst() {
+        return this.afterId == 0;
+    }
+
+    /**
+     * Mappers are asked for one row more than the page size to know whether a next page exists.
+     */
+    public Integer getLimit() {
+        return this.size + 1;
+    }
+}
@@ -0,0 +1,62 @@
+package easytests.core.services.submissions;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * @author malinink
+ */
+public class FlushStatistics {
+    private final AtomicLong flushes = new AtomicLong();
+
+    private final AtomicLong points = new AtomicLong();
+
+    private final AtomicLong failures = new AtomicLong();
+
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    private volatile long lastNanos;
+
+    public long getFlushes() {
+        return this.flushes.get();
+    }
+
+    public long getPoints() {
+        return this.points.get();
+    }
+
+    public long getFailures() {
+        return this.failures.get();
+    }
+
+    public double getLastMillis() {
+        return this.lastNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getAverageMillis() {
+        final long flushesNumber = this.getFlushes();
+        if (flushesNumber == 0) {
+            return 0;
+        }
+        return this.totalNanos.get() / (double) flushesNumber / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxMillis() {
+        return this.maxNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public void flushed(int pointsNumber, long nanos) {
+        this.flushes.incrementAndGet();
+        this.points.addAndGet(pointsNumber);
+        this.totalNanos.addAndGet(nanos);
+        this.maxNanos.accumulateAndGet(nanos, Math::max);
+        this.lastNanos = nanos;
+    }
+
+    public void failed() {
+        this.failures.incrementAndGet();
+    }
+}
@@ -0,0 +1,78 @@
+package easytests.core.services.submissions;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Lock free buffer of submitted answers keyed by point. Submitting a point that is still pending only replaces
+ * its answers, so repeated clicks on the same question are written once. The buffer is bounded by the number
+ * of distinct pending points.
+ *
+ * @author malinink
+ */
+public class SubmissionsBuffer {
+    private final int capacity;
+
+    private final Map<Integer, List<Integer>> pending = new ConcurrentHashMap<>();
+
+    private final Queue<Integer> order = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger depth = new AtomicInteger();
+
+    public SubmissionsBuffer(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return false when the point is not pending yet and the buffer is full
+     */
+    public boolean offer(Integer pointId, List<Integer> answersIds) {
+        if (!this.pending.containsKey(pointId) && this.depth.get() >= this.capacity) {
+            return false;
+        }
+        if (this.pending.put(pointId, answersIds) == null) {
+            this.depth.incrementAndGet();
+            this.order.offer(pointId);
+        }
+        return true;
+    }
+
+    /**
+     * Returns submissions taken back after a failed write, unless the point has been submitted again since.
+     */
+    public void restore(Map<Integer, List<Integer>> submissions) {
+        for (Map.Entry<Integer, List<Integer>> submission: submissions.entrySet()) {
+            if (this.pending.putIfAbsent(submission.getKey(), submission.getValue()) == null) {
+                this.depth.incrementAndGet();
+                this.order.offer(submission.getKey());
+            }
+        }
+    }
+
+    /**
+     * @return answers ids keyed by point id of at most the given number of the oldest pending points
+     */
+    public Map<Integer, List<Integer>> drain(int maxPoints) {
+        final Map<Integer, List<Integer>> submissions = new LinkedHashMap<>();
+        Integer pointId = this.order.poll();
+        while (pointId != null) {
+            this.depth.decrementAndGet();
+            final List<Integer> answersIds = this.pending.remove(pointId);
+            if (answersIds != null) {
+                submissions.put(pointId, answersIds);
+            }
+            pointId = submissions.size() < maxPoints ? this.order.poll() : null;
+        }
+        return submissions;
+    }
+
+    public int getDepth() {
+        return this.depth.get();
+    }
+}
@@ -0,0 +1,162 @@
+package easytests.core.services.timer;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Hierarchical timing wheel of four levels of 64 slots. A timer is put into the level whose slots are as
+ * coarse as its delay allows and is moved one level down each time the wheel reaches its slot, so scheduling
+ * and cancelling cost constant time and advancing costs one slot per tick plus the timers due.
+ *
+ * @author malinink
+ */
+public class TimingWheel {
+    private static final int LEVELS = 4;
+
+    private static final int SLOT_BITS = 6;
+
+    private static final int SLOTS = 1 << SLOT_BITS;
+
+    private static final long SPAN = 1L << SLOT_BITS * LEVELS;
+
+    private final long tickMillis;
+
+    private final long originMillis;
+
+    private final Timer[][] slots = new Timer[LEVELS][SLOTS];
+
+    private final Map<Integer, Timer> timers = new HashMap<>();
+
+    private long currentTick;
+
+    public TimingWheel(long tickMillis, long originMillis) {
+        this.tickMillis = tickMillis;
+        this.originMillis = originMillis;
+    }
+
+    public synchronized void schedule(Integer id, long deadlineMillis) {
+        this.cancel(id);
+        final Timer timer = new Timer(id, deadlineMillis, this.toDeadlineTick(deadlineMillis));
+        this.timers.put(id, timer);
+        this.place(timer, this.currentTick + 1);
+    }
+
+    public synchronized boolean cancel(Integer id) {
+        final Timer timer = this.timers.remove(id);
+        if (timer != null) {
+            this.unlink(timer);
+        }
+        return timer != null;
+    }
+
+    public synchronized int size() {
+        return this.timers.size();
+    }
+
+    /**
+     * @return deadlines in milliseconds keyed by id of the timers that are due at the given time
+     */
+    public synchronized Map<Integer, Long> advance(long nowMillis) {
+        final Map<Integer, Long> fired = new LinkedHashMap<>();
+        final long targetTick = this.toTick(nowMillis);
+        while (this.currentTick < targetTick) {
+            this.currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((this.currentTick & (1L << SLOT_BITS * level) - 1) == 0) {
+                    this.cascade(level);
+                }
+            }
+            Timer timer = this.slots[0][this.index(this.currentTick, 0)];
+            while (timer != null) {
+                final Timer next = timer.next;
+                this.unlink(timer);
+                this.timers.remove(timer.id);
+                fired.put(timer.id, timer.deadlineMillis);
+                timer = next;
+            }
+        }
+        return fired;
+    }
+
+    private long toTick(long millis) {
+        return Math.floorDiv(millis - this.originMillis, this.tickMillis);
+    }
+
+    private long toDeadlineTick(long deadlineMillis) {
+        return -Math.floorDiv(this.originMillis - deadlineMillis, this.tickMillis);
+    }
+
+    private int index(long tick, int level) {
+        return (int) (tick >>> SLOT_BITS * level) & SLOTS - 1;
+    }
+
+    private void cascade(int level) {
+        Timer timer = this.slots[level][this.index(this.currentTick, level)];
+        while (timer != null) {
+            final Timer next = timer.next;
+            this.unlink(timer);
+            this.place(timer, this.currentTick);
+            timer = next;
+        }
+    }
+
+    private void place(Timer timer, long minTick) {
+        long tick = Math.max(timer.tick, minTick);
+        final long delay = tick - this.currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << SLOT_BITS * (level + 1)) {
+            level++;
+        }
+        if (delay >= SPAN) {
+            tick = this.currentTick + SPAN - 1;
+        }
+        timer.level = level;
+        timer.slot = this.index(tick, level);
+        timer.previous = null;
+        timer.next = this.slots[level][timer.slot];
+        if (timer.next != null) {
+            timer.next.previous = timer;
+        }
+        this.slots[level][timer.slot] = timer;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.previous == null) {
+            this.slots[timer.level][timer.slot] = timer.next;
+        } else {
+            timer.previous.next = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+    }
+
+    /**
+     * @author malinink
+     */
+    private static final class Timer {
+        private final Integer id;
+
+        private final long deadlineMillis;
+
+        private final long tick;
+
+        private int level;
+
+        private int slot;
+
+        private Timer previous;
+
+        private Timer next;
+
+        private Timer(Integer id, long deadlineMillis, long tick) {
+            this.id = id;
+            this.deadlineMillis = deadlineMillis;
+            this.tick = tick;
+        }
+    }
+}
@@ -2,9 +2,7 @@ package easytests.personal.controllers;
 
 import easytests.common.controllers.AbstractCrudController;
 import easytests.core.models.*;
-import easytests.core.options.AnswersOptions;
 import easytests.core.options.AnswersOptionsInterface;
-import easytests.core.options.QuestionsOptionsInterface;
 import easytests.core.options.builder.AnswersOptionsBuilder;
 import easytests.core.options.builder.QuestionsOptionsBuilder;
 import easytests.core.services.AnswersService;
@@ -138,11 +136,9 @@ public class AnswersController extends AbstractCrudController {
     }
 
     private QuestionModelInterface getQuestionModel(Integer id, Boolean forDelete) {
-        final QuestionsOptionsInterface questionsOptions = this.questionsOptionsBuilder
-                .forAuth()
-                .withAnswers(new AnswersOptions());
-        final QuestionModelInterface questionModel = this.questionsService.find(id, questionsOptions);
-        //checkModel(questionModel, topicId);
+        this.checkOwnership(this.ownershipService.checkQuestion(this.getCurrentUserModel(), id));
+        final QuestionModelInterface questionModel = this.questionsService
+                .find(id, this.questionsOptionsBuilder.forViewPlan());
         if (forDelete) {
             return this.questionsService.find(id, this.questionsOptionsBuilder.forDelete());
         }
@@ -1,11 +1,13 @@
 package easytests.personal.controllers;
 
 import easytests.common.controllers.AbstractPersonalController;
-import easytests.common.exceptions.ForbiddenException;
 import easytests.common.exceptions.NotFoundException;
 import easytests.core.models.*;
 import easytests.core.options.*;
+import easytests.core.options.builder.IssueStandardsOptionsBuilder;
+import easytests.core.options.builder.SubjectsOptionsBuilder;
 import easytests.core.services.*;
+import easytests.core.services.identity.IdentityMap;
 import easytests.personal.dto.IssueStandardDto;
 import easytests.personal.validators.IssueStandardDtoValidator;
 import java.util.ArrayList;
@@ -46,9 +48,21 @@ public class IssueStandardsController extends AbstractPersonalController {
     @Autowired
     private QuestionTypesService questionTypesService;
 
+    @Autowired
+    private QuizGenerationService quizGenerationService;
+
     @Autowired
     private IssueStandardDtoValidator issueStandardValidator;
 
+    @Autowired
+    private IssueStandardsOptionsBuilder issueStandardsOptionsBuilder;
+
+    @Autowired
+    private SubjectsOptionsBuilder subjectsOptionsBuilder;
+
+    @Autowired
+    private IdentityMap identityMap;
+
     @ModelAttribute("questionTypes")
     private List<QuestionTypeModelInterface> getQuestionTypes() {
         return this.questionTypesService.findAll();
@@ -68,9 +82,7 @@ public class IssueStandardsController extends AbstractPersonalController {
     public String view(Model model,
                        @PathVariable Integer issueStandardId) {
 
-        final IssueStandardModelInterface issueStandard = this.getIssueStandardModel(
-                issueStandardId,
-                getIssueStandardsOptions());
+        final IssueStandardModelInterface issueStandard = this.getIssueStandardModel(issueStandardId);
         model.addAttribute("issueStandard", issueStandard);
         return "issue_standards/view";
     }
@@ -79,9 +91,7 @@ public class IssueStandardsController extends AbstractPersonalController {
     public String update(Model model,
                          @PathVariable Integer issueStandardId) {
 
-        final IssueStandardModelInterface issueStandard = this.getIssueStandardModel(
-                issueStandardId,
-                getIssueStandardsOptions());
+        final IssueStandardModelInterface issueStandard = this.getIssueStandardModel(issueStandardId);
         final IssueStandardDto issueStandardDto = new IssueStandardDto();
         issueStandardDto.map(issueStandard);
 
@@ -116,18 +126,31 @@ public class IssueStandardsController extends AbstractPersonalController {
 
         issueStandardDto.mapInto(issueStandardModel);
         issueStandardModel.setId(issueStandardId);
+        // the submitted model is compared against the stored one below, so it must not stay the mapped instance
+        this.identityMap.evict(IssueStandardModelInterface.class, issueStandardId);
         saveIssueStandardModel(issueStandardModel);
 
         return "redirect:/personal/issue_standard/{issueStandardId}/";
     }
 
+    private IssueStandardModelInterface getIssueStandardModel(Integer issueStandardId) {
+        this.checkOwnership(this.ownershipService.checkIssueStandard(this.getCurrentUserModel(), issueStandardId));
+        return this.checkIssueStandardModel(this.issueStandardsService.find(
+                issueStandardId,
+                this.issueStandardsOptionsBuilder.forViewPlan()));
+    }
+
     private IssueStandardModelInterface getIssueStandardModel(
             Integer issueStandardId,
             IssueStandardsOptionsInterface issueStandardsOptions) {
 
-        final IssueStandardModelInterface issueStandardModel = this.issueStandardsService.find(
+        this.checkOwnership(this.ownershipService.checkIssueStandard(this.getCurrentUserModel(), issueStandardId));
+        return this.checkIssueStandardModel(this.issueStandardsService.find(
                 issueStandardId,
-                issueStandardsOptions);
+                issueStandardsOptions));
+    }
+
+    private IssueStandardModelInterface checkIssueStandardModel(IssueStandardModelInterface issueStandardModel) {
         if (issueStandardModel == null) {
             throw new NotFoundException();
         }
@@ -143,16 +166,13 @@ public class IssueStandardsController extends AbstractPersonalController {
     }
 
     private SubjectModelInterface getSubjectModel(Integer subjectId) {
+        this.checkOwnership(this.ownershipService.checkSubject(this.getCurrentUserModel(), subjectId));
         final SubjectModelInterface subjectModel = this.subjectsService.find(
                 subjectId,
-                new SubjectsOptions()
-                        .withTopics(new TopicsOptions()));
+                this.subjectsOptionsBuilder.forViewPlan());
         if (subjectModel == null) {
             throw new NotFoundException();
         }
-        if (!subjectModel.getUser().getId().equals(this.getCurrentUserModel().getId())) {
-            throw new ForbiddenException();
-        }
         return subjectModel;
     }
 
@@ -189,5 +209,6 @@ public class IssueStandardsController extends AbstractPersonalController {
         }
 
         this.issueStandardsService.save(newIssueStandardModel, getIssueStandardsOptions());
+        this.quizGenerationService.evict(newIssueStandardModel.getSubject());
     }
 }
@@ -0,0 +1,80 @@
+package easytests.personal.controllers;
+
+import easytests.common.controllers.AbstractPersonalController;
+import easytests.common.exceptions.NotFoundException;
+import easytests.core.models.IssueModelInterface;
+import easytests.core.services.IssuesService;
+import easytests.core.services.QuizGenerationService;
+import easytests.core.services.SolutionsExportService;
+import easytests.core.services.exceptions.QuizGenerationException;
+import easytests.core.services.export.ExportFormat;
+import java.io.IOException;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.*;
+
+
+/**
+ * @author malinink
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+@Controller
+@RequestMapping("/personal/issues/")
+public class IssuesController extends AbstractPersonalController {
+    private static final int MAX_QUIZZES_NUMBER = 1000;
+
+    @Autowired
+    private IssuesService issuesService;
+
+    @Autowired
+    private QuizGenerationService quizGenerationService;
+
+    @Autowired
+    private SolutionsExportService solutionsExportService;
+
+    private IssueModelInterface getIssueModel(Integer id) {
+        this.checkOwnership(this.ownershipService.checkIssue(this.getCurrentUserModel(), id));
+        final IssueModelInterface issueModel = this.issuesService.find(id);
+        if (issueModel == null) {
+            throw new NotFoundException();
+        }
+        return issueModel;
+    }
+
+    @GetMapping("{issueId}/quizzes/issue")
+    public String issueForm(Model model, @PathVariable Integer issueId) {
+        model.addAttribute("issue", this.getIssueModel(issueId));
+        model.addAttribute("quizzesNumber", 1);
+        return "issues/issue";
+    }
+
+    @PostMapping("{issueId}/quizzes/issue")
+    public String issue(Model model, @PathVariable Integer issueId, @RequestParam Integer quizzesNumber) {
+        final IssueModelInterface issueModel = this.getIssueModel(issueId);
+        model.addAttribute("issue", issueModel);
+        model.addAttribute("quizzesNumber", quizzesNumber);
+        if (quizzesNumber < 1 || quizzesNumber > MAX_QUIZZES_NUMBER) {
+            model.addAttribute("error", "Quizzes number must be between 1 and " + MAX_QUIZZES_NUMBER);
+            return "issues/issue";
+        }
+        try {
+            model.addAttribute("report", this.quizGenerationService.issue(issueModel, quizzesNumber));
+        } catch (QuizGenerationException e) {
+            model.addAttribute("error", e.getMessage());
+        }
+        return "issues/issue";
+    }
+
+    @GetMapping("{issueId}/export")
+    public void export(
+            @PathVariable Integer issueId,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response
+    ) throws IOException {
+        final IssueModelInterface issueModel = this.getIssueModel(issueId);
+        final ExportFormat exportFormat = this.startExport(response, format, "issue-" + issueId);
+        this.solutionsExportService.export(issueModel, exportFormat, response.getOutputStream());
+    }
+}
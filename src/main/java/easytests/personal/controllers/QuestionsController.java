@@ -4,14 +4,17 @@ import easytests.common.controllers.AbstractCrudController;
 import easytests.common.exceptions.ForbiddenException;
 import easytests.common.exceptions.NotFoundException;
 import easytests.core.models.*;
+import easytests.core.models.empty.TopicModelEmpty;
 import easytests.core.options.*;
 import easytests.core.options.builder.AnswersOptionsBuilder;
 import easytests.core.options.builder.QuestionsOptionsBuilder;
-import easytests.core.options.builder.TopicsOptionsBuilder;
 import easytests.core.services.AnswersService;
+import easytests.core.services.CascadeDeletesService;
 import easytests.core.services.QuestionTypesService;
 import easytests.core.services.QuestionsService;
 import easytests.core.services.TopicsService;
+import easytests.core.services.paging.Page;
+import easytests.core.services.paging.PageRequest;
 import easytests.personal.dto.QuestionModelDto;
 import easytests.personal.validators.QuestionModelDtoValidator;
 import java.util.*;
@@ -46,9 +49,6 @@ public class QuestionsController extends AbstractCrudController {
     @Autowired
     private QuestionsOptionsBuilder questionsOptionsBuilder;
     
-    @Autowired
-    private TopicsOptionsBuilder topicsOptionsBuilder;
-    
     @Autowired
     private QuestionModelDtoValidator questionModelDtoValidator;
 
@@ -58,11 +58,18 @@ public class QuestionsController extends AbstractCrudController {
     @Autowired
     private AnswersService answersService;
 
+    @Autowired
+    private CascadeDeletesService cascadeDeletesService;
+
     @GetMapping("")
-    public String list(Model model, @PathVariable("topicId") Integer topicId) {
-        final List<QuestionModelInterface> questions = this.questionsService
-            .findByTopic(this.getCurrentTopicModel(topicId));
-        model.addAttribute("questions", questions);
+    public String list(
+            Model model,
+            @PathVariable("topicId") Integer topicId,
+            @RequestParam(value = "after", required = false) Integer after) {
+        final Page<QuestionModelInterface> page = this.questionsService
+            .findPageByTopic(this.getCurrentTopicModel(topicId), PageRequest.after(after, null));
+        model.addAttribute("questions", this.questionsService.withLazyRelations(page.getItems()));
+        model.addAttribute("page", page);
         model.addAttribute("topicId", topicId);
         return "questions/list";
     }
@@ -170,41 +177,29 @@ public class QuestionsController extends AbstractCrudController {
             @PathVariable("questionId") Integer questionId,
             @PathVariable("topicId") Integer topicId) {
         final TopicModelInterface topicModel = getCurrentTopicModel(topicId);
-        final QuestionModelInterface questionModel = getQuestionModel(questionId, topicId, true);
-        questionsService.delete(questionModel, this.questionsOptionsBuilder.forDelete());
+        final QuestionModelInterface questionModel = getQuestionModel(questionId, topicId, false);
+        this.cascadeDeletesService.delete(questionModel);
         return "redirect:/personal/topics/" + topicId + "/questions/";
     }
 
     private TopicModelInterface getCurrentTopicModel(Integer topicId) {
-        final TopicsOptionsInterface topicsOptions = this.topicsOptionsBuilder.forAuth();
-        final TopicModelInterface topicModel = topicsService.find(topicId, topicsOptions);
-        checkModel(topicModel);
-        return topicModel;
+        this.checkOwnership(this.ownershipService.checkTopic(this.getCurrentUserModel(), topicId));
+        return new TopicModelEmpty(topicId);
     }
 
     private void checkModel(QuestionModelInterface questionModel, Integer topicId) {
         if (questionModel == null) {
             throw new NotFoundException();
         }
-        if (!questionModel.getTopic().getId().equals(this.getCurrentTopicModel(topicId).getId())) {
-            throw new ForbiddenException();
-        }
-    }
-    
-    private void checkModel(TopicModelInterface topicModel) {
-        if (topicModel == null) {
-            throw new NotFoundException();
-        }
-        if (!topicModel.getSubject().getUser().getId().equals(this.getCurrentUserModel().getId())) {
+        if (!questionModel.getTopic().getId().equals(topicId)) {
             throw new ForbiddenException();
         }
     }
 
     private QuestionModelInterface getQuestionModel(Integer id, Integer topicId, Boolean forDelete) {
-        final QuestionsOptionsInterface questionsOptions = this.questionsOptionsBuilder
-                .forAuth()
-                .withAnswers(new AnswersOptions());
-        final QuestionModelInterface questionModel = this.questionsService.find(id, questionsOptions);
+        this.getCurrentTopicModel(topicId);
+        final QuestionModelInterface questionModel = this.questionsService
+                .find(id, this.questionsOptionsBuilder.forViewPlan());
         checkModel(questionModel, topicId);
         if (forDelete) {
             return this.questionsService.find(id, this.questionsOptionsBuilder.forDelete());
@@ -1,7 +1,6 @@
 package easytests.personal.controllers;
 
 import easytests.common.controllers.AbstractPersonalController;
-import easytests.common.exceptions.ForbiddenException;
 import easytests.common.exceptions.NotFoundException;
 import easytests.core.models.IssueStandardModel;
 import easytests.core.models.IssueStandardModelInterface;
@@ -12,10 +11,19 @@ import easytests.core.options.IssueStandardsOptions;
 import easytests.core.options.SubjectsOptions;
 import easytests.core.options.SubjectsOptionsInterface;
 import easytests.core.options.builder.SubjectsOptionsBuilder;
+import easytests.core.services.CascadeDeletesService;
 import easytests.core.services.IssueStandardsService;
+import easytests.core.services.SolutionsExportService;
 import easytests.core.services.SubjectsService;
+import easytests.core.services.export.ExportFormat;
+import easytests.core.services.paging.Page;
+import easytests.core.services.paging.PageRequest;
 import easytests.personal.dto.SubjectDto;
-import java.util.List;
+import easytests.personal.imports.ImportFormat;
+import easytests.personal.imports.QuestionsImporter;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,12 +31,16 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 
 /**
  * @author vkpankov
  */
-@SuppressWarnings({"checkstyle:MultipleStringLiterals", "checkstyle:ClassDataAbstractionCoupling"})
+@SuppressWarnings({
+        "checkstyle:MultipleStringLiterals",
+        "checkstyle:ClassDataAbstractionCoupling",
+        "checkstyle:ClassFanOutComplexity"})
 @Controller
 @RequestMapping("/personal/subjects/")
 public class SubjectsController extends AbstractPersonalController {
@@ -42,31 +54,41 @@ public class SubjectsController extends AbstractPersonalController {
     @Autowired
     private SubjectsOptionsBuilder subjectsOptionsBuilder;
 
+    @Autowired
+    private CascadeDeletesService cascadeDeletesService;
+
+    @Autowired
+    private SolutionsExportService solutionsExportService;
+
+    @Autowired
+    private QuestionsImporter questionsImporter;
+
     private void checkModel(SubjectModelInterface subjectModel) {
         if (subjectModel == null) {
             throw new NotFoundException();
         }
-        if (!subjectModel.getUser().getId().equals(this.getCurrentUserModel().getId())) {
-            throw new ForbiddenException();
-        }
     }
 
     private SubjectModelInterface getSubjectModel(Integer id) {
+        this.checkOwnership(this.ownershipService.checkSubject(this.getCurrentUserModel(), id));
         final SubjectModelInterface subjectModel = this.subjectsService.find(id);
         checkModel(subjectModel);
         return subjectModel;
     }
 
     private SubjectModelInterface getSubjectModel(Integer id, SubjectsOptionsInterface subjectsOptions) {
+        this.checkOwnership(this.ownershipService.checkSubject(this.getCurrentUserModel(), id));
         final SubjectModelInterface subjectModel = this.subjectsService.find(id, subjectsOptions);
         checkModel(subjectModel);
         return subjectModel;
     }
 
     @RequestMapping("list")
-    public String list(Model model) {
-        final List<SubjectModelInterface> subjects = this.subjectsService.findByUser(this.getCurrentUserModel());
-        model.addAttribute("subjects", subjects);
+    public String list(Model model, @RequestParam(value = "after", required = false) Integer after) {
+        final Page<SubjectModelInterface> page = this.subjectsService
+                .findPageByUser(this.getCurrentUserModel(), PageRequest.after(after, null));
+        model.addAttribute("subjects", page.getItems());
+        model.addAttribute("page", page);
         return "subjects/list";
     }
 
@@ -111,6 +133,7 @@ public class SubjectsController extends AbstractPersonalController {
         final SubjectDto subject = new SubjectDto();
         subject.map(subjectModel);
         model.addAttribute("subject", subject);
+        model.addAttribute("subjectId", id);
         model.addAttribute("issueStandardId", subjectModel.getIssueStandard().getId());
         return "subjects/view";
     }
@@ -158,8 +181,44 @@ public class SubjectsController extends AbstractPersonalController {
                          SubjectDto subjectDto,
                          BindingResult bindingResult,
                          Model model) {
-        final SubjectModelInterface subjectModel = getSubjectModel(subjectId, subjectsOptionsBuilder.forDelete());
-        subjectsService.delete(subjectModel, subjectsOptionsBuilder.forDelete());
+        final SubjectModelInterface subjectModel = getSubjectModel(subjectId);
+        this.cascadeDeletesService.delete(subjectModel);
         return "redirect:/personal/subjects/list";
     }
+
+    @GetMapping("export/{id}")
+    public void export(@PathVariable("id") Integer subjectId,
+                       @RequestParam(defaultValue = "csv") String format,
+                       HttpServletResponse response) throws IOException {
+        final SubjectModelInterface subjectModel = getSubjectModel(subjectId);
+        final ExportFormat exportFormat = this.startExport(response, format, "subject-" + subjectId);
+        this.solutionsExportService.export(subjectModel, exportFormat, response.getOutputStream());
+    }
+
+    @GetMapping("import/{id}")
+    public String importForm(@PathVariable("id") Integer subjectId,
+                             Model model) {
+        getSubjectModel(subjectId);
+        model.addAttribute("subjectId", subjectId);
+        return "subjects/import";
+    }
+
+    @PostMapping("import/{id}")
+    public String importQuestions(@PathVariable("id") Integer subjectId,
+                                  @RequestParam("file") MultipartFile file,
+                                  @RequestParam(defaultValue = "csv") String format,
+                                  Model model) throws IOException {
+        final SubjectModelInterface subjectModel = getSubjectModel(subjectId);
+        final ImportFormat importFormat = ImportFormat.fromExtension(format);
+        if (importFormat == null) {
+            throw new NotFoundException();
+        }
+        try (InputStream inputStream = file.getInputStream()) {
+            model.addAttribute(
+                    "report",
+                    this.questionsImporter.importQuestions(subjectModel, importFormat, inputStream));
+        }
+        model.addAttribute("subjectId", subjectId);
+        return "subjects/import";
+    }
 }
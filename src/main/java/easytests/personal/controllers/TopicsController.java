@@ -6,12 +6,8 @@ import easytests.common.exceptions.NotFoundException;
 import easytests.core.models.SubjectModelInterface;
 import easytests.core.models.TopicModel;
 import easytests.core.models.TopicModelInterface;
-import easytests.core.options.SubjectsOptionsInterface;
-import easytests.core.options.TopicsOptionsInterface;
-import easytests.core.options.builder.SubjectsOptionsBuilder;
-import easytests.core.options.builder.TopicsOptionsBuilder;
-import easytests.core.services.QuestionsService;
-import easytests.core.services.SubjectsService;
+import easytests.core.models.empty.SubjectModelEmpty;
+import easytests.core.services.CascadeDeletesService;
 import easytests.core.services.TopicsService;
 import easytests.personal.dto.TopicDto;
 import java.util.List;
@@ -38,63 +34,32 @@ public class TopicsController extends AbstractCrudController {
     private TopicsService topicsService;
 
     @Autowired
-    private SubjectsService subjectsService;
-
-    @Autowired
-    private QuestionsService questionsService;
-
-    @Autowired
-    private TopicsOptionsBuilder topicsOptionsBuilder;
-
-    @Autowired
-    private SubjectsOptionsBuilder subjectsOptionsBuilder;
+    private CascadeDeletesService cascadeDeletesService;
 
     private void checkModel(TopicModelInterface topicModel, Integer subjectId) {
         if (topicModel == null) {
             throw new NotFoundException();
         }
-        if (!topicModel.getSubject().getId().equals(this.getCurrentSubjectModel(subjectId, false).getId())) {
-            throw new ForbiddenException();
-        }
-    }
-
-    private void checkModel(SubjectModelInterface subjectModel) {
-        if (subjectModel == null) {
-            throw new NotFoundException();
-        }
-        if (!subjectModel.getUser().getId().equals(this.getCurrentUserModel().getId())) {
+        if (!topicModel.getSubject().getId().equals(subjectId)) {
             throw new ForbiddenException();
         }
     }
 
     private TopicModelInterface getTopicModel(Integer id, Integer subjectId) {
-        final TopicsOptionsInterface topicsOptionsBuilder = this.topicsOptionsBuilder.forAuth();
-        final TopicModelInterface topicModel = this.topicsService.find(id, topicsOptionsBuilder);
+        final TopicModelInterface topicModel = this.topicsService.find(id);
         checkModel(topicModel, subjectId);
         return topicModel;
     }
 
-    private TopicModelInterface getTopicModel(Integer id, Integer subjectId, TopicsOptionsInterface topicsOptions) {
-        final TopicModelInterface topicModel = this.topicsService.find(id, topicsOptions);
-        checkModel(topicModel, subjectId);
-        return topicModel;
-    }
-
-    private SubjectModelInterface getCurrentSubjectModel(Integer subjectId, boolean withTopics) {
-        final SubjectsOptionsInterface subjectsOptions = this.subjectsOptionsBuilder.forAuth();
-        final SubjectModelInterface subjectModel = subjectsService.find(subjectId, subjectsOptions);
-        if (withTopics) {
-            final List<TopicModelInterface> topics = this.topicsService.findBySubject(subjectModel);
-            subjectModel.setTopics(topics);
-        }
-        checkModel(subjectModel);
-        return subjectModel;
+    private SubjectModelInterface getCurrentSubjectModel(Integer subjectId) {
+        this.checkOwnership(this.ownershipService.checkSubject(this.getCurrentUserModel(), subjectId));
+        return new SubjectModelEmpty(subjectId);
     }
 
     @GetMapping("")
     public String list(Model model, @PathVariable("subjectId") Integer subjectId) {
-        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId, true);
-        final List<TopicModelInterface> topics = subjectModel.getTopics();
+        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId);
+        final List<TopicModelInterface> topics = this.topicsService.findBySubject(subjectModel);
         model.addAttribute("topics", topics);
         model.addAttribute("subjectId", subjectId);
         return "topics/list";
@@ -105,7 +70,7 @@ public class TopicsController extends AbstractCrudController {
                        @PathVariable("subjectId") Integer subjectId,
                        @PathVariable("topicId") Integer topicId
     ) {
-        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId, false);
+        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId);
         final TopicModelInterface topicModel = getTopicModel(topicId, subjectId);
         model.addAttribute("topic", topicModel);
         model.addAttribute("subjectId", subjectId);
@@ -114,7 +79,7 @@ public class TopicsController extends AbstractCrudController {
 
     @GetMapping("create/")
     public String create(Model model, @PathVariable("subjectId") Integer subjectId) {
-        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId, false);
+        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId);
         final TopicDto topic = new TopicDto();
         setCreateBehaviour(model);
         model.addAttribute("topic", topic);
@@ -127,7 +92,7 @@ public class TopicsController extends AbstractCrudController {
                          @Valid @NotNull TopicDto topic,
                          BindingResult bindingResult,
                          @PathVariable("subjectId") Integer subjectId) {
-        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId, false);
+        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId);
         if (bindingResult.hasErrors()) {
             setCreateBehaviour(model);
             model.addAttribute("topic", topic);
@@ -146,7 +111,7 @@ public class TopicsController extends AbstractCrudController {
     public String update(Model model,
                          @PathVariable Integer topicId,
                          @PathVariable("subjectId") Integer subjectId) {
-        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId, false);
+        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId);
         final TopicModelInterface topicModel = this.getTopicModel(topicId, subjectId);
         final TopicDto topic = new TopicDto();
         topic.map(topicModel);
@@ -162,7 +127,7 @@ public class TopicsController extends AbstractCrudController {
                          @Valid @NotNull TopicDto topic,
                          BindingResult bindingResult,
                          @PathVariable("subjectId") Integer subjectId) {
-        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId, false);
+        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId);
         final TopicModelInterface topicModel = this.getTopicModel(topicId, subjectId);
         if (bindingResult.hasErrors()) {
             setUpdateBehaviour(model);
@@ -180,7 +145,7 @@ public class TopicsController extends AbstractCrudController {
     public String deleteConfirmation(Model model,
                                      @PathVariable("topicId") Integer topicId,
                                      @PathVariable("subjectId") Integer subjectId) {
-        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId, false);
+        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId);
         final TopicModelInterface topicModel = this.getTopicModel(topicId, subjectId);
         model.addAttribute("subjectId", subjectId);
         return "topics/delete";
@@ -190,13 +155,9 @@ public class TopicsController extends AbstractCrudController {
     public String delete(Model model,
                          @PathVariable("topicId") Integer topicId,
                          @PathVariable("subjectId") Integer subjectId) {
-        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId, false);
-        final TopicModelInterface topicModel = getTopicModel(topicId, subjectId, topicsOptionsBuilder.forDelete());
-        if (questionsService.findByTopic(topicModel).isEmpty()) {
-            topicsService.delete(topicModel);
-        } else {
-            topicsService.delete(topicModel, this.topicsOptionsBuilder.forDelete());
-        }
+        final SubjectModelInterface subjectModel = getCurrentSubjectModel(subjectId);
+        final TopicModelInterface topicModel = getTopicModel(topicId, subjectId);
+        this.cascadeDeletesService.delete(topicModel);
         return "redirect:/personal/subjects/" + subjectId + "/topics/";
     }
 }
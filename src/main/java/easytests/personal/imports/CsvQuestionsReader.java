@@ -0,0 +1,147 @@
+package easytests.personal.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+
+/**
+ * Reads RFC 4180 CSV with one question per record: topic, question type, question text
+ * and then pairs of answer text and right flag. A first record "topic,question_type,..." is a header.
+ *
+ * @author malinink
+ */
+public class CsvQuestionsReader implements QuestionsReader {
+    private static final int END = -1;
+
+    private static final int QUESTION_FIELDS = 3;
+
+    private static final Set<String> RIGHT_FLAGS = new HashSet<>(Arrays.asList("1", "true", "yes", "y", "+", "on"));
+
+    private static final Set<String> WRONG_FLAGS = new HashSet<>(Arrays.asList("0", "false", "no", "n", "-", ""));
+
+    private final BufferedReader reader;
+
+    private int line = 1;
+
+    private int recordLine;
+
+    private boolean headerChecked;
+
+    public CsvQuestionsReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportedQuestion next() throws IOException {
+        List<String> fields = this.readRecord();
+        while (fields != null && this.isSkipped(fields)) {
+            fields = this.readRecord();
+        }
+        ImportedQuestion importedQuestion = null;
+        if (fields != null) {
+            importedQuestion = this.toQuestion(fields);
+        }
+        return importedQuestion;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    private boolean isSkipped(List<String> fields) {
+        final boolean header = !this.headerChecked
+                && fields.size() > 1
+                && "topic".equalsIgnoreCase(fields.get(0).trim())
+                && "question_type".equalsIgnoreCase(fields.get(1).trim());
+        this.headerChecked = true;
+        return header || fields.size() == 1 && fields.get(0).trim().isEmpty();
+    }
+
+    private ImportedQuestion toQuestion(List<String> fields) {
+        int size = fields.size();
+        while (size > QUESTION_FIELDS + 1 && fields.get(size - 1).isEmpty() && fields.get(size - 2).isEmpty()) {
+            size -= 2;
+        }
+        if (size < QUESTION_FIELDS) {
+            throw new ImportRowException(this.recordLine, "Expected topic, question type and question text");
+        }
+        if ((size - QUESTION_FIELDS) % 2 != 0) {
+            throw new ImportRowException(this.recordLine, "Every answer must be followed by its right flag");
+        }
+        final ImportedQuestion importedQuestion = new ImportedQuestion(
+                this.recordLine,
+                fields.get(0).trim(),
+                fields.get(1).trim(),
+                fields.get(2).trim());
+        for (int index = QUESTION_FIELDS; index < size; index += 2) {
+            importedQuestion.addAnswer(fields.get(index).trim(), this.isRight(fields.get(index + 1)));
+        }
+        return importedQuestion;
+    }
+
+    private boolean isRight(String flag) {
+        final String value = flag.trim().toLowerCase(Locale.ROOT);
+        if (!RIGHT_FLAGS.contains(value) && !WRONG_FLAGS.contains(value)) {
+            throw new ImportRowException(this.recordLine, "Unknown right flag '" + flag + "'");
+        }
+        return RIGHT_FLAGS.contains(value);
+    }
+
+    /**
+     * @return fields of the next record or null at the end of the file
+     */
+    private List<String> readRecord() throws IOException {
+        this.recordLine = this.line;
+        int character = this.reader.read();
+        if (character == END) {
+            return null;
+        }
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        while (character != END && character != '\n') {
+            if (character == '"' && field.length() == 0) {
+                this.readQuoted(field);
+            } else if (character == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (character != '\r') {
+                field.append((char) character);
+            }
+            character = this.reader.read();
+        }
+        fields.add(field.toString());
+        this.line++;
+        return fields;
+    }
+
+    private void readQuoted(StringBuilder field) throws IOException {
+        boolean closed = false;
+        while (!closed) {
+            final int character = this.reader.read();
+            if (character == END) {
+                throw new ImportRowException(this.recordLine, "Quoted field is not closed");
+            }
+            if (character == '"') {
+                this.reader.mark(1);
+                if (this.reader.read() == '"') {
+                    field.append('"');
+                } else {
+                    this.reader.reset();
+                    closed = true;
+                }
+            } else {
+                if (character == '\n') {
+                    this.line++;
+                }
+                field.append((char) character);
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package easytests.personal.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+
+/**
+ * Reads a subset of Moodle GIFT: "$CATEGORY: topic" lines set the topic of the following questions,
+ * a question is "::type:: text { =right answer ~wrong answer }" and may span several lines.
+ * Lines starting with "//" are comments, a backslash escapes the next character.
+ *
+ * @author malinink
+ */
+public class GiftQuestionsReader implements QuestionsReader {
+    private static final String CATEGORY = "$CATEGORY:";
+
+    private static final String COMMENT = "//";
+
+    private static final String TITLE = "::";
+
+    private static final char ESCAPE = '\\';
+
+    private static final char OPEN = '{';
+
+    private static final char CLOSE = '}';
+
+    private static final char RIGHT = '=';
+
+    private static final char WRONG = '~';
+
+    private final BufferedReader reader;
+
+    private int line;
+
+    private String category;
+
+    public GiftQuestionsReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportedQuestion next() throws IOException {
+        String text = this.readLine();
+        while (text != null && this.isSkipped(text.trim())) {
+            text = this.readLine();
+        }
+        ImportedQuestion importedQuestion = null;
+        if (text != null) {
+            final int startLine = this.line;
+            importedQuestion = this.parse(this.readBlock(text, startLine), startLine);
+        }
+        return importedQuestion;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    private String readLine() throws IOException {
+        final String text = this.reader.readLine();
+        if (text != null) {
+            this.line++;
+        }
+        return text;
+    }
+
+    private boolean isSkipped(String text) {
+        if (text.startsWith(CATEGORY)) {
+            this.category = text.substring(CATEGORY.length()).trim();
+        }
+        return text.isEmpty() || text.startsWith(COMMENT) || text.startsWith(CATEGORY);
+    }
+
+    private String readBlock(String firstLine, int startLine) throws IOException {
+        final StringBuilder block = new StringBuilder(firstLine);
+        while (!isClosed(block)) {
+            final String text = this.readLine();
+            if (text == null) {
+                throw new ImportRowException(startLine, "Question answers are not closed with " + CLOSE);
+            }
+            block.append('\n').append(text);
+        }
+        return block.toString().trim();
+    }
+
+    private ImportedQuestion parse(String block, int startLine) {
+        final int titleEnd = block.indexOf(TITLE, TITLE.length());
+        if (!block.startsWith(TITLE) || titleEnd < 0) {
+            throw new ImportRowException(startLine, "Question must start with its type as ::type::");
+        }
+        if (this.category == null) {
+            throw new ImportRowException(startLine, "Question has no " + CATEGORY + " before it");
+        }
+        final int open = indexOf(block, OPEN, titleEnd);
+        if (open < 0 || indexOf(block, CLOSE, open) < 0) {
+            throw new ImportRowException(startLine, "Question has no answers in " + OPEN + CLOSE);
+        }
+        final int close = indexOf(block, CLOSE, open);
+        final ImportedQuestion importedQuestion = new ImportedQuestion(
+                startLine,
+                this.category,
+                block.substring(TITLE.length(), titleEnd).trim(),
+                unescape(block.substring(titleEnd + TITLE.length(), open)).trim());
+        this.parseAnswers(importedQuestion, block.substring(open + 1, close), startLine);
+        return importedQuestion;
+    }
+
+    private void parseAnswers(ImportedQuestion importedQuestion, String answers, int startLine) {
+        StringBuilder answer = null;
+        boolean right = false;
+        int index = 0;
+        while (index < answers.length()) {
+            char character = answers.charAt(index);
+            if (character == RIGHT || character == WRONG) {
+                if (answer != null) {
+                    importedQuestion.addAnswer(answer.toString().trim(), right);
+                }
+                answer = new StringBuilder();
+                right = character == RIGHT;
+            } else if (answer != null) {
+                if (character == ESCAPE && index + 1 < answers.length()) {
+                    index++;
+                    character = answers.charAt(index);
+                }
+                answer.append(character);
+            } else if (!Character.isWhitespace(character)) {
+                throw new ImportRowException(startLine, "Every answer must start with " + RIGHT + " or " + WRONG);
+            }
+            index++;
+        }
+        if (answer != null) {
+            importedQuestion.addAnswer(answer.toString().trim(), right);
+        }
+    }
+
+    private static boolean isClosed(CharSequence block) {
+        final int open = indexOf(block, OPEN, 0);
+        return open >= 0 && indexOf(block, CLOSE, open) >= 0;
+    }
+
+    /**
+     * @return index of the first unescaped character at or after the start, -1 when there is none
+     */
+    private static int indexOf(CharSequence text, char character, int start) {
+        int found = -1;
+        int index = start;
+        while (found < 0 && index < text.length()) {
+            if (text.charAt(index) == ESCAPE) {
+                index++;
+            } else if (text.charAt(index) == character) {
+                found = index;
+            }
+            index++;
+        }
+        return found;
+    }
+
+    private static String unescape(String text) {
+        final StringBuilder unescaped = new StringBuilder(text.length());
+        int index = 0;
+        while (index < text.length()) {
+            if (text.charAt(index) == ESCAPE && index + 1 < text.length()) {
+                index++;
+            }
+            unescaped.append(text.charAt(index));
+            index++;
+        }
+        return unescaped.toString();
+    }
+}
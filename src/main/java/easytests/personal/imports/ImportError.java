@@ -0,0 +1,19 @@
+package easytests.personal.imports;
+
+import lombok.Getter;
+
+
+/**
+ * @author malinink
+ */
+@Getter
+public class ImportError {
+    private final int line;
+
+    private final String message;
+
+    public ImportError(int line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+}
@@ -0,0 +1,44 @@
+package easytests.personal.imports;
+
+import java.io.BufferedReader;
+import java.util.function.Function;
+
+
+/**
+ * @author malinink
+ */
+public enum ImportFormat {
+    CSV("csv", CsvQuestionsReader::new),
+    GIFT("gift", GiftQuestionsReader::new),
+    JSON("json", JsonQuestionsReader::new);
+
+    private final String extension;
+
+    private final Function<BufferedReader, QuestionsReader> readerFactory;
+
+    ImportFormat(String extension, Function<BufferedReader, QuestionsReader> readerFactory) {
+        this.extension = extension;
+        this.readerFactory = readerFactory;
+    }
+
+    public String getExtension() {
+        return this.extension;
+    }
+
+    public QuestionsReader createReader(BufferedReader reader) {
+        return this.readerFactory.apply(reader);
+    }
+
+    /**
+     * @return format with the given extension or null when there is no such format
+     */
+    public static ImportFormat fromExtension(String extension) {
+        ImportFormat foundFormat = null;
+        for (ImportFormat format: values()) {
+            if (format.extension.equalsIgnoreCase(extension)) {
+                foundFormat = format;
+            }
+        }
+        return foundFormat;
+    }
+}
@@ -0,0 +1,67 @@
+package easytests.personal.imports;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+
+
+/**
+ * Outcome of an import. Only the first errors are kept, the rest are just counted.
+ *
+ * @author malinink
+ */
+@Getter
+public class ImportReport {
+    private static final int MAX_ERRORS = 1000;
+
+    private final long startedAt = System.nanoTime();
+
+    private final List<ImportError> errors = new ArrayList<>();
+
+    private int rows;
+
+    private int rejectedRows;
+
+    private int importedQuestions;
+
+    private int importedAnswers;
+
+    private int createdTopics;
+
+    private long millis;
+
+    public List<ImportError> getErrors() {
+        return Collections.unmodifiableList(this.errors);
+    }
+
+    public long getRowsPerSecond() {
+        long rowsPerSecond = this.rows;
+        if (this.millis > 0) {
+            rowsPerSecond = this.rows * TimeUnit.SECONDS.toMillis(1) / this.millis;
+        }
+        return rowsPerSecond;
+    }
+
+    void read() {
+        this.rows++;
+    }
+
+    void rejected(int line, String message) {
+        this.rejectedRows++;
+        if (this.errors.size() < MAX_ERRORS) {
+            this.errors.add(new ImportError(line, message));
+        }
+    }
+
+    void imported(int questions, int answers, int topics) {
+        this.importedQuestions += questions;
+        this.importedAnswers += answers;
+        this.createdTopics += topics;
+    }
+
+    void finish() {
+        this.millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startedAt);
+    }
+}
@@ -0,0 +1,19 @@
+package easytests.personal.imports;
+
+/**
+ * Thrown for a malformed question, the reader is already positioned at the next one.
+ *
+ * @author malinink
+ */
+public class ImportRowException extends RuntimeException {
+    private final int line;
+
+    public ImportRowException(int line, String message) {
+        super(message);
+        this.line = line;
+    }
+
+    public int getLine() {
+        return this.line;
+    }
+}
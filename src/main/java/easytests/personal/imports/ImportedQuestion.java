@@ -0,0 +1,44 @@
+package easytests.personal.imports;
+
+import easytests.personal.dto.AnswerDto;
+import easytests.personal.dto.QuestionModelDto;
+import easytests.personal.dto.TopicDto;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+
+/**
+ * Question as it is read from an imported file, before it is validated.
+ *
+ * @author malinink
+ */
+@Getter
+public class ImportedQuestion {
+    private final int line;
+
+    private final TopicDto topic = new TopicDto();
+
+    private final String questionType;
+
+    private final QuestionModelDto question = new QuestionModelDto();
+
+    private final List<AnswerDto> answers = new ArrayList<>();
+
+    public ImportedQuestion(int line, String topicName, String questionType, String text) {
+        this.line = line;
+        this.topic.setName(topicName);
+        this.questionType = questionType;
+        this.question.setText(text);
+    }
+
+    public void addAnswer(String txt, boolean right) {
+        final AnswerDto answer = new AnswerDto();
+        answer.setTxt(txt);
+        if (right) {
+            answer.setRight("on");
+        }
+        answer.setSerialNumber(this.answers.size() + 1);
+        this.answers.add(answer);
+    }
+}
@@ -0,0 +1,112 @@
+package easytests.personal.imports;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+
+
+/**
+ * Reads an array of questions like {"topic": "...", "type": "1", "question": "...", "answers":
+ * [{"text": "...", "right": true}]}, parsing one question at a time. Reading stops at a syntax error,
+ * as there is no telling where the next question starts.
+ *
+ * @author malinink
+ */
+public class JsonQuestionsReader implements QuestionsReader {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final BufferedReader reader;
+
+    private JsonParser parser;
+
+    private boolean finished;
+
+    public JsonQuestionsReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportedQuestion next() throws IOException {
+        ImportedQuestion importedQuestion = null;
+        try {
+            if (this.parser == null) {
+                this.start();
+            }
+            if (!this.finished) {
+                importedQuestion = this.readQuestion();
+            }
+        } catch (JsonProcessingException e) {
+            this.finished = true;
+            int line = 0;
+            if (e.getLocation() != null) {
+                line = e.getLocation().getLineNr();
+            }
+            throw new ImportRowException(line, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        return importedQuestion;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.parser == null) {
+            this.reader.close();
+        } else {
+            this.parser.close();
+        }
+    }
+
+    private void start() throws IOException {
+        this.parser = OBJECT_MAPPER.getFactory().createParser(this.reader);
+        this.parser.enable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        final JsonToken token = this.parser.nextToken();
+        if (token != JsonToken.START_ARRAY) {
+            this.finished = true;
+            if (token != null) {
+                throw new ImportRowException(
+                        this.parser.getTokenLocation().getLineNr(),
+                        "File must contain an array of questions");
+            }
+        }
+    }
+
+    /**
+     * @return next question or null at the end of the array
+     */
+    private ImportedQuestion readQuestion() throws IOException {
+        final JsonToken token = this.parser.nextToken();
+        final int line = this.parser.getTokenLocation().getLineNr();
+        ImportedQuestion importedQuestion = null;
+        if (token == JsonToken.START_OBJECT) {
+            importedQuestion = this.toQuestion(this.parser.readValueAsTree(), line);
+        } else if (token == null || token == JsonToken.END_ARRAY) {
+            this.finished = true;
+        } else {
+            this.parser.skipChildren();
+            throw new ImportRowException(line, "Question must be an object");
+        }
+        return importedQuestion;
+    }
+
+    private ImportedQuestion toQuestion(JsonNode question, int line) {
+        final JsonNode answers = question.path("answers");
+        if (!answers.isArray()) {
+            throw new ImportRowException(line, "Question must have an array of answers");
+        }
+        final ImportedQuestion importedQuestion = new ImportedQuestion(
+                line,
+                question.path("topic").asText().trim(),
+                question.path("type").asText().trim(),
+                question.path("question").asText().trim());
+        for (JsonNode answer: answers) {
+            if (!answer.isObject()) {
+                throw new ImportRowException(line, "Answer must be an object");
+            }
+            importedQuestion.addAnswer(answer.path("text").asText().trim(), answer.path("right").asBoolean());
+        }
+        return importedQuestion;
+    }
+}
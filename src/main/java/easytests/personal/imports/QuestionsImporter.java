@@ -0,0 +1,249 @@
+package easytests.personal.imports;
+
+import easytests.common.exceptions.NotFoundException;
+import easytests.core.models.AnswerModel;
+import easytests.core.models.AnswerModelInterface;
+import easytests.core.models.QuestionModel;
+import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.QuestionTypeModelInterface;
+import easytests.core.models.SubjectModelInterface;
+import easytests.core.models.TopicModel;
+import easytests.core.models.TopicModelInterface;
+import easytests.core.services.QuestionTypesService;
+import easytests.core.services.QuestionsBulkService;
+import easytests.core.services.TopicsService;
+import easytests.personal.dto.AnswerDto;
+import easytests.personal.validators.AnswerDtoValidator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.validation.ObjectError;
+
+
+/**
+ * Imports a question bank into a subject. The file is streamed, questions are validated with the same
+ * constraints as in the questions form and written by batches, so a bad question or a failed batch
+ * is reported and the rest of the file is still imported.
+ *
+ * @author malinink
+ */
+@Service
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+public class QuestionsImporter {
+    private static final int BATCH_SIZE = 500;
+
+    private static final int READER_BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private TopicsService topicsService;
+
+    @Autowired
+    private QuestionTypesService questionTypesService;
+
+    @Autowired
+    private QuestionsBulkService questionsBulkService;
+
+    @Autowired
+    private AnswerDtoValidator answerDtoValidator;
+
+    @Autowired
+    private Validator validator;
+
+    public ImportReport importQuestions(
+            SubjectModelInterface subjectModel,
+            ImportFormat format,
+            InputStream inputStream) throws IOException {
+        final Import currentImport =
+                new Import(subjectModel, this.loadQuestionTypes(), this.loadTopics(subjectModel));
+        final BufferedReader bufferedReader = new BufferedReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8),
+                READER_BUFFER_SIZE);
+        try (QuestionsReader reader = format.createReader(bufferedReader)) {
+            boolean hasNext = true;
+            while (hasNext) {
+                try {
+                    final ImportedQuestion importedQuestion = reader.next();
+                    hasNext = importedQuestion != null;
+                    if (hasNext) {
+                        currentImport.report.read();
+                        this.accept(importedQuestion, currentImport);
+                    }
+                } catch (ImportRowException e) {
+                    currentImport.report.read();
+                    currentImport.report.rejected(e.getLine(), e.getMessage());
+                }
+                if (currentImport.batch.size() >= BATCH_SIZE || !hasNext) {
+                    this.insert(currentImport);
+                }
+            }
+        }
+        currentImport.report.finish();
+        return currentImport.report;
+    }
+
+    private void accept(ImportedQuestion importedQuestion, Import currentImport) {
+        final QuestionTypeModelInterface questionTypeModel = currentImport.questionTypes
+                .get(importedQuestion.getQuestionType().toLowerCase(Locale.ROOT));
+        final List<String> messages = this.validate(importedQuestion, questionTypeModel);
+        if (messages.isEmpty()) {
+            final TopicModelInterface topicModel = currentImport.topics.computeIfAbsent(
+                    importedQuestion.getTopic().getName(),
+                    name -> this.createTopicModel(name, currentImport.subjectModel));
+            currentImport.batch.add(this.createQuestionModel(importedQuestion, questionTypeModel, topicModel));
+            currentImport.batchLines.add(importedQuestion.getLine());
+        } else {
+            currentImport.report.rejected(importedQuestion.getLine(), String.join("; ", messages));
+        }
+    }
+
+    private List<String> validate(ImportedQuestion importedQuestion, QuestionTypeModelInterface questionTypeModel) {
+        final List<String> messages = new ArrayList<>();
+        this.addViolations(messages, "Topic name", this.validator.validate(importedQuestion.getTopic()));
+        this.addViolations(messages, "Question text", this.validator.validate(importedQuestion.getQuestion()));
+        for (AnswerDto answerDto: importedQuestion.getAnswers()) {
+            this.addViolations(
+                    messages,
+                    "Answer " + answerDto.getSerialNumber() + " text",
+                    this.validator.validateProperty(answerDto, "txt"));
+        }
+        if (importedQuestion.getAnswers().isEmpty()) {
+            messages.add("Question has no answers");
+        }
+        if (questionTypeModel == null) {
+            messages.add("Unknown question type '" + importedQuestion.getQuestionType() + "'");
+        } else {
+            importedQuestion.getQuestion().setQuestionTypeId(questionTypeModel.getId());
+            final Errors errors = new MapBindingResult(new HashMap<>(), "answers");
+            try {
+                this.answerDtoValidator
+                        .validateWithQuestionType(importedQuestion.getAnswers(), questionTypeModel.getId(), errors);
+            } catch (NotFoundException e) {
+                errors.reject("questionType", "Questions of this type can not be imported");
+            }
+            for (ObjectError error: errors.getAllErrors()) {
+                messages.add(error.getDefaultMessage());
+            }
+        }
+        return messages;
+    }
+
+    private <T> void addViolations(List<String> messages, String field, Set<ConstraintViolation<T>> violations) {
+        for (ConstraintViolation<T> violation: violations) {
+            messages.add(field + " " + violation.getMessage());
+        }
+    }
+
+    private void insert(Import currentImport) {
+        if (currentImport.batch.isEmpty()) {
+            return;
+        }
+        final Set<TopicModelInterface> newTopics = Collections.newSetFromMap(new IdentityHashMap<>());
+        int answers = 0;
+        for (QuestionModelInterface questionModel: currentImport.batch) {
+            if (questionModel.getTopic().getId() == null) {
+                newTopics.add(questionModel.getTopic());
+            }
+            answers += questionModel.getAnswers().size();
+        }
+        try {
+            this.questionsBulkService.insert(currentImport.batch);
+            currentImport.report.imported(currentImport.batch.size(), answers, newTopics.size());
+        } catch (DataAccessException e) {
+            for (Integer line: currentImport.batchLines) {
+                currentImport.report.rejected(
+                        line,
+                        "Question could not be saved: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+        currentImport.batch.clear();
+        currentImport.batchLines.clear();
+    }
+
+    private Map<String, QuestionTypeModelInterface> loadQuestionTypes() {
+        final Map<String, QuestionTypeModelInterface> questionTypes = new HashMap<>();
+        for (QuestionTypeModelInterface questionTypeModel: this.questionTypesService.findAll()) {
+            questionTypes.put(questionTypeModel.getId().toString(), questionTypeModel);
+            questionTypes.put(questionTypeModel.getName().toLowerCase(Locale.ROOT), questionTypeModel);
+        }
+        return questionTypes;
+    }
+
+    private Map<String, TopicModelInterface> loadTopics(SubjectModelInterface subjectModel) {
+        final Map<String, TopicModelInterface> topics = new HashMap<>();
+        for (TopicModelInterface topicModel: this.topicsService.findBySubject(subjectModel)) {
+            topics.putIfAbsent(topicModel.getName(), topicModel);
+        }
+        return topics;
+    }
+
+    private TopicModelInterface createTopicModel(String name, SubjectModelInterface subjectModel) {
+        final TopicModelInterface topicModel = new TopicModel();
+        topicModel.setName(name);
+        topicModel.setSubject(subjectModel);
+        return topicModel;
+    }
+
+    private QuestionModelInterface createQuestionModel(
+            ImportedQuestion importedQuestion,
+            QuestionTypeModelInterface questionTypeModel,
+            TopicModelInterface topicModel) {
+        final QuestionModelInterface questionModel = new QuestionModel();
+        questionModel.setText(importedQuestion.getQuestion().getText());
+        questionModel.setQuestionType(questionTypeModel);
+        questionModel.setTopic(topicModel);
+        final List<AnswerModelInterface> answersModels = new ArrayList<>();
+        for (AnswerDto answerDto: importedQuestion.getAnswers()) {
+            final AnswerModelInterface answerModel = new AnswerModel();
+            answerDto.mapInto(answerModel);
+            answerModel.setQuestion(questionModel);
+            answersModels.add(answerModel);
+        }
+        questionModel.setAnswers(answersModels);
+        return questionModel;
+    }
+
+    /**
+     * State of a single import.
+     *
+     * @author malinink
+     */
+    private static final class Import {
+        private final SubjectModelInterface subjectModel;
+
+        private final Map<String, QuestionTypeModelInterface> questionTypes;
+
+        private final Map<String, TopicModelInterface> topics;
+
+        private final ImportReport report = new ImportReport();
+
+        private final List<QuestionModelInterface> batch = new ArrayList<>(BATCH_SIZE);
+
+        private final List<Integer> batchLines = new ArrayList<>(BATCH_SIZE);
+
+        private Import(
+                SubjectModelInterface subjectModel,
+                Map<String, QuestionTypeModelInterface> questionTypes,
+                Map<String, TopicModelInterface> topics) {
+            this.subjectModel = subjectModel;
+            this.questionTypes = questionTypes;
+            this.topics = topics;
+        }
+    }
+}
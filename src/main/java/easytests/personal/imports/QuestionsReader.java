@@ -0,0 +1,18 @@
+package easytests.personal.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+
+/**
+ * Reads questions one by one, so an imported file is never held in memory as a whole.
+ *
+ * @author malinink
+ */
+public interface QuestionsReader extends Closeable {
+    /**
+     * @return next question or null at the end of the file
+     * @throws ImportRowException when the question is malformed, reading may go on with the next one
+     */
+    ImportedQuestion next() throws IOException;
+}
@@ -0,0 +1,7 @@
+-- // alter_users_table_add_lower_email_unique_index
+
+CREATE UNIQUE INDEX users_lower_email_idx ON users (lower(email));
+
+-- //@UNDO
+
+DROP INDEX users_lower_email_idx;
@@ -0,0 +1,9 @@
+-- // alter_quizzes_table_add_invite_code_index_and_sequence
+
+CREATE UNIQUE INDEX quizzes_invite_code_idx ON quizzes (invite_code);
+CREATE SEQUENCE quizzes_invite_code_seq START WITH 1000 INCREMENT BY 1000;
+
+-- //@UNDO
+
+DROP SEQUENCE quizzes_invite_code_seq;
+DROP INDEX quizzes_invite_code_idx;
@@ -0,0 +1,23 @@
+-- // create_scores_table
+
+-- UNIQUE (quiz_id) is the conflict target of the grading upsert (INSERT ... ON CONFLICT),
+-- which requires PostgreSQL 9.5 or later.
+
+CREATE TABLE scores (
+  id           SERIAL    NOT NULL,
+  quiz_id      INTEGER   NOT NULL,
+  points       INTEGER   NOT NULL,
+  right_points INTEGER   NOT NULL,
+  graded_at    TIMESTAMP NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (quiz_id)
+);
+
+CREATE INDEX points_quiz_id_idx ON points (quiz_id);
+CREATE INDEX answers_question_id_idx ON answers (question_id);
+
+-- //@UNDO
+
+DROP INDEX answers_question_id_idx;
+DROP INDEX points_quiz_id_idx;
+DROP TABLE scores;
@@ -18,6 +18,7 @@ TRUNCATE TABLE question_types RESTART IDENTITY;
 TRUNCATE TABLE answers RESTART IDENTITY;
 TRUNCATE TABLE quizzes RESTART IDENTITY;
 TRUNCATE TABLE solutions RESTART IDENTITY;
+TRUNCATE TABLE scores RESTART IDENTITY;
 TRUNCATE TABLE testees RESTART IDENTITY;
 TRUNCATE TABLE points RESTART IDENTITY;
 TRUNCATE TABLE issues RESTART IDENTITY;
@@ -81,6 +82,9 @@ INSERT INTO quizzes (issue_id, invite_code,started_at,finished_at,code_expired)
 INSERT INTO solutions (answer_id, point_id) VALUES
   (10, 1), (20, 1), (11, 2), (21, 2), (12, 3);
 
+INSERT INTO scores (quiz_id, points, right_points, graded_at) VALUES
+  (1, 1, 1, '2003-3-1'::timestamp);
+
 INSERT INTO testees (first_name, last_name, surname, group_number, quiz_id) VALUES
   ('FirstName1', 'LastName1', 'Surname1', 301, 1),
   ('FirstName2', 'LastName2', 'Surname2', 302, 2),
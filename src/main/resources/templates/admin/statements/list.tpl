@@ -0,0 +1,45 @@
+layout 'layout/main.tpl', title:  'Statements',
+content: contents {
+  h4 ('Statements')
+  div (class:'section') {
+    a (class:'waves-effect waves-light btn blue', href:'/admin/statements/json/', 'JSON')
+    form (class:'right', method:'post', action:'/admin/statements/reset/') {
+      input (type:'hidden', name:_csrf.parameterName, value:_csrf.token)
+      button (class:'waves-effect waves-light btn blue', type:'submit', 'Reset')
+    }
+  }
+  table(class: 'striped') {
+    thead {
+      tr {
+        th ('Statement')
+        th ('Calls')
+        th ('Rows')
+        th ('Errors')
+        th ('Total, ms')
+        th ('Mean, µs')
+        th ('p50, µs')
+        th ('p90, µs')
+        th ('p99, µs')
+        th ('p99.9, µs')
+        th ('Max, µs')
+      }
+    }
+    tbody {
+      statements.each { name, statement ->
+        tr {
+          td (name)
+          td (statement.calls)
+          td (statement.rows)
+          td (statement.errors)
+          td (String.format('%.1f', statement.totalMillis))
+          td (String.format('%.1f', statement.meanMicros))
+          td (String.format('%.1f', statement.p50Micros))
+          td (String.format('%.1f', statement.p90Micros))
+          td (String.format('%.1f', statement.p99Micros))
+          td (String.format('%.1f', statement.p999Micros))
+          td (String.format('%.1f', statement.maxMicros))
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,31 @@
+layout 'layout/main.tpl', title:  'Submissions',
+content: contents {
+  h4 ('Submissions')
+  div (class:'section') {
+    a (class:'waves-effect waves-light btn blue', href:'/admin/submissions/json/', 'JSON')
+  }
+  table(class: 'striped') {
+    thead {
+      tr {
+        th ('Queued points')
+        th ('Flushes')
+        th ('Points')
+        th ('Failures')
+        th ('Last, ms')
+        th ('Mean, ms')
+        th ('Max, ms')
+      }
+    }
+    tbody {
+      tr {
+        td (queueDepth)
+        td (statistics.flushes)
+        td (statistics.points)
+        td (statistics.failures)
+        td (String.format('%.1f', statistics.lastMillis))
+        td (String.format('%.1f', statistics.averageMillis))
+        td (String.format('%.1f', statistics.maxMillis))
+      }
+    }
+  }
+}
@@ -43,4 +43,12 @@ content: contents {
       }
     }
   }
+  div (class:'section') {
+    if (!page.request.isFirst) {
+      a (class:'waves-effect waves-light btn blue', href:'/admin/users/', 'First page')
+    }
+    if (page.hasNext) {
+      a (class:'right waves-effect waves-light btn blue', href:'/admin/users/?after=' + page.nextAfterId, 'Next page')
+    }
+  }
 }
@@ -0,0 +1,58 @@
+layout 'layout/main.tpl', title: 'Issue quizzes',
+content: contents {
+  h4 ('Issue quizzes for "' + issue.name + '"')
+  div (class:'row') {
+    div (class:'col s12') {
+      a (href: '/personal/issues/' + issue.id + '/export?format=csv') {yield 'Export results (CSV)'}
+      yield ' '
+      a (href: '/personal/issues/' + issue.id + '/export?format=ndjson') {yield 'Export results (NDJSON)'}
+    }
+  }
+  if (error) {
+    div (class:'row') {
+      p (class:'col s12 red-text') { yield error }
+    }
+  }
+  if (report) {
+    div (class:'row') {
+      p (class:'col s12') {
+        yield 'Issued ' + report.quizzes.size() + ' quizzes in ' + report.totalMillis + ' ms ('
+        yield 'generation ' + report.generationMillis + ' ms, '
+        yield String.format('%.1f', report.throughput) + ' quizzes/s)'
+      }
+    }
+    table (class:'striped') {
+      thead {
+        tr {
+          th ('Quiz')
+          th ('Invite code')
+        }
+      }
+      tbody {
+        report.quizzes.each { quiz ->
+          tr {
+            td (quiz.id)
+            td (quiz.inviteCode)
+          }
+        }
+      }
+    }
+  }
+  form (class:'col s12', method:'post') {
+    input (type:'hidden', name:_csrf.parameterName, value:_csrf.token)
+    div (class:'row') {
+      div (class:'input-field col s12') {
+        input (name:'quizzesNumber', id:'field_quizzes_number', type:'number', min:'1', max:'1000', class:'validate', value:quizzesNumber)
+        label (for:'field_quizzes_number', 'Quizzes number')
+      }
+    }
+    div (class:'row') {
+      div (class:'col s12') {
+        button ('class':'waves-effect waves-light btn-large blue', 'type':'submit', 'name':'issue') {
+          i (class:'material-icons left', 'assignment')
+          yield 'Issue'
+        }
+      }
+    }
+  }
+}
@@ -10,6 +10,8 @@ content: contents {
       tr {
         th ('#')
         th ('Text')
+        th ('Type')
+        th ('Answers')
         th ('Action')
       }
     }
@@ -20,6 +22,8 @@ content: contents {
         tr {
           td (id)
           td (question.text)
+          td (question.questionType.name)
+          td (question.answers.size())
           td() {
             a (class:'waves-effect waves-light btn-floating blue', href:'/personal/topics/' + topicId +'/questions/' + question.id + '/') {
               i (class:'material-icons left', 'pageview')
@@ -42,4 +46,12 @@ content: contents {
       }
     }
   }
+  div (class:'section') {
+    if (!page.request.isFirst) {
+      a (class:'waves-effect waves-light btn blue', href:'/personal/topics/' + topicId + '/questions/', 'First page')
+    }
+    if (page.hasNext) {
+      a (class:'right waves-effect waves-light btn blue', href:'/personal/topics/' + topicId + '/questions/?after=' + page.nextAfterId, 'Next page')
+    }
+  }
 }
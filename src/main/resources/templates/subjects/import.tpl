@@ -0,0 +1,72 @@
+layout 'layout/main.tpl', title: 'Import questions',
+content: contents {
+  h4 ('Import questions')
+  form (class:'col s12', method:'post', enctype:'multipart/form-data',
+        action:'/personal/subjects/import/' + subjectId + '?' + _csrf.parameterName + '=' + _csrf.token) {
+    div (class:'row') {
+      div (class:'file-field input-field col s8') {
+        div (class:'btn') {
+          span ('File')
+          input (type:'file', name:'file')
+        }
+        div (class:'file-path-wrapper') {
+          input (class:'file-path validate', type:'text')
+        }
+      }
+      div (class:'input-field col s4') {
+        select (name:'format', class:'browser-default') {
+          option (value:'csv', 'CSV')
+          option (value:'gift', 'GIFT')
+          option (value:'json', 'JSON')
+        }
+      }
+    }
+    div (class:'row') {
+      p (class:'col s12') {
+        yield 'CSV: topic,question_type,question,answer,right,answer,right,... '
+        yield 'GIFT: $CATEGORY: topic, then ::question_type:: question {=right answer ~wrong answer}. '
+        yield 'JSON: [{"topic": ..., "type": ..., "question": ..., "answers": [{"text": ..., "right": true}]}]. '
+        yield 'Question type is its id or name.'
+      }
+    }
+    div (class:'row') {
+      div (class:'col s12') {
+        button ('class':'waves-effect waves-light btn-large blue', 'type':'submit', 'name':'import') {
+          i (class:'material-icons left', 'file_upload')
+          yield 'Import'
+        }
+        a (class:'waves-effect waves-light btn-large red', onclick: 'document.location.href="/personal/subjects/' + subjectId + '"') {
+          i (class:'material-icons left', 'close')
+          yield 'Close'
+        }
+      }
+    }
+  }
+  if (report) {
+    div (class:'row') {
+      p (class:'col s12') {
+        yield 'Read ' + report.rows + ' questions in ' + report.millis + ' ms (' + report.rowsPerSecond + ' rows/s). '
+        yield 'Imported ' + report.importedQuestions + ' questions with ' + report.importedAnswers + ' answers, '
+        yield 'created ' + report.createdTopics + ' topics, rejected ' + report.rejectedRows + ' questions.'
+      }
+    }
+    if (report.errors) {
+      table (class:'striped') {
+        thead {
+          tr {
+            th ('Line')
+            th ('Error')
+          }
+        }
+        tbody {
+          report.errors.each { error ->
+            tr {
+              td (error.line)
+              td (error.message)
+            }
+          }
+        }
+      }
+    }
+  }
+}
@@ -36,4 +36,12 @@ content: contents {
       }
     }
   }
+  div (class:'section') {
+    if (!page.request.isFirst) {
+      a (class:'waves-effect waves-light btn blue', href:'/personal/subjects/list', 'First page')
+    }
+    if (page.hasNext) {
+      a (class:'right waves-effect waves-light btn blue', href:'/personal/subjects/list?after=' + page.nextAfterId, 'Next page')
+    }
+  }
 }
@@ -18,6 +18,18 @@ content: contents {
       a (href: '/personal/issue_standard/' + issueStandardId) {yield 'View issue standard'}
     }
   }
+  div (class:'row') {
+    div (class:'input-field col s12') {
+      a (href: '/personal/subjects/export/' + subjectId + '?format=csv') {yield 'Export results (CSV)'}
+      yield ' '
+      a (href: '/personal/subjects/export/' + subjectId + '?format=ndjson') {yield 'Export results (NDJSON)'}
+    }
+  }
+  div (class:'row') {
+    div (class:'input-field col s12') {
+      a (href: '/personal/subjects/import/' + subjectId) {yield 'Import questions'}
+    }
+  }
   div (class:'row') {
     div (class:'col s12') {
       a (class:'waves-effect waves-light btn-large red', onclick: 'document.location.href="/personal/subjects/list"') {
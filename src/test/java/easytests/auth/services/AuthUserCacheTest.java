@@ -0,0 +1,66 @@
+package easytests.auth.services;
+
+import easytests.core.models.UserModel;
+import easytests.core.models.UserModelInterface;
+import easytests.core.services.events.UserChangedEvent;
+import java.util.ArrayList;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+
+/**
+ * @author malinink
+ */
+public class AuthUserCacheTest {
+    private final AuthUserCache authUserCache = new AuthUserCache();
+
+    private AuthUserDetails createUser(String email) {
+        final UserModelInterface userModel = new UserModel();
+        userModel.setId(3);
+        userModel.setEmail(email);
+        userModel.setPassword("hash3");
+        userModel.setIsAdmin(false);
+        userModel.setState(3);
+        return new AuthUserDetails(userModel, new ArrayList<>());
+    }
+
+    @Test
+    public void testCacheIgnoresEmailCase() throws Exception {
+        this.authUserCache.putUserInCache(this.createUser("Email3@gmail.com"));
+
+        final UserDetails user = this.authUserCache.getUserFromCache("email3@GMAIL.com");
+
+        Assert.assertEquals((Integer) 3, ((AuthUserDetails) user).getId());
+    }
+
+    @Test
+    public void testErasedCredentialsDoNotLeakIntoCache() throws Exception {
+        final AuthUserDetails user = this.createUser("email3@gmail.com");
+        this.authUserCache.putUserInCache(user);
+        user.eraseCredentials();
+
+        final AuthUserDetails cachedUser = (AuthUserDetails) this.authUserCache.getUserFromCache("email3@gmail.com");
+        cachedUser.eraseCredentials();
+
+        Assert.assertEquals("hash3", this.authUserCache.getUserFromCache("email3@gmail.com").getPassword());
+    }
+
+    @Test
+    public void testRemoveUserFromCache() throws Exception {
+        this.authUserCache.putUserInCache(this.createUser("email3@gmail.com"));
+
+        this.authUserCache.removeUserFromCache("EMAIL3@gmail.com");
+
+        Assert.assertNull(this.authUserCache.getUserFromCache("email3@gmail.com"));
+    }
+
+    @Test
+    public void testUserChangedEventRemovesUser() throws Exception {
+        this.authUserCache.putUserInCache(this.createUser("email3@gmail.com"));
+
+        this.authUserCache.onUserChanged(new UserChangedEvent("Email3@gmail.com"));
+
+        Assert.assertNull(this.authUserCache.getUserFromCache("email3@gmail.com"));
+    }
+}
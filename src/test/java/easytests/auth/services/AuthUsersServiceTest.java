@@ -51,6 +51,18 @@ public class AuthUsersServiceTest {
         verify(usersService, times(3)).findByEmail(email);
     }
 
+    @Test
+    public void testLoadUserByUsernameCarriesUser() throws Exception {
+        final AuthUserDetails user = (AuthUserDetails) this.authUsersService.loadUserByUsername("email3@gmail.com");
+        final UserModelInterface principalUserModel = user.toUserModel();
+
+        Assert.assertEquals((Integer) 3, user.getId());
+        Assert.assertEquals((Integer) 3, principalUserModel.getId());
+        Assert.assertEquals("email3@gmail.com", principalUserModel.getEmail());
+        Assert.assertEquals(user.getIsAdmin(), principalUserModel.getIsAdmin());
+        Assert.assertNull(principalUserModel.getPassword());
+    }
+
     @Test(expected = UsernameNotFoundException.class)
     public void testException() throws UsernameNotFoundException {
         this.authUsersService.loadUserByUsername("wrong@email.com");
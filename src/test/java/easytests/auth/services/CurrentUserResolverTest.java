@@ -0,0 +1,74 @@
+package easytests.auth.services;
+
+import easytests.core.models.UserModel;
+import easytests.core.models.UserModelInterface;
+import easytests.core.services.UsersService;
+import java.util.ArrayList;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import static org.mockito.BDDMockito.given;
+import org.mockito.Mockito;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+
+/**
+ * @author malinink
+ */
+public class CurrentUserResolverTest {
+    private final UsersService usersService = Mockito.mock(UsersService.class);
+
+    private CurrentUserResolver createResolver() {
+        final CurrentUserResolver currentUserResolver = new CurrentUserResolver();
+        ReflectionTestUtils.setField(currentUserResolver, "usersService", this.usersService);
+        return currentUserResolver;
+    }
+
+    private UserModelInterface createUserModel() {
+        final UserModelInterface userModel = new UserModel();
+        userModel.setId(3);
+        userModel.setEmail("email3@gmail.com");
+        userModel.setPassword("hash3");
+        userModel.setIsAdmin(false);
+        userModel.setState(3);
+        return userModel;
+    }
+
+    @After
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testUserFromPrincipal() throws Exception {
+        final AuthUserDetails principal = new AuthUserDetails(this.createUserModel(), new ArrayList<>());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        final UserModelInterface userModel = this.createResolver().getUserModel();
+
+        Assert.assertEquals((Integer) 3, userModel.getId());
+        verifyZeroInteractions(this.usersService);
+    }
+
+    @Test
+    public void testUserLookupIsMemoised() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("email3@gmail.com", null, new ArrayList<>()));
+        given(this.usersService.findByEmail("email3@gmail.com")).willReturn(this.createUserModel());
+        final CurrentUserResolver currentUserResolver = this.createResolver();
+
+        Assert.assertSame(currentUserResolver.getUserModel(), currentUserResolver.getUserModel());
+        verify(this.usersService, times(1)).findByEmail("email3@gmail.com");
+    }
+
+    @Test
+    public void testAnonymous() throws Exception {
+        Assert.assertNull(this.createResolver().getUserModel());
+    }
+}
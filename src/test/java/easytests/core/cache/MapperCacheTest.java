@@ -0,0 +1,111 @@
+package easytests.core.cache;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author malinink
+ */
+public class MapperCacheTest {
+    private MapperCache createCache(String id, String tables) {
+        final MapperCache cache = new MapperCache(id);
+        cache.setTables(tables);
+        return cache;
+    }
+
+    @Test
+    public void testHitsAndMisses() throws Exception {
+        final MapperCache cache = this.createCache("test.HitsMapper", "hits");
+
+        Assert.assertNull(cache.getObject("key"));
+        cache.putObject("key", "value");
+        Assert.assertEquals("value", cache.getObject("key"));
+
+        Assert.assertEquals(1, cache.getStatistics().getHits());
+        Assert.assertEquals(1, cache.getStatistics().getMisses());
+        Assert.assertEquals(0.5, cache.getStatistics().getHitRatio(), 0.001);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws Exception {
+        final MapperCache cache = this.createCache("test.EvictionMapper", "eviction");
+        cache.setSize(2);
+
+        cache.putObject("first", 1);
+        cache.putObject("second", 2);
+        cache.getObject("first");
+        cache.putObject("third", 3);
+
+        Assert.assertEquals(2, cache.getSize());
+        Assert.assertEquals(1, cache.getObject("first"));
+        Assert.assertNull(cache.getObject("second"));
+        Assert.assertEquals(3, cache.getObject("third"));
+        Assert.assertEquals(1, cache.getStatistics().getEvictions());
+    }
+
+    @Test
+    public void testExpiration() throws Exception {
+        final MapperCache cache = this.createCache("test.ExpirationMapper", "expiration");
+        cache.setTtl(1);
+
+        cache.putObject("key", "value");
+        Thread.sleep(10);
+
+        Assert.assertNull(cache.getObject("key"));
+        Assert.assertEquals(0, cache.getSize());
+        Assert.assertEquals(1, cache.getStatistics().getExpirations());
+    }
+
+    @Test
+    public void testClearInvalidatesCachesOfSameTables() throws Exception {
+        final MapperCache cache = this.createCache("test.WritingMapper", "invalidation_first, invalidation_second");
+        final MapperCache related = this.createCache("test.RelatedMapper", "invalidation_second");
+        final MapperCache unrelated = this.createCache("test.UnrelatedMapper", "invalidation_third");
+        cache.putObject("key", "value");
+        related.putObject("key", "value");
+        unrelated.putObject("key", "value");
+
+        cache.clear();
+
+        Assert.assertEquals(0, cache.getSize());
+        Assert.assertEquals(0, related.getSize());
+        Assert.assertEquals(1, unrelated.getSize());
+        Assert.assertTrue(MapperCacheRegistry.getStatistics().containsKey("test.RelatedMapper"));
+    }
+
+    @Test
+    public void testWrittenTablesInvalidateCaches() throws Exception {
+        final MapperCache cache = this.createCache("test.ReadingMapper", "written_first");
+        final MapperCache unrelated = this.createCache("test.OtherReadingMapper", "written_second");
+        cache.putObject("key", "value");
+        unrelated.putObject("key", "value");
+
+        MapperCacheRegistry.invalidate(MapperCacheInvalidator.writtenTables(
+                "WITH moved AS (DELETE FROM written_first WHERE id=1 RETURNING *) SELECT * FROM moved"));
+
+        Assert.assertEquals(0, cache.getSize());
+        Assert.assertEquals(1, unrelated.getSize());
+    }
+
+    @Test
+    public void testWrittenTables() throws Exception {
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList("users", "subjects", "topics")),
+                MapperCacheInvalidator.writtenTables(
+                        "INSERT INTO users (email) VALUES ('a'); UPDATE subjects SET name='b';"
+                        + " TRUNCATE TABLE Topics RESTART IDENTITY"));
+        Assert.assertTrue(MapperCacheInvalidator.writtenTables("SELECT * FROM users WHERE id=1").isEmpty());
+    }
+
+    @Test
+    public void testUnregisteredCacheIsNotListed() throws Exception {
+        final MapperCache cache = new MapperCache("test.ServiceCache", false);
+        cache.putObject("key", "value");
+
+        Assert.assertFalse(MapperCacheRegistry.getStatistics().containsKey("test.ServiceCache"));
+        Assert.assertEquals("value", cache.getObject("key"));
+    }
+}
@@ -0,0 +1,21 @@
+package easytests.core.entities;
+
+import org.junit.Test;
+import org.meanbean.test.BeanTester;
+import org.meanbean.test.Configuration;
+import org.meanbean.test.ConfigurationBuilder;
+
+
+/**
+ * @author malinink
+ */
+public class ScoreEntityTest {
+
+    @Test
+    public void testCommon() throws Exception {
+        final Configuration configuration = new ConfigurationBuilder()
+                .ignoreProperty("gradedAt")
+                .build();
+        new BeanTester().testBean(ScoreEntity.class, configuration);
+    }
+}
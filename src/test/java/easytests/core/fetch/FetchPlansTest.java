@@ -0,0 +1,139 @@
+package easytests.core.fetch;
+
+import easytests.core.entities.AnswerEntity;
+import easytests.core.entities.QuestionEntity;
+import easytests.core.entities.SubjectEntity;
+import easytests.core.entities.TopicEntity;
+import easytests.core.mappers.AnswersMapper;
+import easytests.core.mappers.FetchPlansMapper;
+import easytests.core.mappers.QuestionsMapper;
+import easytests.core.mappers.SubjectsMapper;
+import easytests.core.mappers.TopicsMapper;
+import easytests.core.models.AnswerModel;
+import easytests.core.models.AnswerModelInterface;
+import easytests.core.models.IssueStandardModelInterface;
+import easytests.core.models.QuestionModel;
+import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.SubjectModel;
+import easytests.core.models.SubjectModelInterface;
+import easytests.core.models.TopicModel;
+import easytests.core.models.TopicModelInterface;
+import easytests.core.models.empty.ModelsListEmpty;
+import easytests.core.options.builder.IssueStandardsOptionsBuilder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+/**
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@TestPropertySource(locations = {"classpath:database.test.properties"})
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, scripts = "classpath:sql/mappersTestData.sql")
+public class FetchPlansTest {
+    private static final FetchPlan<QuestionModelInterface> QUESTION = FetchPlan
+            .from("questions", QuestionsMapper.class, "Question", (QuestionEntity questionEntity) -> {
+                final QuestionModelInterface questionModel = new QuestionModel();
+                questionModel.map(questionEntity);
+                return questionModel;
+            });
+
+    private static final FetchPlan<AnswerModelInterface> ANSWER_QUESTION = FetchPlan
+            .from("answers", AnswersMapper.class, "AnswerEntity", (AnswerEntity answerEntity) -> {
+                final AnswerModelInterface answerModel = new AnswerModel();
+                answerModel.map(answerEntity);
+                return answerModel;
+            })
+            .join("question_id", QUESTION, AnswerModelInterface::setQuestion);
+
+    private static final FetchPlan<SubjectModelInterface> SUBJECT_TOPICS_QUESTIONS = FetchPlan
+            .from("subjects", SubjectsMapper.class, "Subject", (SubjectEntity subjectEntity) -> {
+                final SubjectModelInterface subjectModel = new SubjectModel();
+                subjectModel.map(subjectEntity);
+                return subjectModel;
+            })
+            .joinMany(
+                "subject_id",
+                FetchPlan
+                    .from("topics", TopicsMapper.class, "Topic", (TopicEntity topicEntity) -> {
+                        final TopicModelInterface topicModel = new TopicModel();
+                        topicModel.map(topicEntity);
+                        return topicModel;
+                    })
+                    .joinMany("topic_id", QUESTION, TopicModelInterface::setQuestions),
+                SubjectModelInterface::setTopics);
+
+    @Autowired
+    private FetchPlans fetchPlans;
+
+    @Autowired
+    private FetchPlansMapper fetchPlansMapper;
+
+    @Autowired
+    private IssueStandardsOptionsBuilder issueStandardsOptionsBuilder;
+
+    @Test
+    public void testFindAssemblesGraph() throws Exception {
+        final AnswerModelInterface answerModel = this.fetchPlans.find(this.fetchPlans.compile(ANSWER_QUESTION), 2);
+        final QuestionModelInterface questionModel = answerModel.getQuestion();
+
+        Assert.assertEquals((Integer) 2, answerModel.getId());
+        Assert.assertEquals("Answer2", answerModel.getTxt());
+        Assert.assertEquals(false, answerModel.getRight());
+        Assert.assertEquals("test2", questionModel.getText());
+        Assert.assertTrue(questionModel.getAnswers() instanceof ModelsListEmpty);
+    }
+
+    @Test
+    public void testFindAssemblesCollections() throws Exception {
+        final IssueStandardModelInterface issueStandardModel = this.fetchPlans.find(
+                this.issueStandardsOptionsBuilder.forViewPlan(),
+                1);
+
+        Assert.assertEquals((Integer) 1, issueStandardModel.getId());
+        Assert.assertEquals(2, issueStandardModel.getTopicPriorities().size());
+        Assert.assertEquals((Integer) 1, issueStandardModel.getTopicPriorities().get(0).getId());
+        Assert.assertEquals((Integer) 2, issueStandardModel.getTopicPriorities().get(1).getId());
+        Assert.assertEquals(3, issueStandardModel.getQuestionTypeOptions().size());
+        Assert.assertEquals((Integer) 3, issueStandardModel.getQuestionTypeOptions().get(2).getId());
+    }
+
+    @Test
+    public void testFindLoadsEachLevelWithOneQuery() throws Exception {
+        final CompiledFetchPlan<SubjectModelInterface> plan = this.fetchPlans.compile(SUBJECT_TOPICS_QUESTIONS);
+        final List<List<Integer>> loadedIds = new ArrayList<>();
+
+        final SubjectModelInterface subjectModel = plan.assemble(
+                this.fetchPlansMapper.find(plan.getSql(), 2),
+                (sql, column, ids) -> {
+                    loadedIds.add(ids);
+                    return this.fetchPlansMapper.findByColumn(sql, column, ids);
+                });
+
+        Assert.assertEquals(Arrays.asList(Arrays.asList(2), Arrays.asList(1, 2)), loadedIds);
+        Assert.assertEquals(2, subjectModel.getTopics().size());
+        Assert.assertEquals(1, subjectModel.getTopics().get(0).getQuestions().size());
+        Assert.assertEquals((Integer) 1, subjectModel.getTopics().get(0).getQuestions().get(0).getId());
+        Assert.assertEquals(1, subjectModel.getTopics().get(1).getQuestions().size());
+        Assert.assertEquals((Integer) 3, subjectModel.getTopics().get(1).getQuestions().get(0).getId());
+    }
+
+    @Test
+    public void testFindAbsent() throws Exception {
+        final IssueStandardModelInterface issueStandardModel = this.fetchPlans.find(
+                this.issueStandardsOptionsBuilder.forViewPlan(),
+                10);
+
+        Assert.assertNull(issueStandardModel);
+    }
+}
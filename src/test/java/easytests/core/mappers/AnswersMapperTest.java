@@ -3,6 +3,7 @@ package easytests.core.mappers;
 import easytests.config.DatabaseConfig;
 import easytests.core.entities.AnswerEntity;
 import easytests.core.models.QuestionModelInterface;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
@@ -59,6 +60,19 @@ public class AnswersMapperTest {
         Assert.assertEquals(true, answer.getRight());
     }
 
+    @Test
+    public void testFindByQuestionIds() throws Exception {
+        final List<AnswerEntity> answers = this.answersMapper.findByQuestionIds(Arrays.asList(1, 3));
+        Assert.assertEquals((Integer) 2, (Integer) answers.size());
+
+        Assert.assertEquals((Integer) 1, answers.get(0).getId());
+        Assert.assertEquals((Integer) 1, answers.get(0).getQuestionId());
+        Assert.assertEquals((Integer) 3, answers.get(1).getId());
+        Assert.assertEquals("Answer3", answers.get(1).getTxt());
+        Assert.assertEquals((Integer) 3, answers.get(1).getQuestionId());
+        Assert.assertEquals(true, answers.get(1).getRight());
+    }
+
     @Test
     public void testInsert() throws Exception {
         final Integer id = this.answersMapper.findAll().size() + 1;
@@ -123,4 +137,112 @@ public class AnswersMapperTest {
         answerEntity = this.answersMapper.find(1);
         Assert.assertNull(answerEntity);
     }
+
+    @Test
+    public void testInsertList() throws Exception {
+        final Integer id = this.answersMapper.findAll().size() + 1;
+        final AnswerEntity firstEntity = new AnswerEntity();
+        firstEntity.setTxt("BatchFirst");
+        firstEntity.setQuestionId(1);
+        firstEntity.setSerialNumber(1);
+        firstEntity.setRight(true);
+        final AnswerEntity secondEntity = new AnswerEntity();
+        secondEntity.setTxt("BatchSecond");
+        secondEntity.setQuestionId(2);
+        secondEntity.setSerialNumber(2);
+        secondEntity.setRight(false);
+
+        this.answersMapper.insertList(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(id, firstEntity.getId());
+        Assert.assertEquals((Integer) (id + 1), secondEntity.getId());
+        Assert.assertEquals(firstEntity, this.answersMapper.find(id));
+        Assert.assertEquals(secondEntity, this.answersMapper.find(id + 1));
+    }
+
+    @Test
+    public void testUpdateList() throws Exception {
+        final AnswerEntity firstEntity = this.answersMapper.find(1);
+        final AnswerEntity secondEntity = this.answersMapper.find(2);
+        firstEntity.setTxt("UpdatedFirst");
+        secondEntity.setTxt("UpdatedSecond");
+
+        this.answersMapper.updateList(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(firstEntity, this.answersMapper.find(1));
+        Assert.assertEquals(secondEntity, this.answersMapper.find(2));
+    }
+
+    @Test
+    public void testUpdateReturningPrevious() throws Exception {
+        final AnswerEntity previousEntity = this.answersMapper.find(1);
+        final AnswerEntity answerEntity = this.answersMapper.find(1);
+        answerEntity.setRight(false);
+
+        Assert.assertEquals(previousEntity, this.answersMapper.updateReturningPrevious(answerEntity));
+        Assert.assertEquals(answerEntity, this.answersMapper.find(1));
+    }
+
+    @Test
+    public void testUpdateListReturningPrevious() throws Exception {
+        final List<AnswerEntity> previousEntities = Arrays.asList(
+                this.answersMapper.find(1),
+                this.answersMapper.find(2));
+        final AnswerEntity firstEntity = this.answersMapper.find(1);
+        final AnswerEntity secondEntity = this.answersMapper.find(2);
+        firstEntity.setRight(false);
+        secondEntity.setQuestionId(3);
+
+        final List<AnswerEntity> returnedEntities = this.answersMapper
+                .updateListReturningPrevious(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(2, returnedEntities.size());
+        Assert.assertTrue(returnedEntities.containsAll(previousEntities));
+        Assert.assertEquals(firstEntity, this.answersMapper.find(1));
+        Assert.assertEquals(secondEntity, this.answersMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteList() throws Exception {
+        final List<AnswerEntity> entities = Arrays.asList(this.answersMapper.find(1), this.answersMapper.find(2));
+
+        this.answersMapper.deleteList(entities);
+
+        Assert.assertNull(this.answersMapper.find(1));
+        Assert.assertNull(this.answersMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteByQuestionId() throws Exception {
+        this.answersMapper.deleteByQuestionId(1);
+
+        Assert.assertNull(this.answersMapper.find(1));
+        Assert.assertNotNull(this.answersMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteByTopicId() throws Exception {
+        this.answersMapper.deleteByTopicId(1);
+
+        Assert.assertNull(this.answersMapper.find(1));
+        Assert.assertNotNull(this.answersMapper.find(3));
+    }
+
+    @Test
+    public void testDeleteBySubjectId() throws Exception {
+        this.answersMapper.deleteBySubjectId(2);
+
+        Assert.assertNull(this.answersMapper.find(1));
+        Assert.assertNull(this.answersMapper.find(3));
+        Assert.assertNotNull(this.answersMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteByUserId() throws Exception {
+        this.answersMapper.deleteByUserId(2);
+
+        Assert.assertNull(this.answersMapper.find(1));
+        Assert.assertNull(this.answersMapper.find(3));
+        Assert.assertNotNull(this.answersMapper.find(2));
+    }
 }
@@ -0,0 +1,56 @@
+package easytests.core.mappers;
+
+import easytests.config.DatabaseConfig;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
+
+
+/**
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@TestPropertySource(locations = {"classpath:database.test.properties"})
+@ContextConfiguration(loader = AnnotationConfigContextLoader.class, classes = {DatabaseConfig.class})
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, scripts = "classpath:sql/mappersTestData.sql")
+public class FetchPlansMapperTest {
+    private static final String SQL = "SELECT t0.id AS t0_id, t1.user_id AS t1_user_id"
+            + " FROM topics t0 LEFT JOIN subjects t1 ON t1.id=t0.subject_id";
+
+    @Autowired
+    private FetchPlansMapper fetchPlansMapper;
+
+    @Test
+    public void testFind() throws Exception {
+        final Map<String, Object> row = this.fetchPlansMapper.find(SQL, 3);
+
+        Assert.assertEquals(3, ((Number) row.get("t0_id")).intValue());
+        Assert.assertEquals(3, ((Number) row.get("t1_user_id")).intValue());
+        Assert.assertNull(this.fetchPlansMapper.find(SQL, 10));
+    }
+
+    @Test
+    public void testFindByColumn() throws Exception {
+        final List<Map<String, Object>> rows = this.fetchPlansMapper.findByColumn(
+                SQL,
+                "subject_id",
+                Arrays.asList(2, 3));
+
+        Assert.assertEquals(3, rows.size());
+        Assert.assertEquals(1, ((Number) rows.get(0).get("t0_id")).intValue());
+        Assert.assertEquals(2, ((Number) rows.get(1).get("t0_id")).intValue());
+        Assert.assertEquals(2, ((Number) rows.get(1).get("t1_user_id")).intValue());
+        Assert.assertEquals(3, ((Number) rows.get(2).get("t1_user_id")).intValue());
+    }
+}
@@ -2,6 +2,7 @@ package easytests.core.mappers;
 
 import easytests.config.DatabaseConfig;
 import easytests.core.entities.IssueStandardQuestionTypeOptionEntity;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
@@ -68,6 +69,20 @@ public class IssueStandardQuestionTypeOptionsMapperTest {
         Assert.assertEquals((Integer) 1, questionTypeOptionEntity.getIssueStandardId());
     }
 
+    @Test
+    public void testFindByIssueStandardIds() throws Exception {
+        final List<IssueStandardQuestionTypeOptionEntity> questionTypeOptionEntities
+                = this.questionTypeOptionMapper.findByIssueStandardIds(Arrays.asList(2));
+
+        Assert.assertEquals(2, questionTypeOptionEntities.size());
+
+        final IssueStandardQuestionTypeOptionEntity questionTypeOptionEntity = questionTypeOptionEntities.get(0);
+        Assert.assertEquals((Integer) 4, questionTypeOptionEntity.getId());
+        Assert.assertEquals((Integer) 1, questionTypeOptionEntity.getQuestionTypeId());
+        Assert.assertEquals((Integer) 120, questionTypeOptionEntity.getTimeLimit());
+        Assert.assertEquals((Integer) 2, questionTypeOptionEntity.getIssueStandardId());
+    }
+
     @Test
     public void testInsert() throws Exception {
         final Integer id = this.questionTypeOptionMapper.findAll().size() + 1;
@@ -146,4 +161,72 @@ public class IssueStandardQuestionTypeOptionsMapperTest {
         questionTypeOptionEntity = this.questionTypeOptionMapper.find(id);
         Assert.assertNull(questionTypeOptionEntity);
     }
+
+    @Test
+    public void testInsertList() throws Exception {
+        final Integer id = this.questionTypeOptionMapper.findAll().size() + 1;
+        final IssueStandardQuestionTypeOptionEntity firstEntity = new IssueStandardQuestionTypeOptionEntity();
+        firstEntity.setQuestionTypeId(1);
+        firstEntity.setMinQuestions(1);
+        firstEntity.setMaxQuestions(1);
+        firstEntity.setTimeLimit(1);
+        firstEntity.setIssueStandardId(1);
+        final IssueStandardQuestionTypeOptionEntity secondEntity = new IssueStandardQuestionTypeOptionEntity();
+        secondEntity.setQuestionTypeId(2);
+        secondEntity.setMinQuestions(2);
+        secondEntity.setMaxQuestions(2);
+        secondEntity.setTimeLimit(2);
+        secondEntity.setIssueStandardId(2);
+
+        this.questionTypeOptionMapper.insertList(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(id, firstEntity.getId());
+        Assert.assertEquals((Integer) (id + 1), secondEntity.getId());
+        Assert.assertEquals(firstEntity, this.questionTypeOptionMapper.find(id));
+        Assert.assertEquals(secondEntity, this.questionTypeOptionMapper.find(id + 1));
+    }
+
+    @Test
+    public void testUpdateList() throws Exception {
+        final IssueStandardQuestionTypeOptionEntity firstEntity = this.questionTypeOptionMapper.find(1);
+        final IssueStandardQuestionTypeOptionEntity secondEntity = this.questionTypeOptionMapper.find(2);
+        firstEntity.setQuestionTypeId(30);
+        secondEntity.setQuestionTypeId(31);
+
+        this.questionTypeOptionMapper.updateList(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(firstEntity, this.questionTypeOptionMapper.find(1));
+        Assert.assertEquals(secondEntity, this.questionTypeOptionMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteList() throws Exception {
+        final List<IssueStandardQuestionTypeOptionEntity> entities = Arrays.asList(
+                this.questionTypeOptionMapper.find(1),
+                this.questionTypeOptionMapper.find(2));
+
+        this.questionTypeOptionMapper.deleteList(entities);
+
+        Assert.assertNull(this.questionTypeOptionMapper.find(1));
+        Assert.assertNull(this.questionTypeOptionMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteBySubjectId() throws Exception {
+        this.questionTypeOptionMapper.deleteBySubjectId(1);
+
+        Assert.assertNull(this.questionTypeOptionMapper.find(1));
+        Assert.assertNull(this.questionTypeOptionMapper.find(2));
+        Assert.assertNull(this.questionTypeOptionMapper.find(3));
+        Assert.assertNotNull(this.questionTypeOptionMapper.find(4));
+    }
+
+    @Test
+    public void testDeleteByUserId() throws Exception {
+        this.questionTypeOptionMapper.deleteByUserId(3);
+
+        Assert.assertNull(this.questionTypeOptionMapper.find(4));
+        Assert.assertNull(this.questionTypeOptionMapper.find(5));
+        Assert.assertNotNull(this.questionTypeOptionMapper.find(1));
+    }
 }
@@ -2,6 +2,7 @@ package easytests.core.mappers;
 
 import easytests.config.DatabaseConfig;
 import easytests.core.entities.*;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
@@ -65,6 +66,21 @@ public class IssueStandardTopicPrioritiesMapperTest {
         Assert.assertEquals((Integer) 1, topicPriorityEntity.getIssueStandardId());
     }
 
+    @Test
+    public void testFindByIssueStandardIds() throws Exception {
+        final List<IssueStandardTopicPriorityEntity> topicPriorityEntities
+                = this.topicPriorityMapper.findByIssueStandardIds(Arrays.asList(1, 2));
+
+        Assert.assertNotNull(topicPriorityEntities);
+        Assert.assertEquals(3, topicPriorityEntities.size());
+
+        final IssueStandardTopicPriorityEntity topicPriorityEntity = topicPriorityEntities.get(2);
+
+        Assert.assertEquals((Integer) 3, topicPriorityEntity.getTopicId());
+        Assert.assertEquals(true, topicPriorityEntity.getIsPreferable());
+        Assert.assertEquals((Integer) 2, topicPriorityEntity.getIssueStandardId());
+    }
+
     @Test
     public void testInsert() throws Exception {
         final Integer id = this.topicPriorityMapper.findAll().size() + 1;
@@ -125,4 +141,66 @@ public class IssueStandardTopicPrioritiesMapperTest {
         topicPriorityEntity = this.topicPriorityMapper.find(3);
         Assert.assertNull(topicPriorityEntity);
     }
+
+    @Test
+    public void testInsertList() throws Exception {
+        final Integer id = this.topicPriorityMapper.findAll().size() + 1;
+        final IssueStandardTopicPriorityEntity firstEntity = new IssueStandardTopicPriorityEntity();
+        firstEntity.setTopicId(1);
+        firstEntity.setIsPreferable(true);
+        firstEntity.setIssueStandardId(1);
+        final IssueStandardTopicPriorityEntity secondEntity = new IssueStandardTopicPriorityEntity();
+        secondEntity.setTopicId(2);
+        secondEntity.setIsPreferable(false);
+        secondEntity.setIssueStandardId(2);
+
+        this.topicPriorityMapper.insertList(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(id, firstEntity.getId());
+        Assert.assertEquals((Integer) (id + 1), secondEntity.getId());
+        Assert.assertEquals(firstEntity, this.topicPriorityMapper.find(id));
+        Assert.assertEquals(secondEntity, this.topicPriorityMapper.find(id + 1));
+    }
+
+    @Test
+    public void testUpdateList() throws Exception {
+        final IssueStandardTopicPriorityEntity firstEntity = this.topicPriorityMapper.find(1);
+        final IssueStandardTopicPriorityEntity secondEntity = this.topicPriorityMapper.find(2);
+        firstEntity.setTopicId(30);
+        secondEntity.setTopicId(31);
+
+        this.topicPriorityMapper.updateList(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(firstEntity, this.topicPriorityMapper.find(1));
+        Assert.assertEquals(secondEntity, this.topicPriorityMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteList() throws Exception {
+        final List<IssueStandardTopicPriorityEntity> entities = Arrays.asList(
+                this.topicPriorityMapper.find(1),
+                this.topicPriorityMapper.find(2));
+
+        this.topicPriorityMapper.deleteList(entities);
+
+        Assert.assertNull(this.topicPriorityMapper.find(1));
+        Assert.assertNull(this.topicPriorityMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteBySubjectId() throws Exception {
+        this.topicPriorityMapper.deleteBySubjectId(1);
+
+        Assert.assertNull(this.topicPriorityMapper.find(1));
+        Assert.assertNull(this.topicPriorityMapper.find(2));
+        Assert.assertNotNull(this.topicPriorityMapper.find(3));
+    }
+
+    @Test
+    public void testDeleteByUserId() throws Exception {
+        this.topicPriorityMapper.deleteByUserId(3);
+
+        Assert.assertNull(this.topicPriorityMapper.find(3));
+        Assert.assertNotNull(this.topicPriorityMapper.find(1));
+    }
 }
@@ -2,6 +2,7 @@ package easytests.core.mappers;
 
 import easytests.config.DatabaseConfig;
 import easytests.core.entities.IssueStandardEntity;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
@@ -59,6 +60,18 @@ public class IssueStandardsMapperTest {
         Assert.assertEquals((Integer) 3, issueStandardEntity.getSubjectId());
     }
 
+    @Test
+    public void testFindBySubjectIds() throws Exception {
+        final List<IssueStandardEntity> issueStandardEntities
+                = this.issueStandardsMapper.findBySubjectIds(Arrays.asList(1, 2, 3));
+
+        Assert.assertEquals(2, issueStandardEntities.size());
+        Assert.assertEquals((Integer) 1, issueStandardEntities.get(0).getId());
+        Assert.assertEquals((Integer) 1, issueStandardEntities.get(0).getSubjectId());
+        Assert.assertEquals((Integer) 2, issueStandardEntities.get(1).getId());
+        Assert.assertEquals((Integer) 3, issueStandardEntities.get(1).getSubjectId());
+    }
+
     @Test
     public void testInsert() throws Exception {
         final Integer id = this.issueStandardsMapper.findAll().size() + 1;
@@ -120,4 +133,20 @@ public class IssueStandardsMapperTest {
         issueStandardEntity = this.issueStandardsMapper.find(1);
         Assert.assertNull(issueStandardEntity);
     }
+
+    @Test
+    public void testDeleteBySubjectId() throws Exception {
+        this.issueStandardsMapper.deleteBySubjectId(1);
+
+        Assert.assertNull(this.issueStandardsMapper.find(1));
+        Assert.assertNotNull(this.issueStandardsMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteByUserId() throws Exception {
+        this.issueStandardsMapper.deleteByUserId(3);
+
+        Assert.assertNull(this.issueStandardsMapper.find(2));
+        Assert.assertNotNull(this.issueStandardsMapper.find(1));
+    }
 }
@@ -16,6 +16,7 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.context.support.AnnotationConfigContextLoader;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -74,6 +75,18 @@ public class IssuesMapperTest {
         Assert.assertEquals("Name3", issueEntities.get(0).getName());
     }
 
+    @Test
+    public void testFindBySubjectIds() throws Exception {
+
+        final List<IssueEntity> issueEntities = this.issuesMapper.findBySubjectIds(Arrays.asList(1, 3));
+
+        Assert.assertEquals(2, issueEntities.size());
+        Assert.assertEquals("Name1", issueEntities.get(0).getName());
+        Assert.assertEquals((Integer) 1, issueEntities.get(0).getSubjectId());
+        Assert.assertEquals("Name3", issueEntities.get(1).getName());
+        Assert.assertEquals((Integer) 3, issueEntities.get(1).getSubjectId());
+    }
+
     @Test
     public void testInsert() throws Exception {
         final Integer id = this.issuesMapper.findAll().size() + 1;
@@ -0,0 +1,74 @@
+package easytests.core.mappers;
+
+import easytests.config.DatabaseConfig;
+import easytests.core.cache.MapperCacheRegistry;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
+
+
+/**
+ * Runs with the second-level cache enabled, unlike the other mapper tests.
+ *
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@TestPropertySource(locations = {"classpath:database.test.properties"}, properties = {"cache.enabled=true"})
+@ContextConfiguration(loader = AnnotationConfigContextLoader.class, classes = {DatabaseConfig.class})
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, scripts = "classpath:sql/mappersTestData.sql")
+public class MapperCacheInvalidationTest {
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private QuestionTypesMapper questionTypesMapper;
+
+    private QuestionTypesWritingMapper questionTypesWritingMapper;
+
+    @Before
+    public void setUp() throws Exception {
+        if (!this.sqlSessionFactory.getConfiguration().hasMapper(QuestionTypesWritingMapper.class)) {
+            this.sqlSessionFactory.getConfiguration().addMapper(QuestionTypesWritingMapper.class);
+        }
+        this.questionTypesWritingMapper = new SqlSessionTemplate(this.sqlSessionFactory)
+                .getMapper(QuestionTypesWritingMapper.class);
+    }
+
+    @Test
+    public void testWriteThroughOtherMapperEvictsCachedStatement() throws Exception {
+        this.questionTypesWritingMapper.rename(1, "Cached");
+        Assert.assertEquals("Cached", this.questionTypesMapper.find(1).getName());
+        final long hits = MapperCacheRegistry.getStatistics().get(QuestionTypesMapper.class.getName()).getHits();
+        Assert.assertEquals("Cached", this.questionTypesMapper.find(1).getName());
+        Assert.assertEquals(
+                hits + 1,
+                MapperCacheRegistry.getStatistics().get(QuestionTypesMapper.class.getName()).getHits());
+
+        this.questionTypesWritingMapper.rename(1, "Renamed");
+
+        Assert.assertEquals("Renamed", this.questionTypesMapper.find(1).getName());
+    }
+
+    /**
+     * Writes question_types without a cache of its own, as bulk and cascading statements do.
+     *
+     * @author malinink
+     */
+    public interface QuestionTypesWritingMapper {
+        @Update("UPDATE question_types SET name=#{name} WHERE id=#{id}")
+        void rename(@Param("id") Integer id, @Param("name") String name);
+    }
+}
@@ -0,0 +1,62 @@
+package easytests.core.mappers;
+
+import easytests.config.DatabaseConfig;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
+
+
+/**
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@TestPropertySource(locations = {"classpath:database.test.properties"})
+@ContextConfiguration(loader = AnnotationConfigContextLoader.class, classes = {DatabaseConfig.class})
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, scripts = "classpath:sql/mappersTestData.sql")
+public class OwnershipMapperTest {
+    @Autowired
+    private OwnershipMapper ownershipMapper;
+
+    @Test
+    public void testFindSubjectOwnerId() throws Exception {
+        Assert.assertEquals((Integer) 2, this.ownershipMapper.findSubjectOwnerId(1));
+        Assert.assertEquals((Integer) 3, this.ownershipMapper.findSubjectOwnerId(3));
+        Assert.assertNull(this.ownershipMapper.findSubjectOwnerId(10));
+    }
+
+    @Test
+    public void testFindTopicOwnerId() throws Exception {
+        Assert.assertEquals((Integer) 2, this.ownershipMapper.findTopicOwnerId(1));
+        Assert.assertEquals((Integer) 3, this.ownershipMapper.findTopicOwnerId(3));
+        Assert.assertNull(this.ownershipMapper.findTopicOwnerId(10));
+    }
+
+    @Test
+    public void testFindQuestionOwnerId() throws Exception {
+        Assert.assertEquals((Integer) 2, this.ownershipMapper.findQuestionOwnerId(1));
+        Assert.assertEquals((Integer) 3, this.ownershipMapper.findQuestionOwnerId(2));
+        Assert.assertNull(this.ownershipMapper.findQuestionOwnerId(10));
+    }
+
+    @Test
+    public void testFindIssueStandardOwnerId() throws Exception {
+        Assert.assertEquals((Integer) 2, this.ownershipMapper.findIssueStandardOwnerId(1));
+        Assert.assertEquals((Integer) 3, this.ownershipMapper.findIssueStandardOwnerId(2));
+        Assert.assertNull(this.ownershipMapper.findIssueStandardOwnerId(10));
+    }
+
+    @Test
+    public void testFindIssueOwnerId() throws Exception {
+        Assert.assertEquals((Integer) 2, this.ownershipMapper.findIssueOwnerId(1));
+        Assert.assertEquals((Integer) 3, this.ownershipMapper.findIssueOwnerId(3));
+        Assert.assertNull(this.ownershipMapper.findIssueOwnerId(10));
+    }
+}
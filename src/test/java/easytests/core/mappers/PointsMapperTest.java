@@ -2,6 +2,7 @@ package easytests.core.mappers;
 
 import easytests.config.DatabaseConfig;
 import easytests.core.entities.*;
+import java.util.Arrays;
 import org.junit.Test;
 import org.junit.Assert;
 import org.junit.runner.RunWith;
@@ -135,4 +136,61 @@ public class PointsMapperTest {
 
     }
 
+    @Test
+    public void testInsertList() throws Exception {
+        final Integer id = this.pointsMapper.findAll().size() + 1;
+        final PointEntity firstEntity = new PointEntity();
+        firstEntity.setQuestionId(1);
+        firstEntity.setQuizId(1);
+        final PointEntity secondEntity = new PointEntity();
+        secondEntity.setQuestionId(2);
+        secondEntity.setQuizId(2);
+
+        this.pointsMapper.insertList(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(id, firstEntity.getId());
+        Assert.assertEquals((Integer) (id + 1), secondEntity.getId());
+        Assert.assertEquals(firstEntity, this.pointsMapper.find(id));
+        Assert.assertEquals(secondEntity, this.pointsMapper.find(id + 1));
+    }
+
+    @Test
+    public void testInsertListOfExistingQuestions() throws Exception {
+        final Integer size = this.pointsMapper.findAll().size();
+        final PointEntity existingEntity = new PointEntity();
+        existingEntity.setQuestionId(1);
+        existingEntity.setQuizId(2);
+        final PointEntity deletedEntity = new PointEntity();
+        deletedEntity.setQuestionId(100);
+        deletedEntity.setQuizId(2);
+
+        this.pointsMapper.insertListOfExistingQuestions(Arrays.asList(existingEntity, deletedEntity));
+
+        final List<PointEntity> points = this.pointsMapper.findAll();
+        Assert.assertEquals(size + 1, points.size());
+        Assert.assertTrue(points.stream().noneMatch(point -> point.getQuestionId().equals(100)));
+    }
+
+    @Test
+    public void testUpdateList() throws Exception {
+        final PointEntity firstEntity = this.pointsMapper.find(1);
+        final PointEntity secondEntity = this.pointsMapper.find(2);
+        firstEntity.setQuestionId(30);
+        secondEntity.setQuestionId(31);
+
+        this.pointsMapper.updateList(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(firstEntity, this.pointsMapper.find(1));
+        Assert.assertEquals(secondEntity, this.pointsMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteList() throws Exception {
+        final List<PointEntity> entities = Arrays.asList(this.pointsMapper.find(1), this.pointsMapper.find(2));
+
+        this.pointsMapper.deleteList(entities);
+
+        Assert.assertNull(this.pointsMapper.find(1));
+        Assert.assertNull(this.pointsMapper.find(2));
+    }
 }
@@ -2,6 +2,7 @@ package easytests.core.mappers;
 
 import easytests.config.DatabaseConfig;
 import easytests.core.entities.QuestionEntity;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
@@ -57,6 +58,43 @@ public class QuestionsMapperTest {
         Assert.assertEquals((Integer) 2, question.getTopicId());
     }
 
+    @Test
+    public void testFindPageByTopicId() throws Exception {
+        final List<QuestionEntity> firstPage = this.questionsMapper.findPageByTopicId(2, 0, 2);
+        final List<QuestionEntity> nextPage = this.questionsMapper.findPageByTopicId(2, 3, 2);
+
+        Assert.assertEquals(1, firstPage.size());
+        Assert.assertEquals((Integer) 3, firstPage.get(0).getId());
+        Assert.assertEquals(0, nextPage.size());
+    }
+
+    @Test
+    public void testFindByTopicIds() throws Exception {
+        final List<QuestionEntity> questions = this.questionsMapper.findByTopicIds(Arrays.asList(1, 3));
+        Assert.assertEquals((Integer) 2, (Integer) questions.size());
+
+        Assert.assertEquals((Integer) 1, questions.get(0).getId());
+        Assert.assertEquals((Integer) 1, questions.get(0).getTopicId());
+        Assert.assertEquals((Integer) 2, questions.get(1).getId());
+        Assert.assertEquals("test2", questions.get(1).getText());
+        Assert.assertEquals((Integer) 3, questions.get(1).getTopicId());
+    }
+
+    @Test
+    public void testFindPoolBySubjectId() throws Exception {
+        final List<QuestionEntity> questions = this.questionsMapper.findPoolBySubjectId(2);
+        questions.sort((first, second) -> first.getId().compareTo(second.getId()));
+
+        Assert.assertEquals(2, questions.size());
+        Assert.assertEquals((Integer) 1, questions.get(0).getId());
+        Assert.assertEquals((Integer) 1, questions.get(0).getTopicId());
+        Assert.assertEquals((Integer) 1, questions.get(0).getQuestionTypeId());
+        Assert.assertNull(questions.get(0).getText());
+        Assert.assertEquals((Integer) 3, questions.get(1).getId());
+        Assert.assertEquals((Integer) 2, questions.get(1).getTopicId());
+        Assert.assertEquals((Integer) 3, questions.get(1).getQuestionTypeId());
+    }
+
     @Test
     public void testInsert() throws Exception {
         final Integer id = this.questionsMapper.findAll().size() + 1;
@@ -118,4 +156,72 @@ public class QuestionsMapperTest {
         questionEntity = this.questionsMapper.find(1);
         Assert.assertNull(questionEntity);
     }
+
+    @Test
+    public void testInsertList() throws Exception {
+        final Integer id = this.questionsMapper.findAll().size() + 1;
+        final QuestionEntity firstEntity = new QuestionEntity();
+        firstEntity.setText("BatchFirst");
+        firstEntity.setQuestionTypeId(1);
+        firstEntity.setTopicId(1);
+        final QuestionEntity secondEntity = new QuestionEntity();
+        secondEntity.setText("BatchSecond");
+        secondEntity.setQuestionTypeId(2);
+        secondEntity.setTopicId(2);
+
+        this.questionsMapper.insertList(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(id, firstEntity.getId());
+        Assert.assertEquals((Integer) (id + 1), secondEntity.getId());
+        Assert.assertEquals(firstEntity, this.questionsMapper.find(id));
+        Assert.assertEquals(secondEntity, this.questionsMapper.find(id + 1));
+    }
+
+    @Test
+    public void testUpdateList() throws Exception {
+        final QuestionEntity firstEntity = this.questionsMapper.find(1);
+        final QuestionEntity secondEntity = this.questionsMapper.find(2);
+        firstEntity.setText("UpdatedFirst");
+        secondEntity.setText("UpdatedSecond");
+
+        this.questionsMapper.updateList(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(firstEntity, this.questionsMapper.find(1));
+        Assert.assertEquals(secondEntity, this.questionsMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteList() throws Exception {
+        final List<QuestionEntity> entities = Arrays.asList(this.questionsMapper.find(1), this.questionsMapper.find(2));
+
+        this.questionsMapper.deleteList(entities);
+
+        Assert.assertNull(this.questionsMapper.find(1));
+        Assert.assertNull(this.questionsMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteByTopicId() throws Exception {
+        this.questionsMapper.deleteByTopicId(1);
+
+        Assert.assertNull(this.questionsMapper.find(1));
+        Assert.assertNotNull(this.questionsMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteBySubjectId() throws Exception {
+        this.questionsMapper.deleteBySubjectId(2);
+
+        Assert.assertNull(this.questionsMapper.find(1));
+        Assert.assertNull(this.questionsMapper.find(3));
+        Assert.assertNotNull(this.questionsMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteByUserId() throws Exception {
+        this.questionsMapper.deleteByUserId(3);
+
+        Assert.assertNull(this.questionsMapper.find(2));
+        Assert.assertNotNull(this.questionsMapper.find(1));
+    }
 }
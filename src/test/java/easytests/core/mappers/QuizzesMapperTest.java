@@ -1,7 +1,9 @@
 package easytests.core.mappers;
 
 import easytests.config.DatabaseConfig;
+import easytests.core.entities.QuizClaimEntity;
 import easytests.core.entities.QuizEntity;
+import easytests.core.entities.TesteeEntity;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -17,6 +19,7 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.context.support.AnnotationConfigContextLoader;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -76,6 +79,33 @@ public class QuizzesMapperTest {
         Assert.assertEquals(true, quizEntities.get(0).getCodeExpired());
     }
 
+    @Test
+    public void testFindByInviteCode() throws Exception {
+        final QuizEntity quiz = this.quizzesMapper.findByInviteCode("test_invite_code2");
+
+        Assert.assertEquals((Integer) 2, quiz.getId());
+        Assert.assertEquals((Integer) 2, quiz.getIssueId());
+        Assert.assertNull(this.quizzesMapper.findByInviteCode("unknown"));
+    }
+
+    @Test
+    public void testFindActive() throws Exception {
+        final List<QuizEntity> quizEntities = this.quizzesMapper.findActive(10);
+
+        Assert.assertEquals(2, quizEntities.size());
+        Assert.assertEquals((Integer) 2, quizEntities.get(0).getId());
+        Assert.assertEquals((Integer) 1, quizEntities.get(1).getId());
+        Assert.assertEquals(1, this.quizzesMapper.findActive(1).size());
+    }
+
+    @Test
+    public void testNextInviteCodeBlock() throws Exception {
+        final Long first = this.quizzesMapper.nextInviteCodeBlock();
+        final Long second = this.quizzesMapper.nextInviteCodeBlock();
+
+        Assert.assertEquals((Long) (first + 1000), second);
+    }
+
     @Test
     public void testInsert() throws Exception {
         final Integer id = this.quizzesMapper.findAll().size() + 1;
@@ -114,6 +144,105 @@ public class QuizzesMapperTest {
         Assert.assertEquals(testCodeExpired, readQuiz.getCodeExpired());
     }
 
+    @Test
+    public void testInsertList() throws Exception {
+        final QuizEntity firstQuiz = new QuizEntity();
+        firstQuiz.setIssueId(1);
+        firstQuiz.setInviteCode("first");
+        firstQuiz.setCodeExpired(false);
+        final QuizEntity secondQuiz = new QuizEntity();
+        secondQuiz.setIssueId(1);
+        secondQuiz.setInviteCode("second");
+        secondQuiz.setCodeExpired(false);
+
+        this.quizzesMapper.insertList(Arrays.asList(firstQuiz, secondQuiz));
+
+        Assert.assertEquals((Integer) 4, firstQuiz.getId());
+        Assert.assertEquals((Integer) 5, secondQuiz.getId());
+        Assert.assertEquals(firstQuiz, this.quizzesMapper.find(4));
+        Assert.assertEquals(secondQuiz, this.quizzesMapper.find(5));
+    }
+
+    @Test
+    public void testInsertWithPoints() throws Exception {
+        final QuizEntity quiz = new QuizEntity();
+        quiz.setIssueId(2);
+        quiz.setInviteCode("generated");
+        quiz.setCodeExpired(false);
+
+        final Integer id = this.quizzesMapper.insertWithPoints(quiz, Arrays.asList(3, 1, 100));
+
+        Assert.assertEquals((Integer) 4, id);
+        final QuizEntity readQuiz = this.quizzesMapper.find(id);
+        Assert.assertEquals((Integer) 2, readQuiz.getIssueId());
+        Assert.assertEquals("generated", readQuiz.getInviteCode());
+        Assert.assertEquals(false, readQuiz.getCodeExpired());
+        Assert.assertNull(readQuiz.getStartedAt());
+    }
+
+    @Test
+    public void testClaim() throws Exception {
+        final QuizEntity quiz = new QuizEntity();
+        quiz.setIssueId(1);
+        quiz.setInviteCode("claimed");
+        quiz.setCodeExpired(false);
+        this.quizzesMapper.insert(quiz);
+        final TesteeEntity testee = new TesteeEntity();
+        testee.setFirstName("FirstName");
+        testee.setLastName("LastName");
+        testee.setSurname("Surname");
+        testee.setGroupNumber(304);
+
+        final QuizClaimEntity claim = this.quizzesMapper.claim("claimed", testee);
+
+        Assert.assertEquals(quiz.getId(), claim.getId());
+        Assert.assertEquals((Integer) 1, claim.getIssueId());
+        Assert.assertEquals(true, claim.getCodeExpired());
+        Assert.assertNotNull(claim.getStartedAt());
+        Assert.assertEquals((Integer) 4, claim.getTesteeId());
+        Assert.assertEquals(true, this.quizzesMapper.find(quiz.getId()).getCodeExpired());
+        Assert.assertNull(this.quizzesMapper.claim("claimed", testee));
+        Assert.assertNull(this.quizzesMapper.claim("test_invite_code3", testee));
+    }
+
+    @Test
+    public void testFindDeadlines() throws Exception {
+        final QuizEntity quiz = new QuizEntity();
+        quiz.setIssueId(1);
+        quiz.setCodeExpired(true);
+        quiz.setStartedAt(LocalDateTime.of(2017, 5, 18, 12, 0, 0));
+        this.quizzesMapper.insert(quiz);
+
+        final List<QuizEntity> deadlines = this.quizzesMapper.findDeadlines(null);
+
+        Assert.assertEquals(1, deadlines.size());
+        Assert.assertEquals(quiz.getId(), deadlines.get(0).getId());
+        Assert.assertEquals(LocalDateTime.of(2017, 5, 18, 12, 5, 0), deadlines.get(0).getFinishedAt());
+        Assert.assertEquals(1, this.quizzesMapper.findDeadlines(quiz.getId()).size());
+        Assert.assertEquals(0, this.quizzesMapper.findDeadlines(1).size());
+    }
+
+    @Test
+    public void testFinishList() throws Exception {
+        final QuizEntity quiz = new QuizEntity();
+        quiz.setIssueId(1);
+        quiz.setCodeExpired(true);
+        quiz.setStartedAt(LocalDateTime.of(2017, 5, 18, 12, 0, 0));
+        this.quizzesMapper.insert(quiz);
+        final QuizEntity finished = new QuizEntity();
+        finished.setId(quiz.getId());
+        finished.setFinishedAt(LocalDateTime.of(2017, 5, 18, 12, 5, 0));
+        final QuizEntity alreadyFinished = new QuizEntity();
+        alreadyFinished.setId(1);
+        alreadyFinished.setFinishedAt(LocalDateTime.of(2017, 5, 18, 12, 5, 0));
+
+        this.quizzesMapper.finishList(Arrays.asList(finished, alreadyFinished));
+
+        Assert.assertEquals(finished.getFinishedAt(), this.quizzesMapper.find(quiz.getId()).getFinishedAt());
+        Assert.assertEquals(LocalDateTime.of(2003, 3, 1, 0, 0, 0), this.quizzesMapper.find(1).getFinishedAt());
+        Assert.assertEquals(0, this.quizzesMapper.findDeadlines(null).size());
+    }
+
     @Test
     public void testUpdate() throws Exception {
 
@@ -0,0 +1,104 @@
+package easytests.core.mappers;
+
+import easytests.config.DatabaseConfig;
+import easytests.core.entities.ScoreEntity;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
+
+
+/**
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@TestPropertySource(locations = {"classpath:database.test.properties"})
+@ContextConfiguration(loader = AnnotationConfigContextLoader.class, classes = {DatabaseConfig.class})
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, scripts = "classpath:sql/mappersTestData.sql")
+public class ScoresMapperTest {
+
+    @Autowired
+    private ScoresMapper scoresMapper;
+
+    private void assertScore(ScoreEntity scoreEntity, Integer quizId, Integer points, Integer rightPoints) {
+        Assert.assertEquals(quizId, scoreEntity.getQuizId());
+        Assert.assertEquals(points, scoreEntity.getPoints());
+        Assert.assertEquals(rightPoints, scoreEntity.getRightPoints());
+    }
+
+    @Test
+    public void testFindByQuizId() throws Exception {
+        final ScoreEntity scoreEntity = this.scoresMapper.findByQuizId(1);
+
+        Assert.assertEquals((Integer) 1, scoreEntity.getId());
+        this.assertScore(scoreEntity, 1, 1, 1);
+        Assert.assertEquals(LocalDateTime.of(2003, 3, 1, 0, 0), scoreEntity.getGradedAt());
+        Assert.assertNull(this.scoresMapper.findByQuizId(2));
+    }
+
+    @Test
+    public void testFindByIssueId() throws Exception {
+        Assert.assertEquals(1, this.scoresMapper.findByIssueId(1).size());
+        Assert.assertTrue(this.scoresMapper.findByIssueId(2).isEmpty());
+    }
+
+    @Test
+    public void testFindQuizzesIdsByQuestionsIds() throws Exception {
+        Assert.assertEquals(Arrays.asList(1), this.scoresMapper.findQuizzesIdsByQuestionsIds(Arrays.asList(1, 2)));
+        Assert.assertTrue(this.scoresMapper.findQuizzesIdsByQuestionsIds(Arrays.asList(3)).isEmpty());
+    }
+
+    @Test
+    public void testGradeIssue() throws Exception {
+        final List<ScoreEntity> scoresEntities = this.scoresMapper.grade(2, null);
+
+        Assert.assertEquals(1, scoresEntities.size());
+        this.assertScore(scoresEntities.get(0), 2, 2, 1);
+        Assert.assertEquals(scoresEntities, this.scoresMapper.findByIssueId(2));
+    }
+
+    @Test
+    public void testGradeQuizzes() throws Exception {
+        final List<ScoreEntity> scoresEntities = this.scoresMapper.grade(null, Arrays.asList(1, 3));
+
+        Assert.assertEquals(2, scoresEntities.size());
+        Assert.assertEquals((Integer) 1, scoresEntities.get(0).getId());
+        this.assertScore(scoresEntities.get(0), 1, 1, 0);
+        this.assertScore(scoresEntities.get(1), 3, 0, 0);
+        Assert.assertTrue(scoresEntities.get(0).getGradedAt().isAfter(LocalDateTime.of(2003, 3, 1, 0, 0)));
+        Assert.assertEquals(scoresEntities.get(1), this.scoresMapper.findByQuizId(3));
+    }
+
+    @Test
+    public void testConcurrentGradesOfNewQuizKeepOneScore() throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        final List<Callable<List<ScoreEntity>>> gradings = new ArrayList<>();
+        for (int index = 0; index < 8; index++) {
+            gradings.add(() -> this.scoresMapper.grade(null, Arrays.asList(2)));
+        }
+        try {
+            for (Future<List<ScoreEntity>> grading: executorService.invokeAll(gradings)) {
+                this.assertScore(grading.get().get(0), 2, 2, 1);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        Assert.assertEquals(1, this.scoresMapper.findByIssueId(2).size());
+    }
+}
@@ -2,7 +2,11 @@ package easytests.core.mappers;
 
 import easytests.config.DatabaseConfig;
 import easytests.core.entities.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -16,6 +20,7 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.junit4.*;
 import org.springframework.test.context.support.AnnotationConfigContextLoader;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * @author SingularityA
@@ -109,4 +114,104 @@ public class SolutionsMapperTest {
         solution = this.solutionsMapper.find(1);
         Assert.assertNull(solution);
     }
+
+    @Test
+    public void testInsertList() throws Exception {
+        final Integer id = this.solutionsMapper.findAll().size() + 1;
+        final SolutionEntity firstEntity = new SolutionEntity();
+        firstEntity.setAnswerId(1);
+        firstEntity.setPointId(10);
+        final SolutionEntity secondEntity = new SolutionEntity();
+        secondEntity.setAnswerId(2);
+        secondEntity.setPointId(10);
+
+        this.solutionsMapper.insertList(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(id, firstEntity.getId());
+        Assert.assertEquals((Integer) (id + 1), secondEntity.getId());
+        Assert.assertEquals(firstEntity, this.solutionsMapper.find(id));
+        Assert.assertEquals(secondEntity, this.solutionsMapper.find(id + 1));
+    }
+
+    @Test
+    public void testUpdateList() throws Exception {
+        final SolutionEntity firstEntity = this.solutionsMapper.find(1);
+        final SolutionEntity secondEntity = this.solutionsMapper.find(2);
+        firstEntity.setAnswerId(30);
+        secondEntity.setAnswerId(31);
+
+        this.solutionsMapper.updateList(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(firstEntity, this.solutionsMapper.find(1));
+        Assert.assertEquals(secondEntity, this.solutionsMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteList() throws Exception {
+        final List<SolutionEntity> entities = Arrays.asList(this.solutionsMapper.find(1), this.solutionsMapper.find(2));
+
+        this.solutionsMapper.deleteList(entities);
+
+        Assert.assertNull(this.solutionsMapper.find(1));
+        Assert.assertNull(this.solutionsMapper.find(2));
+    }
+
+    @Test
+    public void testReplaceByPointsIds() throws Exception {
+        final SolutionEntity keptEntity = new SolutionEntity();
+        keptEntity.setAnswerId(10);
+        keptEntity.setPointId(1);
+        final SolutionEntity addedEntity = new SolutionEntity();
+        addedEntity.setAnswerId(11);
+        addedEntity.setPointId(1);
+
+        this.solutionsMapper.replaceByPointsIds(Arrays.asList(1, 2), Arrays.asList(keptEntity, addedEntity));
+
+        final List<SolutionEntity> solutions = this.solutionsMapper.findByPointId(1);
+        Assert.assertEquals(2, solutions.size());
+        Assert.assertTrue(solutions.contains(this.solutionsMapper.find(1)));
+        Assert.assertTrue(solutions.stream().anyMatch(solution -> solution.getAnswerId().equals(11)));
+        Assert.assertTrue(this.solutionsMapper.findByPointId(2).isEmpty());
+        Assert.assertEquals(1, this.solutionsMapper.findByPointId(3).size());
+
+        this.solutionsMapper.replaceByPointsIds(Arrays.asList(1), Arrays.asList());
+
+        Assert.assertTrue(this.solutionsMapper.findByPointId(1).isEmpty());
+    }
+
+    @Test
+    @Transactional
+    public void testExportByIssueId() throws Exception {
+        final List<SolutionExportEntity> solutionsExportEntities = new ArrayList<>();
+        try (Cursor<SolutionExportEntity> cursor = this.solutionsMapper.exportByIssueId(2)) {
+            cursor.forEach(solutionsExportEntities::add);
+        }
+
+        Assert.assertEquals(3, solutionsExportEntities.size());
+        final SolutionExportEntity solutionExportEntity = solutionsExportEntities.get(0);
+        Assert.assertEquals((Integer) 2, solutionExportEntity.getIssueId());
+        Assert.assertEquals((Integer) 2, solutionExportEntity.getQuizId());
+        Assert.assertEquals("test_invite_code2", solutionExportEntity.getInviteCode());
+        Assert.assertEquals("FirstName2", solutionExportEntity.getTesteeFirstName());
+        Assert.assertEquals((Integer) 302, solutionExportEntity.getTesteeGroupNumber());
+        Assert.assertEquals(LocalDateTime.of(2003, 2, 1, 0, 0), solutionExportEntity.getStartedAt());
+        Assert.assertEquals((Integer) 2, solutionExportEntity.getPointId());
+        Assert.assertEquals((Integer) 11, solutionExportEntity.getAnswerId());
+        Assert.assertEquals((Integer) 21, solutionsExportEntities.get(1).getAnswerId());
+        Assert.assertEquals((Integer) 3, solutionsExportEntities.get(2).getPointId());
+    }
+
+    @Test
+    @Transactional
+    public void testExportBySubjectId() throws Exception {
+        final List<SolutionExportEntity> solutionsExportEntities = new ArrayList<>();
+        try (Cursor<SolutionExportEntity> cursor = this.solutionsMapper.exportBySubjectId(1)) {
+            cursor.forEach(solutionsExportEntities::add);
+        }
+
+        Assert.assertEquals(2, solutionsExportEntities.size());
+        Assert.assertEquals((Integer) 1, solutionsExportEntities.get(0).getQuizId());
+        Assert.assertEquals((Integer) 10, solutionsExportEntities.get(0).getAnswerId());
+        Assert.assertEquals((Integer) 20, solutionsExportEntities.get(1).getAnswerId());
+    }
 }
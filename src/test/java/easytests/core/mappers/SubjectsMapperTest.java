@@ -77,6 +77,17 @@ public class SubjectsMapperTest {
 
     }
 
+    @Test
+    public void testFindPageByUserId() throws Exception {
+        final List<SubjectEntity> firstPage = this.subjectsMapper.findPageByUserId(2, 0, 1);
+        final List<SubjectEntity> nextPage = this.subjectsMapper.findPageByUserId(2, 1, 2);
+
+        Assert.assertEquals(1, firstPage.size());
+        Assert.assertEquals((Integer) 1, firstPage.get(0).getId());
+        Assert.assertEquals(1, nextPage.size());
+        Assert.assertEquals((Integer) 2, nextPage.get(0).getId());
+    }
+
     @Test
     public void testInsert() throws Exception {
         final Integer id = this.subjectsMapper.findAll().size() + 1;
@@ -139,4 +150,13 @@ public class SubjectsMapperTest {
         subject = this.subjectsMapper.find(1);
         Assert.assertNull(subject);
     }
+
+    @Test
+    public void testDeleteByUserId() throws Exception {
+        this.subjectsMapper.deleteByUserId(2);
+
+        Assert.assertNull(this.subjectsMapper.find(1));
+        Assert.assertNull(this.subjectsMapper.find(2));
+        Assert.assertNotNull(this.subjectsMapper.find(3));
+    }
 }
@@ -2,6 +2,7 @@ package easytests.core.mappers;
 
 import easytests.config.DatabaseConfig;
 import easytests.core.entities.TopicEntity;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
@@ -51,6 +52,24 @@ public class TopicsMapperTest {
         Assert.assertEquals("Name3", topicEntities.get(0).getName());
     }
 
+    @Test
+    public void testFindBySubjectIds() throws Exception {
+        final List<TopicEntity> topicEntities = this.topicsMapper.findBySubjectIds(Arrays.asList(2, 3));
+        Assert.assertEquals(3, topicEntities.size());
+        Assert.assertEquals("Name1", topicEntities.get(0).getName());
+        Assert.assertEquals((Integer) 2, topicEntities.get(0).getSubjectId());
+        Assert.assertEquals("Name3", topicEntities.get(2).getName());
+        Assert.assertEquals((Integer) 3, topicEntities.get(2).getSubjectId());
+    }
+
+    @Test
+    public void testFindByIds() throws Exception {
+        final List<TopicEntity> topicEntities = this.topicsMapper.findByIds(Arrays.asList(1, 3));
+        Assert.assertEquals(2, topicEntities.size());
+        Assert.assertEquals("Name1", topicEntities.get(0).getName());
+        Assert.assertEquals("Name3", topicEntities.get(1).getName());
+    }
+
     @Test
     public void testInsert() throws Exception {
         final Integer id = this.topicsMapper.findAll().size() + 1;
@@ -105,4 +124,62 @@ public class TopicsMapperTest {
         topicEntity = this.topicsMapper.find(1);
         Assert.assertNull(topicEntity);
     }
+
+    @Test
+    public void testInsertList() throws Exception {
+        final Integer id = this.topicsMapper.findAll().size() + 1;
+        final TopicEntity firstEntity = new TopicEntity();
+        firstEntity.setName("BatchFirst");
+        firstEntity.setSubjectId(1);
+        final TopicEntity secondEntity = new TopicEntity();
+        secondEntity.setName("BatchSecond");
+        secondEntity.setSubjectId(2);
+
+        this.topicsMapper.insertList(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(id, firstEntity.getId());
+        Assert.assertEquals((Integer) (id + 1), secondEntity.getId());
+        Assert.assertEquals(firstEntity, this.topicsMapper.find(id));
+        Assert.assertEquals(secondEntity, this.topicsMapper.find(id + 1));
+    }
+
+    @Test
+    public void testUpdateList() throws Exception {
+        final TopicEntity firstEntity = this.topicsMapper.find(1);
+        final TopicEntity secondEntity = this.topicsMapper.find(2);
+        firstEntity.setName("UpdatedFirst");
+        secondEntity.setName("UpdatedSecond");
+
+        this.topicsMapper.updateList(Arrays.asList(firstEntity, secondEntity));
+
+        Assert.assertEquals(firstEntity, this.topicsMapper.find(1));
+        Assert.assertEquals(secondEntity, this.topicsMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteList() throws Exception {
+        final List<TopicEntity> entities = Arrays.asList(this.topicsMapper.find(1), this.topicsMapper.find(2));
+
+        this.topicsMapper.deleteList(entities);
+
+        Assert.assertNull(this.topicsMapper.find(1));
+        Assert.assertNull(this.topicsMapper.find(2));
+    }
+
+    @Test
+    public void testDeleteBySubjectId() throws Exception {
+        this.topicsMapper.deleteBySubjectId(2);
+
+        Assert.assertNull(this.topicsMapper.find(1));
+        Assert.assertNull(this.topicsMapper.find(2));
+        Assert.assertNotNull(this.topicsMapper.find(3));
+    }
+
+    @Test
+    public void testDeleteByUserId() throws Exception {
+        this.topicsMapper.deleteByUserId(3);
+
+        Assert.assertNull(this.topicsMapper.find(3));
+        Assert.assertNotNull(this.topicsMapper.find(1));
+    }
 }
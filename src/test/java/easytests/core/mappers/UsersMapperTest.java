@@ -37,6 +37,18 @@ public class UsersMapperTest {
         Assert.assertEquals((long) 3, (long) usersEntities.size());
     }
 
+    @Test
+    public void testFindPage() throws Exception {
+        final List<UserEntity> firstPage = this.usersMapper.findPage(0, 2);
+        final List<UserEntity> lastPage = this.usersMapper.findPage(2, 2);
+
+        Assert.assertEquals(2, firstPage.size());
+        Assert.assertEquals((Integer) 1, firstPage.get(0).getId());
+        Assert.assertEquals((Integer) 2, firstPage.get(1).getId());
+        Assert.assertEquals(1, lastPage.size());
+        Assert.assertEquals((Integer) 3, lastPage.get(0).getId());
+    }
+
     @Test
     public void testFind() throws Exception {
         final UserEntity userEntity = this.usersMapper.find(1);
@@ -50,6 +62,12 @@ public class UsersMapperTest {
         Assert.assertEquals((Integer) 1, userEntity.getState());
     }
 
+    @Test
+    public void testFindByEmailIgnoresCase() throws Exception {
+        final UserEntity userEntity = this.usersMapper.findByEmail("Email1@Gmail.com");
+        Assert.assertEquals((Integer) 1, userEntity.getId());
+    }
+
     @Test
     public void testFindByEmail() throws Exception {
         final UserEntity userEntity = this.usersMapper.findByEmail("email1@gmail.com");
@@ -98,6 +116,16 @@ public class UsersMapperTest {
         Assert.assertEquals(state, userEntity.getState());
     }
 
+    @Test
+    public void testUpdateReturningPrevious() throws Exception {
+        final UserEntity previousEntity = this.usersMapper.find(1);
+        final UserEntity userEntity = this.usersMapper.find(1);
+        userEntity.setEmail("new.email@gmail.com");
+
+        Assert.assertEquals(previousEntity, this.usersMapper.updateReturningPrevious(userEntity));
+        Assert.assertEquals(userEntity, this.usersMapper.find(1));
+    }
+
     @Test
     public void testUpdate() throws Exception {
         final Integer id = 1;
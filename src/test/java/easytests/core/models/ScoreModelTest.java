@@ -0,0 +1,51 @@
+package easytests.core.models;
+
+import easytests.core.entities.ScoreEntity;
+import java.time.LocalDateTime;
+import org.junit.Assert;
+import org.junit.Test;
+import org.meanbean.test.BeanTester;
+import org.meanbean.test.Configuration;
+import org.meanbean.test.ConfigurationBuilder;
+import org.mockito.Mockito;
+
+
+/**
+ * @author malinink
+ */
+public class ScoreModelTest {
+
+    @Test
+    public void testCommon() throws Exception {
+        final Configuration configuration = new ConfigurationBuilder()
+                .ignoreProperty("quiz")
+                .ignoreProperty("gradedAt")
+                .build();
+        new BeanTester().testBean(ScoreModel.class, configuration);
+    }
+
+    @Test
+    public void testMap() throws Exception {
+        final Integer id = 1;
+        final Integer quizId = 2;
+        final Integer points = 10;
+        final Integer rightPoints = 7;
+        final LocalDateTime gradedAt = LocalDateTime.of(2003, 3, 1, 0, 0);
+
+        final ScoreEntity scoreEntity = Mockito.mock(ScoreEntity.class);
+        Mockito.when(scoreEntity.getId()).thenReturn(id);
+        Mockito.when(scoreEntity.getQuizId()).thenReturn(quizId);
+        Mockito.when(scoreEntity.getPoints()).thenReturn(points);
+        Mockito.when(scoreEntity.getRightPoints()).thenReturn(rightPoints);
+        Mockito.when(scoreEntity.getGradedAt()).thenReturn(gradedAt);
+
+        final ScoreModelInterface scoreModel = new ScoreModel();
+        scoreModel.map(scoreEntity);
+
+        Assert.assertEquals(id, scoreModel.getId());
+        Assert.assertEquals(quizId, scoreModel.getQuiz().getId());
+        Assert.assertEquals(points, scoreModel.getPoints());
+        Assert.assertEquals(rightPoints, scoreModel.getRightPoints());
+        Assert.assertEquals(gradedAt, scoreModel.getGradedAt());
+    }
+}
@@ -0,0 +1,94 @@
+package easytests.core.models.lazy;
+
+import easytests.core.models.TopicModel;
+import easytests.core.models.TopicModelInterface;
+import easytests.core.models.exceptions.CallMethodOnEmptyModelException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+
+/**
+ * @author malinink
+ */
+public class LazyModelsTest {
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    private final List<List<Integer>> loads = new ArrayList<>();
+
+    private Map<Integer, TopicModelInterface> loadTopics(List<Integer> ids) {
+        this.loads.add(ids);
+        final List<TopicModelInterface> topicsModels = new ArrayList<>(ids.size());
+        for (Integer id: ids) {
+            if (id < 10) {
+                final TopicModelInterface topicModel = new TopicModel();
+                topicModel.setId(id);
+                topicModel.setName("Name" + id);
+                topicsModels.add(topicModel);
+            }
+        }
+        return LazyBatch.index(topicsModels);
+    }
+
+    @Test
+    public void testGetIdDoesNotLoad() throws Exception {
+        final LazyBatch<TopicModelInterface> batch = new LazyBatch<>(this::loadTopics);
+        final TopicModelInterface topicModel = LazyModels.create(TopicModelInterface.class, 1, batch);
+
+        Assert.assertEquals((Integer) 1, topicModel.getId());
+        Assert.assertFalse(batch.isLoaded());
+        Assert.assertTrue(this.loads.isEmpty());
+    }
+
+    @Test
+    public void testSiblingsAreLoadedTogether() throws Exception {
+        final LazyBatch<TopicModelInterface> batch = new LazyBatch<>(this::loadTopics);
+        final TopicModelInterface first = LazyModels.create(TopicModelInterface.class, 1, batch);
+        final TopicModelInterface second = LazyModels.create(TopicModelInterface.class, 2, batch);
+        final TopicModelInterface same = LazyModels.create(TopicModelInterface.class, 1, batch);
+
+        Assert.assertEquals("Name2", second.getName());
+        Assert.assertEquals("Name1", first.getName());
+        Assert.assertEquals("Name1", same.getName());
+        Assert.assertEquals(1, this.loads.size());
+        Assert.assertEquals(Arrays.asList(1, 2), this.loads.get(0));
+    }
+
+    @Test
+    public void testLateRegisteredModelIsLoadedAlone() throws Exception {
+        final LazyBatch<TopicModelInterface> batch = new LazyBatch<>(this::loadTopics);
+        LazyModels.create(TopicModelInterface.class, 1, batch).getName();
+        final TopicModelInterface late = LazyModels.create(TopicModelInterface.class, 3, batch);
+
+        Assert.assertEquals("Name3", late.getName());
+        Assert.assertEquals(Arrays.asList(3), this.loads.get(1));
+    }
+
+    @Test
+    public void testMissingModel() throws Exception {
+        final LazyBatch<TopicModelInterface> batch = new LazyBatch<>(this::loadTopics);
+        final TopicModelInterface topicModel = LazyModels.create(TopicModelInterface.class, 10, batch);
+
+        exception.expect(CallMethodOnEmptyModelException.class);
+        topicModel.getName();
+    }
+
+    @Test
+    public void testModelsList() throws Exception {
+        final LazyBatch<List<String>> batch = new LazyBatch<>(ids -> LazyBatch.group(
+                Arrays.asList("1a", "1b", "2a"),
+                value -> Integer.valueOf(value.substring(0, 1))));
+        final List<String> first = new LazyModelsList<>(1, batch);
+        final List<String> absent = new LazyModelsList<>(3, batch);
+
+        Assert.assertFalse(batch.isLoaded());
+        Assert.assertEquals(Arrays.asList("1a", "1b"), first);
+        Assert.assertTrue(absent.isEmpty());
+    }
+}
@@ -4,6 +4,7 @@ import easytests.core.models.IssueStandardModelInterface;
 import easytests.core.models.IssueStandardQuestionTypeOptionModelInterface;
 import easytests.core.models.IssueStandardTopicPriorityModelInterface;
 import easytests.core.models.SubjectModelInterface;
+import easytests.core.models.empty.IssueStandardModelEmpty;
 import easytests.core.models.empty.ModelsListEmpty;
 import easytests.core.models.empty.SubjectModelEmpty;
 import easytests.core.services.IssueStandardQuestionTypeOptionsServiceInterface;
@@ -177,27 +178,48 @@ public class IssueStandardOptionsTest {
         issueStandardModels.add(issueStandardModelFirst);
         issueStandardModels.add(issueStandardModelSecond);
 
+        Mockito.when(issueStandardModelFirst.getId()).thenReturn(1);
+        Mockito.when(issueStandardModelSecond.getId()).thenReturn(2);
+
+        final IssueStandardTopicPriorityModelInterface topicPriorityModelFirst
+                = Mockito.mock(IssueStandardTopicPriorityModelInterface.class);
+        Mockito.when(topicPriorityModelFirst.getIssueStandard()).thenReturn(new IssueStandardModelEmpty(1));
+        final IssueStandardTopicPriorityModelInterface topicPriorityModelSecond
+                = Mockito.mock(IssueStandardTopicPriorityModelInterface.class);
+        Mockito.when(topicPriorityModelSecond.getIssueStandard()).thenReturn(new IssueStandardModelEmpty(2));
+
+        final List<IssueStandardTopicPriorityModelInterface> topicPriorityModels = new ArrayList<>(2);
+        topicPriorityModels.add(topicPriorityModelFirst);
+        topicPriorityModels.add(topicPriorityModelSecond);
+
         final List<IssueStandardTopicPriorityModelInterface> topicPriorityModelsFirst = new ArrayList<>(1);
-        topicPriorityModelsFirst.add(Mockito.mock(IssueStandardTopicPriorityModelInterface.class));
+        topicPriorityModelsFirst.add(topicPriorityModelFirst);
 
         final List<IssueStandardTopicPriorityModelInterface> topicPriorityModelsSecond = new ArrayList<>(1);
-        topicPriorityModelsSecond.add(Mockito.mock(IssueStandardTopicPriorityModelInterface.class));
+        topicPriorityModelsSecond.add(topicPriorityModelSecond);
 
-        given(topicPrioritiesService.findByIssueStandard(issueStandardModelFirst, topicPrioritiesOptions))
-                .willReturn(topicPriorityModelsFirst);
-        given(topicPrioritiesService.findByIssueStandard(issueStandardModelSecond, topicPrioritiesOptions))
-                .willReturn(topicPriorityModelsSecond);
+        given(topicPrioritiesService.findByIssueStandards(issueStandardModels, topicPrioritiesOptions))
+                .willReturn(topicPriorityModels);
+
+        final IssueStandardQuestionTypeOptionModelInterface questionTypeOptionModelFirst
+                = Mockito.mock(IssueStandardQuestionTypeOptionModelInterface.class);
+        Mockito.when(questionTypeOptionModelFirst.getIssueStandard()).thenReturn(new IssueStandardModelEmpty(1));
+        final IssueStandardQuestionTypeOptionModelInterface questionTypeOptionModelSecond
+                = Mockito.mock(IssueStandardQuestionTypeOptionModelInterface.class);
+        Mockito.when(questionTypeOptionModelSecond.getIssueStandard()).thenReturn(new IssueStandardModelEmpty(2));
+
+        final List<IssueStandardQuestionTypeOptionModelInterface> questionTypeOptionModels = new ArrayList<>(2);
+        questionTypeOptionModels.add(questionTypeOptionModelFirst);
+        questionTypeOptionModels.add(questionTypeOptionModelSecond);
 
         final List<IssueStandardQuestionTypeOptionModelInterface> questionTypeOptionModelsFirst = new ArrayList<>(1);
-        questionTypeOptionModelsFirst.add(Mockito.mock(IssueStandardQuestionTypeOptionModelInterface.class));
+        questionTypeOptionModelsFirst.add(questionTypeOptionModelFirst);
 
         final List<IssueStandardQuestionTypeOptionModelInterface> questionTypeOptionModelsSecond = new ArrayList<>(1);
-        questionTypeOptionModelsSecond.add(Mockito.mock(IssueStandardQuestionTypeOptionModelInterface.class));
+        questionTypeOptionModelsSecond.add(questionTypeOptionModelSecond);
 
-        given(questionTypeOptionsService.findByIssueStandard(issueStandardModelFirst, questionTypeOptionsOptions))
-                .willReturn(questionTypeOptionModelsFirst);
-        given(questionTypeOptionsService.findByIssueStandard(issueStandardModelSecond, questionTypeOptionsOptions))
-                .willReturn(questionTypeOptionModelsSecond);
+        given(questionTypeOptionsService.findByIssueStandards(issueStandardModels, questionTypeOptionsOptions))
+                .willReturn(questionTypeOptionModels);
 
         final SubjectModelInterface subjectModelFirst = Mockito.mock(SubjectModelInterface.class);
         Mockito.when(subjectModelFirst.getId()).thenReturn(subjectIdFirst);
@@ -212,10 +234,8 @@ public class IssueStandardOptionsTest {
         List<IssueStandardModelInterface> issueStandardModelsWithoutRelations
                 = issueStandardsOptions.withRelations(issueStandardModels);
 
-        verify(topicPrioritiesService, times(0)).findByIssueStandard(issueStandardModelFirst, topicPrioritiesOptions);
-        verify(topicPrioritiesService, times(0)).findByIssueStandard(issueStandardModelSecond, topicPrioritiesOptions);
-        verify(questionTypeOptionsService, times(0)).findByIssueStandard(issueStandardModelFirst, questionTypeOptionsOptions);
-        verify(questionTypeOptionsService, times(0)).findByIssueStandard(issueStandardModelSecond, questionTypeOptionsOptions);
+        verify(topicPrioritiesService, times(0)).findByIssueStandards(issueStandardModels, topicPrioritiesOptions);
+        verify(questionTypeOptionsService, times(0)).findByIssueStandards(issueStandardModels, questionTypeOptionsOptions);
         verify(subjectsService, times(0)).find(subjectIdFirst, subjectsOptions);
         verify(subjectsService, times(0)).find(subjectIdSecond, subjectsOptions);
 
@@ -239,10 +259,8 @@ public class IssueStandardOptionsTest {
         List<IssueStandardModelInterface> issueStandardModelsWithRelations
                 = issueStandardsOptions.withRelations(issueStandardModels);
 
-        verify(topicPrioritiesService, times(1)).findByIssueStandard(issueStandardModelFirst, topicPrioritiesOptions);
-        verify(topicPrioritiesService, times(1)).findByIssueStandard(issueStandardModelSecond, topicPrioritiesOptions);
-        verify(questionTypeOptionsService, times(1)).findByIssueStandard(issueStandardModelFirst, questionTypeOptionsOptions);
-        verify(questionTypeOptionsService, times(1)).findByIssueStandard(issueStandardModelSecond, questionTypeOptionsOptions);
+        verify(topicPrioritiesService, times(1)).findByIssueStandards(issueStandardModels, topicPrioritiesOptions);
+        verify(questionTypeOptionsService, times(1)).findByIssueStandards(issueStandardModels, questionTypeOptionsOptions);
         verify(subjectsService, times(1)).find(subjectIdFirst, subjectsOptions);
         verify(subjectsService, times(1)).find(subjectIdSecond, subjectsOptions);
 
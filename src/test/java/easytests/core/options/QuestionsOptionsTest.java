@@ -4,6 +4,7 @@ import easytests.core.models.AnswerModelInterface;
 import easytests.core.models.QuestionTypeModelInterface;
 import easytests.core.models.TopicModelInterface;
 import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.empty.QuestionModelEmpty;
 import easytests.core.models.empty.QuestionTypeModelEmpty;
 import easytests.core.models.empty.TopicModelEmpty;
 import easytests.core.services.AnswersServiceInterface;
@@ -18,6 +19,7 @@ import org.junit.runner.RunWith;
 import static org.mockito.BDDMockito.given;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -93,16 +95,21 @@ public class QuestionsOptionsTest {
     @Test
     public void testWithRelationsOnModelsList() throws Exception {
         final QuestionModelInterface questionModelFirst = Mockito.mock(QuestionModelInterface.class);
-        questionModelFirst.setId(1);
+        given(questionModelFirst.getId()).willReturn(1);
         given(questionModelFirst.getTopic()).willReturn(new TopicModelEmpty(1));
         given(questionModelFirst.getQuestionType()).willReturn(new QuestionTypeModelEmpty(1));
         final QuestionModelInterface questionModelSecond = Mockito.mock(QuestionModelInterface.class);
-        questionModelSecond.setId(2);
+        given(questionModelSecond.getId()).willReturn(2);
         given(questionModelSecond.getTopic()).willReturn(new TopicModelEmpty(2));
         given(questionModelSecond.getQuestionType()).willReturn(new QuestionTypeModelEmpty(2));
-        final List<QuestionModelInterface> questionsModels = new ArrayList<>(2);
+        final QuestionModelInterface questionModelThird = Mockito.mock(QuestionModelInterface.class);
+        given(questionModelThird.getId()).willReturn(3);
+        given(questionModelThird.getTopic()).willReturn(new TopicModelEmpty(1));
+        given(questionModelThird.getQuestionType()).willReturn(new QuestionTypeModelEmpty(1));
+        final List<QuestionModelInterface> questionsModels = new ArrayList<>(3);
         questionsModels.add(questionModelFirst);
         questionsModels.add(questionModelSecond);
+        questionsModels.add(questionModelThird);
 
         final QuestionsOptionsInterface questionsOptions = new QuestionsOptions();
         final AnswersServiceInterface answersService = Mockito.mock(AnswersServiceInterface.class);
@@ -117,38 +124,49 @@ public class QuestionsOptionsTest {
         questionsOptions.withTopic(topicsOptions);
         questionsOptions.setQuestionTypesService(questionTypesService);
         questionsOptions.withQuestionType(questionTypesOptions);
-        final List<AnswerModelInterface> answersModelsFirst = new ArrayList<>();
-        answersModelsFirst.add(Mockito.mock(AnswerModelInterface.class));
-        final List<AnswerModelInterface> answersModelsSecond = new ArrayList<>();
-        answersModelsSecond.add(Mockito.mock(AnswerModelInterface.class));
+        final AnswerModelInterface answerModelFirst = Mockito.mock(AnswerModelInterface.class);
+        given(answerModelFirst.getQuestion()).willReturn(new QuestionModelEmpty(1));
+        final AnswerModelInterface answerModelSecond = Mockito.mock(AnswerModelInterface.class);
+        given(answerModelSecond.getQuestion()).willReturn(new QuestionModelEmpty(2));
+        final AnswerModelInterface answerModelThird = Mockito.mock(AnswerModelInterface.class);
+        given(answerModelThird.getQuestion()).willReturn(new QuestionModelEmpty(1));
+        final List<AnswerModelInterface> answersModels = new ArrayList<>(3);
+        answersModels.add(answerModelFirst);
+        answersModels.add(answerModelSecond);
+        answersModels.add(answerModelThird);
+        final List<AnswerModelInterface> answersModelsFirst = new ArrayList<>(2);
+        answersModelsFirst.add(answerModelFirst);
+        answersModelsFirst.add(answerModelThird);
+        final List<AnswerModelInterface> answersModelsSecond = new ArrayList<>(1);
+        answersModelsSecond.add(answerModelSecond);
         TopicModelInterface topicModelFirst = Mockito.mock(TopicModelInterface.class);
         TopicModelInterface topicModelSecond = Mockito.mock(TopicModelInterface.class);
         QuestionTypeModelInterface questionTypeModelFirst = Mockito.mock(QuestionTypeModelInterface.class);
         QuestionTypeModelInterface questionTypeModelSecond = Mockito.mock(QuestionTypeModelInterface.class);
-        given(answersService.findByQuestion(questionModelFirst, answersOptions)).willReturn(answersModelsFirst);
-        given(answersService.findByQuestion(questionModelSecond, answersOptions)).willReturn(answersModelsSecond);
-        given(topicsService.find(questionModelFirst.getTopic().getId(), topicsOptions)).willReturn(topicModelFirst);
-        given(topicsService.find(questionModelSecond.getTopic().getId(), topicsOptions)).willReturn(topicModelSecond);
-        given(questionTypesService.find(questionModelFirst.getQuestionType().getId(), questionTypesOptions)).willReturn(questionTypeModelFirst);
-        given(questionTypesService.find(questionModelSecond.getQuestionType().getId(), questionTypesOptions)).willReturn(questionTypeModelSecond);
+        given(answersService.findByQuestions(questionsModels, answersOptions)).willReturn(answersModels);
+        given(topicsService.find(1, topicsOptions)).willReturn(topicModelFirst);
+        given(topicsService.find(2, topicsOptions)).willReturn(topicModelSecond);
+        given(questionTypesService.find(1, questionTypesOptions)).willReturn(questionTypeModelFirst);
+        given(questionTypesService.find(2, questionTypesOptions)).willReturn(questionTypeModelSecond);
 
         final List<QuestionModelInterface> questionsModelsWithRelations = questionsOptions.withRelations(questionsModels);
 
         Assert.assertEquals(questionsModelsWithRelations, questionsModels);
-        verify(answersService).findByQuestion(questionModelFirst, answersOptions);
-        verify(questionsModels.get(0)).setAnswers(answersModelsFirst);
-        verify(questionsModels.get(0)).setAnswers(Mockito.anyList());
-        verify(answersService).findByQuestion(questionModelSecond, answersOptions);
-        verify(questionsModels.get(1)).setAnswers(answersModelsSecond);
-        verify(questionsModels.get(1)).setAnswers(Mockito.anyList());
-        verify(topicsService).find(questionModelFirst.getTopic().getId(), topicsOptions);
-        verify(topicsService).find(questionModelSecond.getTopic().getId(), topicsOptions);
-        verify(questionsModels.get(0)).setTopic(topicModelFirst);
-        verify(questionsModels.get(1)).setTopic(topicModelSecond);
-        verify(questionTypesService).find(questionModelFirst.getQuestionType().getId(), questionTypesOptions);
-        verify(questionTypesService).find(questionModelSecond.getQuestionType().getId(), questionTypesOptions);
+        verify(answersService).findByQuestions(questionsModels, answersOptions);
+        verify(answersService, times(0)).findByQuestion(Mockito.any(), Mockito.any());
+        verify(questionModelFirst).setAnswers(answersModelsFirst);
+        verify(questionModelSecond).setAnswers(answersModelsSecond);
+        verify(questionModelThird).setAnswers(new ArrayList<>(0));
+        verify(topicsService).find(1, topicsOptions);
+        verify(topicsService).find(2, topicsOptions);
+        verify(questionModelFirst).setTopic(topicModelFirst);
+        verify(questionModelSecond).setTopic(topicModelSecond);
+        verify(questionModelThird).setTopic(topicModelFirst);
+        verify(questionTypesService).find(1, questionTypesOptions);
+        verify(questionTypesService).find(2, questionTypesOptions);
         verify(questionModelFirst).setQuestionType(questionTypeModelFirst);
         verify(questionModelSecond).setQuestionType(questionTypeModelSecond);
+        verify(questionModelThird).setQuestionType(questionTypeModelFirst);
     }
 
     @Test
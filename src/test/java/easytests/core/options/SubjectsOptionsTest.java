@@ -1,6 +1,7 @@
 package easytests.core.options;
 
 import easytests.core.models.*;
+import easytests.core.models.empty.SubjectModelEmpty;
 import easytests.core.models.empty.UserModelEmpty;
 import easytests.core.services.*;
 
@@ -121,14 +122,18 @@ public class SubjectsOptionsTest {
     public void testWithRelationsOnModelsList() throws Exception {
 
         final SubjectModelInterface subjectModelFirst = Mockito.mock(SubjectModelInterface.class);
-        subjectModelFirst.setId(1);
+        given(subjectModelFirst.getId()).willReturn(1);
         given(subjectModelFirst.getUser()).willReturn(new UserModelEmpty(1));
         final SubjectModelInterface subjectModelSecond = Mockito.mock(SubjectModelInterface.class);
-        subjectModelSecond.setId(2);
+        given(subjectModelSecond.getId()).willReturn(2);
         given(subjectModelSecond.getUser()).willReturn(new UserModelEmpty(2));
-        final List<SubjectModelInterface> subjectsModels = new ArrayList<>(2);
+        final SubjectModelInterface subjectModelThird = Mockito.mock(SubjectModelInterface.class);
+        given(subjectModelThird.getId()).willReturn(3);
+        given(subjectModelThird.getUser()).willReturn(new UserModelEmpty(1));
+        final List<SubjectModelInterface> subjectsModels = new ArrayList<>(3);
         subjectsModels.add(subjectModelFirst);
         subjectsModels.add(subjectModelSecond);
+        subjectsModels.add(subjectModelThird);
 
         final SubjectsOptionsInterface subjectsOptions = new SubjectsOptions();
 
@@ -154,32 +159,42 @@ public class SubjectsOptionsTest {
         subjectsOptions.withUser(userOptions);
         subjectsOptions.withIssues(issuesOptions);
 
-        final List<TopicModelInterface> topicsModelsFirst = new ArrayList<>();
-        topicsModelsFirst.add(Mockito.mock(TopicModelInterface.class));
-
-        final List<TopicModelInterface> topicsModelsSecond = new ArrayList<>();
-        topicsModelsSecond.add(Mockito.mock(TopicModelInterface.class));
-        topicsModelsSecond.add(Mockito.mock(TopicModelInterface.class));
-
-        given(topicsService.findBySubject(subjectModelFirst, topicsOptions)).willReturn(topicsModelsFirst);
-        given(topicsService.findBySubject(subjectModelSecond, topicsOptions)).willReturn(topicsModelsSecond);
-
-        final List<IssueModelInterface> issuesModelsFirst = new ArrayList<>();
-        issuesModelsFirst.add(Mockito.mock(IssueModelInterface.class));
-
-        final List<IssueModelInterface> issuesModelsSecond = new ArrayList<>();
-        issuesModelsFirst.add(Mockito.mock(IssueModelInterface.class));
-        issuesModelsFirst.add(Mockito.mock(IssueModelInterface.class));
-
-        given(issuesService.findBySubject(subjectModelFirst, issuesOptions)).willReturn(issuesModelsFirst);
-        given(issuesService.findBySubject(subjectModelSecond, issuesOptions)).willReturn(issuesModelsSecond);
+        final TopicModelInterface topicModelFirst = Mockito.mock(TopicModelInterface.class);
+        given(topicModelFirst.getSubject()).willReturn(new SubjectModelEmpty(1));
+        final TopicModelInterface topicModelSecond = Mockito.mock(TopicModelInterface.class);
+        given(topicModelSecond.getSubject()).willReturn(new SubjectModelEmpty(2));
+        final TopicModelInterface topicModelThird = Mockito.mock(TopicModelInterface.class);
+        given(topicModelThird.getSubject()).willReturn(new SubjectModelEmpty(2));
+        final List<TopicModelInterface> topicsModels = new ArrayList<>(3);
+        topicsModels.add(topicModelFirst);
+        topicsModels.add(topicModelSecond);
+        topicsModels.add(topicModelThird);
+        given(topicsService.findBySubjects(subjectsModels, topicsOptions)).willReturn(topicsModels);
+
+        final List<TopicModelInterface> topicsModelsFirst = new ArrayList<>(1);
+        topicsModelsFirst.add(topicModelFirst);
+        final List<TopicModelInterface> topicsModelsSecond = new ArrayList<>(2);
+        topicsModelsSecond.add(topicModelSecond);
+        topicsModelsSecond.add(topicModelThird);
+
+        final IssueModelInterface issueModelFirst = Mockito.mock(IssueModelInterface.class);
+        given(issueModelFirst.getSubject()).willReturn(new SubjectModelEmpty(1));
+        final IssueModelInterface issueModelSecond = Mockito.mock(IssueModelInterface.class);
+        given(issueModelSecond.getSubject()).willReturn(new SubjectModelEmpty(1));
+        final List<IssueModelInterface> issuesModels = new ArrayList<>(2);
+        issuesModels.add(issueModelFirst);
+        issuesModels.add(issueModelSecond);
+        given(issuesService.findBySubjects(subjectsModels, issuesOptions)).willReturn(issuesModels);
 
         final IssueStandardModelInterface issueStandardModelFirst = Mockito.mock(IssueStandardModelInterface.class);
+        given(issueStandardModelFirst.getSubject()).willReturn(new SubjectModelEmpty(1));
         final IssueStandardModelInterface issueStandardModelSecond = Mockito.mock(IssueStandardModelInterface.class);
-        given(issueStandardService.findBySubject(subjectModelFirst, issueStandardOptions))
-                .willReturn(issueStandardModelFirst);
-        given(issueStandardService.findBySubject(subjectModelSecond, issueStandardOptions))
-                .willReturn(issueStandardModelSecond);
+        given(issueStandardModelSecond.getSubject()).willReturn(new SubjectModelEmpty(2));
+        final List<IssueStandardModelInterface> issueStandardsModels = new ArrayList<>(2);
+        issueStandardsModels.add(issueStandardModelFirst);
+        issueStandardsModels.add(issueStandardModelSecond);
+        given(issueStandardService.findBySubjects(subjectsModels, issueStandardOptions))
+                .willReturn(issueStandardsModels);
 
         final UserModelInterface userModelFirst = Mockito.mock(UserModelInterface.class);
         final UserModelInterface userModelSecond = Mockito.mock(UserModelInterface.class);
@@ -190,29 +205,26 @@ public class SubjectsOptionsTest {
 
         Assert.assertEquals(subjectsModelsWithRelations, subjectsModels);
 
-        verify(issuesService).findBySubject(subjectModelSecond, issuesOptions);
-        verify(topicsService).findBySubject(subjectModelFirst, topicsOptions);
-        verify(issueStandardService).findBySubject(subjectModelFirst, issueStandardOptions);
-        verify(usersService).find(1, userOptions);
-
-        verify(subjectsModels.get(0)).setTopics(topicsModelsFirst);
-        verify(subjectsModels.get(0)).setTopics(Mockito.anyList());
-        verify(subjectsModels.get(0)).setIssues(issuesModelsFirst);
-        verify(subjectsModels.get(0)).setIssues(Mockito.anyList());
-        verify(subjectsModels.get(0)).setIssueStandard(issueStandardModelFirst);
-        verify(subjectsModels.get(0)).setUser(userModelFirst);
-
-        verify(issuesService).findBySubject(subjectModelSecond, issuesOptions);
-        verify(topicsService).findBySubject(subjectModelSecond, topicsOptions);
-        verify(issueStandardService).findBySubject(subjectModelSecond, issueStandardOptions);
-        verify(usersService).find(2, userOptions);
-
-        verify(subjectsModels.get(1)).setTopics(topicsModelsSecond);
-        verify(subjectsModels.get(1)).setTopics(Mockito.anyList());
-        verify(subjectsModels.get(1)).setIssues(issuesModelsSecond);
-        verify(subjectsModels.get(1)).setIssues(Mockito.anyList());
-        verify(subjectsModels.get(1)).setIssueStandard(issueStandardModelSecond);
-        verify(subjectsModels.get(1)).setUser(userModelSecond);
+        verify(topicsService).findBySubjects(subjectsModels, topicsOptions);
+        verify(issuesService).findBySubjects(subjectsModels, issuesOptions);
+        verify(issueStandardService).findBySubjects(subjectsModels, issueStandardOptions);
+        verify(usersService, times(1)).find(1, userOptions);
+        verify(usersService, times(1)).find(2, userOptions);
+
+        verify(subjectModelFirst).setTopics(topicsModelsFirst);
+        verify(subjectModelFirst).setIssues(issuesModels);
+        verify(subjectModelFirst).setIssueStandard(issueStandardModelFirst);
+        verify(subjectModelFirst).setUser(userModelFirst);
+
+        verify(subjectModelSecond).setTopics(topicsModelsSecond);
+        verify(subjectModelSecond).setIssues(new ArrayList<>(0));
+        verify(subjectModelSecond).setIssueStandard(issueStandardModelSecond);
+        verify(subjectModelSecond).setUser(userModelSecond);
+
+        verify(subjectModelThird).setTopics(new ArrayList<>(0));
+        verify(subjectModelThird).setIssues(new ArrayList<>(0));
+        verify(subjectModelThird).setIssueStandard(null);
+        verify(subjectModelThird).setUser(userModelFirst);
     }
 
     @Test
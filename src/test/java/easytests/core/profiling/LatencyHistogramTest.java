@@ -0,0 +1,57 @@
+package easytests.core.profiling;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author malinink
+ */
+public class LatencyHistogramTest {
+    @Test
+    public void testBucketsAreContiguous() throws Exception {
+        long value = 0;
+        while (value < 1L << 20) {
+            final int index = LatencyHistogram.bucketIndex(value);
+            final long nextValue = LatencyHistogram.highestEquivalentValue(index) + 1;
+            Assert.assertTrue(value < nextValue);
+            Assert.assertEquals(index + 1, LatencyHistogram.bucketIndex(nextValue));
+            value = nextValue;
+        }
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+        Assert.assertEquals(0, histogram.getMean(), 0);
+    }
+
+    @Test
+    public void testPercentiles() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        Assert.assertEquals(10000, histogram.getCount());
+        Assert.assertEquals(5000000, histogram.getValueAtPercentile(50), 5000000 / 64);
+        Assert.assertEquals(9900000, histogram.getValueAtPercentile(99), 9900000 / 64);
+        Assert.assertEquals(10000000, histogram.getValueAtPercentile(100));
+        Assert.assertEquals(10000000, histogram.getMax());
+        Assert.assertEquals(5000500, histogram.getMean(), 0.001);
+    }
+
+    @Test
+    public void testOutOfRangeValuesAreClamped() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+
+        Assert.assertEquals(2, histogram.getCount());
+        Assert.assertEquals(0, histogram.getValueAtPercentile(50));
+        Assert.assertEquals((1L << 40) - 1, histogram.getValueAtPercentile(100));
+    }
+}
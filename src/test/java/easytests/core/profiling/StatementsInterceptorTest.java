@@ -0,0 +1,86 @@
+package easytests.core.profiling;
+
+import static org.mockito.BDDMockito.*;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author malinink
+ */
+public class StatementsInterceptorTest {
+    private final StatementsInterceptor statementsInterceptor = new StatementsInterceptor();
+
+    private final Executor target = mock(Executor.class);
+
+    private final Executor executor = (Executor) this.statementsInterceptor.plugin(this.target);
+
+    private MappedStatement createMappedStatement(String method, SqlCommandType sqlCommandType) {
+        final String id = "easytests.core.mappers." + method;
+        return new MappedStatement.Builder(new Configuration(), id, mock(SqlSource.class), sqlCommandType).build();
+    }
+
+    @Test
+    public void testQueries() throws Exception {
+        final String method = "QuestionsMapper.findByTopicId";
+        final MappedStatement statement = this.createMappedStatement(method, SqlCommandType.SELECT);
+        given(this.target.query(statement, 1, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER))
+                .willReturn(Arrays.asList(1, 2, 3));
+
+        this.executor.query(statement, 1, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER);
+        this.executor.query(statement, 1, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER);
+
+        final StatementStatistics statistics = this.statementsInterceptor.getStatistics().get(method);
+        Assert.assertEquals(2, statistics.getCalls());
+        Assert.assertEquals(6, statistics.getRows());
+        Assert.assertEquals(0, statistics.getErrors());
+        Assert.assertTrue(statistics.getP50Micros() <= statistics.getMaxMicros());
+    }
+
+    @Test
+    public void testUpdates() throws Exception {
+        final MappedStatement statement = this.createMappedStatement("AnswersMapper.update", SqlCommandType.UPDATE);
+        given(this.target.update(statement, 1)).willReturn(4);
+
+        this.executor.update(statement, 1);
+
+        final StatementStatistics statistics = this.statementsInterceptor.getStatistics().get("AnswersMapper.update");
+        Assert.assertEquals(1, statistics.getCalls());
+        Assert.assertEquals(4, statistics.getRows());
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        final MappedStatement statement = this.createMappedStatement("AnswersMapper.delete", SqlCommandType.DELETE);
+        given(this.target.update(statement, 1)).willThrow(new SQLException());
+
+        try {
+            this.executor.update(statement, 1);
+            Assert.fail();
+        } catch (SQLException e) {
+            final StatementStatistics statistics = this.statementsInterceptor.getStatistics()
+                    .get("AnswersMapper.delete");
+            Assert.assertEquals(1, statistics.getCalls());
+            Assert.assertEquals(1, statistics.getErrors());
+        }
+    }
+
+    @Test
+    public void testReset() throws Exception {
+        final MappedStatement statement = this.createMappedStatement("AnswersMapper.update", SqlCommandType.UPDATE);
+        this.executor.update(statement, 1);
+
+        this.statementsInterceptor.reset();
+
+        Assert.assertTrue(this.statementsInterceptor.getStatistics().isEmpty());
+    }
+}
@@ -9,6 +9,8 @@ import easytests.core.options.AnswersOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.*;
@@ -16,6 +18,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.*;
 
 import static org.mockito.BDDMockito.*;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.*;
 import org.springframework.boot.test.context.*;
@@ -35,6 +38,9 @@ public class AnswersServiceTest {
     @MockBean
     private AnswersMapper answersMapper;
 
+    @MockBean
+    private RegradingService regradingService;
+
     @Autowired
     private AnswersService answersService;
 
@@ -116,6 +122,38 @@ public class AnswersServiceTest {
         Assert.assertEquals(0, answersModels.size());
     }
 
+    @Test
+    public void testFindByQuestions() throws Exception {
+        final QuestionModelInterface questionModelFirst = Mockito.mock(QuestionModelInterface.class);
+        final QuestionModelInterface questionModelSecond = Mockito.mock(QuestionModelInterface.class);
+        Mockito.when(questionModelFirst.getId()).thenReturn(1);
+        Mockito.when(questionModelSecond.getId()).thenReturn(2);
+        final List<QuestionModelInterface> questionsModels = new ArrayList<>(2);
+        questionsModels.add(questionModelFirst);
+        questionsModels.add(questionModelSecond);
+        final List<AnswerEntity> answersEntities = new ArrayList<>(2);
+        final AnswerEntity answerEntityFirst = this.createAnswerEntityMock(1, "Answer1", 1, 1, true);
+        final AnswerEntity answerEntitySecond = this.createAnswerEntityMock(2, "Answer2", 2, 2, false);
+        answersEntities.add(answerEntityFirst);
+        answersEntities.add(answerEntitySecond);
+        given(this.answersMapper.findByQuestionIds(Arrays.asList(1, 2))).willReturn(answersEntities);
+
+        final List<AnswerModelInterface> answersModels = this.answersService.findByQuestions(questionsModels);
+
+        verify(this.answersMapper).findByQuestionIds(Arrays.asList(1, 2));
+        Assert.assertEquals(2, answersModels.size());
+        Assert.assertEquals(answersModels.get(0), this.mapAnswerModel(answerEntityFirst));
+        Assert.assertEquals(answersModels.get(1), this.mapAnswerModel(answerEntitySecond));
+    }
+
+    @Test
+    public void testFindByQuestionsOnEmptyList() throws Exception {
+        final List<AnswerModelInterface> answersModels = this.answersService.findByQuestions(new ArrayList<>(0));
+
+        verify(this.answersMapper, times(0)).findByQuestionIds(Mockito.anyList());
+        Assert.assertEquals(0, answersModels.size());
+    }
+
     @Test
     public void testFindPresentModel() throws Exception {
         final Integer id = 1;
@@ -175,7 +213,35 @@ public class AnswersServiceTest {
 
         this.answersService.save(answerModel);
 
-        verify(this.answersMapper, times(1)).update(this.mapAnswerEntity(answerModel));
+        verify(this.answersMapper, times(1)).updateReturningPrevious(this.mapAnswerEntity(answerModel));
+    }
+
+    @Test
+    public void testSaveRegradesChangedAnswer() throws Exception {
+        final AnswerModelInterface answerModel = this.createAnswerModel(1, "Answer22", 1, 1, true);
+        answerModel.setRight(false);
+        final AnswerEntity previousEntity = this.createAnswerEntityMock(1, "Answer22", 1, 1, true);
+        given(this.answersMapper.updateReturningPrevious(this.mapAnswerEntity(answerModel))).willReturn(previousEntity);
+        final ArgumentCaptor<List> questionsModelsCaptor = ArgumentCaptor.forClass(List.class);
+
+        this.answersService.save(answerModel);
+
+        verify(this.regradingService, times(1)).regrade(questionsModelsCaptor.capture());
+        Assert.assertEquals(1, questionsModelsCaptor.getValue().size());
+        Assert.assertEquals(
+                (Integer) 1,
+                ((QuestionModelInterface) questionsModelsCaptor.getValue().get(0)).getId());
+    }
+
+    @Test
+    public void testSaveDoesNotRegradeUnchangedAnswer() throws Exception {
+        final AnswerModelInterface answerModel = this.createAnswerModel(1, "Answer22", 1, 1, true);
+        final AnswerEntity previousEntity = this.createAnswerEntityMock(1, "Answer2", 1, 1, true);
+        given(this.answersMapper.updateReturningPrevious(this.mapAnswerEntity(answerModel))).willReturn(previousEntity);
+
+        this.answersService.save(answerModel);
+
+        verify(this.regradingService, never()).regrade(Mockito.anyList());
     }
 
     @Test
@@ -187,6 +253,33 @@ public class AnswersServiceTest {
         verify(this.answersMapper, times(1)).delete(this.mapAnswerEntity(answerModel));
     }
 
+    @Test
+    public void testDeleteRegradesRightAnswer() throws Exception {
+        final AnswerModelInterface answerModel = this.createAnswerModel(1, "Answer3", 7, 1, true);
+        final AnswerEntity deletedEntity = this.createAnswerEntityMock(1, "Answer3", 7, 1, true);
+        given(this.answersMapper.delete(this.mapAnswerEntity(answerModel))).willReturn(deletedEntity);
+        final ArgumentCaptor<List> questionsModelsCaptor = ArgumentCaptor.forClass(List.class);
+
+        this.answersService.delete(answerModel);
+
+        verify(this.regradingService, times(1)).regrade(questionsModelsCaptor.capture());
+        Assert.assertEquals(1, questionsModelsCaptor.getValue().size());
+        Assert.assertEquals(
+                (Integer) 7,
+                ((QuestionModelInterface) questionsModelsCaptor.getValue().get(0)).getId());
+    }
+
+    @Test
+    public void testDeleteDoesNotRegradeWrongAnswer() throws Exception {
+        final AnswerModelInterface answerModel = this.createAnswerModel(1, "Answer3", 7, 1, true);
+        final AnswerEntity deletedEntity = this.createAnswerEntityMock(1, "Answer3", 7, 1, false);
+        given(this.answersMapper.delete(this.mapAnswerEntity(answerModel))).willReturn(deletedEntity);
+
+        this.answersService.delete(answerModel);
+
+        verify(this.regradingService, never()).regrade(Mockito.anyList());
+    }
+
     @Test
     public void testDeleteUnidentifiedModel() throws Exception {
         final AnswerModelInterface answerModel = this.createAnswerModel(null, "Answer4", 1, 1, true);
@@ -195,4 +288,86 @@ public class AnswersServiceTest {
         this.answersService.delete(answerModel);
     }
 
+    @Test
+    public void testSaveList() throws Exception {
+        final AnswerModelInterface answerModelFirst = this.createAnswerModel(1, "Answer1", 1, 1, true);
+        final AnswerModelInterface answerModelSecond = this.createAnswerModel(null, "Answer2", 1, 2, false);
+        final List<AnswerModelInterface> answersModels = new ArrayList<>();
+        answersModels.add(answerModelFirst);
+        answersModels.add(answerModelSecond);
+        doAnswer(invocation -> {
+            final List<AnswerEntity> answersEntities = (List<AnswerEntity>) invocation.getArguments()[0];
+            answersEntities.get(0).setId(100);
+            return null;
+        }).when(this.answersMapper).insertList(Mockito.anyList());
+
+        this.answersService.save(answersModels);
+
+        verify(this.answersMapper, times(1))
+                .updateListReturningPrevious(Collections.singletonList(this.mapAnswerEntity(answerModelFirst)));
+        verify(this.answersMapper, times(1)).insertList(Mockito.anyList());
+        verify(this.answersMapper, times(0)).insert(Mockito.any(AnswerEntity.class));
+        verify(this.answersMapper, times(0)).update(Mockito.any(AnswerEntity.class));
+        Assert.assertEquals((Integer) 100, answerModelSecond.getId());
+    }
+
+    @Test
+    public void testDeleteList() throws Exception {
+        final AnswerModelInterface answerModelFirst = this.createAnswerModel(1, "Answer1", 1, 1, true);
+        final AnswerModelInterface answerModelSecond = this.createAnswerModel(2, "Answer2", 1, 2, false);
+        final List<AnswerModelInterface> answersModels = new ArrayList<>();
+        answersModels.add(answerModelFirst);
+        answersModels.add(answerModelSecond);
+        final List<AnswerEntity> answersEntities = new ArrayList<>();
+        answersEntities.add(this.mapAnswerEntity(answerModelFirst));
+        answersEntities.add(this.mapAnswerEntity(answerModelSecond));
+
+        this.answersService.delete(answersModels);
+
+        verify(this.answersMapper, times(1)).deleteList(answersEntities);
+        verify(this.answersMapper, times(0)).delete(Mockito.any(AnswerEntity.class));
+    }
+
+    @Test
+    public void testDeleteListRegradesRightAnswers() throws Exception {
+        final List<AnswerModelInterface> answersModels = new ArrayList<>();
+        answersModels.add(this.createAnswerModel(1, "Answer1", 7, 1, true));
+        answersModels.add(this.createAnswerModel(2, "Answer2", 8, 1, true));
+        given(this.answersMapper.deleteList(Mockito.anyList())).willReturn(Arrays.asList(
+                this.createAnswerEntityMock(1, "Answer1", 7, 1, true),
+                this.createAnswerEntityMock(2, "Answer2", 8, 1, false)));
+        final ArgumentCaptor<List> questionsModelsCaptor = ArgumentCaptor.forClass(List.class);
+
+        this.answersService.delete(answersModels);
+
+        verify(this.regradingService, times(1)).regrade(questionsModelsCaptor.capture());
+        Assert.assertEquals(1, questionsModelsCaptor.getValue().size());
+        Assert.assertEquals(
+                (Integer) 7,
+                ((QuestionModelInterface) questionsModelsCaptor.getValue().get(0)).getId());
+    }
+
+    @Test
+    public void testDeleteListWithOptions() throws Exception {
+        final AnswerModelInterface answerModelFirst = this.createAnswerModel(1, "Answer1", 1, 1, true);
+        final AnswerModelInterface answerModelSecond = this.createAnswerModel(2, "Answer2", 1, 2, false);
+        final AnswersOptionsInterface answersOptions = Mockito.mock(AnswersOptionsInterface.class);
+
+        this.answersService.delete(Arrays.asList(answerModelFirst, answerModelSecond), answersOptions);
+
+        verify(answersOptions, times(1)).deleteWithRelations(answerModelFirst);
+        verify(answersOptions, times(1)).deleteWithRelations(answerModelSecond);
+        verify(answersOptions, never()).saveWithRelations(Mockito.any(AnswerModelInterface.class));
+    }
+
+    @Test
+    public void testDeleteListWithUnidentifiedModel() throws Exception {
+        final List<AnswerModelInterface> answersModels = new ArrayList<>();
+        answersModels.add(this.createAnswerModel(1, "Answer1", 1, 1, true));
+        answersModels.add(this.createAnswerModel(null, "Answer2", 1, 2, false));
+
+        exception.expect(DeleteUnidentifiedModelException.class);
+        this.answersService.delete(answersModels);
+    }
+
 }
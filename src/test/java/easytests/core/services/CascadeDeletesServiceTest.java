@@ -0,0 +1,148 @@
+package easytests.core.services;
+
+import easytests.core.entities.QuestionEntity;
+import easytests.core.entities.SubjectEntity;
+import easytests.core.entities.TopicEntity;
+import easytests.core.entities.UserEntity;
+import easytests.core.mappers.AnswersMapper;
+import easytests.core.mappers.IssueStandardQuestionTypeOptionsMapper;
+import easytests.core.mappers.IssueStandardTopicPrioritiesMapper;
+import easytests.core.mappers.IssueStandardsMapper;
+import easytests.core.mappers.QuestionsMapper;
+import easytests.core.mappers.SubjectsMapper;
+import easytests.core.mappers.TopicsMapper;
+import easytests.core.mappers.UsersMapper;
+import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.SubjectModelInterface;
+import easytests.core.models.TopicModel;
+import easytests.core.models.TopicModelInterface;
+import easytests.core.models.UserModelInterface;
+import easytests.core.models.empty.SubjectModelEmpty;
+import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.support.Models;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+/**
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class CascadeDeletesServiceTest {
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Autowired
+    private CascadeDeletesService cascadeDeletesService;
+
+    @MockBean
+    private AnswersMapper answersMapper;
+
+    @MockBean
+    private QuestionsMapper questionsMapper;
+
+    @MockBean
+    private TopicsMapper topicsMapper;
+
+    @MockBean
+    private IssueStandardTopicPrioritiesMapper topicPrioritiesMapper;
+
+    @MockBean
+    private IssueStandardQuestionTypeOptionsMapper questionTypeOptionsMapper;
+
+    @MockBean
+    private IssueStandardsMapper issueStandardsMapper;
+
+    @MockBean
+    private SubjectsMapper subjectsMapper;
+
+    @MockBean
+    private UsersMapper usersMapper;
+
+    private InOrder inOrder() {
+        return Mockito.inOrder(
+                this.answersMapper,
+                this.questionsMapper,
+                this.topicsMapper,
+                this.topicPrioritiesMapper,
+                this.questionTypeOptionsMapper,
+                this.issueStandardsMapper,
+                this.subjectsMapper,
+                this.usersMapper);
+    }
+
+    @Test
+    public void testDeleteUser() throws Exception {
+        final UserModelInterface userModel = Models.createUserModel(2, "", "", "", "", "", false, 1);
+        final InOrder inOrder = this.inOrder();
+
+        this.cascadeDeletesService.delete(userModel);
+
+        inOrder.verify(this.answersMapper).deleteByUserId(2);
+        inOrder.verify(this.questionsMapper).deleteByUserId(2);
+        inOrder.verify(this.topicsMapper).deleteByUserId(2);
+        inOrder.verify(this.topicPrioritiesMapper).deleteByUserId(2);
+        inOrder.verify(this.questionTypeOptionsMapper).deleteByUserId(2);
+        inOrder.verify(this.issueStandardsMapper).deleteByUserId(2);
+        inOrder.verify(this.subjectsMapper).deleteByUserId(2);
+        inOrder.verify(this.usersMapper).delete(Mockito.any(UserEntity.class));
+    }
+
+    @Test
+    public void testDeleteSubject() throws Exception {
+        final SubjectModelInterface subjectModel = Models.createSubjectModel(2, "test2", "testdescription2", 2);
+        final InOrder inOrder = this.inOrder();
+
+        this.cascadeDeletesService.delete(subjectModel);
+
+        inOrder.verify(this.answersMapper).deleteBySubjectId(2);
+        inOrder.verify(this.questionsMapper).deleteBySubjectId(2);
+        inOrder.verify(this.topicsMapper).deleteBySubjectId(2);
+        inOrder.verify(this.topicPrioritiesMapper).deleteBySubjectId(2);
+        inOrder.verify(this.questionTypeOptionsMapper).deleteBySubjectId(2);
+        inOrder.verify(this.issueStandardsMapper).deleteBySubjectId(2);
+        inOrder.verify(this.subjectsMapper).delete(Mockito.any(SubjectEntity.class));
+    }
+
+    @Test
+    public void testDeleteTopic() throws Exception {
+        final TopicModelInterface topicModel = new TopicModel();
+        topicModel.setId(1);
+        topicModel.setSubject(new SubjectModelEmpty(2));
+        final InOrder inOrder = this.inOrder();
+
+        this.cascadeDeletesService.delete(topicModel);
+
+        inOrder.verify(this.answersMapper).deleteByTopicId(1);
+        inOrder.verify(this.questionsMapper).deleteByTopicId(1);
+        inOrder.verify(this.topicsMapper).delete(Mockito.any(TopicEntity.class));
+        Mockito.verifyZeroInteractions(this.issueStandardsMapper, this.subjectsMapper);
+    }
+
+    @Test
+    public void testDeleteQuestion() throws Exception {
+        final QuestionModelInterface questionModel = Models.createQuestionModel(1, "test1", 1, 1);
+        final InOrder inOrder = this.inOrder();
+
+        this.cascadeDeletesService.delete(questionModel);
+
+        inOrder.verify(this.answersMapper).deleteByQuestionId(1);
+        inOrder.verify(this.questionsMapper).delete(Mockito.any(QuestionEntity.class));
+        Mockito.verifyZeroInteractions(this.topicsMapper);
+    }
+
+    @Test
+    public void testDeleteUnidentifiedModel() throws Exception {
+        this.exception.expect(DeleteUnidentifiedModelException.class);
+        this.cascadeDeletesService.delete(new TopicModel());
+    }
+}
@@ -0,0 +1,123 @@
+package easytests.core.services;
+
+import easytests.core.entities.ScoreEntity;
+import easytests.core.mappers.ScoresMapper;
+import easytests.core.models.IssueModelInterface;
+import easytests.core.models.QuizModelInterface;
+import easytests.core.models.ScoreModelInterface;
+import easytests.core.models.empty.QuizModelEmpty;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import static org.mockito.BDDMockito.*;
+
+
+/**
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class GradingServiceTest {
+
+    @Mock
+    private ScoresMapper scoresMapper;
+
+    @Mock
+    private SolutionSubmissionsService solutionSubmissionsService;
+
+    @InjectMocks
+    private GradingService gradingService;
+
+    private ScoreEntity createScoreEntity(Integer quizId, Integer points, Integer rightPoints) {
+        final ScoreEntity scoreEntity = new ScoreEntity();
+        scoreEntity.setId(quizId);
+        scoreEntity.setQuizId(quizId);
+        scoreEntity.setPoints(points);
+        scoreEntity.setRightPoints(rightPoints);
+        return scoreEntity;
+    }
+
+    private IssueModelInterface createIssueModel(Integer id) {
+        final IssueModelInterface issueModel = mock(IssueModelInterface.class);
+        when(issueModel.getId()).thenReturn(id);
+        return issueModel;
+    }
+
+    @Test
+    public void testGradeIssue() throws Exception {
+        given(this.scoresMapper.grade(1, null)).willReturn(Arrays.asList(
+                this.createScoreEntity(1, 3, 2),
+                this.createScoreEntity(2, 3, 0)));
+
+        final List<ScoreModelInterface> scoresModels = this.gradingService.grade(this.createIssueModel(1));
+
+        Assert.assertEquals(2, scoresModels.size());
+        Assert.assertEquals((Integer) 1, scoresModels.get(0).getQuiz().getId());
+        Assert.assertEquals((Integer) 2, scoresModels.get(0).getRightPoints());
+        Assert.assertEquals((Integer) 0, scoresModels.get(1).getRightPoints());
+        final InOrder inOrder = inOrder(this.solutionSubmissionsService, this.scoresMapper);
+        inOrder.verify(this.solutionSubmissionsService).flush();
+        inOrder.verify(this.scoresMapper).grade(1, null);
+    }
+
+    @Test
+    public void testGradeQuiz() throws Exception {
+        given(this.scoresMapper.grade(null, Arrays.asList(5))).willReturn(Arrays.asList(
+                this.createScoreEntity(5, 2, 1)));
+
+        final ScoreModelInterface scoreModel = this.gradingService.grade(new QuizModelEmpty(5));
+
+        Assert.assertEquals((Integer) 5, scoreModel.getQuiz().getId());
+        Assert.assertEquals((Integer) 2, scoreModel.getPoints());
+        verify(this.solutionSubmissionsService, times(1)).flush();
+    }
+
+    @Test
+    public void testGradeFlushedDoesNotFlush() throws Exception {
+        given(this.scoresMapper.grade(null, Arrays.asList(5, 6))).willReturn(Arrays.asList(
+                this.createScoreEntity(5, 2, 1),
+                this.createScoreEntity(6, 2, 2)));
+
+        final List<ScoreModelInterface> scoresModels = this.gradingService.gradeFlushed(Arrays.asList(
+                new QuizModelEmpty(5),
+                new QuizModelEmpty(6)));
+
+        Assert.assertEquals(2, scoresModels.size());
+        verify(this.solutionSubmissionsService, never()).flush();
+    }
+
+    @Test
+    public void testGradeNoQuizzes() throws Exception {
+        final List<QuizModelInterface> quizzesModels = new ArrayList<>();
+
+        Assert.assertTrue(this.gradingService.grade(quizzesModels).isEmpty());
+        verify(this.scoresMapper, never()).grade(any(), any());
+    }
+
+    @Test
+    public void testFindByIssue() throws Exception {
+        given(this.scoresMapper.findByIssueId(1)).willReturn(Arrays.asList(this.createScoreEntity(1, 3, 2)));
+
+        final List<ScoreModelInterface> scoresModels = this.gradingService.findByIssue(this.createIssueModel(1));
+
+        Assert.assertEquals(1, scoresModels.size());
+        Assert.assertEquals((Integer) 3, scoresModels.get(0).getPoints());
+        verify(this.solutionSubmissionsService, never()).flush();
+    }
+
+    @Test
+    public void testFindByQuiz() throws Exception {
+        given(this.scoresMapper.findByQuizId(1)).willReturn(this.createScoreEntity(1, 3, 2));
+
+        Assert.assertEquals((Integer) 2, this.gradingService.findByQuiz(new QuizModelEmpty(1)).getRightPoints());
+        Assert.assertNull(this.gradingService.findByQuiz(new QuizModelEmpty(2)));
+    }
+}
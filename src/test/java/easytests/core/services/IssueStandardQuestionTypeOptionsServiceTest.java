@@ -7,9 +7,11 @@ import easytests.core.models.IssueStandardQuestionTypeOptionModel;
 import easytests.core.models.IssueStandardQuestionTypeOptionModelInterface;
 import easytests.core.options.IssueStandardQuestionTypeOptionsOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
 import easytests.support.Entities;
 import easytests.support.Models;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -19,6 +21,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
 
@@ -40,6 +43,9 @@ public class IssueStandardQuestionTypeOptionsServiceTest {
     @Mock
     private IssueStandardQuestionTypeOptionsMapper questionTypeOptionsMapper;
 
+    @Spy
+    private IdentityMap identityMap = new IdentityMap();
+
     @InjectMocks
     private IssueStandardQuestionTypeOptionsService questionTypeOptionsService;
 
@@ -269,18 +275,22 @@ public class IssueStandardQuestionTypeOptionsServiceTest {
 
         final Integer id = 10;
         doAnswer(invocations -> {
-            final IssueStandardQuestionTypeOptionEntity questionTypeOptionEntity
-                    = (IssueStandardQuestionTypeOptionEntity) invocations.getArguments()[0];
-            questionTypeOptionEntity.setId(id);
+            final List<IssueStandardQuestionTypeOptionEntity> questionTypeOptionEntities
+                    = (List<IssueStandardQuestionTypeOptionEntity>) invocations.getArguments()[0];
+            questionTypeOptionEntities.get(0).setId(id);
             return null;
-        }).when(this.questionTypeOptionsMapper).insert(Mockito.any(IssueStandardQuestionTypeOptionEntity.class));
+        }).when(this.questionTypeOptionsMapper).insertList(Mockito.anyList());
 
         this.questionTypeOptionsService.save(questionTypeOptionModels);
 
         verify(this.questionTypeOptionsMapper, times(1))
-                .update(this.mapQuestionTypeOptionEntity(questionTypeOptionModels.get(0)));
-        verify(this.questionTypeOptionsMapper, times(1))
-                .insert(this.mapQuestionTypeOptionEntity(questionTypeOptionModels.get(1)));
+                .updateList(Collections.singletonList(
+                        this.mapQuestionTypeOptionEntity(questionTypeOptionModels.get(0))));
+        verify(this.questionTypeOptionsMapper, times(1)).insertList(Mockito.anyList());
+        verify(this.questionTypeOptionsMapper, times(0))
+                .update(Mockito.any(IssueStandardQuestionTypeOptionEntity.class));
+        verify(this.questionTypeOptionsMapper, times(0))
+                .insert(Mockito.any(IssueStandardQuestionTypeOptionEntity.class));
         Assert.assertEquals(id, questionTypeOptionModels.get(1).getId());
     }
 
@@ -340,12 +350,16 @@ public class IssueStandardQuestionTypeOptionsServiceTest {
         final List<IssueStandardQuestionTypeOptionModelInterface> questionTypeOptionModels
                 = this.getQuestionTypeOptionModels();
 
-        this.questionTypeOptionsService.delete(questionTypeOptionModels);
-
+        final List<IssueStandardQuestionTypeOptionEntity> questionTypeOptionEntities = new ArrayList<>(2);
         for (IssueStandardQuestionTypeOptionModelInterface questionTypeOptionModel: questionTypeOptionModels) {
-            verify(this.questionTypeOptionsMapper, times(1))
-                    .delete(this.mapQuestionTypeOptionEntity(questionTypeOptionModel));
+            questionTypeOptionEntities.add(this.mapQuestionTypeOptionEntity(questionTypeOptionModel));
         }
+
+        this.questionTypeOptionsService.delete(questionTypeOptionModels);
+
+        verify(this.questionTypeOptionsMapper, times(1)).deleteList(questionTypeOptionEntities);
+        verify(this.questionTypeOptionsMapper, times(0))
+                .delete(Mockito.any(IssueStandardQuestionTypeOptionEntity.class));
     }
 
     @Test
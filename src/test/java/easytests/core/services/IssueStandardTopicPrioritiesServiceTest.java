@@ -7,9 +7,11 @@ import easytests.core.models.IssueStandardTopicPriorityModel;
 import easytests.core.models.IssueStandardTopicPriorityModelInterface;
 import easytests.core.options.IssueStandardTopicPrioritiesOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
 import easytests.support.Entities;
 import easytests.support.Models;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -19,6 +21,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
 
@@ -40,6 +43,9 @@ public class IssueStandardTopicPrioritiesServiceTest {
     @Mock
     private IssueStandardTopicPrioritiesMapper topicPrioritiesMapper;
 
+    @Spy
+    private IdentityMap identityMap = new IdentityMap();
+
     @InjectMocks
     private IssueStandardTopicPrioritiesService topicPrioritiesService;
 
@@ -257,16 +263,19 @@ public class IssueStandardTopicPrioritiesServiceTest {
 
         final Integer id = 10;
         doAnswer(invocations -> {
-            final IssueStandardTopicPriorityEntity topicPriorityEntity
-                    = (IssueStandardTopicPriorityEntity) invocations.getArguments()[0];
-            topicPriorityEntity.setId(id);
+            final List<IssueStandardTopicPriorityEntity> topicPriorityEntities
+                    = (List<IssueStandardTopicPriorityEntity>) invocations.getArguments()[0];
+            topicPriorityEntities.get(0).setId(id);
             return null;
-        }).when(this.topicPrioritiesMapper).insert(Mockito.any(IssueStandardTopicPriorityEntity.class));
+        }).when(this.topicPrioritiesMapper).insertList(Mockito.anyList());
 
         this.topicPrioritiesService.save(topicPriorityModels);
 
-        verify(this.topicPrioritiesMapper, times(1)).update(this.mapTopicPriorityEntity(topicPriorityModels.get(0)));
-        verify(this.topicPrioritiesMapper, times(1)).insert(this.mapTopicPriorityEntity(topicPriorityModels.get(1)));
+        verify(this.topicPrioritiesMapper, times(1))
+                .updateList(Collections.singletonList(this.mapTopicPriorityEntity(topicPriorityModels.get(0))));
+        verify(this.topicPrioritiesMapper, times(1)).insertList(Mockito.anyList());
+        verify(this.topicPrioritiesMapper, times(0)).update(Mockito.any(IssueStandardTopicPriorityEntity.class));
+        verify(this.topicPrioritiesMapper, times(0)).insert(Mockito.any(IssueStandardTopicPriorityEntity.class));
         Assert.assertEquals(id, topicPriorityModels.get(1).getId());
     }
 
@@ -321,11 +330,15 @@ public class IssueStandardTopicPrioritiesServiceTest {
     public void testDeleteList() throws Exception {
         final List<IssueStandardTopicPriorityModelInterface> topicPriorityModels = this.getTopicPriorityModels();
 
-        this.topicPrioritiesService.delete(topicPriorityModels);
-
+        final List<IssueStandardTopicPriorityEntity> topicPriorityEntities = new ArrayList<>(2);
         for (IssueStandardTopicPriorityModelInterface topicPriorityModel: topicPriorityModels) {
-            verify(this.topicPrioritiesMapper, times(1)).delete(this.mapTopicPriorityEntity(topicPriorityModel));
+            topicPriorityEntities.add(this.mapTopicPriorityEntity(topicPriorityModel));
         }
+
+        this.topicPrioritiesService.delete(topicPriorityModels);
+
+        verify(this.topicPrioritiesMapper, times(1)).deleteList(topicPriorityEntities);
+        verify(this.topicPrioritiesMapper, times(0)).delete(Mockito.any(IssueStandardTopicPriorityEntity.class));
     }
 
     @Test
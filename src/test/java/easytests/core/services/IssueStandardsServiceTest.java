@@ -5,6 +5,7 @@ import easytests.core.mappers.IssueStandardsMapper;
 import easytests.core.models.*;
 import easytests.core.options.IssueStandardsOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.identity.IdentityMap;
 import easytests.support.Entities;
 import easytests.support.Models;
 import java.util.ArrayList;
@@ -15,6 +16,7 @@ import org.junit.runner.*;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.*;
 import org.springframework.test.context.junit4.*;
 
@@ -33,6 +35,12 @@ public class IssueStandardsServiceTest {
     @Mock
     private IssueStandardsMapper issueStandardsMapper;
 
+    @Spy
+    private IdentityMap identityMap = new IdentityMap();
+
+    @Mock
+    private OwnershipService ownershipService;
+
     @InjectMocks
     private IssueStandardsService issueStandardsService;
 
@@ -139,6 +147,27 @@ public class IssueStandardsServiceTest {
         Assert.assertEquals(issueStandardModel, foundedIssueStandardModel);
     }
 
+    @Test
+    public void testFindWithOptionsTwiceInUnitOfWorkQueriesOnce() throws Exception {
+        final Integer id = 1;
+        final IssueStandardEntity issueStandardEntity = Entities.createIssueStandardEntityMock(id, 1200, 20, 2);
+        final IssueStandardsOptionsInterface issueStandardsOptions = Mockito.mock(IssueStandardsOptionsInterface.class);
+        given(this.issueStandardsMapper.find(id)).willReturn(issueStandardEntity);
+        given(issueStandardsOptions.withRelations(Mockito.any(IssueStandardModelInterface.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        this.identityMap.open();
+        try {
+            final IssueStandardModelInterface first = this.issueStandardsService.find(id, issueStandardsOptions);
+            final IssueStandardModelInterface second = this.issueStandardsService.find(id, issueStandardsOptions);
+
+            Assert.assertSame(first, second);
+        } finally {
+            this.identityMap.close();
+        }
+        verify(this.issueStandardsMapper, times(1)).find(id);
+    }
+
     @Test
     public void testFindBySubjectPresentModel() throws Exception {
         final Integer subjectId = 3;
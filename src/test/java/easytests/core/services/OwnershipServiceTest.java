@@ -0,0 +1,109 @@
+package easytests.core.services;
+
+import easytests.core.mappers.OwnershipMapper;
+import easytests.core.models.UserModel;
+import easytests.core.models.UserModelInterface;
+import easytests.core.services.ownership.Ownership;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+/**
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class OwnershipServiceTest {
+    @MockBean
+    private OwnershipMapper ownershipMapper;
+
+    @Autowired
+    private OwnershipService ownershipService;
+
+    private UserModelInterface createUserModel(Integer id) {
+        final UserModelInterface userModel = new UserModel();
+        userModel.setId(id);
+        return userModel;
+    }
+
+    @Test
+    public void testOwnedIsRemembered() throws Exception {
+        final UserModelInterface userModel = this.createUserModel(2);
+        this.ownershipService.evictAll();
+        given(this.ownershipMapper.findQuestionOwnerId(1)).willReturn(2);
+
+        Assert.assertEquals(Ownership.OWNED, this.ownershipService.checkQuestion(userModel, 1));
+        Assert.assertEquals(Ownership.OWNED, this.ownershipService.checkQuestion(userModel, 1));
+
+        verify(this.ownershipMapper, times(1)).findQuestionOwnerId(1);
+    }
+
+    @Test
+    public void testOwnersAreRememberedAndAbsentIsNot() throws Exception {
+        final UserModelInterface userModel = this.createUserModel(3);
+        this.ownershipService.evictAll();
+        given(this.ownershipMapper.findSubjectOwnerId(1)).willReturn(2);
+        given(this.ownershipMapper.findSubjectOwnerId(10)).willReturn(null);
+
+        Assert.assertEquals(Ownership.FOREIGN, this.ownershipService.checkSubject(userModel, 1));
+        Assert.assertEquals(Ownership.FOREIGN, this.ownershipService.checkSubject(userModel, 1));
+        Assert.assertEquals(Ownership.ABSENT, this.ownershipService.checkSubject(userModel, 10));
+        Assert.assertEquals(Ownership.ABSENT, this.ownershipService.checkSubject(userModel, 10));
+
+        verify(this.ownershipMapper, times(1)).findSubjectOwnerId(1);
+        verify(this.ownershipMapper, times(2)).findSubjectOwnerId(10);
+    }
+
+    @Test
+    public void testEvictedModelIsLoadedAgain() throws Exception {
+        final UserModelInterface userModel = this.createUserModel(2);
+        this.ownershipService.evictAll();
+        given(this.ownershipMapper.findQuestionOwnerId(1)).willReturn(2);
+        given(this.ownershipMapper.findIssueOwnerId(1)).willReturn(2);
+
+        this.ownershipService.checkQuestion(userModel, 1);
+        this.ownershipService.checkIssue(userModel, 1);
+        given(this.ownershipMapper.findQuestionOwnerId(1)).willReturn(null);
+        this.ownershipService.evictQuestion(1);
+
+        Assert.assertEquals(Ownership.ABSENT, this.ownershipService.checkQuestion(userModel, 1));
+        Assert.assertEquals(Ownership.OWNED, this.ownershipService.checkIssue(userModel, 1));
+        verify(this.ownershipMapper, times(1)).findIssueOwnerId(1);
+    }
+
+    @Test
+    public void testEvictAllClearsEveryModel() throws Exception {
+        final UserModelInterface userModel = this.createUserModel(2);
+        this.ownershipService.evictAll();
+        given(this.ownershipMapper.findTopicOwnerId(1)).willReturn(2);
+
+        this.ownershipService.checkTopic(userModel, 1);
+        this.ownershipService.evictAll();
+        this.ownershipService.checkTopic(userModel, 1);
+
+        verify(this.ownershipMapper, times(2)).findTopicOwnerId(1);
+    }
+
+    @Test
+    public void testOwnershipIsPerUserAndType() throws Exception {
+        final UserModelInterface owner = this.createUserModel(2);
+        final UserModelInterface other = this.createUserModel(3);
+        this.ownershipService.evictAll();
+        given(this.ownershipMapper.findTopicOwnerId(1)).willReturn(2);
+        given(this.ownershipMapper.findIssueStandardOwnerId(1)).willReturn(3);
+        given(this.ownershipMapper.findIssueOwnerId(1)).willReturn(3);
+
+        Assert.assertEquals(Ownership.OWNED, this.ownershipService.checkTopic(owner, 1));
+        Assert.assertEquals(Ownership.FOREIGN, this.ownershipService.checkTopic(other, 1));
+        Assert.assertEquals(Ownership.FOREIGN, this.ownershipService.checkIssueStandard(owner, 1));
+        Assert.assertEquals(Ownership.OWNED, this.ownershipService.checkIssue(other, 1));
+    }
+}
@@ -307,11 +307,14 @@ public class PointsServiceTest {
 
         final PointsOptionsInterface pointsOptions = Mockito.mock(PointsOptionsInterface.class);
 
-        final PointsServiceInterface pointsServiceSpy = Mockito.spy(pointsService);
+        final List<PointEntity> pointsEntities = new ArrayList<>();
+        pointsEntities.add(this.mapPointEntity(pointModelFirst));
+        pointsEntities.add(this.mapPointEntity(pointModelSecond));
 
-        pointsServiceSpy.delete(pointsModels);
-        verify(pointsServiceSpy, times(1)).delete(pointModelFirst);
-        verify(pointsServiceSpy, times(1)).delete(pointModelSecond);
+        this.pointsService.delete(pointsModels);
+        verify(this.pointsMapper, times(1)).deleteList(pointsEntities);
+
+        final PointsServiceInterface pointsServiceSpy = Mockito.spy(pointsService);
 
         pointsServiceSpy.delete(pointsModels);
         verify(pointsServiceSpy, times(1)).delete(pointModelFirst, pointsOptions);
@@ -0,0 +1,164 @@
+package easytests.core.services;
+
+import easytests.core.entities.AnswerEntity;
+import easytests.core.entities.QuestionEntity;
+import easytests.core.entities.TopicEntity;
+import easytests.core.mappers.AnswersMapper;
+import easytests.core.mappers.QuestionsMapper;
+import easytests.core.mappers.TopicsMapper;
+import easytests.core.models.AnswerModel;
+import easytests.core.models.AnswerModelInterface;
+import easytests.core.models.QuestionModel;
+import easytests.core.models.QuestionModelInterface;
+import easytests.core.models.TopicModel;
+import easytests.core.models.TopicModelInterface;
+import easytests.core.models.empty.QuestionTypeModelEmpty;
+import easytests.core.models.empty.SubjectModelEmpty;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit4.SpringRunner;
+import static org.mockito.BDDMockito.*;
+
+
+/**
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class QuestionsBulkServiceTest {
+
+    @Mock
+    private TopicsMapper topicsMapper;
+
+    @Mock
+    private QuestionsMapper questionsMapper;
+
+    @Mock
+    private AnswersMapper answersMapper;
+
+    @InjectMocks
+    private QuestionsBulkService questionsBulkService;
+
+    private TopicModelInterface createTopicModel(Integer id, String name) {
+        final TopicModelInterface topicModel = new TopicModel();
+        topicModel.setId(id);
+        topicModel.setName(name);
+        topicModel.setSubject(new SubjectModelEmpty(1));
+        return topicModel;
+    }
+
+    private QuestionModelInterface createQuestionModel(String text, TopicModelInterface topicModel, String... answers) {
+        final QuestionModelInterface questionModel = new QuestionModel();
+        questionModel.setText(text);
+        questionModel.setQuestionType(new QuestionTypeModelEmpty(1));
+        questionModel.setTopic(topicModel);
+        final List<AnswerModelInterface> answersModels = new ArrayList<>();
+        for (String answer: answers) {
+            final AnswerModelInterface answerModel = new AnswerModel();
+            answerModel.setTxt(answer);
+            answerModel.setRight(answersModels.isEmpty());
+            answerModel.setSerialNumber(answersModels.size() + 1);
+            answerModel.setQuestion(questionModel);
+            answersModels.add(answerModel);
+        }
+        questionModel.setAnswers(answersModels);
+        return questionModel;
+    }
+
+    private void givenGeneratedIds(int firstTopicId, int firstQuestionId, int firstAnswerId) {
+        doAnswer(invocation -> {
+            int id = firstTopicId;
+            for (TopicEntity topicEntity: (List<TopicEntity>) invocation.getArguments()[0]) {
+                topicEntity.setId(id++);
+            }
+            return null;
+        }).when(this.topicsMapper).insertList(anyList());
+        doAnswer(invocation -> {
+            int id = firstQuestionId;
+            for (QuestionEntity questionEntity: (List<QuestionEntity>) invocation.getArguments()[0]) {
+                questionEntity.setId(id++);
+            }
+            return null;
+        }).when(this.questionsMapper).insertList(anyList());
+        doAnswer(invocation -> {
+            int id = firstAnswerId;
+            for (AnswerEntity answerEntity: (List<AnswerEntity>) invocation.getArguments()[0]) {
+                answerEntity.setId(id++);
+            }
+            return null;
+        }).when(this.answersMapper).insertList(anyList());
+    }
+
+    @Test
+    public void testInsertFansOutGeneratedIds() throws Exception {
+        final TopicModelInterface savedTopicModel = this.createTopicModel(1, "Saved");
+        final TopicModelInterface newTopicModel = this.createTopicModel(null, "New");
+        final List<QuestionModelInterface> questionsModels = Arrays.asList(
+                this.createQuestionModel("First", newTopicModel, "First1", "First2"),
+                this.createQuestionModel("Second", savedTopicModel, "Second1"),
+                this.createQuestionModel("Third", newTopicModel, "Third1"));
+        this.givenGeneratedIds(10, 20, 30);
+
+        this.questionsBulkService.insert(questionsModels);
+
+        final ArgumentCaptor<List> topicsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(this.topicsMapper, times(1)).insertList(topicsCaptor.capture());
+        Assert.assertEquals(1, topicsCaptor.getValue().size());
+
+        final ArgumentCaptor<List> questionsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(this.questionsMapper, times(1)).insertList(questionsCaptor.capture());
+        final List<QuestionEntity> questionsEntities = questionsCaptor.getValue();
+        Assert.assertEquals((Integer) 10, questionsEntities.get(0).getTopicId());
+        Assert.assertEquals((Integer) 1, questionsEntities.get(1).getTopicId());
+        Assert.assertEquals((Integer) 10, questionsEntities.get(2).getTopicId());
+
+        final ArgumentCaptor<List> answersCaptor = ArgumentCaptor.forClass(List.class);
+        verify(this.answersMapper, times(1)).insertList(answersCaptor.capture());
+        final List<AnswerEntity> answersEntities = answersCaptor.getValue();
+        Assert.assertEquals(4, answersEntities.size());
+        Assert.assertEquals((Integer) 20, answersEntities.get(1).getQuestionId());
+        Assert.assertEquals((Integer) 21, answersEntities.get(2).getQuestionId());
+        Assert.assertEquals((Integer) 22, answersEntities.get(3).getQuestionId());
+
+        Assert.assertEquals((Integer) 10, newTopicModel.getId());
+        Assert.assertEquals((Integer) 22, questionsModels.get(2).getId());
+        Assert.assertEquals((Integer) 31, questionsModels.get(0).getAnswers().get(1).getId());
+    }
+
+    @Test
+    public void testInsertKeepsModelsUnsavedOnFailure() throws Exception {
+        final TopicModelInterface newTopicModel = this.createTopicModel(null, "New");
+        final List<QuestionModelInterface> questionsModels =
+                Collections.singletonList(this.createQuestionModel("First", newTopicModel, "First1"));
+        this.givenGeneratedIds(10, 20, 30);
+        doThrow(new DataIntegrityViolationException("answers"))
+                .when(this.answersMapper).insertList(anyList());
+
+        try {
+            this.questionsBulkService.insert(questionsModels);
+            Assert.fail();
+        } catch (DataIntegrityViolationException e) {
+            Assert.assertNull(newTopicModel.getId());
+            Assert.assertNull(questionsModels.get(0).getId());
+        }
+    }
+
+    @Test
+    public void testInsertEmptyList() throws Exception {
+        this.questionsBulkService.insert(new ArrayList<>());
+
+        verify(this.topicsMapper, never()).insertList(anyList());
+        verify(this.questionsMapper, never()).insertList(anyList());
+        verify(this.answersMapper, never()).insertList(anyList());
+    }
+}
@@ -5,11 +5,15 @@ import easytests.core.mappers.QuestionsMapper;
 import easytests.core.models.QuestionModel;
 import easytests.core.models.QuestionModelInterface;
 import easytests.core.models.TopicModelInterface;
+import easytests.core.models.empty.QuestionTypeModelEmpty;
+import easytests.core.models.empty.TopicModelEmpty;
+import easytests.core.models.lazy.LazyModelsList;
 import easytests.core.options.QuestionsOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
 import easytests.support.Models;
 import easytests.support.Entities;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.*;
 import org.junit.rules.ExpectedException;
@@ -180,6 +184,78 @@ public class QuestionsServiceTest {
         Assert.assertEquals(questionsModels, foundedQuestionsModels);
     }
 
+    @Test
+    public void testFindByTopics() throws Exception {
+        final TopicModelInterface topicModelFirst = Mockito.mock(TopicModelInterface.class);
+        final TopicModelInterface topicModelSecond = Mockito.mock(TopicModelInterface.class);
+        given(topicModelFirst.getId()).willReturn(7);
+        given(topicModelSecond.getId()).willReturn(9);
+        final List<TopicModelInterface> topicsModels = new ArrayList<>();
+        topicsModels.add(topicModelFirst);
+        topicsModels.add(topicModelSecond);
+        final QuestionEntity questionEntityFirst = Entities.createQuestionEntityMock(3, "test3", 1, 7);
+        final QuestionEntity questionEntitySecond = Entities.createQuestionEntityMock(12, "test12", 1, 9);
+        final List<QuestionEntity> questionsEntities = new ArrayList<>();
+        questionsEntities.add(questionEntityFirst);
+        questionsEntities.add(questionEntitySecond);
+        given(this.questionsMapper.findByTopicIds(Arrays.asList(7, 9))).willReturn(questionsEntities);
+        final List<QuestionModelInterface> questionsModels = new ArrayList<>();
+        questionsModels.add(this.mapQuestionModel(questionEntityFirst));
+        questionsModels.add(this.mapQuestionModel(questionEntitySecond));
+
+        final List<QuestionModelInterface> foundedQuestionsModels = this.questionsService.findByTopics(topicsModels);
+
+        verify(this.questionsMapper).findByTopicIds(Arrays.asList(7, 9));
+        Assert.assertEquals(questionsModels, foundedQuestionsModels);
+    }
+
+    @Test
+    public void testFindByTopicsOnEmptyList() throws Exception {
+        final List<QuestionModelInterface> foundedQuestionsModels = this.questionsService.findByTopics(new ArrayList<>());
+
+        verify(this.questionsMapper, times(0)).findByTopicIds(Mockito.anyList());
+        Assert.assertEquals(0, foundedQuestionsModels.size());
+    }
+
+    @Test
+    public void testFindByTopicsWithOptions() throws Exception {
+        final TopicModelInterface topicModel = Mockito.mock(TopicModelInterface.class);
+        given(topicModel.getId()).willReturn(7);
+        final List<TopicModelInterface> topicsModels = new ArrayList<>();
+        topicsModels.add(topicModel);
+        final QuestionEntity questionEntity = Entities.createQuestionEntityMock(3, "test3", 1, 7);
+        final List<QuestionEntity> questionsEntities = new ArrayList<>();
+        questionsEntities.add(questionEntity);
+        given(this.questionsMapper.findByTopicIds(Arrays.asList(7))).willReturn(questionsEntities);
+        final List<QuestionModelInterface> questionsModels = new ArrayList<>();
+        questionsModels.add(this.mapQuestionModel(questionEntity));
+        final QuestionsOptionsInterface questionOptions = Mockito.mock(QuestionsOptionsInterface.class);
+        given(questionOptions.withRelations(questionsModels)).willReturn(questionsModels);
+
+        final List<QuestionModelInterface> foundedQuestionsModels
+                = this.questionsService.findByTopics(topicsModels, questionOptions);
+
+        verify(this.questionsMapper).findByTopicIds(Arrays.asList(7));
+        verify(questionOptions).withRelations(questionsModels);
+        Assert.assertEquals(questionsModels, foundedQuestionsModels);
+    }
+
+    @Test
+    public void testWithLazyRelations() throws Exception {
+        final List<QuestionModelInterface> questionsModels = this.getQuestionsModels();
+
+        this.questionsService.withLazyRelations(questionsModels);
+
+        for (QuestionModelInterface questionModel: questionsModels) {
+            Assert.assertFalse(questionModel.getTopic() instanceof TopicModelEmpty);
+            Assert.assertFalse(questionModel.getQuestionType() instanceof QuestionTypeModelEmpty);
+            Assert.assertTrue(questionModel.getAnswers() instanceof LazyModelsList);
+        }
+        Assert.assertEquals(
+                this.getQuestionsModels().get(0).getTopic().getId(),
+                questionsModels.get(0).getTopic().getId());
+    }
+
     @Test
     public void testSaveCreatesEntity() throws Exception {
         final QuestionModelInterface questionModel = Models.createQuestionModel(null, "Text", 1, 1);
@@ -215,11 +291,23 @@ public class QuestionsServiceTest {
         questionsModels.add(questionModelFirst);
         questionsModels.add(questionModelSecond);
 
-        final QuestionsServiceInterface questionsServiceSpy = Mockito.spy(questionsService);
+        final List<QuestionEntity> questionsEntities = new ArrayList<>();
+        questionsEntities.add(this.mapQuestionEntity(questionModelFirst));
+        questionsEntities.add(this.mapQuestionEntity(questionModelSecond));
+        doAnswer(invocation -> {
+            final List<QuestionEntity> insertedEntities = (List<QuestionEntity>) invocation.getArguments()[0];
+            insertedEntities.get(0).setId(10);
+            insertedEntities.get(1).setId(11);
+            return null;
+        }).when(this.questionsMapper).insertList(questionsEntities);
 
-        questionsServiceSpy.save(questionsModels);
-        verify(questionsServiceSpy, times(1)).save(questionModelFirst);
-        verify(questionsServiceSpy, times(1)).save(questionModelSecond);
+        this.questionsService.save(questionsModels);
+        verify(this.questionsMapper, times(1)).insertList(questionsEntities);
+        verify(this.questionsMapper, times(0)).updateList(Mockito.anyList());
+        Assert.assertEquals((Integer) 10, questionModelFirst.getId());
+        Assert.assertEquals((Integer) 11, questionModelSecond.getId());
+
+        final QuestionsServiceInterface questionsServiceSpy = Mockito.spy(questionsService);
 
         questionsServiceSpy.save(questionsModels, questionsOptions);
         verify(questionsServiceSpy, times(1)).save(questionModelFirst, questionsOptions);
@@ -264,11 +352,15 @@ public class QuestionsServiceTest {
         questionsModels.add(questionModelFirst);
         questionsModels.add(questionModelSecond);
 
-        final QuestionsServiceInterface questionsServiceSpy = Mockito.spy(questionsService);
+        final List<QuestionEntity> questionsEntities = new ArrayList<>();
+        questionsEntities.add(this.mapQuestionEntity(questionModelFirst));
+        questionsEntities.add(this.mapQuestionEntity(questionModelSecond));
 
-        questionsServiceSpy.delete(questionsModels);
-        verify(questionsServiceSpy, times(1)).delete(questionModelFirst);
-        verify(questionsServiceSpy, times(1)).delete(questionModelSecond);
+        this.questionsService.delete(questionsModels);
+        verify(this.questionsMapper, times(1)).deleteList(questionsEntities);
+        verify(this.questionsMapper, times(0)).delete(Mockito.any(QuestionEntity.class));
+
+        final QuestionsServiceInterface questionsServiceSpy = Mockito.spy(questionsService);
 
         questionsServiceSpy.delete(questionsModels, questionsOptions);
         verify(questionsServiceSpy, times(1)).delete(questionModelFirst, questionsOptions);
@@ -0,0 +1,227 @@
+package easytests.core.services;
+
+import easytests.core.entities.QuestionEntity;
+import easytests.core.entities.QuizEntity;
+import easytests.core.fetch.CompiledFetchPlan;
+import easytests.core.mappers.PointsMapper;
+import easytests.core.mappers.QuestionsMapper;
+import easytests.core.mappers.QuizzesMapper;
+import easytests.core.models.*;
+import easytests.core.models.empty.SubjectModelEmpty;
+import easytests.core.services.exceptions.QuizGenerationException;
+import easytests.core.services.generation.IssuingReport;
+import easytests.core.services.generation.QuestionsPool;
+import easytests.core.services.invites.ActiveInviteCodes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+
+/**
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class QuizGenerationServiceTest {
+    @MockBean
+    private QuestionsMapper questionsMapper;
+
+    @MockBean
+    private QuizzesMapper quizzesMapper;
+
+    @MockBean
+    private PointsMapper pointsMapper;
+
+    @MockBean
+    private IssueStandardsService issueStandardsService;
+
+    @MockBean
+    private ActiveInviteCodes activeInviteCodes;
+
+    @Autowired
+    private QuizGenerationService quizGenerationService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private IssueModelInterface createIssueModel(Integer id, Integer subjectId) {
+        final IssueModelInterface issueModel = new IssueModel();
+        issueModel.setId(id);
+        issueModel.setSubject(new SubjectModelEmpty(subjectId));
+        this.quizGenerationService.evict(issueModel.getSubject());
+        return issueModel;
+    }
+
+    private QuestionEntity createQuestionEntity(Integer id) {
+        final QuestionEntity questionEntity = new QuestionEntity();
+        questionEntity.setId(id);
+        questionEntity.setTopicId(1);
+        questionEntity.setQuestionTypeId(1);
+        return questionEntity;
+    }
+
+    private void givenIssueStandard(Integer subjectId, Integer questionsNumber) {
+        final IssueStandardModelInterface issueStandardModel = new IssueStandardModel();
+        issueStandardModel.setId(subjectId);
+        issueStandardModel.setQuestionsNumber(questionsNumber);
+        issueStandardModel.setTopicPriorities(new ArrayList<>());
+        issueStandardModel.setQuestionTypeOptions(new ArrayList<>());
+        given(this.issueStandardsService.findBySubject(any(SubjectModelInterface.class)))
+                .willReturn(issueStandardModel);
+        given(this.issueStandardsService.find(eq(subjectId), any(CompiledFetchPlan.class)))
+                .willReturn(issueStandardModel);
+    }
+
+    @Test
+    public void testGenerate() throws Exception {
+        final IssueModelInterface issueModel = this.createIssueModel(3, 5);
+        this.givenIssueStandard(5, 2);
+        given(this.questionsMapper.findPoolBySubjectId(5)).willReturn(Arrays.asList(
+                this.createQuestionEntity(1),
+                this.createQuestionEntity(2),
+                this.createQuestionEntity(3)));
+        given(this.quizzesMapper.insertWithPoints(any(QuizEntity.class), anyListOf(Integer.class))).willReturn(7);
+
+        final QuizModelInterface quizModel = this.quizGenerationService.generate(issueModel);
+        this.quizGenerationService.generate(issueModel);
+
+        Assert.assertEquals((Integer) 7, quizModel.getId());
+        Assert.assertEquals((Integer) 3, quizModel.getIssue().getId());
+        Assert.assertEquals(false, quizModel.getCodeExpired());
+        Assert.assertNotNull(quizModel.getInviteCode());
+        final ArgumentCaptor<List> questionsIdsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(this.quizzesMapper, times(2)).insertWithPoints(any(QuizEntity.class), questionsIdsCaptor.capture());
+        Assert.assertEquals(2, questionsIdsCaptor.getValue().size());
+        verify(this.questionsMapper, times(1)).findPoolBySubjectId(5);
+    }
+
+    @Test
+    public void testIssue() throws Exception {
+        final IssueModelInterface issueModel = this.createIssueModel(2, 8);
+        this.givenIssueStandard(8, 2);
+        given(this.questionsMapper.findPoolBySubjectId(8)).willReturn(Arrays.asList(
+                this.createQuestionEntity(1),
+                this.createQuestionEntity(2),
+                this.createQuestionEntity(3)));
+
+        final IssuingReport issuingReport = this.quizGenerationService.issue(issueModel, 50);
+
+        Assert.assertEquals(50, issuingReport.getQuizzes().size());
+        Assert.assertEquals((Integer) 2, issuingReport.getQuizzes().get(0).getIssue().getId());
+        Assert.assertTrue(issuingReport.getThroughput() > 0);
+        final ArgumentCaptor<List> quizzesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(this.quizzesMapper, times(1)).insertList(quizzesCaptor.capture());
+        Assert.assertEquals(50, quizzesCaptor.getValue().size());
+        final ArgumentCaptor<List> pointsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(this.pointsMapper, times(1)).insertListOfExistingQuestions(pointsCaptor.capture());
+        Assert.assertEquals(100, pointsCaptor.getValue().size());
+        verify(this.questionsMapper, times(1)).findPoolBySubjectId(8);
+    }
+
+    @Test
+    public void testIssueActivatesInviteCodesOnlyAfterCommit() throws Exception {
+        final IssueModelInterface issueModel = this.createIssueModel(2, 9);
+        this.givenIssueStandard(9, 1);
+        given(this.questionsMapper.findPoolBySubjectId(9)).willReturn(Arrays.asList(this.createQuestionEntity(1)));
+
+        new TransactionTemplate(this.transactionManager).execute(status -> {
+            this.quizGenerationService.issue(issueModel, 3);
+            status.setRollbackOnly();
+            return null;
+        });
+        verify(this.activeInviteCodes, never()).put(any(QuizEntity.class));
+
+        this.quizGenerationService.issue(issueModel, 3);
+
+        verify(this.activeInviteCodes, times(3)).put(any(QuizEntity.class));
+    }
+
+    @Test
+    public void testEvictRebuildsPool() throws Exception {
+        final IssueModelInterface issueModel = this.createIssueModel(3, 6);
+        this.givenIssueStandard(6, 1);
+        given(this.questionsMapper.findPoolBySubjectId(6)).willReturn(Arrays.asList(this.createQuestionEntity(1)));
+
+        this.quizGenerationService.generate(issueModel);
+        this.quizGenerationService.evict(issueModel.getSubject());
+        this.quizGenerationService.generate(issueModel);
+
+        verify(this.questionsMapper, times(2)).findPoolBySubjectId(6);
+    }
+
+    @Test
+    public void testConcurrentCallersShareOnePoolBuild() throws Exception {
+        final IssueModelInterface issueModel = this.createIssueModel(3, 10);
+        this.givenIssueStandard(10, 1);
+        final CountDownLatch building = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        given(this.questionsMapper.findPoolBySubjectId(10)).willAnswer(invocation -> {
+            building.countDown();
+            release.await();
+            return Arrays.asList(this.createQuestionEntity(1));
+        });
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<QuestionsPool> first = executor.submit(() -> this.quizGenerationService.getPool(
+                    issueModel.getSubject()));
+            building.await();
+            final Future<QuestionsPool> second = executor.submit(() -> this.quizGenerationService.getPool(
+                    issueModel.getSubject()));
+            release.countDown();
+
+            Assert.assertSame(first.get(), second.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(this.questionsMapper, times(1)).findPoolBySubjectId(10);
+    }
+
+    @Test
+    public void testFailedPoolBuildIsNotKept() throws Exception {
+        final IssueModelInterface issueModel = this.createIssueModel(3, 11);
+        this.givenIssueStandard(11, 1);
+        given(this.questionsMapper.findPoolBySubjectId(11))
+                .willThrow(new IllegalStateException())
+                .willReturn(Arrays.asList(this.createQuestionEntity(1)));
+
+        try {
+            this.quizGenerationService.getPool(issueModel.getSubject());
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertNotNull(e);
+        }
+
+        Assert.assertNotNull(this.quizGenerationService.getPool(issueModel.getSubject()));
+        verify(this.questionsMapper, times(2)).findPoolBySubjectId(11);
+    }
+
+    @Test(expected = QuizGenerationException.class)
+    public void testGenerateWithoutIssueStandard() throws Exception {
+        final IssueModelInterface issueModel = this.createIssueModel(3, 7);
+        given(this.issueStandardsService.findBySubject(any(SubjectModelInterface.class))).willReturn(null);
+
+        this.quizGenerationService.generate(issueModel);
+    }
+}
@@ -0,0 +1,81 @@
+package easytests.core.services;
+
+import easytests.core.entities.QuizEntity;
+import easytests.core.mappers.QuizzesMapper;
+import easytests.core.models.empty.QuizModelEmpty;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import static org.mockito.BDDMockito.*;
+
+
+/**
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class QuizTimerServiceTest {
+
+    @Mock
+    private QuizzesMapper quizzesMapper;
+
+    @Mock
+    private SolutionSubmissionsService solutionSubmissionsService;
+
+    @Mock
+    private GradingService gradingService;
+
+    @InjectMocks
+    private QuizTimerService quizTimerService;
+
+    @Test
+    public void testTickRetriesQuizzesAfterUnexpectedException() throws Exception {
+        final QuizEntity quizEntity = new QuizEntity();
+        quizEntity.setId(1);
+        quizEntity.setFinishedAt(LocalDateTime.now().minusMinutes(1));
+        given(this.quizzesMapper.findDeadlines(1)).willReturn(Collections.singletonList(quizEntity));
+        willThrow(new IllegalStateException()).willNothing().given(this.gradingService).grade(Mockito.anyList());
+
+        this.quizTimerService.start(new QuizModelEmpty(1));
+        Thread.sleep(1100);
+        this.quizTimerService.tick();
+
+        Assert.assertEquals(1, this.quizTimerService.getScheduled());
+
+        Thread.sleep(1100);
+        this.quizTimerService.tick();
+
+        verify(this.quizzesMapper, times(2)).finishList(Mockito.anyList());
+        verify(this.gradingService, times(2)).grade(Mockito.anyList());
+        Assert.assertEquals(0, this.quizTimerService.getScheduled());
+    }
+
+    @Test
+    public void testTickRetriesQuizzesAfterFailedFlush() throws Exception {
+        final QuizEntity quizEntity = new QuizEntity();
+        quizEntity.setId(1);
+        quizEntity.setFinishedAt(LocalDateTime.now().minusMinutes(1));
+        given(this.quizzesMapper.findDeadlines(1)).willReturn(Collections.singletonList(quizEntity));
+        willThrow(new IllegalStateException()).willNothing().given(this.solutionSubmissionsService).flush();
+
+        this.quizTimerService.start(new QuizModelEmpty(1));
+        Thread.sleep(1100);
+        this.quizTimerService.tick();
+
+        verify(this.quizzesMapper, never()).finishList(Mockito.anyList());
+        Assert.assertEquals(1, this.quizTimerService.getScheduled());
+
+        Thread.sleep(1100);
+        this.quizTimerService.tick();
+
+        verify(this.quizzesMapper, times(1)).finishList(Mockito.anyList());
+        Assert.assertEquals(0, this.quizTimerService.getScheduled());
+    }
+}
@@ -1,10 +1,14 @@
 package easytests.core.services;
 
+import easytests.core.entities.QuizClaimEntity;
 import easytests.core.entities.QuizEntity;
+import easytests.core.entities.TesteeEntity;
 import easytests.core.mappers.QuizzesMapper;
 import easytests.core.models.IssueModelInterface;
 import easytests.core.models.QuizModel;
 import easytests.core.models.QuizModelInterface;
+import easytests.core.models.TesteeModel;
+import easytests.core.models.TesteeModelInterface;
 import easytests.core.options.QuizzesOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
 import org.junit.Assert;
@@ -12,6 +16,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import static org.mockito.BDDMockito.*;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -194,6 +199,76 @@ public class QuizzesServiceTest {
         Assert.assertEquals(quizzesModels, foundedQuizzesModels);
     }
 
+    @Test
+    public void testFindByInviteCodeRemembersActiveCode() throws Exception {
+
+        final QuizEntity quizEntity = this.mapQuizEntity(this.createQuizModel(5, "ACTIVECODE", 1));
+        quizEntity.setCodeExpired(false);
+        given(this.quizzesMapper.findByInviteCode("ACTIVECODE")).willReturn(quizEntity);
+
+        final QuizModelInterface quizModel = this.quizzesService.findByInviteCode("ACTIVECODE");
+
+        Assert.assertEquals(this.mapQuizModel(quizEntity), quizModel);
+        Assert.assertEquals(quizModel, this.quizzesService.findByInviteCode("ACTIVECODE"));
+        verify(this.quizzesMapper, times(1)).findByInviteCode("ACTIVECODE");
+
+    }
+
+    @Test
+    public void testFindByInviteCodeSkipsExpiredCode() throws Exception {
+
+        final QuizModelInterface quizModel = this.createQuizModel(6, "EXPIREDCODE", 1);
+        quizModel.setCodeExpired(true);
+        final QuizEntity quizEntity = this.mapQuizEntity(quizModel);
+        given(this.quizzesMapper.findByInviteCode("EXPIREDCODE")).willReturn(quizEntity);
+
+        this.quizzesService.save(quizModel);
+        this.quizzesService.findByInviteCode("EXPIREDCODE");
+        this.quizzesService.findByInviteCode("EXPIREDCODE");
+
+        verify(this.quizzesMapper, times(2)).findByInviteCode("EXPIREDCODE");
+        Assert.assertNull(this.quizzesService.findByInviteCode("UNKNOWNCODE"));
+
+    }
+
+    @Test
+    public void testClaim() throws Exception {
+
+        final QuizClaimEntity quizClaimEntity = new QuizClaimEntity();
+        quizClaimEntity.setId(7);
+        quizClaimEntity.setIssueId(1);
+        quizClaimEntity.setInviteCode("CLAIMCODE");
+        quizClaimEntity.setCodeExpired(true);
+        quizClaimEntity.setTesteeId(9);
+        given(this.quizzesMapper.claim(Mockito.eq("CLAIMCODE"), Mockito.any(TesteeEntity.class)))
+                .willReturn(quizClaimEntity);
+        final TesteeModelInterface testeeModel = new TesteeModel();
+        testeeModel.setFirstName("FirstName");
+        testeeModel.setGroupNumber(301);
+
+        final QuizModelInterface quizModel = this.quizzesService.claim("CLAIMCODE", testeeModel);
+
+        Assert.assertEquals((Integer) 7, quizModel.getId());
+        Assert.assertEquals(true, quizModel.getCodeExpired());
+        Assert.assertSame(testeeModel, quizModel.getTestee());
+        Assert.assertEquals((Integer) 9, testeeModel.getId());
+        Assert.assertSame(quizModel, testeeModel.getQuiz());
+        final ArgumentCaptor<TesteeEntity> testeeCaptor = ArgumentCaptor.forClass(TesteeEntity.class);
+        verify(this.quizzesMapper, times(1)).claim(Mockito.eq("CLAIMCODE"), testeeCaptor.capture());
+        Assert.assertEquals("FirstName", testeeCaptor.getValue().getFirstName());
+        Assert.assertEquals((Integer) 301, testeeCaptor.getValue().getGroupNumber());
+
+    }
+
+    @Test
+    public void testClaimUsedCode() throws Exception {
+
+        given(this.quizzesMapper.claim(Mockito.eq("USEDCODE"), Mockito.any(TesteeEntity.class))).willReturn(null);
+
+        Assert.assertNull(this.quizzesService.claim("USEDCODE", new TesteeModel()));
+
+    }
+
     @Test
     public void testSaveCreatesEntity() throws Exception {
 
@@ -0,0 +1,144 @@
+package easytests.core.services;
+
+import easytests.core.mappers.ScoresMapper;
+import easytests.core.models.QuestionModel;
+import easytests.core.models.QuestionModelInterface;
+import easytests.core.services.grading.RegradingJob;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import static org.mockito.BDDMockito.*;
+
+
+/**
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class RegradingServiceTest {
+
+    @Mock
+    private ScoresMapper scoresMapper;
+
+    @Mock
+    private GradingService gradingService;
+
+    @Mock
+    private SolutionSubmissionsService solutionSubmissionsService;
+
+    @InjectMocks
+    private RegradingService regradingService;
+
+    @Test
+    public void testRunGradesAffectedQuizzesInBatches() throws Exception {
+        final List<Integer> quizzesIds = new ArrayList<>();
+        for (int quizId = 1; quizId <= 1500; quizId++) {
+            quizzesIds.add(quizId);
+        }
+        given(this.scoresMapper.findQuizzesIdsByQuestionsIds(Arrays.asList(5, 6))).willReturn(quizzesIds);
+        final RegradingJob regradingJob = new RegradingJob(1, Arrays.asList(5, 6));
+
+        this.regradingService.run(regradingJob);
+
+        verify(this.gradingService, times(2)).gradeFlushed(Mockito.anyList());
+        verify(this.solutionSubmissionsService, times(1)).flush();
+        Assert.assertEquals(RegradingJob.State.DONE, regradingJob.getState());
+        Assert.assertEquals(1500, regradingJob.getTotal());
+        Assert.assertEquals(1500, regradingJob.getGraded());
+    }
+
+    @Test
+    public void testRunSkipsStartedJob() throws Exception {
+        final RegradingJob regradingJob = new RegradingJob(1, Arrays.asList(5));
+        regradingJob.start();
+
+        this.regradingService.run(regradingJob);
+
+        verify(this.scoresMapper, never()).findQuizzesIdsByQuestionsIds(Mockito.anyList());
+    }
+
+    @Test
+    public void testRunFails() throws Exception {
+        given(this.scoresMapper.findQuizzesIdsByQuestionsIds(Mockito.anyList()))
+                .willThrow(new DataIntegrityViolationException(""));
+        final RegradingJob regradingJob = new RegradingJob(1, Arrays.asList(5));
+        this.regradingService.startRegrading();
+        try {
+            this.regradingService.run(regradingJob);
+
+            Assert.assertEquals(RegradingJob.State.FAILED, regradingJob.getState());
+            Assert.assertNotNull(regradingJob.getFinishedAt());
+            Assert.assertEquals(1, this.regradingService.getJobs().size());
+            final RegradingJob retryJob = this.regradingService.getJobs().get(0);
+            Assert.assertEquals(RegradingJob.State.QUEUED, retryJob.getState());
+            Assert.assertEquals(2, retryJob.getAttempt());
+            Assert.assertEquals(Arrays.asList(5), retryJob.getQuestionsIds());
+        } finally {
+            this.regradingService.stopRegrading();
+        }
+    }
+
+    @Test
+    public void testRunGivesUpAfterLastAttempt() throws Exception {
+        given(this.scoresMapper.findQuizzesIdsByQuestionsIds(Mockito.anyList()))
+                .willThrow(new DataIntegrityViolationException(""));
+        final RegradingJob regradingJob = new RegradingJob(1, Arrays.asList(5), 3);
+        this.regradingService.startRegrading();
+        try {
+            this.regradingService.run(regradingJob);
+
+            Assert.assertEquals(RegradingJob.State.FAILED, regradingJob.getState());
+            Assert.assertTrue(this.regradingService.getJobs().isEmpty());
+        } finally {
+            this.regradingService.stopRegrading();
+        }
+    }
+
+    @Test
+    public void testRunFailsOnUnexpectedException() throws Exception {
+        given(this.scoresMapper.findQuizzesIdsByQuestionsIds(Mockito.anyList())).willReturn(Arrays.asList(1));
+        willThrow(new IllegalStateException()).given(this.gradingService).gradeFlushed(Mockito.anyList());
+        final RegradingJob regradingJob = new RegradingJob(1, Arrays.asList(5));
+        this.regradingService.startRegrading();
+        try {
+            this.regradingService.run(regradingJob);
+
+            Assert.assertEquals(RegradingJob.State.FAILED, regradingJob.getState());
+            Assert.assertEquals(2, this.regradingService.getJobs().get(0).getAttempt());
+        } finally {
+            this.regradingService.stopRegrading();
+        }
+    }
+
+    @Test
+    public void testRegradeQueuesJobOnlyAfterCommit() throws Exception {
+        final QuestionModelInterface questionModel = new QuestionModel();
+        questionModel.setId(5);
+        this.regradingService.startRegrading();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.regradingService.regrade(Arrays.asList(questionModel));
+
+            Assert.assertTrue(this.regradingService.getJobs().isEmpty());
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+
+            Assert.assertEquals(1, this.regradingService.getJobs().size());
+            Assert.assertEquals(Arrays.asList(5), this.regradingService.getJobs().get(0).getQuestionsIds());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            this.regradingService.stopRegrading();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package easytests.core.services;
+
+import easytests.core.entities.SolutionEntity;
+import easytests.core.mappers.SolutionsMapper;
+import easytests.core.models.AnswerModelInterface;
+import easytests.core.models.PointModelInterface;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit4.SpringRunner;
+import static org.mockito.BDDMockito.*;
+
+
+/**
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class SolutionSubmissionsServiceTest {
+
+    @Mock
+    private SolutionsMapper solutionsMapper;
+
+    @InjectMocks
+    private SolutionSubmissionsService solutionSubmissionsService;
+
+    private PointModelInterface createPointModel(Integer id) {
+        final PointModelInterface pointModel = mock(PointModelInterface.class);
+        when(pointModel.getId()).thenReturn(id);
+        return pointModel;
+    }
+
+    private List<AnswerModelInterface> createAnswersModels(Integer... ids) {
+        final List<AnswerModelInterface> answersModels = new ArrayList<>();
+        for (Integer id: ids) {
+            final AnswerModelInterface answerModel = mock(AnswerModelInterface.class);
+            when(answerModel.getId()).thenReturn(id);
+            answersModels.add(answerModel);
+        }
+        return answersModels;
+    }
+
+    @Test
+    public void testSubmitCoalescesPoints() throws Exception {
+        this.solutionSubmissionsService.submit(this.createPointModel(1), this.createAnswersModels(10));
+        this.solutionSubmissionsService.submit(this.createPointModel(2), this.createAnswersModels());
+        this.solutionSubmissionsService.submit(this.createPointModel(1), this.createAnswersModels(11, 12));
+
+        Assert.assertEquals(2, this.solutionSubmissionsService.getQueueDepth());
+
+        this.solutionSubmissionsService.flush();
+
+        final SolutionEntity firstEntity = new SolutionEntity();
+        firstEntity.setAnswerId(11);
+        firstEntity.setPointId(1);
+        final SolutionEntity secondEntity = new SolutionEntity();
+        secondEntity.setAnswerId(12);
+        secondEntity.setPointId(1);
+        verify(this.solutionsMapper, times(1))
+                .replaceByPointsIds(Arrays.asList(1, 2), Arrays.asList(firstEntity, secondEntity));
+        Assert.assertEquals(0, this.solutionSubmissionsService.getQueueDepth());
+        Assert.assertEquals(1, this.solutionSubmissionsService.getStatistics().getFlushes());
+        Assert.assertEquals(2, this.solutionSubmissionsService.getStatistics().getPoints());
+    }
+
+    @Test
+    public void testFlushEmpty() throws Exception {
+        this.solutionSubmissionsService.flush();
+
+        verify(this.solutionsMapper, never()).replaceByPointsIds(any(), any());
+        Assert.assertEquals(0, this.solutionSubmissionsService.getStatistics().getFlushes());
+    }
+
+    @Test
+    public void testFailedFlushKeepsSubmissions() throws Exception {
+        doThrow(new DataIntegrityViolationException("")).when(this.solutionsMapper).replaceByPointsIds(any(), any());
+        this.solutionSubmissionsService.submit(this.createPointModel(1), this.createAnswersModels(10));
+
+        this.solutionSubmissionsService.flush();
+
+        Assert.assertEquals(1, this.solutionSubmissionsService.getQueueDepth());
+        Assert.assertEquals(1, this.solutionSubmissionsService.getStatistics().getFailures());
+        Assert.assertEquals(0, this.solutionSubmissionsService.getStatistics().getFlushes());
+    }
+}
@@ -0,0 +1,77 @@
+package easytests.core.services;
+
+import easytests.core.entities.SolutionExportEntity;
+import easytests.core.mappers.SolutionsMapper;
+import easytests.core.models.IssueModelInterface;
+import easytests.core.models.SubjectModelInterface;
+import easytests.core.services.export.ExportFormat;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import static org.mockito.BDDMockito.*;
+
+
+/**
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class SolutionsExportServiceTest {
+
+    @Mock
+    private SolutionsMapper solutionsMapper;
+
+    @InjectMocks
+    private SolutionsExportService solutionsExportService;
+
+    private Cursor<SolutionExportEntity> createCursor(SolutionExportEntity... solutionsExportEntities) {
+        final Cursor<SolutionExportEntity> cursor = mock(Cursor.class);
+        given(cursor.iterator()).willReturn(Arrays.asList(solutionsExportEntities).iterator());
+        return cursor;
+    }
+
+    private SolutionExportEntity createSolutionExportEntity(Integer answerId) {
+        final SolutionExportEntity solutionExportEntity = new SolutionExportEntity();
+        solutionExportEntity.setAnswerId(answerId);
+        return solutionExportEntity;
+    }
+
+    @Test
+    public void testExportIssue() throws Exception {
+        final IssueModelInterface issueModel = mock(IssueModelInterface.class);
+        given(issueModel.getId()).willReturn(1);
+        final Cursor<SolutionExportEntity> cursor = this.createCursor(
+                this.createSolutionExportEntity(10),
+                this.createSolutionExportEntity(20));
+        given(this.solutionsMapper.exportByIssueId(1)).willReturn(cursor);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        final long rows = this.solutionsExportService.export(issueModel, ExportFormat.NDJSON, outputStream);
+
+        Assert.assertEquals(2, rows);
+        Assert.assertEquals(2, outputStream.toString("UTF-8").split("\n").length);
+        verify(cursor, times(1)).close();
+    }
+
+    @Test
+    public void testExportSubject() throws Exception {
+        final SubjectModelInterface subjectModel = mock(SubjectModelInterface.class);
+        given(subjectModel.getId()).willReturn(2);
+        final Cursor<SolutionExportEntity> cursor = this.createCursor(this.createSolutionExportEntity(10));
+        given(this.solutionsMapper.exportBySubjectId(2)).willReturn(cursor);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        final long rows = this.solutionsExportService.export(subjectModel, ExportFormat.CSV, outputStream);
+
+        Assert.assertEquals(1, rows);
+        Assert.assertTrue(outputStream.toString("UTF-8").startsWith("issue_id,"));
+        verify(cursor, times(1)).close();
+    }
+}
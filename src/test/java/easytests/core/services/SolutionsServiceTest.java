@@ -6,6 +6,7 @@ import easytests.core.models.AnswerModelInterface;
 import easytests.core.models.PointModelInterface;
 import easytests.core.models.SolutionModel;
 import easytests.core.models.SolutionModelInterface;
+import easytests.core.services.identity.IdentityMap;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,6 +20,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
 import static org.mockito.BDDMockito.*;
@@ -37,6 +39,9 @@ public class SolutionsServiceTest {
     @Mock
     private SolutionsMapper solutionsMapper;
 
+    @Spy
+    private IdentityMap identityMap = new IdentityMap();
+
     @InjectMocks
     private SolutionsService solutionsService;
 
@@ -236,11 +241,15 @@ public class SolutionsServiceTest {
         solutionModels.add(solutionModelFirst);
         solutionModels.add(solutionModelSecond);
 
-        final SolutionsServiceInterface solutionsServiceSpy = Mockito.spy(solutionsService);
+        final List<SolutionEntity> solutionEntities = new ArrayList<>();
+        solutionEntities.add(this.mapSolutionEntity(solutionModelFirst));
+        solutionEntities.add(this.mapSolutionEntity(solutionModelSecond));
 
-        solutionsServiceSpy.save(solutionModels);
-        verify(solutionsServiceSpy, times(1)).save(solutionModelFirst);
-        verify(solutionsServiceSpy, times(1)).save(solutionModelSecond);
+        this.solutionsService.save(solutionModels);
+        verify(this.solutionsMapper, times(1)).updateList(solutionEntities);
+        verify(this.solutionsMapper, times(0)).insertList(Mockito.anyList());
+
+        final SolutionsServiceInterface solutionsServiceSpy = Mockito.spy(solutionsService);
 
         solutionsServiceSpy.save(solutionModels, solutionsOptions);
         verify(solutionsServiceSpy, times(1)).save(solutionModelFirst, solutionsOptions);
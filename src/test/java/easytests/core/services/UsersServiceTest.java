@@ -1,11 +1,14 @@
 package easytests.core.services;
 
+import easytests.auth.services.AuthUserCache;
 import easytests.core.entities.UserEntity;
 import easytests.core.mappers.UsersMapper;
 import easytests.core.models.UserModel;
 import easytests.core.models.UserModelInterface;
 import easytests.core.options.UsersOptionsInterface;
 import easytests.core.services.exceptions.DeleteUnidentifiedModelException;
+import easytests.core.services.paging.Page;
+import easytests.core.services.paging.PageRequest;
 import easytests.support.Models;
 import easytests.support.Entities;
 import java.util.ArrayList;
@@ -32,6 +35,9 @@ public class UsersServiceTest {
     @MockBean
     private UsersMapper usersMapper;
 
+    @SpyBean
+    private AuthUserCache authUserCache;
+
     @Autowired
     private UsersService usersService;
 
@@ -101,6 +107,18 @@ public class UsersServiceTest {
         Assert.assertEquals(0, usersModels.size());
     }
 
+    @Test
+    public void testFindPage() throws Exception {
+        final PageRequest pageRequest = PageRequest.after(0, 1);
+        given(this.usersMapper.findPage(0, 2)).willReturn(this.getUsersEntities());
+
+        final Page<UserModelInterface> page = this.usersService.findPage(pageRequest);
+
+        Assert.assertEquals(this.getUsersModels().subList(0, 1), page.getItems());
+        Assert.assertTrue(page.getHasNext());
+        Assert.assertEquals((Integer) 1, page.getNextAfterId());
+    }
+
     @Test
     public void testFindAllWithOptions() throws Exception {
         final List<UserEntity> usersEntities = this.getUsersEntities();
@@ -262,7 +280,31 @@ public class UsersServiceTest {
 
         this.usersService.save(userModel);
 
-        verify(this.usersMapper, times(1)).update(this.mapUserEntity(userModel));
+        verify(this.usersMapper, times(1)).updateReturningPrevious(this.mapUserEntity(userModel));
+    }
+
+    @Test
+    public void testSaveEvictsUserDetails() throws Exception {
+        final UserModelInterface userModel = Models.createUserModel(
+                1,
+                "FirstName",
+                "LastName",
+                "Surname",
+                "new@gmail.com",
+                "hash",
+                true,
+                1
+        );
+        final UserEntity previousEntity = new UserEntity();
+        previousEntity.setId(1);
+        previousEntity.setEmail("old@gmail.com");
+        given(this.usersMapper.updateReturningPrevious(this.mapUserEntity(userModel))).willReturn(previousEntity);
+
+        this.usersService.save(userModel);
+
+        verify(this.usersMapper, never()).find(1);
+        verify(this.authUserCache, times(1)).removeUserFromCache("old@gmail.com");
+        verify(this.authUserCache, times(1)).removeUserFromCache("new@gmail.com");
     }
 
     @Test
@@ -300,6 +342,7 @@ public class UsersServiceTest {
         this.usersService.delete(userModel);
 
         verify(this.usersMapper, times(1)).delete(this.mapUserEntity(userModel));
+        verify(this.authUserCache, times(1)).removeUserFromCache("email@gmail.com");
     }
 
     @Test
@@ -0,0 +1,75 @@
+package easytests.core.services.export;
+
+import easytests.core.entities.SolutionExportEntity;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author malinink
+ */
+public class SolutionsExportWriterTest {
+    private SolutionExportEntity createSolutionExportEntity(String firstName) {
+        final SolutionExportEntity solutionExportEntity = new SolutionExportEntity();
+        solutionExportEntity.setIssueId(1);
+        solutionExportEntity.setQuizId(2);
+        solutionExportEntity.setInviteCode("code");
+        solutionExportEntity.setTesteeFirstName(firstName);
+        solutionExportEntity.setTesteeGroupNumber(301);
+        solutionExportEntity.setStartedAt(LocalDateTime.of(2003, 2, 1, 10, 30));
+        solutionExportEntity.setPointId(3);
+        solutionExportEntity.setQuestionId(4);
+        solutionExportEntity.setAnswerId(5);
+        solutionExportEntity.setRight(true);
+        return solutionExportEntity;
+    }
+
+    private String export(ExportFormat format, SolutionExportEntity... solutionsExportEntities) throws Exception {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final SolutionsExportWriter solutionsExportWriter = new SolutionsExportWriter(format, outputStream);
+        solutionsExportWriter.writeHeader();
+        for (SolutionExportEntity solutionExportEntity: solutionsExportEntities) {
+            solutionsExportWriter.write(solutionExportEntity);
+        }
+        solutionsExportWriter.flush();
+        Assert.assertEquals(solutionsExportEntities.length, solutionsExportWriter.getRows());
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testCsv() throws Exception {
+        final String csv = this.export(
+                ExportFormat.CSV,
+                this.createSolutionExportEntity("Ivan"),
+                this.createSolutionExportEntity("Ivan \"The\", Great"));
+
+        Assert.assertEquals(
+                "issue_id,quiz_id,invite_code,testee_first_name,testee_last_name,testee_surname,"
+                        + "testee_group_number,started_at,finished_at,point_id,question_id,answer_id,is_right\r\n"
+                        + "1,2,code,Ivan,,,301,2003-02-01T10:30,,3,4,5,true\r\n"
+                        + "1,2,code,\"Ivan \"\"The\"\", Great\",,,301,2003-02-01T10:30,,3,4,5,true\r\n",
+                csv);
+    }
+
+    @Test
+    public void testNdjson() throws Exception {
+        final String ndjson = this.export(ExportFormat.NDJSON, this.createSolutionExportEntity("Ivan \"\\\n"));
+
+        Assert.assertEquals(
+                "{\"issue_id\":1,\"quiz_id\":2,\"invite_code\":\"code\",\"testee_first_name\":\"Ivan \\\"\\\\\\u000a\","
+                        + "\"testee_last_name\":null,\"testee_surname\":null,\"testee_group_number\":301,"
+                        + "\"started_at\":\"2003-02-01T10:30\",\"finished_at\":null,\"point_id\":3,\"question_id\":4,"
+                        + "\"answer_id\":5,\"is_right\":true}\n",
+                ndjson);
+    }
+
+    @Test
+    public void testFromExtension() throws Exception {
+        Assert.assertEquals(ExportFormat.CSV, ExportFormat.fromExtension("CSV"));
+        Assert.assertEquals(ExportFormat.NDJSON, ExportFormat.fromExtension("ndjson"));
+        Assert.assertNull(ExportFormat.fromExtension("xml"));
+    }
+}
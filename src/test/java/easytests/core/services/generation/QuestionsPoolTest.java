@@ -0,0 +1,152 @@
+package easytests.core.services.generation;
+
+import easytests.core.entities.QuestionEntity;
+import easytests.core.models.*;
+import easytests.core.models.empty.QuestionTypeModelEmpty;
+import easytests.core.models.empty.TopicModelEmpty;
+import easytests.core.services.exceptions.QuizGenerationException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author malinink
+ */
+public class QuestionsPoolTest {
+    private final Random random = new Random(42);
+
+    private QuestionEntity createQuestionEntity(Integer id, Integer topicId, Integer questionTypeId) {
+        final QuestionEntity questionEntity = new QuestionEntity();
+        questionEntity.setId(id);
+        questionEntity.setTopicId(topicId);
+        questionEntity.setQuestionTypeId(questionTypeId);
+        return questionEntity;
+    }
+
+    private IssueStandardTopicPriorityModelInterface createTopicPriority(Integer topicId, Boolean isPreferable) {
+        final IssueStandardTopicPriorityModelInterface topicPriority = new IssueStandardTopicPriorityModel();
+        topicPriority.setTopic(new TopicModelEmpty(topicId));
+        topicPriority.setIsPreferable(isPreferable);
+        return topicPriority;
+    }
+
+    private IssueStandardQuestionTypeOptionModelInterface createQuestionTypeOption(
+            Integer questionTypeId,
+            Integer minQuestions,
+            Integer maxQuestions) {
+        final IssueStandardQuestionTypeOptionModelInterface questionTypeOption
+                = new IssueStandardQuestionTypeOptionModel();
+        questionTypeOption.setQuestionType(new QuestionTypeModelEmpty(questionTypeId));
+        questionTypeOption.setMinQuestions(minQuestions);
+        questionTypeOption.setMaxQuestions(maxQuestions);
+        return questionTypeOption;
+    }
+
+    private IssueStandardModelInterface createIssueStandard(
+            Integer questionsNumber,
+            List<IssueStandardTopicPriorityModelInterface> topicPriorities,
+            List<IssueStandardQuestionTypeOptionModelInterface> questionTypeOptions) {
+        final IssueStandardModelInterface issueStandardModel = new IssueStandardModel();
+        issueStandardModel.setQuestionsNumber(questionsNumber);
+        issueStandardModel.setTopicPriorities(topicPriorities);
+        issueStandardModel.setQuestionTypeOptions(questionTypeOptions);
+        return issueStandardModel;
+    }
+
+    private List<QuestionEntity> createQuestions() {
+        final List<QuestionEntity> questions = new ArrayList<>();
+        for (int id = 1; id <= 30; id++) {
+            questions.add(this.createQuestionEntity(id, (id - 1) / 10 + 1, id % 2 + 1));
+        }
+        return questions;
+    }
+
+    private Set<Integer> toSet(int[] questionsIds) {
+        final Set<Integer> set = new HashSet<>();
+        for (int questionId: questionsIds) {
+            set.add(questionId);
+        }
+        return set;
+    }
+
+    @Test
+    public void testSampleHasDistinctQuestions() throws Exception {
+        final QuestionsPool pool = new QuestionsPool(
+                this.createIssueStandard(20, new ArrayList<>(), new ArrayList<>()),
+                this.createQuestions());
+
+        final int[] questionsIds = pool.sample(this.random);
+
+        Assert.assertEquals(20, questionsIds.length);
+        Assert.assertEquals(20, this.toSet(questionsIds).size());
+    }
+
+    @Test
+    public void testSamplePrefersTopics() throws Exception {
+        final QuestionsPool pool = new QuestionsPool(
+                this.createIssueStandard(
+                        15,
+                        Arrays.asList(this.createTopicPriority(3, true), this.createTopicPriority(1, false)),
+                        new ArrayList<>()),
+                this.createQuestions());
+
+        final Set<Integer> questionsIds = this.toSet(pool.sample(this.random));
+
+        for (int id = 21; id <= 30; id++) {
+            Assert.assertTrue(questionsIds.contains(id));
+        }
+        for (int id = 1; id <= 10; id++) {
+            Assert.assertFalse(questionsIds.contains(id));
+        }
+    }
+
+    @Test
+    public void testSampleRespectsQuestionTypeOptions() throws Exception {
+        final QuestionsPool pool = new QuestionsPool(
+                this.createIssueStandard(
+                        10,
+                        Arrays.asList(this.createTopicPriority(1, true)),
+                        Arrays.asList(
+                                this.createQuestionTypeOption(1, 2, 3),
+                                this.createQuestionTypeOption(2, 7, null))),
+                this.createQuestions());
+
+        for (int attempt = 0; attempt < 100; attempt++) {
+            int evenQuestions = 0;
+            for (int questionId: pool.sample(this.random)) {
+                evenQuestions += 1 - questionId % 2;
+            }
+            Assert.assertTrue(evenQuestions >= 2 && evenQuestions <= 3);
+        }
+    }
+
+    @Test(expected = QuizGenerationException.class)
+    public void testSampleFailsWithoutEnoughQuestions() throws Exception {
+        new QuestionsPool(
+                this.createIssueStandard(
+                        10,
+                        new ArrayList<>(),
+                        Arrays.asList(this.createQuestionTypeOption(1, 0, 2), this.createQuestionTypeOption(2, 0, 2))),
+                this.createQuestions()).sample(this.random);
+    }
+
+    @Test(expected = QuizGenerationException.class)
+    public void testSampleFailsWithUnknownRequiredType() throws Exception {
+        new QuestionsPool(
+                this.createIssueStandard(10, new ArrayList<>(), Arrays.asList(this.createQuestionTypeOption(4, 1, 1))),
+                this.createQuestions()).sample(this.random);
+    }
+
+    @Test(expected = QuizGenerationException.class)
+    public void testPoolFailsWithoutQuestionsNumber() throws Exception {
+        new QuestionsPool(
+                this.createIssueStandard(null, new ArrayList<>(), new ArrayList<>()),
+                this.createQuestions());
+    }
+}
@@ -0,0 +1,37 @@
+package easytests.core.services.grading;
+
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author malinink
+ */
+public class RegradingJobTest {
+    @Test
+    public void testAddQuestionsUntilStarted() throws Exception {
+        final RegradingJob regradingJob = new RegradingJob(1, Arrays.asList(1, 2));
+
+        Assert.assertTrue(regradingJob.addQuestions(Arrays.asList(2, 3)));
+        Assert.assertEquals(Arrays.asList(1, 2, 3), regradingJob.start());
+        Assert.assertFalse(regradingJob.addQuestions(Arrays.asList(4)));
+        Assert.assertEquals(Arrays.asList(1, 2, 3), regradingJob.getQuestionsIds());
+        Assert.assertEquals(RegradingJob.State.RUNNING, regradingJob.getState());
+    }
+
+    @Test
+    public void testProgress() throws Exception {
+        final RegradingJob regradingJob = new RegradingJob(1, Arrays.asList(1));
+        Assert.assertEquals(0, regradingJob.getProgress(), 0.001);
+
+        regradingJob.start();
+        regradingJob.setTotal(4);
+        regradingJob.graded(1);
+        Assert.assertEquals(0.25, regradingJob.getProgress(), 0.001);
+
+        regradingJob.finish(RegradingJob.State.DONE);
+        Assert.assertEquals(1, regradingJob.getProgress(), 0.001);
+        Assert.assertNotNull(regradingJob.getFinishedAt());
+    }
+}
@@ -0,0 +1,127 @@
+package easytests.core.services.identity;
+
+import easytests.core.models.TopicModel;
+import easytests.core.models.TopicModelInterface;
+import easytests.core.models.UserModel;
+import easytests.core.models.UserModelInterface;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author malinink
+ */
+public class IdentityMapTest {
+    private final IdentityMap identityMap = new IdentityMap();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Supplier<TopicModelInterface> topicLoader(Integer id) {
+        return () -> {
+            this.loads.incrementAndGet();
+            final TopicModelInterface topicModel = new TopicModel();
+            topicModel.setId(id);
+            return topicModel;
+        };
+    }
+
+    @After
+    public void tearDown() {
+        this.identityMap.close();
+    }
+
+    @Test
+    public void testFindOutsideUnitOfWorkLoadsEveryTime() throws Exception {
+        final TopicModelInterface first = this.identityMap.find(TopicModelInterface.class, 1, this.topicLoader(1));
+        final TopicModelInterface second = this.identityMap.find(TopicModelInterface.class, 1, this.topicLoader(1));
+
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(2, this.loads.get());
+        Assert.assertEquals(0, this.identityMap.getHits());
+        Assert.assertEquals(0, this.identityMap.getMisses());
+    }
+
+    @Test
+    public void testFindInsideUnitOfWorkLoadsOnce() throws Exception {
+        this.identityMap.open();
+        final TopicModelInterface first = this.identityMap.find(TopicModelInterface.class, 1, this.topicLoader(1));
+        final TopicModelInterface second = this.identityMap.find(TopicModelInterface.class, 1, this.topicLoader(1));
+        final TopicModelInterface other = this.identityMap.find(TopicModelInterface.class, 2, this.topicLoader(2));
+
+        Assert.assertSame(first, second);
+        Assert.assertNotSame(first, other);
+        Assert.assertEquals(2, this.loads.get());
+        Assert.assertEquals(1, this.identityMap.getHits());
+        Assert.assertEquals(2, this.identityMap.getMisses());
+    }
+
+    @Test
+    public void testFindDoesNotCacheMissingModels() throws Exception {
+        this.identityMap.open();
+        Assert.assertNull(this.identityMap.find(TopicModelInterface.class, 1, () -> null));
+        Assert.assertNotNull(this.identityMap.find(TopicModelInterface.class, 1, this.topicLoader(1)));
+        Assert.assertEquals(1, this.loads.get());
+    }
+
+    @Test
+    public void testMergeReturnsCanonicalModel() throws Exception {
+        this.identityMap.open();
+        final TopicModelInterface loaded = this.identityMap.find(TopicModelInterface.class, 1, this.topicLoader(1));
+        final TopicModelInterface duplicate = new TopicModel();
+        duplicate.setId(1);
+
+        Assert.assertSame(loaded, this.identityMap.merge(TopicModelInterface.class, duplicate));
+    }
+
+    @Test
+    public void testEvictDetachesHandedOutModel() throws Exception {
+        this.identityMap.open();
+        final TopicModelInterface handedOut = this.identityMap.find(TopicModelInterface.class, 1, this.topicLoader(1));
+        handedOut.setName("changed");
+        this.identityMap.evict(TopicModelInterface.class, 1);
+
+        final TopicModelInterface reloaded = this.identityMap.find(TopicModelInterface.class, 1, this.topicLoader(1));
+
+        Assert.assertNotSame(handedOut, reloaded);
+        Assert.assertNull(reloaded.getName());
+        Assert.assertEquals("changed", handedOut.getName());
+        Assert.assertSame(reloaded, this.identityMap.find(TopicModelInterface.class, 1, this.topicLoader(1)));
+        Assert.assertEquals(2, this.loads.get());
+    }
+
+    @Test
+    public void testTypesAreSeparated() throws Exception {
+        this.identityMap.open();
+        final UserModelInterface userModel = new UserModel();
+        userModel.setId(1);
+        this.identityMap.put(UserModelInterface.class, userModel);
+
+        this.identityMap.find(TopicModelInterface.class, 1, this.topicLoader(1));
+
+        Assert.assertEquals(1, this.loads.get());
+    }
+
+    @Test
+    public void testEvict() throws Exception {
+        this.identityMap.open();
+        this.identityMap.find(TopicModelInterface.class, 1, this.topicLoader(1));
+        this.identityMap.evict(TopicModelInterface.class, 1);
+        this.identityMap.find(TopicModelInterface.class, 1, this.topicLoader(1));
+
+        Assert.assertEquals(2, this.loads.get());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        this.identityMap.open();
+        this.identityMap.find(TopicModelInterface.class, 1, this.topicLoader(1));
+        this.identityMap.close();
+        this.identityMap.find(TopicModelInterface.class, 1, this.topicLoader(1));
+
+        Assert.assertFalse(this.identityMap.isOpen());
+        Assert.assertEquals(2, this.loads.get());
+    }
+}
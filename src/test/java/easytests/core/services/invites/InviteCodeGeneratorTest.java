@@ -0,0 +1,68 @@
+package easytests.core.services.invites;
+
+import easytests.core.mappers.QuizzesMapper;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+import static org.mockito.BDDMockito.given;
+import org.mockito.Mockito;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.springframework.test.util.ReflectionTestUtils;
+
+
+/**
+ * @author malinink
+ */
+public class InviteCodeGeneratorTest {
+    private final QuizzesMapper quizzesMapper = Mockito.mock(QuizzesMapper.class);
+
+    private InviteCodeGenerator createGenerator(String secret) {
+        final InviteCodeGenerator inviteCodeGenerator = new InviteCodeGenerator();
+        ReflectionTestUtils.setField(inviteCodeGenerator, "quizzesMapper", this.quizzesMapper);
+        ReflectionTestUtils.setField(inviteCodeGenerator, "secret", secret);
+        inviteCodeGenerator.initKeys();
+        return inviteCodeGenerator;
+    }
+
+    @Test
+    public void testGenerateIsCollisionFree() throws Exception {
+        given(this.quizzesMapper.nextInviteCodeBlock()).willReturn(1000L, 2000L, 3000L, 4000L, 5000L);
+        final InviteCodeGenerator inviteCodeGenerator = this.createGenerator("secret");
+        final Set<String> codes = new HashSet<>();
+
+        for (int index = 0; index < 5000; index++) {
+            final String code = inviteCodeGenerator.generate();
+            Assert.assertTrue(code.matches("[A-HJ-NP-Z2-9]{10}"));
+            codes.add(code);
+        }
+
+        Assert.assertEquals(5000, codes.size());
+        verify(this.quizzesMapper, times(5)).nextInviteCodeBlock();
+    }
+
+    @Test
+    public void testPermuteIsBijective() throws Exception {
+        final InviteCodeGenerator inviteCodeGenerator = this.createGenerator("secret");
+        final Set<Long> values = new HashSet<>();
+
+        for (long value = 0; value < 100000; value++) {
+            final long permuted = inviteCodeGenerator.permute(value);
+            Assert.assertTrue(permuted >= 0 && permuted < 1L << 50);
+            values.add(permuted);
+        }
+
+        Assert.assertEquals(100000, values.size());
+    }
+
+    @Test
+    public void testSecretChangesCodes() throws Exception {
+        Assert.assertNotEquals(
+                this.createGenerator("first").permute(1000),
+                this.createGenerator("second").permute(1000));
+        Assert.assertEquals(
+                this.createGenerator("first").permute(1000),
+                this.createGenerator("first").permute(1000));
+    }
+}
@@ -0,0 +1,58 @@
+package easytests.core.services.paging;
+
+import easytests.core.models.TopicModel;
+import easytests.core.models.TopicModelInterface;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author malinink
+ */
+public class PageTest {
+    private List<TopicModelInterface> createTopicsModels(Integer... ids) {
+        final List<TopicModelInterface> topicsModels = new ArrayList<>(ids.length);
+        for (Integer id: ids) {
+            final TopicModelInterface topicModel = new TopicModel();
+            topicModel.setId(id);
+            topicsModels.add(topicModel);
+        }
+        return topicsModels;
+    }
+
+    @Test
+    public void testPageRequestDefaults() throws Exception {
+        final PageRequest pageRequest = PageRequest.after(null, null);
+
+        Assert.assertEquals((Integer) 0, pageRequest.getAfterId());
+        Assert.assertEquals((Integer) PageRequest.DEFAULT_SIZE, pageRequest.getSize());
+        Assert.assertEquals((Integer) (PageRequest.DEFAULT_SIZE + 1), pageRequest.getLimit());
+        Assert.assertTrue(pageRequest.getIsFirst());
+    }
+
+    @Test
+    public void testPageRequestSizeIsCapped() throws Exception {
+        Assert.assertEquals((Integer) PageRequest.MAX_SIZE, PageRequest.first(PageRequest.MAX_SIZE * 2).getSize());
+    }
+
+    @Test
+    public void testPageWithNext() throws Exception {
+        final Page<TopicModelInterface> page = new Page<>(this.createTopicsModels(4, 7, 9), PageRequest.after(3, 2));
+
+        Assert.assertEquals(this.createTopicsModels(4, 7), page.getItems());
+        Assert.assertTrue(page.getHasNext());
+        Assert.assertEquals((Integer) 7, page.getNextAfterId());
+        Assert.assertFalse(page.getRequest().getIsFirst());
+    }
+
+    @Test
+    public void testLastPage() throws Exception {
+        final Page<TopicModelInterface> page = new Page<>(this.createTopicsModels(4, 7), PageRequest.after(3, 2));
+
+        Assert.assertEquals(2, page.getItems().size());
+        Assert.assertFalse(page.getHasNext());
+        Assert.assertNull(page.getNextAfterId());
+    }
+}
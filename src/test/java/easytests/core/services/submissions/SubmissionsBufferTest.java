@@ -0,0 +1,67 @@
+package easytests.core.services.submissions;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author malinink
+ */
+public class SubmissionsBufferTest {
+    @Test
+    public void testOfferCoalescesPoint() throws Exception {
+        final SubmissionsBuffer buffer = new SubmissionsBuffer(10);
+
+        Assert.assertTrue(buffer.offer(1, Arrays.asList(10)));
+        Assert.assertTrue(buffer.offer(2, Arrays.asList(20)));
+        Assert.assertTrue(buffer.offer(1, Arrays.asList(11, 12)));
+
+        Assert.assertEquals(2, buffer.getDepth());
+        final Map<Integer, List<Integer>> submissions = buffer.drain(10);
+        Assert.assertEquals(Arrays.asList(1, 2), Arrays.asList(submissions.keySet().toArray()));
+        Assert.assertEquals(Arrays.asList(11, 12), submissions.get(1));
+        Assert.assertEquals(0, buffer.getDepth());
+    }
+
+    @Test
+    public void testOfferRejectsNewPointWhenFull() throws Exception {
+        final SubmissionsBuffer buffer = new SubmissionsBuffer(1);
+
+        Assert.assertTrue(buffer.offer(1, Arrays.asList(10)));
+        Assert.assertFalse(buffer.offer(2, Arrays.asList(20)));
+        Assert.assertTrue(buffer.offer(1, Arrays.asList(11)));
+        Assert.assertEquals(1, buffer.getDepth());
+    }
+
+    @Test
+    public void testDrainIsLimited() throws Exception {
+        final SubmissionsBuffer buffer = new SubmissionsBuffer(10);
+        for (int pointId = 1; pointId <= 5; pointId++) {
+            buffer.offer(pointId, Collections.emptyList());
+        }
+
+        Assert.assertEquals(Arrays.asList(1, 2), Arrays.asList(buffer.drain(2).keySet().toArray()));
+        Assert.assertEquals(3, buffer.getDepth());
+        Assert.assertEquals(3, buffer.drain(10).size());
+    }
+
+    @Test
+    public void testRestoreKeepsNewerSubmissions() throws Exception {
+        final SubmissionsBuffer buffer = new SubmissionsBuffer(10);
+        buffer.offer(1, Arrays.asList(10));
+        buffer.offer(2, Arrays.asList(20));
+        final Map<Integer, List<Integer>> submissions = buffer.drain(10);
+        buffer.offer(1, Arrays.asList(11));
+
+        buffer.restore(submissions);
+
+        Assert.assertEquals(2, buffer.getDepth());
+        final Map<Integer, List<Integer>> restored = buffer.drain(10);
+        Assert.assertEquals(Arrays.asList(11), restored.get(1));
+        Assert.assertEquals(Arrays.asList(20), restored.get(2));
+    }
+}
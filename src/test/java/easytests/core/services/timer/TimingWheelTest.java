@@ -0,0 +1,83 @@
+package easytests.core.services.timer;
+
+import java.util.Map;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author malinink
+ */
+public class TimingWheelTest {
+    private final TimingWheel timingWheel = new TimingWheel(1000, 0);
+
+    @Test
+    public void testAdvanceFiresDueTimers() throws Exception {
+        this.timingWheel.schedule(1, 1500);
+        this.timingWheel.schedule(2, 3000);
+
+        Assert.assertTrue(this.timingWheel.advance(1999).isEmpty());
+        final Map<Integer, Long> fired = this.timingWheel.advance(2000);
+        Assert.assertEquals(1, fired.size());
+        Assert.assertEquals((Long) 1500L, fired.get(1));
+        Assert.assertTrue(this.timingWheel.advance(2999).isEmpty());
+        Assert.assertEquals((Long) 3000L, this.timingWheel.advance(3000).get(2));
+        Assert.assertEquals(0, this.timingWheel.size());
+    }
+
+    @Test
+    public void testOverdueTimerFiresOnNextTick() throws Exception {
+        this.timingWheel.advance(10000);
+        this.timingWheel.schedule(1, 5000);
+
+        Assert.assertEquals((Long) 5000L, this.timingWheel.advance(11000).get(1));
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        this.timingWheel.schedule(1, 5000);
+        this.timingWheel.schedule(2, 5000);
+
+        Assert.assertTrue(this.timingWheel.cancel(1));
+        Assert.assertFalse(this.timingWheel.cancel(1));
+
+        final Map<Integer, Long> fired = this.timingWheel.advance(5000);
+        Assert.assertEquals(1, fired.size());
+        Assert.assertTrue(fired.containsKey(2));
+    }
+
+    @Test
+    public void testRescheduleReplacesDeadline() throws Exception {
+        this.timingWheel.schedule(1, 5000);
+        this.timingWheel.schedule(1, 70000);
+
+        Assert.assertTrue(this.timingWheel.advance(69000).isEmpty());
+        Assert.assertEquals((Long) 70000L, this.timingWheel.advance(70000).get(1));
+    }
+
+    @Test
+    public void testTimersCascadeThroughAllLevels() throws Exception {
+        final Random random = new Random(42);
+        final long[] deadlines = new long[100000];
+        for (int id = 0; id < deadlines.length; id++) {
+            deadlines[id] = random.nextInt(300000) * 1000L + random.nextInt(1000);
+            this.timingWheel.schedule(id, deadlines[id]);
+        }
+        this.timingWheel.schedule(deadlines.length, 40000000000L);
+
+        int firedNumber = 0;
+        for (long now = 0; now <= 300000000L; now += 7000) {
+            for (Map.Entry<Integer, Long> fired: this.timingWheel.advance(now).entrySet()) {
+                Assert.assertTrue(fired.getValue() <= now);
+                Assert.assertTrue(fired.getValue() > now - 8000);
+                Assert.assertEquals(deadlines[fired.getKey()], (long) fired.getValue());
+                firedNumber++;
+            }
+        }
+
+        Assert.assertEquals(deadlines.length, firedNumber);
+        Assert.assertEquals(1, this.timingWheel.size());
+        Assert.assertEquals((Long) 40000000000L, this.timingWheel.advance(40000000000L).get(deadlines.length));
+    }
+}
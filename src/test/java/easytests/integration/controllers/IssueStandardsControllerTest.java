@@ -0,0 +1,77 @@
+package easytests.integration.controllers;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+import easytests.core.models.IssueStandardModelInterface;
+import easytests.core.models.IssueStandardQuestionTypeOptionModelInterface;
+import easytests.core.models.IssueStandardTopicPriorityModelInterface;
+import easytests.core.options.IssueStandardQuestionTypeOptionsOptions;
+import easytests.core.options.IssueStandardTopicPrioritiesOptions;
+import easytests.core.options.IssueStandardsOptions;
+import easytests.core.services.IssueStandardsService;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * @author SingularityA
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = {"classpath:database.test.properties"})
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, scripts = "classpath:sql/mappersTestData.sql")
+public class IssueStandardsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IssueStandardsService issueStandardsService;
+
+    @Test
+    @WithMockUser(username = "email2@gmail.com", roles = "USER")
+    public void testSavePersistsChangedTopicPrioritiesAndQuestionTypeOptions() throws Exception {
+        this.mockMvc.perform(post("/personal/issue_standard/update/1/")
+                .with(csrf())
+                .param("timeLimit", "300")
+                .param("questionsNumber", "30")
+                .param("subjectId", "1")
+                .param("topicPriorities[0].id", "1")
+                .param("topicPriorities[0].topicId", "1")
+                .param("topicPriorities[0].isPreferable", "false")
+                .param("questionTypeOptions[0].id", "3")
+                .param("questionTypeOptions[0].questionTypeId", "3")
+                .param("questionTypeOptions[0].minQuestions", "2")
+                .param("questionTypeOptions[0].maxQuestions", "10"))
+                .andExpect(redirectedUrl("/personal/issue_standard/1/"));
+
+        final IssueStandardModelInterface issueStandardModel = this.issueStandardsService.find(
+                1,
+                new IssueStandardsOptions()
+                        .withTopicPriorities(new IssueStandardTopicPrioritiesOptions())
+                        .withQuestionTypeOptions(new IssueStandardQuestionTypeOptionsOptions()));
+
+        Assert.assertEquals(1, issueStandardModel.getTopicPriorities().size());
+        final IssueStandardTopicPriorityModelInterface topicPriorityModel
+                = issueStandardModel.getTopicPriorities().get(0);
+        Assert.assertEquals((Integer) 1, topicPriorityModel.getId());
+        Assert.assertFalse(topicPriorityModel.getIsPreferable());
+
+        Assert.assertEquals(1, issueStandardModel.getQuestionTypeOptions().size());
+        final IssueStandardQuestionTypeOptionModelInterface questionTypeOptionModel
+                = issueStandardModel.getQuestionTypeOptions().get(0);
+        Assert.assertEquals((Integer) 3, questionTypeOptionModel.getId());
+        Assert.assertEquals((Integer) 2, questionTypeOptionModel.getMinQuestions());
+    }
+}
@@ -0,0 +1,48 @@
+package easytests.integration.controllers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import easytests.core.models.QuestionModelInterface;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * @author malinink
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = {"classpath:database.test.properties"})
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, scripts = "classpath:sql/mappersTestData.sql")
+public class QuestionsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(username = "email2@gmail.com", roles = "USER")
+    public void testListLoadsQuestionTypesAndAnswers() throws Exception {
+        final MvcResult result = this.mockMvc.perform(get("/personal/topics/1/questions"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        final List<QuestionModelInterface> questionsModels
+                = (List<QuestionModelInterface>) result.getModelAndView().getModel().get("questions");
+        Assert.assertEquals(1, questionsModels.size());
+        Assert.assertEquals("Один ответ", questionsModels.get(0).getQuestionType().getName());
+        Assert.assertEquals(1, questionsModels.get(0).getAnswers().size());
+        Assert.assertEquals("Answer1", questionsModels.get(0).getAnswers().get(0).getTxt());
+    }
+}
@@ -0,0 +1,78 @@
+package easytests.personal.imports;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author malinink
+ */
+public class CsvQuestionsReaderTest {
+    private QuestionsReader createReader(String text) {
+        return new CsvQuestionsReader(new BufferedReader(new StringReader(text)));
+    }
+
+    @Test
+    public void testNext() throws Exception {
+        final QuestionsReader reader = this.createReader(
+                "topic,question_type,question,answer,right\r\n"
+                + "Topic,1,Question,Right,1,Wrong,0\r\n"
+                + "\r\n"
+                + "\"Topic, quoted\",2,\"Multi\nline \"\"question\"\"\",Answer,yes,,\n");
+
+        final ImportedQuestion first = reader.next();
+        Assert.assertEquals(2, first.getLine());
+        Assert.assertEquals("Topic", first.getTopic().getName());
+        Assert.assertEquals("1", first.getQuestionType());
+        Assert.assertEquals("Question", first.getQuestion().getText());
+        Assert.assertEquals(2, first.getAnswers().size());
+        Assert.assertEquals("Right", first.getAnswers().get(0).getTxt());
+        Assert.assertEquals("on", first.getAnswers().get(0).getRight());
+        Assert.assertEquals((Integer) 1, first.getAnswers().get(0).getSerialNumber());
+        Assert.assertNull(first.getAnswers().get(1).getRight());
+        Assert.assertEquals((Integer) 2, first.getAnswers().get(1).getSerialNumber());
+
+        final ImportedQuestion second = reader.next();
+        Assert.assertEquals(4, second.getLine());
+        Assert.assertEquals("Topic, quoted", second.getTopic().getName());
+        Assert.assertEquals("Multi\nline \"question\"", second.getQuestion().getText());
+        Assert.assertEquals(1, second.getAnswers().size());
+
+        Assert.assertNull(reader.next());
+    }
+
+    @Test
+    public void testMalformedRowsDoNotStopReading() throws Exception {
+        final QuestionsReader reader = this.createReader(
+                "Topic,1\n"
+                + "Topic,1,Question,Answer\n"
+                + "Topic,1,Question,Answer,maybe\n"
+                + "Topic,1,Question,Answer,1\n");
+
+        for (int line = 1; line <= 3; line++) {
+            try {
+                reader.next();
+                Assert.fail();
+            } catch (ImportRowException e) {
+                Assert.assertEquals(line, e.getLine());
+            }
+        }
+        Assert.assertEquals(4, reader.next().getLine());
+        Assert.assertNull(reader.next());
+    }
+
+    @Test
+    public void testUnclosedQuote() throws Exception {
+        final QuestionsReader reader = this.createReader("Topic,1,\"Question\n");
+
+        try {
+            reader.next();
+            Assert.fail();
+        } catch (ImportRowException e) {
+            Assert.assertEquals(1, e.getLine());
+        }
+        Assert.assertNull(reader.next());
+    }
+}
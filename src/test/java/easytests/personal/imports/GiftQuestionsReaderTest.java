@@ -0,0 +1,86 @@
+package easytests.personal.imports;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author malinink
+ */
+public class GiftQuestionsReaderTest {
+    private QuestionsReader createReader(String text) {
+        return new GiftQuestionsReader(new BufferedReader(new StringReader(text)));
+    }
+
+    @Test
+    public void testNext() throws Exception {
+        final QuestionsReader reader = this.createReader(
+                "// comment\n"
+                + "$CATEGORY: Topic\n"
+                + "\n"
+                + "::1:: Question {=Right ~Wrong}\n"
+                + "::Много ответов:: Multi\n"
+                + "line \\{question\\} {\n"
+                + "  =First\n"
+                + "  =Second \\= \\~ answer\n"
+                + "  ~Third\n"
+                + "}\n");
+
+        final ImportedQuestion first = reader.next();
+        Assert.assertEquals(4, first.getLine());
+        Assert.assertEquals("Topic", first.getTopic().getName());
+        Assert.assertEquals("1", first.getQuestionType());
+        Assert.assertEquals("Question", first.getQuestion().getText());
+        Assert.assertEquals(2, first.getAnswers().size());
+        Assert.assertEquals("Right", first.getAnswers().get(0).getTxt());
+        Assert.assertEquals("on", first.getAnswers().get(0).getRight());
+        Assert.assertEquals("Wrong", first.getAnswers().get(1).getTxt());
+        Assert.assertNull(first.getAnswers().get(1).getRight());
+
+        final ImportedQuestion second = reader.next();
+        Assert.assertEquals(5, second.getLine());
+        Assert.assertEquals("Много ответов", second.getQuestionType());
+        Assert.assertEquals("Multi\nline {question}", second.getQuestion().getText());
+        Assert.assertEquals(3, second.getAnswers().size());
+        Assert.assertEquals("Second = ~ answer", second.getAnswers().get(1).getTxt());
+        Assert.assertEquals((Integer) 3, second.getAnswers().get(2).getSerialNumber());
+
+        Assert.assertNull(reader.next());
+    }
+
+    @Test
+    public void testMalformedQuestionsDoNotStopReading() throws Exception {
+        final QuestionsReader reader = this.createReader(
+                "::1:: No category {=Answer}\n"
+                + "$CATEGORY: Topic\n"
+                + "No type {=Answer}\n"
+                + "::1:: Bad answers {Answer}\n"
+                + "::1:: Question {=Answer}\n");
+
+        for (int line: new int[] {1, 3, 4}) {
+            try {
+                reader.next();
+                Assert.fail();
+            } catch (ImportRowException e) {
+                Assert.assertEquals(line, e.getLine());
+            }
+        }
+        Assert.assertEquals(5, reader.next().getLine());
+        Assert.assertNull(reader.next());
+    }
+
+    @Test
+    public void testUnclosedQuestion() throws Exception {
+        final QuestionsReader reader = this.createReader("$CATEGORY: Topic\n::1:: Question {=Answer\n");
+
+        try {
+            reader.next();
+            Assert.fail();
+        } catch (ImportRowException e) {
+            Assert.assertEquals(2, e.getLine());
+        }
+        Assert.assertNull(reader.next());
+    }
+}
@@ -0,0 +1,89 @@
+package easytests.personal.imports;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * @author malinink
+ */
+public class JsonQuestionsReaderTest {
+    private QuestionsReader createReader(String text) {
+        return new JsonQuestionsReader(new BufferedReader(new StringReader(text)));
+    }
+
+    @Test
+    public void testNext() throws Exception {
+        final QuestionsReader reader = this.createReader(
+                "[\n"
+                + "  {\"topic\": \"Topic\", \"type\": 1, \"question\": \"Question\",\n"
+                + "   \"answers\": [{\"text\": \"Right\", \"right\": true}, {\"text\": \"Wrong\"}]},\n"
+                + "  {\"topic\": \"Topic\", \"type\": \"Много ответов\", \"question\": \"Second\", \"answers\": []}\n"
+                + "]\n");
+
+        final ImportedQuestion first = reader.next();
+        Assert.assertEquals(2, first.getLine());
+        Assert.assertEquals("Topic", first.getTopic().getName());
+        Assert.assertEquals("1", first.getQuestionType());
+        Assert.assertEquals("Question", first.getQuestion().getText());
+        Assert.assertEquals(2, first.getAnswers().size());
+        Assert.assertEquals("on", first.getAnswers().get(0).getRight());
+        Assert.assertNull(first.getAnswers().get(1).getRight());
+
+        final ImportedQuestion second = reader.next();
+        Assert.assertEquals(4, second.getLine());
+        Assert.assertEquals("Много ответов", second.getQuestionType());
+        Assert.assertTrue(second.getAnswers().isEmpty());
+
+        Assert.assertNull(reader.next());
+    }
+
+    @Test
+    public void testMalformedQuestionsDoNotStopReading() throws Exception {
+        final QuestionsReader reader = this.createReader(
+                "[\n"
+                + "  [\"not\", \"an\", \"object\"],\n"
+                + "  {\"topic\": \"Topic\", \"type\": 1, \"question\": \"No answers\"},\n"
+                + "  {\"topic\": \"Topic\", \"type\": 1, \"question\": \"Question\", \"answers\": [{\"text\": \"A\"}]}\n"
+                + "]");
+
+        for (int line = 2; line <= 3; line++) {
+            try {
+                reader.next();
+                Assert.fail();
+            } catch (ImportRowException e) {
+                Assert.assertEquals(line, e.getLine());
+            }
+        }
+        Assert.assertEquals(4, reader.next().getLine());
+        Assert.assertNull(reader.next());
+    }
+
+    @Test
+    public void testSyntaxErrorStopsReading() throws Exception {
+        final QuestionsReader reader = this.createReader("[\n  {\"topic\": }\n]");
+
+        try {
+            reader.next();
+            Assert.fail();
+        } catch (ImportRowException e) {
+            Assert.assertEquals(2, e.getLine());
+        }
+        Assert.assertNull(reader.next());
+    }
+
+    @Test
+    public void testNotAnArray() throws Exception {
+        final QuestionsReader reader = this.createReader("{}");
+
+        try {
+            reader.next();
+            Assert.fail();
+        } catch (ImportRowException e) {
+            Assert.assertEquals(1, e.getLine());
+        }
+        Assert.assertNull(reader.next());
+    }
+}